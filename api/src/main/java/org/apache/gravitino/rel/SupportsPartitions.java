@@ -18,6 +18,9 @@
  */
 package org.apache.gravitino.rel;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import org.apache.gravitino.annotation.Evolving;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
 import org.apache.gravitino.exceptions.PartitionAlreadyExistsException;
@@ -44,6 +47,88 @@ public interface SupportsPartitions {
    */
   Partition[] listPartitions();
 
+  /**
+   * List the names of the partitions matching the filter. The syntax of the filter is specific to
+   * the catalog, for example the Hive catalog accepts the Hive Metastore partition filter like
+   * {@code dt > "2024-01-01" and city = "beijing"}.
+   *
+   * @param filter The partition filter, null or empty to list all partition names.
+   * @return The list of partition names matching the filter.
+   * @throws UnsupportedOperationException If the filter is given but partition filtering is not
+   *     supported.
+   */
+  default String[] listPartitionNames(String filter) throws UnsupportedOperationException {
+    if (filter == null || filter.trim().isEmpty()) {
+      return listPartitionNames();
+    }
+    throw new UnsupportedOperationException("Partition filtering is not supported");
+  }
+
+  /**
+   * List one page of the names of the partitions matching the filter, ordered by name. The syntax
+   * of the filter is the same as {@link #listPartitionNames(String)}.
+   *
+   * <p>The default implementation lists all the matching names and keeps the ones in the page,
+   * catalogs are expected to override it if the underlying source can bound the listing.
+   *
+   * @param filter The partition filter, null or empty to list all partition names.
+   * @param afterName The name the page starts after, null for the first page.
+   * @param limit The maximum number of names in the page.
+   * @return The names of the matching partitions after the given name, ordered by name.
+   * @throws UnsupportedOperationException If the filter is given but partition filtering is not
+   *     supported.
+   */
+  default String[] listPartitionNames(String filter, String afterName, int limit)
+      throws UnsupportedOperationException {
+    return Arrays.stream(listPartitionNames(filter))
+        .filter(name -> afterName == null || name.compareTo(afterName) > 0)
+        .sorted()
+        .limit(limit)
+        .toArray(String[]::new);
+  }
+
+  /**
+   * List the partitions matching the filter. The syntax of the filter is the same as {@link
+   * #listPartitionNames(String)}.
+   *
+   * <p>The default implementation lists the matching names and then gets the partitions by them,
+   * catalogs are expected to override it if the underlying source can list the matching partitions
+   * at once.
+   *
+   * @param filter The partition filter, null or empty to list all partitions.
+   * @return The list of partitions matching the filter.
+   * @throws UnsupportedOperationException If the filter is given but partition filtering is not
+   *     supported.
+   */
+  default Partition[] listPartitions(String filter) throws UnsupportedOperationException {
+    if (filter == null || filter.trim().isEmpty()) {
+      return listPartitions();
+    }
+    return getPartitions(listPartitionNames(filter));
+  }
+
+  /**
+   * Get the partitions by their names. The names of the partitions that don't exist are skipped,
+   * the other partitions are returned in the order of the given names.
+   *
+   * <p>The default implementation gets the partitions one by one, catalogs are expected to
+   * override it if the underlying source can get the partitions in batches.
+   *
+   * @param partitionNames The names of the partitions.
+   * @return The existing partitions.
+   */
+  default Partition[] getPartitions(String[] partitionNames) {
+    List<Partition> partitions = new ArrayList<>(partitionNames.length);
+    for (String partitionName : partitionNames) {
+      try {
+        partitions.add(getPartition(partitionName));
+      } catch (NoSuchPartitionException e) {
+        // Skip the partitions that don't exist.
+      }
+    }
+    return partitions.toArray(new Partition[0]);
+  }
+
   /**
    * Get a partition by partition name, you may get one of the following types of partitions:
    *
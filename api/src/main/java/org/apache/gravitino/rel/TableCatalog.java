@@ -20,6 +20,8 @@
 
 package org.apache.gravitino.rel;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
@@ -60,6 +62,39 @@ public interface TableCatalog {
    */
   Table loadTable(NameIdentifier ident) throws NoSuchTableException;
 
+  /**
+   * Load the metadata of the tables with the specified {@link NameIdentifier}s from the catalog in
+   * one call. The tables that do not exist are skipped.
+   *
+   * <p>The default implementation loads the tables one by one, the catalogs which can load the
+   * tables in bulk should override it.
+   *
+   * @param idents The table identifiers.
+   * @return The metadata of the existing tables, in the order of the specified identifiers.
+   */
+  default Table[] loadTables(NameIdentifier... idents) {
+    List<Table> tables = new ArrayList<>(idents.length);
+    for (NameIdentifier ident : idents) {
+      try {
+        tables.add(loadTable(ident));
+      } catch (NoSuchTableException e) {
+        // Skip the tables that don't exist.
+      }
+    }
+    return tables.toArray(new Table[0]);
+  }
+
+  /**
+   * List the tables with their metadata in a namespace from the catalog.
+   *
+   * @param namespace A namespace.
+   * @return An array of the metadata of the tables in the namespace.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  default Table[] listTablesInfo(Namespace namespace) throws NoSuchSchemaException {
+    return loadTables(listTables(namespace));
+  }
+
   /**
    * Check if a table exists using an {@link NameIdentifier} from the catalog.
    *
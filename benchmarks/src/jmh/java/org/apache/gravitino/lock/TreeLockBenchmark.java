@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lock;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.NameIdentifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the acquire and release of {@link TreeLock} on a few hot identifiers, all the
+ * acquisitions share the root, metalake, catalog and schema nodes. Run it against two commits to
+ * compare the tree lock implementations.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TreeLockBenchmark {
+
+  @Param({"1", "16"})
+  private int tableCount;
+
+  private LockManager lockManager;
+
+  private NameIdentifier[] tables;
+
+  private NameIdentifier schema;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    lockManager = new LockManager(new Config(false) {});
+    schema = NameIdentifier.of("metalake", "catalog", "schema");
+    tables = new NameIdentifier[tableCount];
+    for (int i = 0; i < tableCount; i++) {
+      tables[i] = NameIdentifier.of("metalake", "catalog", "schema", "table" + i);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    lockManager.close();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readSingleThread() {
+    lockAndUnlock(nextTable(), LockType.READ);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void readContended() {
+    lockAndUnlock(nextTable(), LockType.READ);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void readMostlyContended() {
+    // One in a hundred acquisitions writes the schema, like creating or dropping a table.
+    if (ThreadLocalRandom.current().nextInt(100) == 0) {
+      lockAndUnlock(schema, LockType.WRITE);
+    } else {
+      lockAndUnlock(nextTable(), LockType.READ);
+    }
+  }
+
+  private NameIdentifier nextTable() {
+    return tables[ThreadLocalRandom.current().nextInt(tableCount)];
+  }
+
+  private void lockAndUnlock(NameIdentifier identifier, LockType lockType) {
+    TreeLock lock = lockManager.createTreeLock(identifier);
+    lock.lock(lockType);
+    lock.unlock();
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.apache.commons.io.IOUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.rest.RESTUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the throughput of {@link JettyServer} for requests that block like a metastore RPC,
+ * with more concurrent clients than platform threads. Compare a Jetty thread pool of platform
+ * threads with one of virtual threads, which can afford a thread per client. The latter needs a
+ * JVM that supports virtual threads, otherwise both run on platform threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JettyServerBenchmark {
+
+  private static final int PLATFORM_THREADS = 16;
+
+  private static final int VIRTUAL_THREADS = 1024;
+
+  @Param({"false", "true"})
+  private boolean virtualThreads;
+
+  @Param({"20"})
+  private long blockingMs;
+
+  private JettyServer server;
+
+  private URL url;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    int port = RESTUtils.findAvailablePort(5000, 6000);
+    Config config = new Config(false) {};
+    config.set(JettyServerConfig.WEBSERVER_HTTP_PORT, port);
+    config.set(JettyServerConfig.WEBSERVER_MIN_THREADS, PLATFORM_THREADS);
+    int maxThreads = virtualThreads ? VIRTUAL_THREADS : PLATFORM_THREADS;
+    config.set(JettyServerConfig.WEBSERVER_MAX_THREADS, maxThreads);
+    config.set(JettyServerConfig.ENABLE_VIRTUAL_THREADS, virtualThreads);
+
+    server = new JettyServer();
+    server.initialize(JettyServerConfig.fromConfig(config), "benchmark", false);
+    server.addServlet(new BlockingServlet(blockingMs), "/api/*");
+    server.start();
+    url = new URL("http://127.0.0.1:" + port + "/api/metalakes/metalake/catalogs/catalog/schemas");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    server.stop();
+  }
+
+  @Benchmark
+  @Threads(64)
+  public String blockingRequest() throws IOException {
+    HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+    try (InputStream in = connection.getInputStream()) {
+      return IOUtils.toString(in, "UTF-8");
+    }
+  }
+
+  private static class BlockingServlet extends HttpServlet {
+    private final long blockingMs;
+
+    BlockingServlet(long blockingMs) {
+      this.blockingMs = blockingMs;
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+      try {
+        Thread.sleep(blockingMs);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      resp.getWriter().write("ok");
+    }
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage;
+
+import com.google.common.collect.ImmutableMap;
+import java.time.Instant;
+import java.util.Map;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.BaseMetalake;
+import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.meta.SchemaVersion;
+import org.apache.gravitino.meta.TableEntity;
+
+/** The entities shared by the storage benchmarks. */
+public final class BenchmarkEntities {
+
+  public static final String METALAKE = "metalake";
+
+  public static final String CATALOG = "catalog";
+
+  public static final String SCHEMA = "schema";
+
+  public static final Namespace TABLE_NAMESPACE = Namespace.of(METALAKE, CATALOG, SCHEMA);
+
+  private static final AuditInfo AUDIT_INFO =
+      AuditInfo.builder()
+          .withCreator("benchmark")
+          .withCreateTime(Instant.now())
+          .withLastModifier("benchmark")
+          .withLastModifiedTime(Instant.now())
+          .build();
+
+  private static final Map<String, String> PROPERTIES =
+      ImmutableMap.of("owner", "benchmark", "location", "/tmp/benchmark", "format", "parquet");
+
+  private BenchmarkEntities() {}
+
+  public static BaseMetalake metalake(long id) {
+    return BaseMetalake.builder()
+        .withId(id)
+        .withName(METALAKE)
+        .withComment("metalake for benchmark")
+        .withProperties(PROPERTIES)
+        .withAuditInfo(AUDIT_INFO)
+        .withVersion(SchemaVersion.V_0_1)
+        .build();
+  }
+
+  public static CatalogEntity catalog(long id) {
+    return CatalogEntity.builder()
+        .withId(id)
+        .withName(CATALOG)
+        .withNamespace(Namespace.of(METALAKE))
+        .withType(Catalog.Type.RELATIONAL)
+        .withProvider("hive")
+        .withComment("catalog for benchmark")
+        .withProperties(PROPERTIES)
+        .withAuditInfo(AUDIT_INFO)
+        .build();
+  }
+
+  public static SchemaEntity schema(long id) {
+    return SchemaEntity.builder()
+        .withId(id)
+        .withName(SCHEMA)
+        .withNamespace(Namespace.of(METALAKE, CATALOG))
+        .withComment("schema for benchmark")
+        .withProperties(PROPERTIES)
+        .withAuditInfo(AUDIT_INFO)
+        .build();
+  }
+
+  public static TableEntity table(long id, String name) {
+    return TableEntity.builder()
+        .withId(id)
+        .withName(name)
+        .withNamespace(TABLE_NAMESPACE)
+        .withAuditInfo(AUDIT_INFO)
+        .build();
+  }
+}
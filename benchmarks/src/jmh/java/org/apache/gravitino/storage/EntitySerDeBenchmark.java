@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.EntitySerDe;
+import org.apache.gravitino.EntitySerDeFactory;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.storage.relational.po.SchemaPO;
+import org.apache.gravitino.storage.relational.po.TablePO;
+import org.apache.gravitino.storage.relational.utils.POConverters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the entity serde used by the entity stores: the protobuf serde of the KV entity store,
+ * and the conversions between the entities and the POs of the relational entity store, which
+ * serialize the properties and the audit info with {@code JsonUtils}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntitySerDeBenchmark {
+
+  private static final Namespace SCHEMA_NAMESPACE =
+      Namespace.of(BenchmarkEntities.METALAKE, BenchmarkEntities.CATALOG);
+
+  private EntitySerDe protoSerDe;
+
+  private SchemaEntity schema;
+
+  private TableEntity table;
+
+  private byte[] serializedSchema;
+
+  private byte[] serializedTable;
+
+  private SchemaPO schemaPO;
+
+  private TablePO tablePO;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    protoSerDe = EntitySerDeFactory.createEntitySerDe("proto");
+    schema = BenchmarkEntities.schema(3L);
+    table = BenchmarkEntities.table(4L, "table");
+    serializedSchema = protoSerDe.serialize(schema);
+    serializedTable = protoSerDe.serialize(table);
+    schemaPO = toSchemaPO();
+    tablePO = toTablePO();
+  }
+
+  @Benchmark
+  public byte[] protoSerializeSchema() throws IOException {
+    return protoSerDe.serialize(schema);
+  }
+
+  @Benchmark
+  public SchemaEntity protoDeserializeSchema() throws IOException {
+    return protoSerDe.deserialize(serializedSchema, SchemaEntity.class, SCHEMA_NAMESPACE);
+  }
+
+  @Benchmark
+  public byte[] protoSerializeTable() throws IOException {
+    return protoSerDe.serialize(table);
+  }
+
+  @Benchmark
+  public TableEntity protoDeserializeTable() throws IOException {
+    return protoSerDe.deserialize(
+        serializedTable, TableEntity.class, BenchmarkEntities.TABLE_NAMESPACE);
+  }
+
+  @Benchmark
+  public SchemaPO schemaToPO() {
+    return toSchemaPO();
+  }
+
+  @Benchmark
+  public SchemaEntity schemaFromPO() {
+    return POConverters.fromSchemaPO(schemaPO, SCHEMA_NAMESPACE);
+  }
+
+  @Benchmark
+  public TablePO tableToPO() {
+    return toTablePO();
+  }
+
+  @Benchmark
+  public TableEntity tableFromPO() {
+    return POConverters.fromTablePO(tablePO, BenchmarkEntities.TABLE_NAMESPACE);
+  }
+
+  private SchemaPO toSchemaPO() {
+    return POConverters.initializeSchemaPOWithVersion(
+        schema, SchemaPO.builder().withMetalakeId(1L).withCatalogId(2L));
+  }
+
+  private TablePO toTablePO() {
+    return POConverters.initializeTablePOWithVersion(
+        table, TablePO.builder().withMetalakeId(1L).withCatalogId(2L).withSchemaId(3L));
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage;
+
+import com.google.common.base.Preconditions;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity.EntityType;
+import org.apache.gravitino.EntitySerDeFactory;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.storage.kv.KvEntityStore;
+import org.apache.gravitino.storage.relational.RelationalEntityStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the get and list operations of the entity stores, the relational entity store runs
+ * against an embedded H2 database and the KV entity store against a RocksDB, both in a temporary
+ * directory.
+ *
+ * <p>The embedded H2 database is initialized with the scripts under {@code GRAVITINO_HOME}, so the
+ * environment variable should point to the project root when running the relational benchmarks.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntityStoreBenchmark {
+
+  @Param({"relational", "kv"})
+  private String storeType;
+
+  @Param({"100"})
+  private int tableCount;
+
+  private File storeDir;
+
+  private EntityStore store;
+
+  private NameIdentifier[] tables;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    storeDir = Files.createTempDirectory("gravitino_benchmark_").toFile();
+    store = createEntityStore();
+
+    store.put(BenchmarkEntities.metalake(1L), false);
+    store.put(BenchmarkEntities.catalog(2L), false);
+    store.put(BenchmarkEntities.schema(3L), false);
+    tables = new NameIdentifier[tableCount];
+    for (int i = 0; i < tableCount; i++) {
+      TableEntity table = BenchmarkEntities.table(100L + i, "table" + i);
+      store.put(table, false);
+      tables[i] = table.nameIdentifier();
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    store.close();
+    FileUtils.deleteQuietly(storeDir);
+  }
+
+  @Benchmark
+  public TableEntity getTable() throws IOException {
+    NameIdentifier ident = tables[ThreadLocalRandom.current().nextInt(tableCount)];
+    return store.get(ident, EntityType.TABLE, TableEntity.class);
+  }
+
+  @Benchmark
+  public boolean existsTable() throws IOException {
+    NameIdentifier ident = tables[ThreadLocalRandom.current().nextInt(tableCount)];
+    return store.exists(ident, EntityType.TABLE);
+  }
+
+  @Benchmark
+  public List<TableEntity> listTables() throws IOException {
+    return store.list(BenchmarkEntities.TABLE_NAMESPACE, TableEntity.class, EntityType.TABLE);
+  }
+
+  private EntityStore createEntityStore() {
+    Config config = new Config(false) {};
+    EntityStore entityStore;
+    if ("relational".equals(storeType)) {
+      Preconditions.checkState(
+          System.getenv("GRAVITINO_HOME") != null,
+          "GRAVITINO_HOME should point to the project root to initialize the H2 database");
+      String dbPath = new File(storeDir, "h2").getAbsolutePath();
+      config.set(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PATH, dbPath);
+      config.set(
+          Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL,
+          String.format("jdbc:h2:file:%s;DB_CLOSE_DELAY=-1;MODE=MYSQL", dbPath));
+      entityStore = new RelationalEntityStore();
+    } else {
+      config.set(
+          Configs.ENTITY_KV_ROCKSDB_BACKEND_PATH,
+          new File(storeDir, "rocksdb").getAbsolutePath());
+      entityStore = new KvEntityStore();
+    }
+
+    entityStore.initialize(config);
+    if (entityStore instanceof KvEntityStore) {
+      // Only the KV store serializes entities, the relational store rejects a SerDe.
+      entityStore.setSerDe(EntitySerDeFactory.createEntitySerDe("proto"));
+    }
+    return entityStore;
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.kv;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.gravitino.Entity.EntityType;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.storage.NameMappingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the key encoding of the KV entity store. The name mapping is kept in memory, so only
+ * the cost of the encoder itself is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BinaryEntityKeyEncoderBenchmark {
+
+  private BinaryEntityKeyEncoder encoder;
+
+  private NameIdentifier tableIdent;
+
+  private byte[] tableKey;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    encoder = new BinaryEntityKeyEncoder(new InMemoryNameMappingService());
+    tableIdent = NameIdentifier.of("metalake", "catalog", "schema", "table");
+    tableKey = encoder.encode(tableIdent, EntityType.TABLE, false);
+  }
+
+  @Benchmark
+  public byte[] encodeTable() throws IOException {
+    return encoder.encode(tableIdent, EntityType.TABLE, true);
+  }
+
+  @Benchmark
+  public Pair<NameIdentifier, EntityType> decodeTable() throws IOException {
+    return encoder.decode(tableKey);
+  }
+
+  private static class InMemoryNameMappingService implements NameMappingService {
+    private final Map<String, Long> nameToId = new ConcurrentHashMap<>();
+    private final Map<Long, String> idToName = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong();
+
+    @Override
+    public Long getIdByName(String name) {
+      return nameToId.get(name);
+    }
+
+    @Override
+    public String getNameById(long id) {
+      return idToName.get(id);
+    }
+
+    @Override
+    public long getOrCreateIdFromName(String name) {
+      return nameToId.computeIfAbsent(
+          name,
+          k -> {
+            long id = nextId.incrementAndGet();
+            idToName.put(id, k);
+            return id;
+          });
+    }
+
+    @Override
+    public boolean updateName(String oldName, String newName) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean unbindNameAndId(String name) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() {}
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks borrowing clients from a {@link ClientPoolImpl} by more threads than the pool has
+ * clients, like the Hive catalog operations sharing a small metastore client pool. The sample mode
+ * reports the latency percentiles, so the unfair waits show up in the tail. Run it against two
+ * commits to compare the pool implementations.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClientPoolBenchmark {
+
+  @Param({"1", "8"})
+  private int poolSize;
+
+  // The time a client is used, like the round trip of a metastore call.
+  @Param({"0", "100"})
+  private long useMicros;
+
+  private BenchmarkClientPool pool;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    pool = new BenchmarkClientPool(poolSize);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    pool.close();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Object uncontended() throws Exception {
+    return pool.run(this::use);
+  }
+
+  @Benchmark
+  @Threads(32)
+  public Object contended() throws Exception {
+    return pool.run(this::use);
+  }
+
+  private Object use(Object client) {
+    if (useMicros > 0) {
+      LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(useMicros));
+    }
+    return client;
+  }
+
+  private static class BenchmarkClientPool extends ClientPoolImpl<Object, Exception> {
+    private BenchmarkClientPool(int poolSize) {
+      super(poolSize, Exception.class, false);
+    }
+
+    @Override
+    protected Object newClient() {
+      return new Object();
+    }
+
+    @Override
+    protected Object reconnect(Object client) {
+      return client;
+    }
+
+    @Override
+    protected void close(Object client) {}
+  }
+}
@@ -62,6 +62,8 @@ public class IcebergConstants {
   public static final String ICEBERG_METRICS_STORE = "metricsStore";
   public static final String ICEBERG_METRICS_STORE_RETAIN_DAYS = "metricsStoreRetainDays";
   public static final String ICEBERG_METRICS_QUEUE_CAPACITY = "metricsQueueCapacity";
+  public static final String ICEBERG_METRICS_FLUSH_BATCH_SIZE = "metricsFlushBatchSize";
+  public static final String ICEBERG_METRICS_FLUSH_INTERVAL_MS = "metricsFlushIntervalMs";
 
   public static final String GRAVITINO_ICEBERG_REST_SERVICE_NAME = "iceberg-rest";
 
@@ -70,6 +72,14 @@ public class IcebergConstants {
 
   public static final String ICEBERG_REST_CATALOG_PROVIDER = "catalog-provider";
 
+  public static final String TABLE_METADATA_CACHE_ENABLED = "table-metadata-cache-enabled";
+
+  public static final String TABLE_METADATA_CACHE_MAX_SIZE = "table-metadata-cache-max-size";
+
+  public static final String TABLE_METADATA_CACHE_MAX_WEIGHT = "table-metadata-cache-max-weight";
+
+  public static final String TABLE_METADATA_CACHE_EXPIRE_MS = "table-metadata-cache-expire-ms";
+
   public static final String GRAVITINO_URI = "gravitino-uri";
 
   public static final String GRAVITINO_METALAKE = "gravitino-metalake";
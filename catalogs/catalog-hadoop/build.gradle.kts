@@ -36,6 +36,9 @@ dependencies {
     exclude(group = "*")
   }
 
+  implementation(libs.caffeine)
+  implementation(libs.metrics.core)
+
   implementation(libs.hadoop3.common) {
     exclude("com.sun.jersey")
     exclude("javax.servlet", "servlet-api")
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.hadoop;
+
+import com.codahale.metrics.Counter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import java.io.Closeable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.MetricsSource;
+import org.apache.hadoop.fs.FileSystem;
+
+/**
+ * A size and TTL bounded cache of the resolved filesets used by {@link
+ * HadoopCatalogOperations#getFileLocation}, so the data operations issued through GVFS don't read
+ * the entity store and check the storage location for every file they access. An entry holds the
+ * storage location, whether it mounts a single file and the {@link FileSystem} of the location.
+ *
+ * <p>The cached entries are invalidated on writes through this catalog, a fileset changed by other
+ * servers or a storage location replaced by a file (or the reverse) outside of Gravitino is visible
+ * after the entry expires.
+ */
+class FilesetResolutionCache implements Closeable {
+
+  private final Cache<NameIdentifier, ResolvedFileset> cache;
+
+  private final FilesetCacheMetricsSource metricsSource;
+
+  FilesetResolutionCache(String metricsSourceName, long maxSize, long expireTimeSec) {
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(expireTimeSec, TimeUnit.SECONDS)
+            .build();
+
+    this.metricsSource = new FilesetCacheMetricsSource(metricsSourceName);
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+  }
+
+  /**
+   * Get the resolved fileset from the cache, or resolve it with the specified resolver if it is not
+   * cached. Exceptions thrown by the resolver are propagated and nothing is cached.
+   *
+   * @param ident the name identifier of the fileset
+   * @param resolver the resolver to resolve the fileset
+   * @return the cached or resolved fileset
+   */
+  ResolvedFileset get(NameIdentifier ident, Function<NameIdentifier, ResolvedFileset> resolver) {
+    ResolvedFileset cached = cache.getIfPresent(ident);
+    if (cached != null) {
+      metricsSource.hitCounter.inc();
+      return cached;
+    }
+
+    metricsSource.missCounter.inc();
+    return cache.get(ident, resolver);
+  }
+
+  /**
+   * Invalidate the cached fileset.
+   *
+   * @param ident the name identifier of the fileset
+   */
+  void invalidate(NameIdentifier ident) {
+    cache.invalidate(ident);
+  }
+
+  /**
+   * Invalidate all the cached filesets under the schema.
+   *
+   * @param schemaIdent the name identifier of the schema
+   */
+  void invalidateSchema(NameIdentifier schemaIdent) {
+    cache
+        .asMap()
+        .keySet()
+        .removeIf(ident -> NameIdentifier.of(ident.namespace().levels()).equals(schemaIdent));
+  }
+
+  @VisibleForTesting
+  long size() {
+    return cache.estimatedSize();
+  }
+
+  @VisibleForTesting
+  long hitCount() {
+    return metricsSource.hitCounter.getCount();
+  }
+
+  @VisibleForTesting
+  long missCount() {
+    return metricsSource.missCounter.getCount();
+  }
+
+  @Override
+  public void close() {
+    cache.invalidateAll();
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+  }
+
+  /**
+   * The storage location of a fileset, whether the location mounts a single file and the file
+   * system of the location.
+   */
+  static class ResolvedFileset {
+    private final String storageLocation;
+    private final boolean singleFile;
+    private final FileSystem fileSystem;
+
+    ResolvedFileset(String storageLocation, boolean singleFile, FileSystem fileSystem) {
+      this.storageLocation = storageLocation;
+      this.singleFile = singleFile;
+      this.fileSystem = fileSystem;
+    }
+
+    String storageLocation() {
+      return storageLocation;
+    }
+
+    boolean isSingleFile() {
+      return singleFile;
+    }
+
+    FileSystem fileSystem() {
+      return fileSystem;
+    }
+  }
+
+  private class FilesetCacheMetricsSource extends MetricsSource {
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    private FilesetCacheMetricsSource(String name) {
+      super(name);
+      this.hitCounter = getCounter(MetricNames.FILESET_CACHE_HIT_COUNT);
+      this.missCounter = getCounter(MetricNames.FILESET_CACHE_MISS_COUNT);
+      registerGauge(MetricNames.FILESET_CACHE_SIZE, FilesetResolutionCache.this::size);
+      registerGauge(MetricNames.FILESET_CACHE_HIT_RATIO, this::hitRatio);
+    }
+
+    private double hitRatio() {
+      long hits = hitCounter.getCount();
+      long total = hits + missCounter.getCount();
+      return total == 0 ? 0.0 : (double) hits / total;
+    }
+  }
+}
@@ -63,6 +63,7 @@ import org.apache.gravitino.file.FilesetChange;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.FilesetEntity;
 import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.metrics.source.MetricsSource;
 import org.apache.gravitino.utils.PrincipalUtils;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileSystem;
@@ -90,6 +91,9 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
 
   private CatalogInfo catalogInfo;
 
+  // Null if the fileset cache is disabled.
+  @VisibleForTesting FilesetResolutionCache filesetCache;
+
   HadoopCatalogOperations(EntityStore store) {
     this.store = store;
   }
@@ -143,6 +147,41 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
         StringUtils.isNotBlank(catalogLocation)
             ? Optional.of(catalogLocation).map(Path::new)
             : Optional.empty();
+
+    boolean filesetCacheEnabled =
+        (boolean)
+            propertiesMetadata
+                .catalogPropertiesMetadata()
+                .getOrDefault(config, HadoopCatalogPropertiesMetadata.FILESET_CACHE_ENABLE);
+    if (filesetCacheEnabled) {
+      long maxSize =
+          (long)
+              propertiesMetadata
+                  .catalogPropertiesMetadata()
+                  .getOrDefault(config, HadoopCatalogPropertiesMetadata.FILESET_CACHE_MAX_SIZE);
+      int expireTimeSec =
+          (int)
+              propertiesMetadata
+                  .catalogPropertiesMetadata()
+                  .getOrDefault(
+                      config, HadoopCatalogPropertiesMetadata.FILESET_CACHE_EXPIRE_TIME_SEC);
+      Preconditions.checkArgument(
+          maxSize > 0,
+          "%s must be positive",
+          HadoopCatalogPropertiesMetadata.FILESET_CACHE_MAX_SIZE);
+      Preconditions.checkArgument(
+          expireTimeSec > 0,
+          "%s must be positive",
+          HadoopCatalogPropertiesMetadata.FILESET_CACHE_EXPIRE_TIME_SEC);
+
+      String metricsSourceName =
+          String.join(
+              ".",
+              MetricsSource.HADOOP_CATALOG_METRIC_NAME,
+              info.namespace().level(0),
+              info.name());
+      this.filesetCache = new FilesetResolutionCache(metricsSourceName, maxSize, expireTimeSec);
+    }
   }
 
   @Override
@@ -309,6 +348,7 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
               FilesetEntity.class,
               Entity.EntityType.FILESET,
               e -> updateFilesetEntity(ident, e, changes));
+      invalidateFilesetCache(ident);
 
       return HadoopFileset.builder()
           .withName(updatedFilesetEntity.name())
@@ -351,7 +391,9 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
         }
       }
 
-      return store.delete(ident, Entity.EntityType.FILESET);
+      boolean deleted = store.delete(ident, Entity.EntityType.FILESET);
+      invalidateFilesetCache(ident);
+      return deleted;
     } catch (NoSuchEntityException ne) {
       LOG.warn("Fileset {} does not exist", ident);
       return false;
@@ -371,9 +413,12 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
       processedSubPath = subPath.trim();
     }
 
-    Fileset fileset = loadFileset(ident);
+    FilesetResolutionCache.ResolvedFileset fileset =
+        filesetCache == null
+            ? resolveFileset(ident)
+            : filesetCache.get(ident, this::resolveFileset);
 
-    boolean isSingleFile = checkSingleFile(fileset);
+    boolean isSingleFile = fileset.isSingleFile();
     // if the storage location is a single file, it cannot have sub path to access.
     if (isSingleFile && StringUtils.isBlank(processedSubPath)) {
       throw new GravitinoRuntimeException(
@@ -567,6 +612,10 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
 
   @Override
   public boolean dropSchema(NameIdentifier ident, boolean cascade) throws NonEmptySchemaException {
+    if (filesetCache != null) {
+      filesetCache.invalidateSchema(ident);
+    }
+
     try {
       SchemaEntity schemaEntity = store.get(ident, Entity.EntityType.SCHEMA, SchemaEntity.class);
       Map<String, String> properties =
@@ -620,7 +669,11 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
   }
 
   @Override
-  public void close() throws IOException {}
+  public void close() throws IOException {
+    if (filesetCache != null) {
+      filesetCache.close();
+    }
+  }
 
   private SchemaEntity updateSchemaEntity(
       NameIdentifier ident, SchemaEntity schemaEntity, SchemaChange... changes) {
@@ -728,10 +781,29 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
         && !CallerContext.CallerContextHolder.get().context().isEmpty();
   }
 
-  private boolean checkSingleFile(Fileset fileset) {
+  private FilesetResolutionCache.ResolvedFileset resolveFileset(NameIdentifier ident) {
+    Fileset fileset = loadFileset(ident);
+    Path locationPath = new Path(fileset.storageLocation());
+    FileSystem fs;
+    try {
+      fs = locationPath.getFileSystem(hadoopConf);
+    } catch (IOException e) {
+      throw new GravitinoRuntimeException(
+          e, "Exception occurs when getting the file system of fileset: %s", ident);
+    }
+    return new FilesetResolutionCache.ResolvedFileset(
+        fileset.storageLocation(), checkSingleFile(fs, locationPath, ident), fs);
+  }
+
+  private void invalidateFilesetCache(NameIdentifier ident) {
+    if (filesetCache != null) {
+      filesetCache.invalidate(ident);
+    }
+  }
+
+  private boolean checkSingleFile(FileSystem fs, Path locationPath, NameIdentifier ident) {
     try {
-      Path locationPath = new Path(fileset.storageLocation());
-      return locationPath.getFileSystem(hadoopConf).getFileStatus(locationPath).isFile();
+      return fs.getFileStatus(locationPath).isFile();
     } catch (FileNotFoundException e) {
       // We should always return false here, same with the logic in `FileSystem.isFile(Path f)`.
       return false;
@@ -739,7 +811,7 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
       throw new GravitinoRuntimeException(
           e,
           "Exception occurs when checking whether fileset: %s mounts a single file",
-          fileset.name());
+          ident.name());
     }
   }
 }
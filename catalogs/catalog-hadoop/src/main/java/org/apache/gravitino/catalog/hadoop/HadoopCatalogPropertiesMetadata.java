@@ -34,6 +34,14 @@ public class HadoopCatalogPropertiesMetadata extends BaseCatalogPropertiesMetada
   // If not, users have to specify the storage location in the Schema or Fileset level.
   public static final String LOCATION = "location";
 
+  // The following properties are about the cache of the resolved filesets, which saves the entity
+  // store read and the storage location check for each file location requested through GVFS.
+  public static final String FILESET_CACHE_ENABLE = "fileset-cache.enable";
+
+  public static final String FILESET_CACHE_MAX_SIZE = "fileset-cache.max-size";
+
+  public static final String FILESET_CACHE_EXPIRE_TIME_SEC = "fileset-cache.expire-time-sec";
+
   private static final Map<String, PropertyEntry<?>> HADOOP_CATALOG_PROPERTY_ENTRIES =
       ImmutableMap.<String, PropertyEntry<?>>builder()
           .put(
@@ -44,6 +52,32 @@ public class HadoopCatalogPropertiesMetadata extends BaseCatalogPropertiesMetada
                   false /* immutable */,
                   null,
                   false /* hidden */))
+          .put(
+              FILESET_CACHE_ENABLE,
+              PropertyEntry.booleanPropertyEntry(
+                  FILESET_CACHE_ENABLE,
+                  "Whether to cache the resolved filesets for getting file locations",
+                  false /* required */,
+                  false /* immutable */,
+                  true /* default value */,
+                  false /* hidden */,
+                  false /* reserved */))
+          .put(
+              FILESET_CACHE_MAX_SIZE,
+              PropertyEntry.longOptionalPropertyEntry(
+                  FILESET_CACHE_MAX_SIZE,
+                  "The maximum number of the cached filesets",
+                  false /* immutable */,
+                  10000L /* default value */,
+                  false /* hidden */))
+          .put(
+              FILESET_CACHE_EXPIRE_TIME_SEC,
+              PropertyEntry.integerOptionalPropertyEntry(
+                  FILESET_CACHE_EXPIRE_TIME_SEC,
+                  "The time in seconds after which a cached fileset expires",
+                  false /* immutable */,
+                  60 /* default value */,
+                  false /* hidden */))
           // The following two are about authentication.
           .putAll(KerberosConfig.KERBEROS_PROPERTY_ENTRIES)
           .putAll(AuthenticationConfig.AUTHENTICATION_PROPERTY_ENTRIES)
@@ -885,6 +885,75 @@ public class TestHadoopCatalogOperations {
     }
   }
 
+  @Test
+  public void testGetFileLocationWithFilesetCache() throws IOException {
+    String schemaName = "schema1025";
+    String comment = "comment1025";
+    String schemaPath = TEST_ROOT_PATH + "/" + schemaName;
+    createSchema(schemaName, comment, null, schemaPath);
+
+    String name = "fileset1025";
+    Fileset fileset = createFileset(name, schemaName, comment, Fileset.Type.MANAGED, null, null);
+
+    try (HadoopCatalogOperations ops = new HadoopCatalogOperations(store)) {
+      ops.initialize(Maps.newHashMap(), randomCatalogInfo("m1", "c1"), HADOOP_PROPERTIES_METADATA);
+      FilesetResolutionCache cache = ops.filesetCache;
+      Assertions.assertNotNull(cache);
+      NameIdentifier filesetIdent = NameIdentifier.of("m1", "c1", schemaName, name);
+
+      String subPath = "/test/test.parquet";
+      for (int i = 0; i < 3; i++) {
+        Assertions.assertEquals(
+            fileset.storageLocation() + subPath, ops.getFileLocation(filesetIdent, subPath));
+      }
+      Assertions.assertEquals(1, cache.missCount());
+      Assertions.assertEquals(2, cache.hitCount());
+      Assertions.assertEquals(1, cache.size());
+
+      // The single file flag is cached, replacing the location with a file outside of Gravitino is
+      // only seen after the entry is invalidated or expires.
+      Path location = new Path(fileset.storageLocation());
+      FileSystem fs = location.getFileSystem(new Configuration());
+      fs.delete(location, true);
+      fs.create(location).close();
+      Assertions.assertEquals(
+          fileset.storageLocation() + subPath, ops.getFileLocation(filesetIdent, subPath));
+      cache.invalidate(filesetIdent);
+      Assertions.assertEquals(
+          fileset.storageLocation(), ops.getFileLocation(filesetIdent, subPath));
+      Assertions.assertEquals(2, cache.missCount());
+      Assertions.assertEquals(3, cache.hitCount());
+      fs.delete(location, true);
+      fs.mkdirs(location);
+      cache.invalidate(filesetIdent);
+
+      // Renaming the fileset invalidates the cached one.
+      String newName = "fileset1025_new";
+      ops.alterFileset(filesetIdent, FilesetChange.rename(newName));
+      Assertions.assertEquals(0, cache.size());
+      Assertions.assertThrows(
+          NoSuchFilesetException.class, () -> ops.getFileLocation(filesetIdent, subPath));
+
+      NameIdentifier newIdent = NameIdentifier.of("m1", "c1", schemaName, newName);
+      Assertions.assertEquals(
+          fileset.storageLocation() + subPath, ops.getFileLocation(newIdent, subPath));
+      Assertions.assertEquals(1, cache.size());
+
+      // Dropping the fileset invalidates the cached one.
+      Assertions.assertTrue(ops.dropFileset(newIdent));
+      Assertions.assertEquals(0, cache.size());
+      Assertions.assertThrows(
+          NoSuchFilesetException.class, () -> ops.getFileLocation(newIdent, subPath));
+    }
+
+    Map<String, String> props =
+        ImmutableMap.of(HadoopCatalogPropertiesMetadata.FILESET_CACHE_ENABLE, "false");
+    try (HadoopCatalogOperations ops = new HadoopCatalogOperations(store)) {
+      ops.initialize(props, randomCatalogInfo("m1", "c1"), HADOOP_PROPERTIES_METADATA);
+      Assertions.assertNull(ops.filesetCache);
+    }
+  }
+
   private static Stream<Arguments> locationArguments() {
     return Stream.of(
         // Honor the catalog location
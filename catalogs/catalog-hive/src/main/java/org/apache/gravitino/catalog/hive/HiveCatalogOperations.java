@@ -34,6 +34,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
@@ -44,12 +45,16 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -71,6 +76,7 @@ import org.apache.gravitino.exceptions.SchemaAlreadyExistsException;
 import org.apache.gravitino.exceptions.TableAlreadyExistsException;
 import org.apache.gravitino.hive.CachedClientPool;
 import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.metrics.source.MetricsSource;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableCatalog;
@@ -166,7 +172,15 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
 
     initKerberosIfNecessary(conf, hadoopConf);
 
-    this.clientPool = new CachedClientPool(hiveConf, conf);
+    String metricsSourceName =
+        info == null
+            ? null
+            : String.join(
+                ".",
+                MetricsSource.HIVE_CATALOG_METRIC_NAME,
+                info.namespace().level(0),
+                info.name());
+    this.clientPool = new CachedClientPool(hiveConf, conf, metricsSourceName);
 
     this.listAllTables = enableListAllTables(conf);
   }
@@ -595,16 +609,64 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
   @Override
   public Table loadTable(NameIdentifier tableIdent) throws NoSuchTableException {
     org.apache.hadoop.hive.metastore.api.Table table = loadHiveTable(tableIdent);
-    HiveTable hiveTable =
-        HiveTable.fromHiveTable(table)
-            .withProxyPlugin(proxyPlugin)
-            .withClientPool(clientPool)
-            .build();
+    HiveTable hiveTable = toHiveTable(table);
 
     LOG.info("Loaded Hive table {} from Hive Metastore ", tableIdent.name());
     return hiveTable;
   }
 
+  /**
+   * Loads the tables from the Hive Metastore, the tables of the same database are loaded with one
+   * call to Hive Metastore.
+   *
+   * @param tableIdents The identifiers of the tables to load.
+   * @return The loaded Hive tables, the tables that do not exist are skipped.
+   */
+  @Override
+  public Table[] loadTables(NameIdentifier... tableIdents) {
+    Map<String, List<String>> tableNamesBySchema =
+        Arrays.stream(tableIdents)
+            .collect(
+                Collectors.groupingBy(
+                    ident -> ident.namespace().level(ident.namespace().length() - 1),
+                    LinkedHashMap::new,
+                    Collectors.mapping(NameIdentifier::name, Collectors.toList())));
+
+    List<Table> tables = Lists.newArrayListWithCapacity(tableIdents.length);
+    for (Map.Entry<String, List<String>> entry : tableNamesBySchema.entrySet()) {
+      List<org.apache.hadoop.hive.metastore.api.Table> hiveTables;
+      try {
+        hiveTables = clientPool.run(c -> c.getTableObjectsByName(entry.getKey(), entry.getValue()));
+      } catch (UnknownDBException e) {
+        continue;
+      } catch (InterruptedException | TException e) {
+        throw new RuntimeException(
+            "Failed to load Hive tables under " + entry.getKey() + " from Hive metastore", e);
+      }
+
+      // Hive Metastore returns the tables in no particular order.
+      Map<String, org.apache.hadoop.hive.metastore.api.Table> hiveTablesByName =
+          hiveTables.stream()
+              .collect(
+                  Collectors.toMap(
+                      tb -> tb.getTableName().toLowerCase(Locale.ROOT), Function.identity()));
+      entry.getValue().stream()
+          .map(name -> hiveTablesByName.get(name.toLowerCase(Locale.ROOT)))
+          .filter(Objects::nonNull)
+          .forEach(tb -> tables.add(toHiveTable(tb)));
+    }
+
+    LOG.info("Loaded {} Hive tables from Hive Metastore", tables.size());
+    return tables.toArray(new Table[0]);
+  }
+
+  private HiveTable toHiveTable(org.apache.hadoop.hive.metastore.api.Table table) {
+    return HiveTable.fromHiveTable(table)
+        .withProxyPlugin(proxyPlugin)
+        .withClientPool(clientPool)
+        .build();
+  }
+
   private org.apache.hadoop.hive.metastore.api.Table loadHiveTable(NameIdentifier tableIdent) {
     NameIdentifier schemaIdent = NameIdentifier.of(tableIdent.namespace().levels());
 
@@ -19,13 +19,17 @@
 package org.apache.gravitino.catalog.hive;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.MetadataObjects;
 import org.apache.gravitino.connector.TableOperations;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
@@ -40,6 +44,7 @@ import org.apache.gravitino.rel.partitions.Partition;
 import org.apache.gravitino.rel.partitions.Partitions;
 import org.apache.hadoop.hive.common.FileUtils;
 import org.apache.hadoop.hive.metastore.api.FieldSchema;
+import org.apache.hadoop.hive.metastore.api.MetaException;
 import org.apache.hadoop.hive.metastore.api.NoSuchObjectException;
 import org.apache.hadoop.hive.metastore.api.SerDeInfo;
 import org.apache.hadoop.hive.metastore.api.StorageDescriptor;
@@ -54,6 +59,13 @@ public class HiveTableOperations implements TableOperations, SupportsPartitions
 
   private static final String PARTITION_NAME_DELIMITER = "/";
   private static final String PARTITION_VALUE_DELIMITER = "=";
+  // The default value of "hive.metastore.batch.retrieve.max" in Hive Metastore
+  private static final int PARTITION_BATCH_SIZE = 300;
+  // The messages of the MetaExceptions thrown by Hive Metastore for a filter it fails to parse or
+  // that refers to a column other than the partition columns
+  private static final String[] INVALID_FILTER_MESSAGES = {
+    "Error parsing partition filter", "is not a partitioning key for the table"
+  };
 
   private final HiveTable table;
 
@@ -77,6 +89,87 @@ public class HiveTableOperations implements TableOperations, SupportsPartitions
     }
   }
 
+  @Override
+  public String[] listPartitionNames(String filter) {
+    if (StringUtils.isBlank(filter)) {
+      return listPartitionNames();
+    }
+
+    // The Hive Metastore 2.x client has no call to list only the names of the partitions matching
+    // a filter, so the names are made from the values of the matching partitions.
+    List<String> partCols = partitionColumnNames();
+    return listPartitionsByFilter(filter, (short) -1).stream()
+        .map(partition -> FileUtils.makePartName(partCols, partition.getValues()))
+        .toArray(String[]::new);
+  }
+
+  @Override
+  public String[] listPartitionNames(String filter, String afterName, int limit) {
+    if (StringUtils.isBlank(filter)) {
+      // Only the names are listed, the page is kept out of all of them.
+      return SupportsPartitions.super.listPartitionNames(filter, afterName, limit);
+    }
+
+    // The Hive Metastore returns the matching partitions ordered by name, so only the partitions
+    // up to the page are fetched. The number of partitions to fetch is doubled until the page is
+    // filled or all the matching partitions are fetched.
+    List<String> partCols = partitionColumnNames();
+    long maxParts = Math.max(limit, 1);
+    while (true) {
+      short max = maxParts > Short.MAX_VALUE ? (short) -1 : (short) maxParts;
+      List<org.apache.hadoop.hive.metastore.api.Partition> partitions =
+          listPartitionsByFilter(filter, max);
+      String[] partitionNames =
+          partitions.stream()
+              .map(partition -> FileUtils.makePartName(partCols, partition.getValues()))
+              .filter(name -> afterName == null || name.compareTo(afterName) > 0)
+              .sorted()
+              .limit(limit)
+              .toArray(String[]::new);
+      if (max < 0 || partitions.size() < max || partitionNames.length >= limit) {
+        return partitionNames;
+      }
+      maxParts *= 2;
+    }
+  }
+
+  @Override
+  public Partition[] listPartitions(String filter) {
+    if (StringUtils.isBlank(filter)) {
+      return listPartitions();
+    }
+
+    List<String> partCols = partitionColumnNames();
+    return listPartitionsByFilter(filter, (short) -1).stream()
+        .map(
+            partition -> {
+              String partitionName = FileUtils.makePartName(partCols, partition.getValues());
+              return fromHivePartition(partitionName, partition);
+            })
+        .toArray(Partition[]::new);
+  }
+
+  private List<org.apache.hadoop.hive.metastore.api.Partition> listPartitionsByFilter(
+      String filter, short maxParts) {
+    try {
+      return table
+          .clientPool()
+          .run(c -> c.listPartitionsByFilter(table.schemaName(), table.name(), filter, maxParts));
+    } catch (MetaException e) {
+      // Only an invalid filter is a client error, the other meta exceptions are failures of the
+      // Hive Metastore.
+      if (StringUtils.containsAny(e.getMessage(), INVALID_FILTER_MESSAGES)) {
+        throw new IllegalArgumentException(
+            "Invalid partition filter " + filter + " of table " + table.name(), e);
+      }
+      throw new RuntimeException(
+          "Failed to list partitions of table " + table.name() + " from Hive Metastore", e);
+    } catch (TException | InterruptedException e) {
+      throw new RuntimeException(
+          "Failed to list partitions of table " + table.name() + " from Hive Metastore", e);
+    }
+  }
+
   @Override
   public Partition[] listPartitions() {
     List<org.apache.hadoop.hive.metastore.api.Partition> partitions;
@@ -88,8 +181,7 @@ public class HiveTableOperations implements TableOperations, SupportsPartitions
     } catch (TException | InterruptedException e) {
       throw new RuntimeException(e);
     }
-    List<String> partCols =
-        table.buildPartitionKeys().stream().map(FieldSchema::getName).collect(Collectors.toList());
+    List<String> partCols = partitionColumnNames();
 
     return partitions.stream()
         .map(
@@ -99,6 +191,44 @@ public class HiveTableOperations implements TableOperations, SupportsPartitions
         .toArray(Partition[]::new);
   }
 
+  @Override
+  public Partition[] getPartitions(String[] partitionNames) {
+    List<String> partCols = partitionColumnNames();
+    Map<String, Partition> partitions = Maps.newHashMapWithExpectedSize(partitionNames.length);
+    for (List<String> batch :
+        Lists.partition(Arrays.asList(partitionNames), PARTITION_BATCH_SIZE)) {
+      List<org.apache.hadoop.hive.metastore.api.Partition> hivePartitions;
+      try {
+        hivePartitions =
+            table
+                .clientPool()
+                .run(c -> c.getPartitionsByNames(table.schemaName(), table.name(), batch));
+      } catch (NoSuchObjectException e) {
+        throw new NoSuchTableException(
+            e, "Hive table %s does not exist in Hive Metastore", table.name());
+      } catch (TException | InterruptedException e) {
+        throw new RuntimeException(
+            "Failed to get partitions of table " + table.name() + " from Hive Metastore", e);
+      }
+
+      for (org.apache.hadoop.hive.metastore.api.Partition hivePartition : hivePartitions) {
+        String partitionName = FileUtils.makePartName(partCols, hivePartition.getValues());
+        partitions.put(partitionName, fromHivePartition(partitionName, hivePartition));
+      }
+    }
+
+    return Arrays.stream(partitionNames)
+        .map(partitions::get)
+        .filter(Objects::nonNull)
+        .toArray(Partition[]::new);
+  }
+
+  private List<String> partitionColumnNames() {
+    return table.buildPartitionKeys().stream()
+        .map(FieldSchema::getName)
+        .collect(Collectors.toList());
+  }
+
   @Override
   public Partition getPartition(String partitionName) throws NoSuchPartitionException {
     try {
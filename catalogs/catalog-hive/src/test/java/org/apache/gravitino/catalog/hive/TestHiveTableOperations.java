@@ -38,6 +38,7 @@ import org.apache.gravitino.rel.SupportsPartitions;
 import org.apache.gravitino.rel.expressions.literals.Literal;
 import org.apache.gravitino.rel.expressions.literals.Literals;
 import org.apache.gravitino.rel.expressions.transforms.Transform;
+import org.apache.gravitino.rel.partitions.IdentityPartition;
 import org.apache.gravitino.rel.partitions.Partition;
 import org.apache.gravitino.rel.partitions.Partitions;
 import org.apache.gravitino.rel.types.Types;
@@ -110,6 +111,73 @@ public class TestHiveTableOperations extends MiniHiveMetastoreService {
         partitions.length > 0 && Arrays.asList(partitions).contains(existingPartition));
   }
 
+  @Test
+  public void testListPartitionNamesByFilter() {
+    // The Hive Metastore filter is only guaranteed to work on string partition columns
+    HiveColumn col0 =
+        HiveColumn.builder().withName("name").withType(Types.StringType.get()).build();
+    HiveColumn col1 =
+        HiveColumn.builder().withName("region").withType(Types.StringType.get()).build();
+    HiveTable table =
+        (HiveTable)
+            hiveCatalogOperations.createTable(
+                NameIdentifier.of(
+                    META_LAKE_NAME, HIVE_CATALOG_NAME, HIVE_SCHEMA_NAME, genRandomName()),
+                new Column[] {col0, col1},
+                HIVE_COMMENT,
+                Maps.newHashMap(),
+                new Transform[] {identity(col1.name())});
+    SupportsPartitions partitions = table.supportPartitions();
+    for (String region : new String[] {"east", "west", "north"}) {
+      partitions.addPartition(
+          Partitions.identity(
+              new String[][] {{col1.name()}}, new Literal<?>[] {Literals.stringLiteral(region)}));
+    }
+
+    Assertions.assertArrayEquals(
+        new String[] {"region=west"}, partitions.listPartitionNames("region = \"west\""));
+    Assertions.assertEquals(
+        2, partitions.listPartitionNames("region = \"east\" or region = \"north\"").length);
+    Assertions.assertEquals(0, partitions.listPartitionNames("region = \"south\"").length);
+    Assertions.assertEquals(3, partitions.listPartitionNames("").length);
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> partitions.listPartitionNames("not_a_partition_column = \"0\""));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> partitions.listPartitionNames("region = "));
+
+    // List the matching names page by page
+    String filter = "region <> \"south\"";
+    Assertions.assertArrayEquals(
+        new String[] {"region=east", "region=north"},
+        partitions.listPartitionNames(filter, null, 2));
+    Assertions.assertArrayEquals(
+        new String[] {"region=north"}, partitions.listPartitionNames(filter, "region=east", 1));
+    Assertions.assertArrayEquals(
+        new String[] {"region=west"}, partitions.listPartitionNames(filter, "region=north", 2));
+    Assertions.assertEquals(0, partitions.listPartitionNames(filter, "region=west", 2).length);
+
+    Partition[] filtered = partitions.listPartitions("region = \"west\"");
+    Assertions.assertEquals(1, filtered.length);
+    Assertions.assertEquals("region=west", filtered[0].name());
+    Assertions.assertEquals(
+        "west", ((IdentityPartition) filtered[0]).values()[0].value().toString());
+    Assertions.assertEquals(3, partitions.listPartitions(null).length);
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> partitions.listPartitions("region = "));
+  }
+
+  @Test
+  public void testGetPartitions() {
+    SupportsPartitions partitions = hiveTable.supportPartitions();
+    Partition[] loaded =
+        partitions.getPartitions(
+            new String[] {"city=100/dt=1970-01-01", existingPartition.name()});
+    Assertions.assertArrayEquals(new Partition[] {existingPartition}, loaded);
+    Assertions.assertEquals(0, partitions.getPartitions(new String[0]).length);
+  }
+
   @Test
   public void testGetPartition() {
     SupportsPartitions partitions = hiveTable.supportPartitions();
@@ -21,6 +21,8 @@ package org.apache.gravitino.catalog.jdbc;
 import static org.apache.gravitino.connector.BaseCatalog.CATALOG_BYPASS_PREFIX;
 
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Maps;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
@@ -28,12 +30,16 @@ import java.sql.Driver;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.sql.DataSource;
@@ -72,6 +78,7 @@ import org.apache.gravitino.rel.expressions.distributions.Distribution;
 import org.apache.gravitino.rel.expressions.sorts.SortOrder;
 import org.apache.gravitino.rel.expressions.transforms.Transform;
 import org.apache.gravitino.rel.indexes.Index;
+import org.apache.gravitino.utils.InvalidationFence;
 import org.apache.gravitino.utils.IsolatedClassLoader;
 import org.apache.gravitino.utils.MapUtils;
 import org.slf4j.Logger;
@@ -101,6 +108,13 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
 
   private final JdbcColumnDefaultValueConverter columnDefaultValueConverter;
 
+  // The cache of the tables loaded from the Jdbc data store keyed by the database and table name,
+  // null if the metadata cache is not enabled for the catalog.
+  private Cache<NameIdentifier, JdbcTable> tableCache;
+
+  // The loads that race with a table change will not be cached.
+  private final InvalidationFence tableCacheFence = new InvalidationFence();
+
   public static class JDBCDriverInfo {
     public String name;
     public String version;
@@ -170,6 +184,15 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
     this.databaseOperation.initialize(dataSource, exceptionConverter, resultConf);
     this.tableOperation.initialize(
         dataSource, exceptionConverter, jdbcTypeConverter, columnDefaultValueConverter, resultConf);
+
+    long cacheExpireTimeMs = jdbcConfig.getMetadataCacheExpireTimeMs();
+    if (cacheExpireTimeMs > 0) {
+      this.tableCache =
+          CacheBuilder.newBuilder()
+              .maximumSize(jdbcConfig.getMetadataCacheMaxSize())
+              .expireAfterWrite(cacheExpireTimeMs, TimeUnit.MILLISECONDS)
+              .build();
+    }
   }
 
   /** Closes the Jdbc catalog and releases the associated client pool. */
@@ -299,7 +322,11 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
    */
   @Override
   public boolean dropSchema(NameIdentifier ident, boolean cascade) throws NonEmptySchemaException {
-    return databaseOperation.delete(ident.name(), cascade);
+    try {
+      return databaseOperation.delete(ident.name(), cascade);
+    } finally {
+      invalidateCachedTables(ident.name());
+    }
   }
 
   /**
@@ -328,7 +355,59 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
   public Table loadTable(NameIdentifier tableIdent) throws NoSuchTableException {
     String databaseName = NameIdentifier.of(tableIdent.namespace().levels()).name();
     String tableName = tableIdent.name();
-    JdbcTable load = tableOperation.load(databaseName, tableName);
+    NameIdentifier cacheKey = NameIdentifier.of(databaseName, tableName);
+    JdbcTable load = tableCache == null ? null : tableCache.getIfPresent(cacheKey);
+    if (load == null) {
+      long loadGeneration = tableCacheFence.generation();
+      load = tableOperation.load(databaseName, tableName);
+      cacheTable(cacheKey, load, loadGeneration);
+    }
+    return toGravitinoTable(databaseName, tableName, load);
+  }
+
+  /**
+   * Loads the tables from the Jdbc in bulk, the tables of the same schema are loaded together and
+   * the cached tables are not loaded again.
+   *
+   * @param idents The identifiers of the tables to load.
+   * @return The loaded tables, in the order of the specified identifiers.
+   */
+  @Override
+  public Table[] loadTables(NameIdentifier... idents) {
+    Map<NameIdentifier, JdbcTable> loadedTables = new HashMap<>();
+    Map<String, List<String>> tablesToLoad = new LinkedHashMap<>();
+    for (NameIdentifier ident : idents) {
+      String databaseName = NameIdentifier.of(ident.namespace().levels()).name();
+      NameIdentifier cacheKey = NameIdentifier.of(databaseName, ident.name());
+      JdbcTable cached = tableCache == null ? null : tableCache.getIfPresent(cacheKey);
+      if (cached != null) {
+        loadedTables.put(cacheKey, cached);
+      } else {
+        tablesToLoad.computeIfAbsent(databaseName, k -> new ArrayList<>()).add(ident.name());
+      }
+    }
+
+    long loadGeneration = tableCacheFence.generation();
+    for (Map.Entry<String, List<String>> entry : tablesToLoad.entrySet()) {
+      for (JdbcTable load : tableOperation.loadTables(entry.getKey(), entry.getValue())) {
+        NameIdentifier cacheKey = NameIdentifier.of(entry.getKey(), load.name());
+        loadedTables.put(cacheKey, load);
+        cacheTable(cacheKey, load, loadGeneration);
+      }
+    }
+
+    List<Table> tables = new ArrayList<>(idents.length);
+    for (NameIdentifier ident : idents) {
+      String databaseName = NameIdentifier.of(ident.namespace().levels()).name();
+      JdbcTable load = loadedTables.get(NameIdentifier.of(databaseName, ident.name()));
+      if (load != null) {
+        tables.add(toGravitinoTable(databaseName, ident.name(), load));
+      }
+    }
+    return tables.toArray(new Table[0]);
+  }
+
+  private Table toGravitinoTable(String databaseName, String tableName, JdbcTable load) {
     Map<String, String> properties =
         load.properties() == null
             ? Maps.newHashMap()
@@ -400,7 +479,11 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
   @Override
   public boolean dropTable(NameIdentifier tableIdent) {
     String databaseName = NameIdentifier.of(tableIdent.namespace().levels()).name();
-    return tableOperation.drop(databaseName, tableIdent.name());
+    try {
+      return tableOperation.drop(databaseName, tableIdent.name());
+    } finally {
+      invalidateCachedTable(databaseName, tableIdent.name());
+    }
   }
 
   /**
@@ -462,6 +545,7 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
         partitioning,
         distribution,
         indexes);
+    invalidateCachedTable(databaseName, tableName);
 
     return JdbcTable.builder()
         .withAuditInfo(
@@ -487,7 +571,11 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
   @Override
   public boolean purgeTable(NameIdentifier tableIdent) throws UnsupportedOperationException {
     String databaseName = NameIdentifier.of(tableIdent.namespace().levels()).name();
-    return tableOperation.purge(databaseName, tableIdent.name());
+    try {
+      return tableOperation.purge(databaseName, tableIdent.name());
+    } finally {
+      invalidateCachedTable(databaseName, tableIdent.name());
+    }
   }
 
   /**
@@ -502,7 +590,12 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
   private Table renameTable(NameIdentifier tableIdent, TableChange.RenameTable renameTable)
       throws NoSuchTableException, IllegalArgumentException {
     String databaseName = NameIdentifier.of(tableIdent.namespace().levels()).name();
-    tableOperation.rename(databaseName, tableIdent.name(), renameTable.getNewName());
+    try {
+      tableOperation.rename(databaseName, tableIdent.name(), renameTable.getNewName());
+    } finally {
+      invalidateCachedTable(databaseName, tableIdent.name());
+      invalidateCachedTable(databaseName, renameTable.getNewName());
+    }
     return loadTable(NameIdentifier.of(tableIdent.namespace(), renameTable.getNewName()));
   }
 
@@ -539,10 +632,43 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
       throws NoSuchTableException, IllegalArgumentException {
     String databaseName = NameIdentifier.of(tableIdent.namespace().levels()).name();
     TableChange[] resultChanges = replaceJdbcProperties(changes);
-    tableOperation.alterTable(databaseName, tableIdent.name(), resultChanges);
+    try {
+      tableOperation.alterTable(databaseName, tableIdent.name(), resultChanges);
+    } finally {
+      invalidateCachedTable(databaseName, tableIdent.name());
+    }
     return loadTable(tableIdent);
   }
 
+  private void cacheTable(NameIdentifier cacheKey, JdbcTable table, long loadGeneration) {
+    Cache<NameIdentifier, JdbcTable> cache = tableCache;
+    if (cache == null) {
+      return;
+    }
+
+    tableCacheFence.putIfNotInvalidated(loadGeneration, () -> cache.put(cacheKey, table));
+  }
+
+  private void invalidateCachedTable(String databaseName, String tableName) {
+    Cache<NameIdentifier, JdbcTable> cache = tableCache;
+    if (cache != null) {
+      NameIdentifier cacheKey = NameIdentifier.of(databaseName, tableName);
+      tableCacheFence.invalidate(() -> cache.invalidate(cacheKey));
+    }
+  }
+
+  private void invalidateCachedTables(String databaseName) {
+    Cache<NameIdentifier, JdbcTable> cache = tableCache;
+    if (cache != null) {
+      tableCacheFence.invalidate(
+          () ->
+              cache
+                  .asMap()
+                  .keySet()
+                  .removeIf(key -> Objects.equals(key.namespace().level(0), databaseName)));
+    }
+  }
+
   private TableChange[] replaceJdbcProperties(TableChange[] changes) {
     // Replace jdbc properties
     return Arrays.stream(changes)
@@ -19,6 +19,7 @@
 package org.apache.gravitino.catalog.jdbc;
 
 import static org.apache.gravitino.connector.PropertyEntry.integerPropertyEntry;
+import static org.apache.gravitino.connector.PropertyEntry.longPropertyEntry;
 import static org.apache.gravitino.connector.PropertyEntry.stringOptionalPropertyEntry;
 import static org.apache.gravitino.connector.PropertyEntry.stringPropertyEntry;
 
@@ -42,7 +43,9 @@ public class JdbcCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadata
           JdbcConfig.USERNAME.getKey(),
           JdbcConfig.PASSWORD.getKey(),
           JdbcConfig.POOL_MIN_SIZE.getKey(),
-          JdbcConfig.POOL_MAX_SIZE.getKey());
+          JdbcConfig.POOL_MAX_SIZE.getKey(),
+          JdbcConfig.METADATA_CACHE_EXPIRE_TIME_MS.getKey(),
+          JdbcConfig.METADATA_CACHE_MAX_SIZE.getKey());
 
   static {
     List<PropertyEntry<?>> propertyEntries =
@@ -94,6 +97,22 @@ public class JdbcCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadata
                 false /* immutable */,
                 JdbcConfig.POOL_MAX_SIZE.getDefaultValue(),
                 true /* hidden */,
+                false /* reserved */),
+            longPropertyEntry(
+                JdbcConfig.METADATA_CACHE_EXPIRE_TIME_MS.getKey(),
+                JdbcConfig.METADATA_CACHE_EXPIRE_TIME_MS.getDoc(),
+                false /* required */,
+                false /* immutable */,
+                JdbcConfig.METADATA_CACHE_EXPIRE_TIME_MS.getDefaultValue(),
+                false /* hidden */,
+                false /* reserved */),
+            longPropertyEntry(
+                JdbcConfig.METADATA_CACHE_MAX_SIZE.getKey(),
+                JdbcConfig.METADATA_CACHE_MAX_SIZE.getDoc(),
+                false /* required */,
+                false /* immutable */,
+                JdbcConfig.METADATA_CACHE_MAX_SIZE.getDefaultValue(),
+                false /* hidden */,
                 false /* reserved */));
     PROPERTIES_METADATA =
         ImmutableMap.<String, PropertyEntry<?>>builder()
@@ -91,6 +91,24 @@ public class JdbcConfig extends Config {
           .booleanConf()
           .createWithDefault(true);
 
+  public static final ConfigEntry<Long> METADATA_CACHE_EXPIRE_TIME_MS =
+      new ConfigBuilder("jdbc.metadata-cache.expire-time-ms")
+          .doc(
+              "The expiration time in milliseconds of the cached table metadata loaded from the"
+                  + " Jdbc data store, the cache is disabled if it is 0")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
+  public static final ConfigEntry<Long> METADATA_CACHE_MAX_SIZE =
+      new ConfigBuilder("jdbc.metadata-cache.max-size")
+          .doc("The maximum number of the cached tables loaded from the Jdbc data store")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10000L);
+
   public String getJdbcUrl() {
     return get(JDBC_URL);
   }
@@ -123,6 +141,14 @@ public class JdbcConfig extends Config {
     return get(TEST_ON_BORROW);
   }
 
+  public long getMetadataCacheExpireTimeMs() {
+    return get(METADATA_CACHE_EXPIRE_TIME_MS);
+  }
+
+  public long getMetadataCacheMaxSize() {
+    return get(METADATA_CACHE_MAX_SIZE);
+  }
+
   public JdbcConfig(Map<String, String> properties) {
     super(false);
     loadFromMap(properties, k -> true);
@@ -27,6 +27,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -69,6 +71,12 @@ public abstract class JdbcTableOperations implements TableOperation {
 
   protected static final Logger LOG = LoggerFactory.getLogger(JdbcTableOperations.class);
 
+  /**
+   * Batch loads of up to this many tables query the metadata of each table by name, larger ones
+   * scan the metadata of the whole database once.
+   */
+  private static final int MAX_TABLES_LOADED_BY_NAME = 16;
+
   protected DataSource dataSource;
   protected JdbcExceptionConverter exceptionMapper;
   protected JdbcTypeConverter typeConverter;
@@ -222,6 +230,144 @@ public abstract class JdbcTableOperations implements TableOperation {
     }
   }
 
+  @Override
+  public List<JdbcTable> loadTables(String databaseName, List<String> tableNames)
+      throws NoSuchSchemaException {
+    Set<String> requested = new LinkedHashSet<>(tableNames);
+    if (requested.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    // Small requests query the tables and columns by name, larger ones fetch those of the whole
+    // database with one metadata call each. The results are matched by name either way, this also
+    // avoids the case sensitivity and wild card issues described in load.
+    List<String> patterns =
+        requested.size() > MAX_TABLES_LOADED_BY_NAME
+            ? Collections.singletonList("%")
+            : new ArrayList<>(requested);
+    try (Connection connection = getConnection(databaseName)) {
+      // 1. Get table information
+      Map<String, JdbcTable.Builder> tableBuilders = new HashMap<>();
+      for (String pattern : patterns) {
+        try (ResultSet tables = getTable(connection, databaseName, pattern)) {
+          while (tables.next()) {
+            String tableName = tables.getString("TABLE_NAME");
+            if (isRequested(tableName, pattern, requested) && isInDatabase(tables, databaseName)) {
+              tableBuilders.put(
+                  tableName, getBasicJdbcTableInfo(tables).withDatabaseName(databaseName));
+            }
+          }
+        }
+      }
+      if (tableBuilders.isEmpty()) {
+        return Collections.emptyList();
+      }
+
+      // 2. Get column information
+      Map<String, List<JdbcColumn>> tableColumns = new HashMap<>();
+      for (String pattern : patterns) {
+        try (ResultSet columns = getColumns(connection, databaseName, pattern)) {
+          while (columns.next()) {
+            String tableName = columns.getString("TABLE_NAME");
+            if (tableBuilders.containsKey(tableName)
+                && isRequested(tableName, pattern, requested)
+                && isInDatabase(columns, databaseName)) {
+              JdbcColumn.Builder columnBuilder = getBasicJdbcColumnInfo(columns);
+              columnBuilder.withAutoIncrement(getAutoIncrementInfo(columns));
+              tableColumns
+                  .computeIfAbsent(tableName, k -> new ArrayList<>())
+                  .add(columnBuilder.build());
+            }
+          }
+        }
+      }
+
+      // 3. Get index information and table properties
+      Map<String, List<Index>> tableIndexes =
+          getIndexesOfTables(connection, databaseName, tableBuilders.keySet());
+      Map<String, Map<String, String>> tableProperties =
+          getPropertiesOfTables(connection, databaseName, tableBuilders.keySet());
+
+      List<JdbcTable> loadedTables = new ArrayList<>(tableBuilders.size());
+      for (String tableName : requested) {
+        JdbcTable.Builder jdbcTableBuilder = tableBuilders.get(tableName);
+        if (jdbcTableBuilder == null) {
+          continue;
+        }
+
+        List<JdbcColumn> columns = tableColumns.getOrDefault(tableName, Collections.emptyList());
+        jdbcTableBuilder.withColumns(columns.toArray(new JdbcColumn[0]));
+        List<Index> indexes = tableIndexes.getOrDefault(tableName, Collections.emptyList());
+        jdbcTableBuilder.withIndexes(indexes.toArray(new Index[0]));
+        jdbcTableBuilder.withPartitioning(
+            getTablePartitioning(connection, databaseName, tableName));
+        jdbcTableBuilder.withDistribution(getDistributionInfo(connection, databaseName, tableName));
+        jdbcTableBuilder.withProperties(
+            tableProperties.getOrDefault(tableName, Collections.emptyMap()));
+        correctJdbcTableFields(connection, databaseName, tableName, jdbcTableBuilder);
+        loadedTables.add(jdbcTableBuilder.withTableOperation(this).build());
+      }
+      LOG.info(
+          "Finished loading tables size {} for database name {}",
+          loadedTables.size(),
+          databaseName);
+      return loadedTables;
+    } catch (SQLException e) {
+      throw exceptionMapper.toGravitinoException(e);
+    }
+  }
+
+  /**
+   * Get the indexes of the specified tables in the database. The default implementation gets them
+   * table by table, subclasses can override it to get them with one query.
+   *
+   * @param connection jdbc connection
+   * @param databaseName database name
+   * @param tableNames The names of the tables, all of them exist in the database.
+   * @return The indexes of the tables keyed by the table name.
+   * @throws SQLException if an error occurs while getting the indexes.
+   */
+  protected Map<String, List<Index>> getIndexesOfTables(
+      Connection connection, String databaseName, Set<String> tableNames) throws SQLException {
+    Map<String, List<Index>> indexes = new HashMap<>();
+    for (String tableName : tableNames) {
+      indexes.put(tableName, getIndexes(connection, databaseName, tableName));
+    }
+    return indexes;
+  }
+
+  /**
+   * Get the properties of the specified tables in the database. The default implementation gets
+   * them table by table, subclasses can override it to get them with one query.
+   *
+   * @param connection jdbc connection
+   * @param databaseName database name
+   * @param tableNames The names of the tables, all of them exist in the database.
+   * @return The properties of the tables keyed by the table name.
+   * @throws SQLException if an error occurs while getting the properties.
+   */
+  protected Map<String, Map<String, String>> getPropertiesOfTables(
+      Connection connection, String databaseName, Set<String> tableNames) throws SQLException {
+    Map<String, Map<String, String>> properties = new HashMap<>();
+    for (String tableName : tableNames) {
+      properties.put(tableName, getTableProperties(connection, tableName));
+    }
+    return properties;
+  }
+
+  private static boolean isRequested(String tableName, String pattern, Set<String> requested) {
+    // A name pattern may match other tables as a wild card, only take the table it names so that
+    // columns are not collected twice.
+    return "%".equals(pattern) ? requested.contains(tableName) : pattern.equals(tableName);
+  }
+
+  private static boolean isInDatabase(ResultSet resultSet, String databaseName)
+      throws SQLException {
+    // The database is the catalog in some data stores like MySQL, where the schema is null.
+    String schemaName = resultSet.getString("TABLE_SCHEM");
+    return schemaName == null || Objects.equals(schemaName, databaseName);
+  }
+
   /**
    * Get all properties values of the table, including properties outside Gravitino management. The
    * JdbcCatalogOperations#loadTable method will filter out unnecessary properties.
@@ -364,7 +510,6 @@ public abstract class JdbcTableOperations implements TableOperation {
   protected List<Index> getIndexes(Connection connection, String databaseName, String tableName)
       throws SQLException {
     DatabaseMetaData metaData = connection.getMetaData();
-    List<Index> indexes = new ArrayList<>();
 
     // Get primary key information
     ResultSet primaryKeys = getPrimaryKeys(databaseName, tableName, metaData);
@@ -396,7 +541,18 @@ public abstract class JdbcTableOperations implements TableOperation {
       }
     }
 
-    // Assemble into Index
+    return assembleIndexes(jdbcIndexBeans);
+  }
+
+  /**
+   * Assemble the index beans of one table into indexes, the beans of the same index are ordered by
+   * their position in the index.
+   *
+   * @param jdbcIndexBeans The index beans of the table.
+   * @return The indexes of the table.
+   */
+  protected List<Index> assembleIndexes(List<JdbcIndexBean> jdbcIndexBeans) {
+    List<Index> indexes = new ArrayList<>();
     Map<Index.IndexType, List<JdbcIndexBean>> indexBeanGroupByIndexType =
         jdbcIndexBeans.stream().collect(Collectors.groupingBy(JdbcIndexBean::getIndexType));
 
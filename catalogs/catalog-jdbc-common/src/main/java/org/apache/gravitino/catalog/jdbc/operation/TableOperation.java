@@ -19,6 +19,8 @@
 
 package org.apache.gravitino.catalog.jdbc.operation;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import javax.sql.DataSource;
@@ -93,6 +95,27 @@ public interface TableOperation {
    */
   JdbcTable load(String databaseName, String tableName) throws NoSuchTableException;
 
+  /**
+   * Load the specified tables of the database in bulk, the tables that do not exist are skipped.
+   *
+   * @param databaseName The name of the database.
+   * @param tableNames The names of the tables.
+   * @return information objects of the loaded JDBC tables, in the order of the specified names.
+   * @throws NoSuchSchemaException
+   */
+  default List<JdbcTable> loadTables(String databaseName, List<String> tableNames)
+      throws NoSuchSchemaException {
+    List<JdbcTable> tables = new ArrayList<>(tableNames.size());
+    for (String tableName : new LinkedHashSet<>(tableNames)) {
+      try {
+        tables.add(load(databaseName, tableName));
+      } catch (NoSuchTableException e) {
+        // The table may be dropped concurrently, skip it.
+      }
+    }
+    return tables;
+  }
+
   /**
    * @param databaseName The name of the database.
    * @param oldTableName The name of the table to rename.
@@ -22,6 +22,7 @@ import com.google.common.collect.Maps;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -211,6 +212,71 @@ public class TestJdbcTableOperations {
         JDBC_TABLE_OPERATIONS.drop(DATABASE_NAME, newName), "table should be non-existent");
   }
 
+  @Test
+  public void testLoadTables() {
+    List<String> tableNames = Arrays.asList("bulk_table1", "bulk_table2");
+    for (String tableName : tableNames) {
+      JdbcColumn[] jdbcColumns = generateRandomColumn(1, 4);
+      JDBC_TABLE_OPERATIONS.create(
+          DATABASE_NAME,
+          tableName,
+          jdbcColumns,
+          null,
+          Maps.newHashMap(),
+          null,
+          Distributions.NONE,
+          Indexes.EMPTY_INDEXES);
+    }
+
+    // The tables are returned in the specified order, the missing tables are skipped.
+    List<JdbcTable> loadedTables =
+        JDBC_TABLE_OPERATIONS.loadTables(
+            DATABASE_NAME, Arrays.asList("bulk_table2", "no_exist", "bulk_table1", "bulk_table2"));
+    Assertions.assertEquals(
+        Arrays.asList("bulk_table2", "bulk_table1"),
+        loadedTables.stream().map(JdbcTable::name).collect(Collectors.toList()));
+
+    // Large requests scan the whole database and return the same tables.
+    List<String> manyTableNames = new ArrayList<>();
+    manyTableNames.add("bulk_table2");
+    for (int i = 0; i < 20; i++) {
+      manyTableNames.add("no_exist" + i);
+    }
+    manyTableNames.add("bulk_table1");
+    List<JdbcTable> scannedTables = JDBC_TABLE_OPERATIONS.loadTables(DATABASE_NAME, manyTableNames);
+    Assertions.assertEquals(
+        Arrays.asList("bulk_table2", "bulk_table1"),
+        scannedTables.stream().map(JdbcTable::name).collect(Collectors.toList()));
+    for (int i = 0; i < scannedTables.size(); i++) {
+      Assertions.assertEquals(
+          loadedTables.get(i).columns().length, scannedTables.get(i).columns().length);
+    }
+
+    for (JdbcTable loadedTable : loadedTables) {
+      JdbcTable table = JDBC_TABLE_OPERATIONS.load(DATABASE_NAME, loadedTable.name());
+      Assertions.assertEquals(DATABASE_NAME, loadedTable.databaseName());
+      Assertions.assertEquals(table.comment(), loadedTable.comment());
+      Assertions.assertEquals(table.properties(), loadedTable.properties());
+      Assertions.assertEquals(table.index().length, loadedTable.index().length);
+      Assertions.assertEquals(table.columns().length, loadedTable.columns().length);
+      for (int i = 0; i < table.columns().length; i++) {
+        Column column = table.columns()[i];
+        Column loadedColumn = loadedTable.columns()[i];
+        Assertions.assertEquals(column.name(), loadedColumn.name());
+        Assertions.assertEquals(column.dataType(), loadedColumn.dataType());
+        Assertions.assertEquals(column.nullable(), loadedColumn.nullable());
+        Assertions.assertEquals(column.defaultValue(), loadedColumn.defaultValue());
+      }
+    }
+
+    Assertions.assertTrue(
+        JDBC_TABLE_OPERATIONS.loadTables(DATABASE_NAME, Collections.emptyList()).isEmpty());
+
+    for (String tableName : tableNames) {
+      Assertions.assertTrue(JDBC_TABLE_OPERATIONS.drop(DATABASE_NAME, tableName));
+    }
+  }
+
   private static JdbcColumn[] generateRandomColumn(int minSize, int maxSize) {
     Random r = new Random();
     String prefixColName = "col_";
@@ -37,6 +37,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
@@ -46,6 +47,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.catalog.jdbc.JdbcColumn;
 import org.apache.gravitino.catalog.jdbc.JdbcTable;
+import org.apache.gravitino.catalog.jdbc.bean.JdbcIndexBean;
 import org.apache.gravitino.catalog.jdbc.operation.JdbcTableOperations;
 import org.apache.gravitino.exceptions.NoSuchColumnException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
@@ -244,17 +246,7 @@ public class MysqlTableOperations extends JdbcTableOperations {
         while (resultSet.next()) {
           String name = resultSet.getString("NAME");
           if (Objects.equals(name, tableName)) {
-            return Collections.unmodifiableMap(
-                new HashMap<String, String>() {
-                  {
-                    put(COMMENT, resultSet.getString(COMMENT));
-                    put(MYSQL_ENGINE_KEY, resultSet.getString(MYSQL_ENGINE_KEY));
-                    String autoIncrement = resultSet.getString(MYSQL_AUTO_INCREMENT_OFFSET_KEY);
-                    if (StringUtils.isNotEmpty(autoIncrement)) {
-                      put(MYSQL_AUTO_INCREMENT_OFFSET_KEY, autoIncrement);
-                    }
-                  }
-                });
+            return getTableStatusProperties(resultSet);
           }
         }
 
@@ -264,6 +256,77 @@ public class MysqlTableOperations extends JdbcTableOperations {
     }
   }
 
+  @Override
+  protected Map<String, Map<String, String>> getPropertiesOfTables(
+      Connection connection, String databaseName, Set<String> tableNames) throws SQLException {
+    Map<String, Map<String, String>> properties = new HashMap<>();
+    try (PreparedStatement statement = connection.prepareStatement("SHOW TABLE STATUS");
+        ResultSet resultSet = statement.executeQuery()) {
+      while (resultSet.next()) {
+        String name = resultSet.getString("NAME");
+        if (tableNames.contains(name)) {
+          properties.put(name, getTableStatusProperties(resultSet));
+        }
+      }
+    }
+    return properties;
+  }
+
+  private static Map<String, String> getTableStatusProperties(ResultSet resultSet)
+      throws SQLException {
+    return Collections.unmodifiableMap(
+        new HashMap<String, String>() {
+          {
+            put(COMMENT, resultSet.getString(COMMENT));
+            put(MYSQL_ENGINE_KEY, resultSet.getString(MYSQL_ENGINE_KEY));
+            String autoIncrement = resultSet.getString(MYSQL_AUTO_INCREMENT_OFFSET_KEY);
+            if (StringUtils.isNotEmpty(autoIncrement)) {
+              put(MYSQL_AUTO_INCREMENT_OFFSET_KEY, autoIncrement);
+            }
+          }
+        });
+  }
+
+  @Override
+  protected Map<String, List<Index>> getIndexesOfTables(
+      Connection connection, String databaseName, Set<String> tableNames) throws SQLException {
+    // The primary key of MySQL is the unique index named PRIMARY.
+    String sql =
+        "SELECT TABLE_NAME, INDEX_NAME, COLUMN_NAME, SEQ_IN_INDEX"
+            + " FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = ? AND NON_UNIQUE = 0";
+    Map<String, List<JdbcIndexBean>> indexBeans = new HashMap<>();
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setString(1, databaseName);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          String tableName = resultSet.getString("TABLE_NAME");
+          if (!tableNames.contains(tableName)) {
+            continue;
+          }
+          String indexName = resultSet.getString("INDEX_NAME");
+          Index.IndexType indexType =
+              Indexes.DEFAULT_MYSQL_PRIMARY_KEY_NAME.equals(indexName)
+                  ? Index.IndexType.PRIMARY_KEY
+                  : Index.IndexType.UNIQUE_KEY;
+          indexBeans
+              .computeIfAbsent(tableName, k -> new ArrayList<>())
+              .add(
+                  new JdbcIndexBean(
+                      indexType,
+                      resultSet.getString("COLUMN_NAME"),
+                      indexName,
+                      resultSet.getInt("SEQ_IN_INDEX")));
+        }
+      }
+    }
+
+    Map<String, List<Index>> indexes = new HashMap<>();
+    for (Map.Entry<String, List<JdbcIndexBean>> entry : indexBeans.entrySet()) {
+      indexes.put(entry.getKey(), assembleIndexes(entry.getValue()));
+    }
+    return indexes;
+  }
+
   @Override
   protected void correctJdbcTableFields(
       Connection connection, String databaseName, String tableName, JdbcTable.Builder tableBuilder)
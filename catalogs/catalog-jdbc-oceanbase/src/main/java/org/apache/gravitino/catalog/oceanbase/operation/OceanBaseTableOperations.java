@@ -23,6 +23,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.gravitino.catalog.jdbc.JdbcColumn;
 import org.apache.gravitino.catalog.jdbc.JdbcTable;
@@ -48,6 +49,13 @@ public class OceanBaseTableOperations extends JdbcTableOperations {
     return super.load(databaseName, tableName.toLowerCase());
   }
 
+  @Override
+  public List<JdbcTable> loadTables(String databaseName, List<String> tableNames)
+      throws NoSuchSchemaException {
+    return super.loadTables(
+        databaseName, tableNames.stream().map(String::toLowerCase).collect(Collectors.toList()));
+  }
+
   @Override
   protected String generateCreateTableSql(
       String tableName,
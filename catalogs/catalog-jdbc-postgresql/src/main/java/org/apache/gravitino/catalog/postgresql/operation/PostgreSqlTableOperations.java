@@ -24,13 +24,16 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import org.apache.commons.collections4.MapUtils;
@@ -40,6 +43,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.catalog.jdbc.JdbcColumn;
 import org.apache.gravitino.catalog.jdbc.JdbcTable;
+import org.apache.gravitino.catalog.jdbc.bean.JdbcIndexBean;
 import org.apache.gravitino.catalog.jdbc.config.JdbcConfig;
 import org.apache.gravitino.catalog.jdbc.converter.JdbcColumnDefaultValueConverter;
 import org.apache.gravitino.catalog.jdbc.converter.JdbcExceptionConverter;
@@ -681,6 +685,53 @@ public class PostgreSqlTableOperations extends JdbcTableOperations {
         + "';";
   }
 
+  @Override
+  protected Map<String, List<Index>> getIndexesOfTables(
+      Connection connection, String schema, Set<String> tableNames) throws SQLException {
+    // Get the primary and unique indexes of all the tables in the schema in one query, the key
+    // columns of an index are expanded like what the driver does in DatabaseMetaData#getIndexInfo.
+    String sql =
+        "SELECT t.relname AS table_name, ic.relname AS index_name, i.indisprimary AS is_primary,"
+            + " a.attname AS column_name, (i.keys).n AS key_seq"
+            + " FROM (SELECT indexrelid, indrelid, indisunique, indisprimary,"
+            + " information_schema._pg_expandarray(indkey) AS keys FROM pg_catalog.pg_index) i"
+            + " JOIN pg_catalog.pg_class t ON t.oid = i.indrelid"
+            + " JOIN pg_catalog.pg_class ic ON ic.oid = i.indexrelid"
+            + " JOIN pg_catalog.pg_namespace n ON n.oid = t.relnamespace"
+            + " JOIN pg_catalog.pg_attribute a ON a.attrelid = t.oid AND a.attnum = (i.keys).x"
+            + " WHERE n.nspname = ? AND i.indisunique";
+    Map<String, List<JdbcIndexBean>> indexBeans = new HashMap<>();
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setString(1, schema);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          String tableName = resultSet.getString("table_name");
+          if (!tableNames.contains(tableName)) {
+            continue;
+          }
+          Index.IndexType indexType =
+              resultSet.getBoolean("is_primary")
+                  ? Index.IndexType.PRIMARY_KEY
+                  : Index.IndexType.UNIQUE_KEY;
+          indexBeans
+              .computeIfAbsent(tableName, k -> new ArrayList<>())
+              .add(
+                  new JdbcIndexBean(
+                      indexType,
+                      resultSet.getString("column_name"),
+                      resultSet.getString("index_name"),
+                      resultSet.getInt("key_seq")));
+        }
+      }
+    }
+
+    Map<String, List<Index>> indexes = new HashMap<>();
+    for (Map.Entry<String, List<JdbcIndexBean>> entry : indexBeans.entrySet()) {
+      indexes.put(entry.getKey(), assembleIndexes(entry.getValue()));
+    }
+    return indexes;
+  }
+
   @Override
   protected ResultSet getIndexInfo(String schemaName, String tableName, DatabaseMetaData metaData)
       throws SQLException {
@@ -27,10 +27,12 @@ import static org.apache.gravitino.storage.RandomIdGenerator.MAX_ID;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -38,6 +40,7 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.Entity;
@@ -77,11 +80,11 @@ import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.CreateTopicsResult;
 import org.apache.kafka.clients.admin.DescribeConfigsResult;
 import org.apache.kafka.clients.admin.DescribeTopicsResult;
-import org.apache.kafka.clients.admin.ListTopicsResult;
 import org.apache.kafka.clients.admin.NewPartitions;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.Uuid;
 import org.apache.kafka.common.config.ConfigException;
 import org.apache.kafka.common.config.ConfigResource;
@@ -105,6 +108,9 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
   private CatalogInfo info;
   private AdminClient adminClient;
   private HasPropertyMetadata propertiesMetadata;
+  @VisibleForTesting int describeBatchSize;
+  // Null if the topic metadata snapshot is disabled.
+  @VisibleForTesting TopicMetadataCache topicCache;
 
   @VisibleForTesting
   KafkaCatalogOperations(EntityStore store, IdGenerator idGenerator) {
@@ -159,6 +165,51 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
       }
       throw new RuntimeException("Failed to create Kafka AdminClient", e);
     }
+
+    this.describeBatchSize =
+        (int)
+            propertiesMetadata
+                .catalogPropertiesMetadata()
+                .getOrDefault(config, KafkaCatalogPropertiesMetadata.TOPIC_DESCRIBE_BATCH_SIZE);
+    Preconditions.checkArgument(
+        describeBatchSize > 0,
+        "%s must be positive",
+        KafkaCatalogPropertiesMetadata.TOPIC_DESCRIBE_BATCH_SIZE);
+    boolean topicCacheEnabled =
+        (boolean)
+            propertiesMetadata
+                .catalogPropertiesMetadata()
+                .getOrDefault(config, KafkaCatalogPropertiesMetadata.TOPIC_CACHE_ENABLE);
+    if (topicCacheEnabled) {
+      int refreshIntervalSec =
+          (int)
+              propertiesMetadata
+                  .catalogPropertiesMetadata()
+                  .getOrDefault(
+                      config, KafkaCatalogPropertiesMetadata.TOPIC_CACHE_REFRESH_INTERVAL_SEC);
+      int expireTimeSec =
+          (int)
+              propertiesMetadata
+                  .catalogPropertiesMetadata()
+                  .getOrDefault(config, KafkaCatalogPropertiesMetadata.TOPIC_CACHE_EXPIRE_TIME_SEC);
+      Preconditions.checkArgument(
+          refreshIntervalSec > 0,
+          "%s must be positive",
+          KafkaCatalogPropertiesMetadata.TOPIC_CACHE_REFRESH_INTERVAL_SEC);
+      Preconditions.checkArgument(
+          expireTimeSec > refreshIntervalSec,
+          "%s must be greater than %s",
+          KafkaCatalogPropertiesMetadata.TOPIC_CACHE_EXPIRE_TIME_SEC,
+          KafkaCatalogPropertiesMetadata.TOPIC_CACHE_REFRESH_INTERVAL_SEC);
+
+      this.topicCache =
+          new TopicMetadataCache(
+              String.join(".", info.namespace().level(0), info.name()),
+              this::listTopicNames,
+              this::describeTopics,
+              TimeUnit.SECONDS.toMillis(refreshIntervalSec),
+              TimeUnit.SECONDS.toMillis(expireTimeSec));
+    }
     createDefaultSchemaIfNecessary();
   }
 
@@ -167,21 +218,10 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     NameIdentifier schemaIdent = NameIdentifier.of(namespace.levels());
     checkSchemaExists(schemaIdent);
 
-    try {
-      ListTopicsResult result = adminClient.listTopics();
-      Set<String> topicNames = result.names().get();
-      return topicNames.stream()
-          .map(name -> NameIdentifier.of(namespace, name))
-          .toArray(NameIdentifier[]::new);
-    } catch (ExecutionException e) {
-      throw new RuntimeException(
-          String.format(
-              "Failed to list topics under the schema %s: %s",
-              namespace, e.getCause().getMessage()),
-          e);
-    } catch (InterruptedException e) {
-      throw new RuntimeException("Failed to list topics under the schema " + namespace, e);
-    }
+    Set<String> topicNames = topicCache != null ? topicCache.topicNames() : listTopicNames();
+    return topicNames.stream()
+        .map(name -> NameIdentifier.of(namespace, name))
+        .toArray(NameIdentifier[]::new);
   }
 
   @Override
@@ -204,49 +244,14 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     NameIdentifier schemaIdent = NameIdentifier.of(ident.namespace().levels());
     checkSchemaExists(schemaIdent);
 
-    DescribeTopicsResult result = adminClient.describeTopics(Collections.singleton(ident.name()));
-    ConfigResource configResource = new ConfigResource(ConfigResource.Type.TOPIC, ident.name());
-    DescribeConfigsResult configsResult =
-        adminClient.describeConfigs(Collections.singleton(configResource));
-
-    int partitions;
-    int replicationFactor;
-    Uuid topicId;
-    Map<String, String> properties = Maps.newHashMap();
-    try {
-      TopicDescription topicDescription = result.topicNameValues().get(ident.name()).get();
-      partitions = topicDescription.partitions().size();
-      replicationFactor = topicDescription.partitions().get(0).replicas().size();
-      topicId = topicDescription.topicId();
-
-      Config topicConfigs = configsResult.all().get().get(configResource);
-      topicConfigs.entries().forEach(e -> properties.put(e.name(), e.value()));
-      properties.put(KafkaTopicPropertiesMetadata.PARTITION_COUNT, String.valueOf(partitions));
-      properties.put(
-          KafkaTopicPropertiesMetadata.REPLICATION_FACTOR, String.valueOf(replicationFactor));
-    } catch (ExecutionException e) {
-      if (e.getCause() instanceof UnknownTopicOrPartitionException) {
-        throw new NoSuchTopicException(e, "Topic %s does not exist", ident);
-      } else {
-        throw new RuntimeException("Failed to load topic " + ident.name() + " from Kafka", e);
-      }
-    } catch (InterruptedException e) {
-      throw new RuntimeException("Failed to load topic " + ident.name() + " from Kafka", e);
+    TopicMetadataCache.TopicMetadata metadata =
+        topicCache != null ? topicCache.get(ident.name()) : null;
+    if (metadata == null) {
+      // Read the topic from Kafka if the snapshot is disabled or doesn't have it, the topic may be
+      // created after the snapshot is loaded.
+      metadata = loadTopicMetadata(ident);
     }
-
-    LOG.info("Loaded topic {} from Kafka", ident);
-
-    return KafkaTopic.builder()
-        .withName(ident.name())
-        // Because there is no way to store the Gravitino ID in Kafka, therefor we use the topic ID
-        // as the Gravitino ID
-        .withProperties(newPropertiesWithId(convertToGravitinoId(topicId), properties))
-        .withAuditInfo(
-            AuditInfo.builder()
-                .withCreator(PrincipalUtils.getCurrentPrincipal().getName())
-                .withCreateTime(Instant.now())
-                .build())
-        .build();
+    return toKafkaTopic(ident, metadata);
   }
 
   @Override
@@ -278,6 +283,11 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
       created_properties.put(
           KafkaTopicPropertiesMetadata.REPLICATION_FACTOR, String.valueOf(replicationFactor));
       topicConfigs.entries().forEach(e -> created_properties.put(e.name(), e.value()));
+      if (topicCache != null) {
+        topicCache.put(
+            ident.name(),
+            new TopicMetadataCache.TopicMetadata(topicId, ImmutableMap.copyOf(created_properties)));
+      }
 
       return KafkaTopic.builder()
           .withName(ident.name())
@@ -317,7 +327,9 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     NameIdentifier schemaIdent = NameIdentifier.of(ident.namespace().levels());
     checkSchemaExists(schemaIdent);
 
-    KafkaTopic topic = (KafkaTopic) loadTopic(ident);
+    // Read the topic from Kafka rather than the snapshot to compute the changes against the latest
+    // partition count and properties.
+    KafkaTopic topic = toKafkaTopic(ident, loadTopicMetadata(ident));
     String newComment = topic.comment();
     int oldPartitionCount =
         Integer.parseInt(topic.properties().get(KafkaTopicPropertiesMetadata.PARTITION_COUNT));
@@ -346,12 +358,18 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
       }
     }
 
-    if (newPartitionCount != oldPartitionCount) {
-      doPartitionCountIncrement(ident.name(), newPartitionCount);
-    }
+    try {
+      if (newPartitionCount != oldPartitionCount) {
+        doPartitionCountIncrement(ident.name(), newPartitionCount);
+      }
 
-    if (!alterConfigOps.isEmpty()) {
-      doAlterTopicConfig(ident.name(), alterConfigOps);
+      if (!alterConfigOps.isEmpty()) {
+        doAlterTopicConfig(ident.name(), alterConfigOps);
+      }
+    } finally {
+      if (topicCache != null) {
+        topicCache.invalidate(ident.name());
+      }
     }
 
     return KafkaTopic.builder()
@@ -375,9 +393,11 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
 
     try {
       adminClient.deleteTopics(Collections.singleton(ident.name())).all().get();
+      removeFromTopicCache(ident.name());
       return true;
     } catch (ExecutionException e) {
       if (e.getCause() instanceof UnknownTopicOrPartitionException) {
+        removeFromTopicCache(ident.name());
         return false;
       } else {
         throw new RuntimeException("Failed to drop topic " + ident.name() + " from Kafka", e);
@@ -451,12 +471,107 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
 
   @Override
   public void close() throws IOException {
+    if (topicCache != null) {
+      topicCache.close();
+      topicCache = null;
+    }
     if (adminClient != null) {
       adminClient.close();
       adminClient = null;
     }
   }
 
+  private Set<String> listTopicNames() {
+    try {
+      return adminClient.listTopics().names().get();
+    } catch (ExecutionException e) {
+      throw new RuntimeException(
+          "Failed to list topics from Kafka: " + e.getCause().getMessage(), e);
+    } catch (InterruptedException e) {
+      throw new RuntimeException("Failed to list topics from Kafka", e);
+    }
+  }
+
+  /**
+   * Load the metadata of the topic from Kafka, bypassing the topic metadata snapshot.
+   *
+   * @param ident The topic identifier.
+   * @return The topic metadata.
+   * @throws NoSuchTopicException If the topic does not exist.
+   */
+  private TopicMetadataCache.TopicMetadata loadTopicMetadata(NameIdentifier ident)
+      throws NoSuchTopicException {
+    TopicMetadataCache.TopicMetadata metadata =
+        describeTopics(Collections.singleton(ident.name())).get(ident.name());
+    if (metadata == null) {
+      throw new NoSuchTopicException("Topic %s does not exist", ident);
+    }
+
+    LOG.info("Loaded topic {} from Kafka", ident);
+    if (topicCache != null) {
+      topicCache.put(ident.name(), metadata);
+    }
+    return metadata;
+  }
+
+  /**
+   * Describe the topics and their configs in Kafka, at most {@link #describeBatchSize} topics are
+   * described in one request.
+   *
+   * @param topicNames The names of the topics to describe.
+   * @return The metadata of the topics keyed by the topic name, the topics not found are omitted.
+   */
+  @VisibleForTesting
+  Map<String, TopicMetadataCache.TopicMetadata> describeTopics(Collection<String> topicNames) {
+    Map<String, TopicMetadataCache.TopicMetadata> topics = Maps.newHashMap();
+    for (List<String> batch : Iterables.partition(topicNames, describeBatchSize)) {
+      DescribeTopicsResult result = adminClient.describeTopics(batch);
+      DescribeConfigsResult configsResult =
+          adminClient.describeConfigs(
+              batch.stream()
+                  .map(name -> new ConfigResource(ConfigResource.Type.TOPIC, name))
+                  .collect(Collectors.toList()));
+      Map<String, KafkaFuture<TopicDescription>> descriptions = result.topicNameValues();
+      Map<ConfigResource, KafkaFuture<Config>> configs = configsResult.values();
+
+      for (String topicName : batch) {
+        try {
+          TopicDescription topicDescription = descriptions.get(topicName).get();
+          Config topicConfigs =
+              configs.get(new ConfigResource(ConfigResource.Type.TOPIC, topicName)).get();
+          topics.put(topicName, toTopicMetadata(topicDescription, topicConfigs));
+        } catch (ExecutionException e) {
+          if (!(e.getCause() instanceof UnknownTopicOrPartitionException)) {
+            throw new RuntimeException("Failed to load topic " + topicName + " from Kafka", e);
+          }
+        } catch (InterruptedException e) {
+          throw new RuntimeException("Failed to load topic " + topicName + " from Kafka", e);
+        }
+      }
+    }
+    return topics;
+  }
+
+  private TopicMetadataCache.TopicMetadata toTopicMetadata(
+      TopicDescription topicDescription, Config topicConfigs) {
+    int partitions = topicDescription.partitions().size();
+    int replicationFactor = topicDescription.partitions().get(0).replicas().size();
+
+    Map<String, String> properties = Maps.newHashMap();
+    topicConfigs.entries().forEach(e -> properties.put(e.name(), e.value()));
+    properties.put(KafkaTopicPropertiesMetadata.PARTITION_COUNT, String.valueOf(partitions));
+    properties.put(
+        KafkaTopicPropertiesMetadata.REPLICATION_FACTOR, String.valueOf(replicationFactor));
+    return new TopicMetadataCache.TopicMetadata(
+        topicDescription.topicId(), ImmutableMap.copyOf(properties));
+  }
+
+  private void removeFromTopicCache(String topicName) {
+    if (topicCache != null) {
+      topicCache.remove(topicName);
+    }
+  }
+
   /**
    * Make sure the schema exists, otherwise throw an exception.
    *
@@ -552,6 +667,21 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     }
   }
 
+  private KafkaTopic toKafkaTopic(NameIdentifier ident, TopicMetadataCache.TopicMetadata metadata) {
+    return KafkaTopic.builder()
+        .withName(ident.name())
+        // Because there is no way to store the Gravitino ID in Kafka, therefor we use the topic ID
+        // as the Gravitino ID
+        .withProperties(
+            newPropertiesWithId(convertToGravitinoId(metadata.topicId()), metadata.properties()))
+        .withAuditInfo(
+            AuditInfo.builder()
+                .withCreator(PrincipalUtils.getCurrentPrincipal().getName())
+                .withCreateTime(Instant.now())
+                .build())
+        .build();
+  }
+
   private StringIdentifier convertToGravitinoId(Uuid topicId) {
     return StringIdentifier.fromId(topicId.getLeastSignificantBits() & MAX_ID);
   }
@@ -29,6 +29,17 @@ public class KafkaCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadat
   // multiple brokers by comma-separating them.
   public static final String BOOTSTRAP_SERVERS = "bootstrap.servers";
 
+  // The following properties are about the topic metadata snapshot, which serves the topic listing
+  // and loading instead of describing the topics in Kafka for every call.
+  public static final String TOPIC_CACHE_ENABLE = "topic-cache.enable";
+
+  public static final String TOPIC_CACHE_REFRESH_INTERVAL_SEC = "topic-cache.refresh-interval-sec";
+
+  public static final String TOPIC_CACHE_EXPIRE_TIME_SEC = "topic-cache.expire-time-sec";
+
+  // The maximum number of topics described in one request when loading the snapshot.
+  public static final String TOPIC_DESCRIBE_BATCH_SIZE = "topic-describe.batch-size";
+
   private static final Map<String, PropertyEntry<?>> KAFKA_CATALOG_PROPERTY_ENTRIES =
       ImmutableMap.<String, PropertyEntry<?>>builder()
           .put(
@@ -39,6 +50,40 @@ public class KafkaCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadat
                       + "comma-separating them",
                   false /* immutable */,
                   false /* hidden */))
+          .put(
+              TOPIC_CACHE_ENABLE,
+              PropertyEntry.booleanPropertyEntry(
+                  TOPIC_CACHE_ENABLE,
+                  "Whether to serve the topic listing and loading from a topic metadata snapshot",
+                  false /* required */,
+                  false /* immutable */,
+                  false /* default value */,
+                  false /* hidden */,
+                  false /* reserved */))
+          .put(
+              TOPIC_CACHE_REFRESH_INTERVAL_SEC,
+              PropertyEntry.integerOptionalPropertyEntry(
+                  TOPIC_CACHE_REFRESH_INTERVAL_SEC,
+                  "The interval in seconds to refresh the topic metadata snapshot in background",
+                  false /* immutable */,
+                  60 /* default value */,
+                  false /* hidden */))
+          .put(
+              TOPIC_CACHE_EXPIRE_TIME_SEC,
+              PropertyEntry.integerOptionalPropertyEntry(
+                  TOPIC_CACHE_EXPIRE_TIME_SEC,
+                  "The time in seconds after which the topic metadata snapshot is not served",
+                  false /* immutable */,
+                  300 /* default value */,
+                  false /* hidden */))
+          .put(
+              TOPIC_DESCRIBE_BATCH_SIZE,
+              PropertyEntry.integerOptionalPropertyEntry(
+                  TOPIC_DESCRIBE_BATCH_SIZE,
+                  "The maximum number of topics described in one request to Kafka",
+                  false /* immutable */,
+                  500 /* default value */,
+                  false /* hidden */))
           .build();
 
   @Override
@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.kafka;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apache.kafka.common.Uuid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A snapshot of the topic metadata of a Kafka cluster, it serves the topic listing and loading of
+ * the Kafka catalog so that browsing a cluster with many topics doesn't send describe requests to
+ * the brokers for every call.
+ *
+ * <p>The snapshot is loaded lazily on the first access, then refreshed in the background at a fixed
+ * interval. A snapshot older than the expire time is never served, the reader refreshes it
+ * synchronously instead. The topics created, altered or dropped through the catalog are updated in
+ * the snapshot immediately, and these changes are kept even if a refresh started before them
+ * finishes later.
+ */
+class TopicMetadataCache implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(TopicMetadataCache.class);
+
+  private final Supplier<Set<String>> topicLister;
+  private final Function<Collection<String>, Map<String, TopicMetadata>> topicDescriber;
+  private final long expireTimeNanos;
+  private final ScheduledExecutorService refresher;
+
+  // Guards the snapshot installation and the changes made through the catalog.
+  private final Object lock = new Object();
+  // Serializes the refreshes, so the concurrent readers of an expired snapshot refresh it once.
+  private final Object refreshLock = new Object();
+  // The topics changed through the catalog, keyed by the topic name. Guarded by lock.
+  private final Map<String, Change> changes = Maps.newHashMap();
+  private volatile Snapshot snapshot;
+
+  /**
+   * Creates a topic metadata cache.
+   *
+   * @param name The name used for the refresh thread.
+   * @param topicLister Lists the names of all the topics in the cluster.
+   * @param topicDescriber Describes the specified topics, the topics not found are omitted.
+   * @param refreshIntervalMs The interval in milliseconds to refresh the snapshot.
+   * @param expireTimeMs The time in milliseconds after which the snapshot is not served anymore.
+   */
+  TopicMetadataCache(
+      String name,
+      Supplier<Set<String>> topicLister,
+      Function<Collection<String>, Map<String, TopicMetadata>> topicDescriber,
+      long refreshIntervalMs,
+      long expireTimeMs) {
+    this.topicLister = topicLister;
+    this.topicDescriber = topicDescriber;
+    this.expireTimeNanos = TimeUnit.MILLISECONDS.toNanos(expireTimeMs);
+    this.refresher =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("kafka-topic-cache-refresher-" + name)
+                .build());
+    refresher.scheduleWithFixedDelay(
+        this::refreshInBackground, refreshIntervalMs, refreshIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Returns the names of all the topics in the snapshot.
+   *
+   * @return The topic names.
+   */
+  Set<String> topicNames() {
+    return ImmutableSet.copyOf(snapshot().topics.keySet());
+  }
+
+  /**
+   * Returns the metadata of the topic in the snapshot.
+   *
+   * @param topicName The topic name.
+   * @return The topic metadata, or null if the topic is not in the snapshot or is invalidated.
+   */
+  TopicMetadata get(String topicName) {
+    return snapshot().topics.getOrDefault(topicName, TopicMetadata.INVALIDATED).orNull();
+  }
+
+  /**
+   * Puts the latest metadata of the topic into the snapshot, it's called after the topic is created
+   * or loaded directly from Kafka.
+   *
+   * @param topicName The topic name.
+   * @param metadata The topic metadata.
+   */
+  void put(String topicName, TopicMetadata metadata) {
+    update(topicName, metadata);
+  }
+
+  /**
+   * Invalidates the metadata of the topic but keeps it listed, the next load of the topic reads it
+   * from Kafka. It's called after the topic is altered.
+   *
+   * @param topicName The topic name.
+   */
+  void invalidate(String topicName) {
+    update(topicName, TopicMetadata.INVALIDATED);
+  }
+
+  /**
+   * Removes the topic from the snapshot, it's called after the topic is dropped.
+   *
+   * @param topicName The topic name.
+   */
+  void remove(String topicName) {
+    update(topicName, null);
+  }
+
+  @VisibleForTesting
+  void refresh() {
+    long startTime = System.nanoTime();
+    Set<String> topicNames = topicLister.get();
+    Map<String, TopicMetadata> topics = new ConcurrentHashMap<>(topicNames.size());
+    // The topics dropped after listing are omitted by the describer.
+    topics.putAll(topicDescriber.apply(topicNames));
+
+    synchronized (lock) {
+      Iterator<Map.Entry<String, Change>> iterator = changes.entrySet().iterator();
+      while (iterator.hasNext()) {
+        Map.Entry<String, Change> entry = iterator.next();
+        Change change = entry.getValue();
+        if (change.time - startTime < 0) {
+          // The change is already visible to this refresh.
+          iterator.remove();
+        } else if (change.metadata == null) {
+          topics.remove(entry.getKey());
+        } else {
+          topics.put(entry.getKey(), change.metadata);
+        }
+      }
+      snapshot = new Snapshot(topics, startTime);
+    }
+  }
+
+  @Override
+  public void close() {
+    refresher.shutdownNow();
+  }
+
+  private Snapshot snapshot() {
+    Snapshot current = snapshot;
+    if (current != null && !current.isExpired()) {
+      return current;
+    }
+
+    synchronized (refreshLock) {
+      current = snapshot;
+      if (current == null || current.isExpired()) {
+        refresh();
+        current = snapshot;
+      }
+      return current;
+    }
+  }
+
+  private void refreshInBackground() {
+    // Don't load the snapshot before it's accessed, the catalog may never list or load topics.
+    if (snapshot == null) {
+      return;
+    }
+
+    try {
+      synchronized (refreshLock) {
+        refresh();
+      }
+    } catch (Exception e) {
+      LOG.warn("Failed to refresh the Kafka topic metadata snapshot", e);
+    }
+  }
+
+  // The metadata is null if the topic is dropped.
+  private void update(String topicName, TopicMetadata metadata) {
+    synchronized (lock) {
+      changes.put(topicName, new Change(System.nanoTime(), metadata));
+      Snapshot current = snapshot;
+      if (current != null) {
+        if (metadata == null) {
+          current.topics.remove(topicName);
+        } else {
+          current.topics.put(topicName, metadata);
+        }
+      }
+    }
+  }
+
+  /** The metadata of a topic, including its partition count and replication factor. */
+  static class TopicMetadata {
+
+    // The placeholder of a topic which is listed but its metadata must be read from Kafka.
+    private static final TopicMetadata INVALIDATED = new TopicMetadata(null, null);
+
+    private final Uuid topicId;
+    private final Map<String, String> properties;
+
+    TopicMetadata(Uuid topicId, Map<String, String> properties) {
+      this.topicId = topicId;
+      this.properties = properties;
+    }
+
+    Uuid topicId() {
+      return topicId;
+    }
+
+    Map<String, String> properties() {
+      return properties;
+    }
+
+    private TopicMetadata orNull() {
+      return this == INVALIDATED ? null : this;
+    }
+  }
+
+  private class Snapshot {
+    private final Map<String, TopicMetadata> topics;
+    private final long loadTime;
+
+    private Snapshot(Map<String, TopicMetadata> topics, long loadTime) {
+      this.topics = topics;
+      this.loadTime = loadTime;
+    }
+
+    private boolean isExpired() {
+      return System.nanoTime() - loadTime > expireTimeNanos;
+    }
+  }
+
+  private static class Change {
+    private final long time;
+    // Null if the topic is dropped.
+    private final TopicMetadata metadata;
+
+    private Change(long time, TopicMetadata metadata) {
+      this.time = time;
+      this.metadata = metadata;
+    }
+  }
+}
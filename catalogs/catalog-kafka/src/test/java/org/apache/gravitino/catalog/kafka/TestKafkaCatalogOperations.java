@@ -41,6 +41,8 @@ import static org.apache.gravitino.catalog.kafka.KafkaCatalog.SCHEMA_PROPERTIES_
 import static org.apache.gravitino.catalog.kafka.KafkaCatalog.TOPIC_PROPERTIES_METADATA;
 import static org.apache.gravitino.catalog.kafka.KafkaCatalogOperations.CLIENT_ID_TEMPLATE;
 import static org.apache.gravitino.catalog.kafka.KafkaCatalogPropertiesMetadata.BOOTSTRAP_SERVERS;
+import static org.apache.gravitino.catalog.kafka.KafkaCatalogPropertiesMetadata.TOPIC_CACHE_ENABLE;
+import static org.apache.gravitino.catalog.kafka.KafkaCatalogPropertiesMetadata.TOPIC_DESCRIBE_BATCH_SIZE;
 import static org.apache.gravitino.catalog.kafka.KafkaTopicPropertiesMetadata.PARTITION_COUNT;
 import static org.apache.gravitino.catalog.kafka.KafkaTopicPropertiesMetadata.REPLICATION_FACTOR;
 import static org.mockito.Mockito.doReturn;
@@ -50,6 +52,7 @@ import com.google.common.collect.ImmutableMap;
 import java.io.File;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Map;
 import org.apache.commons.io.FileUtils;
 import org.apache.gravitino.Config;
@@ -548,6 +551,66 @@ public class TestKafkaCatalogOperations extends KafkaClusterEmbedded {
     Assertions.assertEquals("Cannot reduce partition count from 3 to 1", exception.getMessage());
   }
 
+  @Test
+  public void testTopicCache() throws IOException {
+    String catalogName = "test_kafka_catalog_topic_cache";
+    Map<String, String> properties =
+        ImmutableMap.<String, String>builder()
+            .putAll(MOCK_CATALOG_PROPERTIES)
+            .put(TOPIC_CACHE_ENABLE, "true")
+            .put(TOPIC_DESCRIBE_BATCH_SIZE, "1")
+            .build();
+    CatalogEntity catalogEntity =
+        CatalogEntity.builder()
+            .withId(3L)
+            .withName(catalogName)
+            .withNamespace(Namespace.of(METALAKE_NAME))
+            .withType(MESSAGING)
+            .withProvider("kafka")
+            .withAuditInfo(
+                AuditInfo.builder()
+                    .withCreator("testKafkaUser")
+                    .withCreateTime(Instant.now())
+                    .build())
+            .withProperties(properties)
+            .build();
+    KafkaCatalogOperations ops = new KafkaCatalogOperations(store, idGenerator);
+    ops.initialize(properties, catalogEntity.toCatalogInfo(), KAFKA_PROPERTIES_METADATA);
+    Assertions.assertNotNull(ops.topicCache);
+    Assertions.assertEquals(1, ops.describeBatchSize);
+
+    // The topics are described in batches, the topics not found are omitted.
+    Map<String, TopicMetadataCache.TopicMetadata> described =
+        ops.describeTopics(Arrays.asList(TOPIC_1, "error_topic"));
+    Assertions.assertEquals(1, described.size());
+    Assertions.assertEquals("1", described.get(TOPIC_1).properties().get(PARTITION_COUNT));
+
+    Namespace namespace = Namespace.of(METALAKE_NAME, catalogName, DEFAULT_SCHEMA_NAME);
+    NameIdentifier topic1 = NameIdentifier.of(namespace, TOPIC_1);
+    Assertions.assertTrue(Arrays.asList(ops.listTopics(namespace)).contains(topic1));
+    Assertions.assertNotNull(ops.topicCache.get(TOPIC_1));
+    Assertions.assertEquals("1", ops.loadTopic(topic1).properties().get(PARTITION_COUNT));
+
+    // The topics changed through the catalog are visible in the snapshot immediately.
+    NameIdentifier ident = NameIdentifier.of(namespace, "test_topic_cache");
+    ops.createTopic(
+        ident, null, null, ImmutableMap.of(PARTITION_COUNT, "2", REPLICATION_FACTOR, "1"));
+    Assertions.assertTrue(Arrays.asList(ops.listTopics(namespace)).contains(ident));
+    Assertions.assertEquals("2", ops.loadTopic(ident).properties().get(PARTITION_COUNT));
+
+    ops.alterTopic(ident, TopicChange.setProperty(PARTITION_COUNT, "3"));
+    Assertions.assertNull(ops.topicCache.get(ident.name()));
+    Assertions.assertEquals("3", ops.loadTopic(ident).properties().get(PARTITION_COUNT));
+    Assertions.assertNotNull(ops.topicCache.get(ident.name()));
+
+    Assertions.assertTrue(ops.dropTopic(ident));
+    Assertions.assertFalse(Arrays.asList(ops.listTopics(namespace)).contains(ident));
+    Assertions.assertThrows(NoSuchTopicException.class, () -> ops.loadTopic(ident));
+
+    ops.close();
+    Assertions.assertNull(ops.topicCache);
+  }
+
   @Test
   public void testTestConnection() {
     Assertions.assertDoesNotThrow(
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.kafka;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.apache.kafka.common.Uuid;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestTopicMetadataCache {
+
+  private final Set<String> topics = Sets.newConcurrentHashSet();
+  private final AtomicInteger refreshes = new AtomicInteger();
+  // Runs while the topics are described, to simulate the changes made during a refresh.
+  private Consumer<TopicMetadataCache> duringDescribe = cache -> {};
+  private TopicMetadataCache cache;
+
+  @Test
+  public void testSnapshotIsLoadedOnce() {
+    topics.addAll(ImmutableSet.of("topic1", "topic2"));
+    cache = newCache(60_000L);
+
+    Assertions.assertEquals(ImmutableSet.of("topic1", "topic2"), cache.topicNames());
+    Assertions.assertEquals("topic1", cache.get("topic1").properties().get("name"));
+    Assertions.assertNull(cache.get("topic3"));
+    Assertions.assertEquals(1, refreshes.get());
+
+    // The topic created by others is not visible until the next refresh.
+    topics.add("topic3");
+    Assertions.assertEquals(ImmutableSet.of("topic1", "topic2"), cache.topicNames());
+    cache.refresh();
+    Assertions.assertEquals(ImmutableSet.of("topic1", "topic2", "topic3"), cache.topicNames());
+    cache.close();
+  }
+
+  @Test
+  public void testExpiredSnapshotIsRefreshed() throws InterruptedException {
+    topics.add("topic1");
+    cache = newCache(1L);
+
+    Assertions.assertEquals(ImmutableSet.of("topic1"), cache.topicNames());
+    Thread.sleep(10);
+    topics.add("topic2");
+    Assertions.assertEquals(ImmutableSet.of("topic1", "topic2"), cache.topicNames());
+    Assertions.assertEquals(2, refreshes.get());
+    cache.close();
+  }
+
+  @Test
+  public void testChangesThroughCatalog() {
+    topics.addAll(ImmutableSet.of("topic1", "topic2"));
+    cache = newCache(60_000L);
+    cache.topicNames();
+
+    cache.put("topic3", metadata("topic3"));
+    cache.invalidate("topic2");
+    cache.remove("topic1");
+    Assertions.assertEquals(ImmutableSet.of("topic2", "topic3"), cache.topicNames());
+    Assertions.assertNull(cache.get("topic1"));
+    Assertions.assertNull(cache.get("topic2"));
+    Assertions.assertNotNull(cache.get("topic3"));
+    cache.close();
+  }
+
+  @Test
+  public void testChangesDuringRefreshAreKept() {
+    topics.addAll(ImmutableSet.of("topic1", "topic2"));
+    cache = newCache(60_000L);
+    cache.topicNames();
+
+    // The refresh lists and describes the topics before they are changed through the catalog.
+    duringDescribe =
+        c -> {
+          c.remove("topic1");
+          c.put("topic3", metadata("topic3"));
+        };
+    cache.refresh();
+    Assertions.assertEquals(ImmutableSet.of("topic2", "topic3"), cache.topicNames());
+
+    // The changes visible to a later refresh are dropped, the refresh result wins.
+    duringDescribe = c -> {};
+    topics.add("topic4");
+    cache.refresh();
+    Assertions.assertEquals(ImmutableSet.of("topic1", "topic2", "topic4"), cache.topicNames());
+    cache.close();
+  }
+
+  private TopicMetadataCache newCache(long expireTimeMs) {
+    return new TopicMetadataCache(
+        "test", () -> ImmutableSet.copyOf(topics), this::describe, 60_000L, expireTimeMs);
+  }
+
+  private Map<String, TopicMetadataCache.TopicMetadata> describe(Collection<String> topicNames) {
+    refreshes.incrementAndGet();
+    duringDescribe.accept(cache);
+    Map<String, TopicMetadataCache.TopicMetadata> result = Maps.newHashMap();
+    topicNames.forEach(name -> result.put(name, metadata(name)));
+    return result;
+  }
+
+  private static TopicMetadataCache.TopicMetadata metadata(String name) {
+    return new TopicMetadataCache.TopicMetadata(Uuid.randomUuid(), ImmutableMap.of("name", name));
+  }
+}
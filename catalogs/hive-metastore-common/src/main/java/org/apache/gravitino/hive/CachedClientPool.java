@@ -58,9 +58,25 @@ public class CachedClientPool implements ClientPool<IMetaStoreClient, TException
 
   private final Configuration conf;
   private final int clientPoolSize;
+  private final long clientPoolAcquireTimeoutMs;
+  private final long clientPoolIdleTimeoutMs;
+  @Nullable private final String metricsSourceName;
   private final ScheduledThreadPoolExecutor scheduler;
 
   public CachedClientPool(Configuration hiveConf, Map<String, String> properties) {
+    this(hiveConf, properties, null);
+  }
+
+  /**
+   * Creates a CachedClientPool.
+   *
+   * @param hiveConf the configuration used to initialize the Hive Metastore clients
+   * @param properties the catalog properties
+   * @param metricsSourceName the name prefix to register the metrics of the pool of each user
+   *     with, null to not register them
+   */
+  public CachedClientPool(
+      Configuration hiveConf, Map<String, String> properties, @Nullable String metricsSourceName) {
     int clientPoolSize =
         (int) PROPERTIES_METADATA.getOrDefault(properties, HiveConstants.CLIENT_POOL_SIZE);
     long evictionInterval =
@@ -70,6 +86,14 @@ public class CachedClientPool implements ClientPool<IMetaStoreClient, TException
 
     this.conf = hiveConf;
     this.clientPoolSize = clientPoolSize;
+    this.clientPoolAcquireTimeoutMs =
+        (long)
+            PROPERTIES_METADATA.getOrDefault(
+                properties, HiveConstants.CLIENT_POOL_ACQUIRE_TIMEOUT_MS);
+    this.clientPoolIdleTimeoutMs =
+        (long)
+            PROPERTIES_METADATA.getOrDefault(properties, HiveConstants.CLIENT_POOL_IDLE_TIMEOUT_MS);
+    this.metricsSourceName = metricsSourceName;
     // Since Caffeine does not ensure that removalListener will be involved after expiration
     // We use a scheduler with one thread to clean up expired clients.
     scheduler = new ScheduledThreadPoolExecutor(1, newDaemonThreadFactory());
@@ -84,7 +108,21 @@ public class CachedClientPool implements ClientPool<IMetaStoreClient, TException
   @VisibleForTesting
   public HiveClientPool clientPool() {
     Key key = extractKey();
-    return clientPoolCache.get(key, k -> new HiveClientPool(clientPoolSize, conf));
+    return clientPoolCache.get(key, this::newHiveClientPool);
+  }
+
+  private HiveClientPool newHiveClientPool(Key key) {
+    // The clients of each user are pooled separately, so are the metrics.
+    String poolMetricsSourceName =
+        metricsSourceName == null
+            ? null
+            : metricsSourceName + "." + String.valueOf(key.elements().get(0));
+    return new HiveClientPool(
+        clientPoolSize,
+        conf,
+        clientPoolAcquireTimeoutMs,
+        clientPoolIdleTimeoutMs,
+        poolMetricsSourceName);
   }
 
   @VisibleForTesting
@@ -29,6 +29,8 @@ public class ClientPropertiesMetadata implements PropertiesMetadata {
   private static final int DEFAULT_CLIENT_POOL_SIZE = 1;
   private static final long DEFAULT_CLIENT_POOL_CACHE_EVICTION_INTERVAL_MS =
       TimeUnit.MINUTES.toMillis(5);
+  private static final long DEFAULT_CLIENT_POOL_ACQUIRE_TIMEOUT_MS = 0L;
+  private static final long DEFAULT_CLIENT_POOL_IDLE_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(5);
   private static final Map<String, PropertyEntry<?>> PROPERTY_ENTRIES =
       ImmutableMap.<String, PropertyEntry<?>>builder()
           .put(
@@ -47,6 +49,24 @@ public class ClientPropertiesMetadata implements PropertiesMetadata {
                   false /* immutable */,
                   DEFAULT_CLIENT_POOL_CACHE_EVICTION_INTERVAL_MS,
                   false /* hidden */))
+          .put(
+              HiveConstants.CLIENT_POOL_ACQUIRE_TIMEOUT_MS,
+              PropertyEntry.longOptionalPropertyEntry(
+                  HiveConstants.CLIENT_POOL_ACQUIRE_TIMEOUT_MS,
+                  "The maximum time to wait for a Hive metastore client from the pool, 0 means no"
+                      + " limit",
+                  false /* immutable */,
+                  DEFAULT_CLIENT_POOL_ACQUIRE_TIMEOUT_MS,
+                  false /* hidden */))
+          .put(
+              HiveConstants.CLIENT_POOL_IDLE_TIMEOUT_MS,
+              PropertyEntry.longOptionalPropertyEntry(
+                  HiveConstants.CLIENT_POOL_IDLE_TIMEOUT_MS,
+                  "The time after which an idle Hive metastore client in the pool is closed, 0"
+                      + " means never",
+                  false /* immutable */,
+                  DEFAULT_CLIENT_POOL_IDLE_TIMEOUT_MS,
+                  false /* hidden */))
           .build();
 
   @Override
@@ -19,6 +19,7 @@
 package org.apache.gravitino.hive;
 
 import com.google.common.annotations.VisibleForTesting;
+import javax.annotation.Nullable;
 import org.apache.gravitino.hive.dyn.DynMethods;
 import org.apache.gravitino.hive.dyn.DynMethods.StaticMethod;
 import org.apache.gravitino.utils.ClientPoolImpl;
@@ -63,8 +64,32 @@ public class HiveClientPool extends ClientPoolImpl<IMetaStoreClient, TException>
    * @param conf The configuration used to initialize the Hive Metastore clients.
    */
   public HiveClientPool(int poolSize, Configuration conf) {
+    this(poolSize, conf, 0, 0, null);
+  }
+
+  /**
+   * Creates a new HiveClientPool with the specified pool size, timeouts and configuration.
+   *
+   * @param poolSize The number of clients in the pool.
+   * @param conf The configuration used to initialize the Hive Metastore clients.
+   * @param acquireTimeoutMs The maximum time to wait for a client, 0 to wait without a limit.
+   * @param idleTimeoutMs The time after which an idle client is closed, 0 to keep idle clients.
+   * @param metricsSourceName The name to register the pool metrics with, null to not register.
+   */
+  public HiveClientPool(
+      int poolSize,
+      Configuration conf,
+      long acquireTimeoutMs,
+      long idleTimeoutMs,
+      @Nullable String metricsSourceName) {
     // Do not allow retry by default as we rely on RetryingHiveClient
-    super(poolSize, TTransportException.class, false);
+    super(
+        poolSize,
+        TTransportException.class,
+        false,
+        acquireTimeoutMs,
+        idleTimeoutMs,
+        metricsSourceName);
     this.hiveConf = new HiveConf(conf, HiveClientPool.class);
     this.hiveConf.addResource(conf);
   }
@@ -118,6 +143,19 @@ public class HiveClientPool extends ClientPoolImpl<IMetaStoreClient, TException>
                 .contains("Got exception: org.apache.thrift.transport.TTransportException"));
   }
 
+  @Override
+  protected boolean isValid(IMetaStoreClient client) {
+    try {
+      // A cheap round trip to the metastore, the key is one of the metastore variables that can be
+      // read by the clients.
+      client.getMetaConf(HiveConf.ConfVars.METASTORE_TRY_DIRECT_SQL.varname);
+      return true;
+    } catch (TException e) {
+      LOG.warn("Hive Metastore client is broken", e);
+      return false;
+    }
+  }
+
   @Override
   protected void close(IMetaStoreClient client) {
     LOG.info("Closing Hive Metastore client");
@@ -20,6 +20,7 @@ package org.apache.gravitino.client;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -125,6 +126,27 @@ abstract class BaseSchemaCatalog extends CatalogDTO
     return Arrays.stream(resp.identifiers()).map(NameIdentifier::name).toArray(String[]::new);
   }
 
+  /**
+   * Iterate the schemas in the catalog page by page, so listing a large catalog doesn't need to
+   * hold all the schema names in memory. The schemas are returned in the order of their names.
+   *
+   * @param pageSize The number of schemas to fetch in one request.
+   * @return An iterator of the schema names.
+   * @throws NoSuchCatalogException if the catalog with specified namespace does not exist.
+   */
+  public Iterator<String> iterateSchemas(int pageSize) throws NoSuchCatalogException {
+    return new EntityListIterator<>(
+        pageSize,
+        queryParams ->
+            restClient.get(
+                formatSchemaRequestPath(schemaNamespace()),
+                queryParams,
+                EntityListResponse.class,
+                Collections.emptyMap(),
+                ErrorHandlers.schemaErrorHandler()),
+        NameIdentifier::name);
+  }
+
   /**
    * Create a new schema with specified identifier, comment and metadata.
    *
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.client;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Maps;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.dto.responses.EntityListResponse;
+
+/**
+ * An iterator over a list request that fetches the identifiers page by page. The next page is
+ * requested only after the current one is consumed, so at most one page is held in memory. If the
+ * server doesn't support pagination, the first response contains all the identifiers and no next
+ * page token.
+ *
+ * @param <T> the type of the elements returned by the iterator
+ */
+class EntityListIterator<T> implements Iterator<T> {
+
+  private static final String PAGE_TOKEN = "pageToken";
+  private static final String PAGE_SIZE = "pageSize";
+
+  private final int pageSize;
+  private final Function<Map<String, String>, EntityListResponse> pageLoader;
+  private final Function<NameIdentifier, T> converter;
+
+  private Iterator<NameIdentifier> currentPage = Collections.emptyIterator();
+  private String nextPageToken;
+  private boolean lastPage;
+
+  /**
+   * Creates an iterator over a list request.
+   *
+   * @param pageSize the number of identifiers to request in one page
+   * @param pageLoader the function to send the list request with the given query parameters
+   * @param converter the function to convert the identifiers returned by the server
+   */
+  EntityListIterator(
+      int pageSize,
+      Function<Map<String, String>, EntityListResponse> pageLoader,
+      Function<NameIdentifier, T> converter) {
+    Preconditions.checkArgument(pageSize > 0, "Page size must be positive, but got %s", pageSize);
+    this.pageSize = pageSize;
+    this.pageLoader = pageLoader;
+    this.converter = converter;
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!currentPage.hasNext() && !lastPage) {
+      loadNextPage();
+    }
+    return currentPage.hasNext();
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return converter.apply(currentPage.next());
+  }
+
+  private void loadNextPage() {
+    Map<String, String> queryParams = Maps.newHashMap();
+    queryParams.put(PAGE_SIZE, String.valueOf(pageSize));
+    if (nextPageToken != null) {
+      queryParams.put(PAGE_TOKEN, nextPageToken);
+    }
+
+    EntityListResponse resp = pageLoader.apply(queryParams);
+    resp.validate();
+
+    currentPage = Arrays.asList(resp.identifiers()).iterator();
+    nextPageToken = resp.nextPageToken();
+    lastPage = nextPageToken == null;
+  }
+}
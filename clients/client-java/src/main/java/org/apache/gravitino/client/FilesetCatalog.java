@@ -23,6 +23,7 @@ import com.google.common.base.Preconditions;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -98,6 +99,32 @@ class FilesetCatalog extends BaseSchemaCatalog implements org.apache.gravitino.f
         .toArray(NameIdentifier[]::new);
   }
 
+  /**
+   * Iterate the filesets in a schema page by page, so listing a large schema doesn't need to hold
+   * all the fileset identifiers in memory. The filesets are returned in the order of their names.
+   *
+   * @param namespace The namespace of the schema, which should be "schema" format.
+   * @param pageSize The number of filesets to fetch in one request.
+   * @return An iterator of the fileset identifiers, which are in "schema.fileset" format.
+   * @throws NoSuchSchemaException if the schema with specified namespace does not exist.
+   */
+  public Iterator<NameIdentifier> iterateFilesets(Namespace namespace, int pageSize)
+      throws NoSuchSchemaException {
+    checkFilesetNamespace(namespace);
+
+    Namespace fullNamespace = getFilesetFullNamespace(namespace);
+    return new EntityListIterator<>(
+        pageSize,
+        queryParams ->
+            restClient.get(
+                formatFilesetRequestPath(fullNamespace),
+                queryParams,
+                EntityListResponse.class,
+                Collections.emptyMap(),
+                ErrorHandlers.filesetErrorHandler()),
+        ident -> NameIdentifier.of(ident.namespace().level(2), ident.name()));
+  }
+
   /**
    * Load fileset metadata by {@link NameIdentifier} from the catalog.
    *
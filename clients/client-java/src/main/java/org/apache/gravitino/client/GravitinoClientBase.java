@@ -67,11 +67,30 @@ public abstract class GravitinoClientBase implements Closeable {
       AuthDataProvider authDataProvider,
       boolean checkVersion,
       Map<String, String> headers) {
+    this(uri, authDataProvider, checkVersion, headers, Collections.emptyMap());
+  }
+
+  /**
+   * Constructs a new GravitinoClient with the given URI, authenticator, AuthDataProvider and the
+   * properties of the HTTP client.
+   *
+   * @param uri The base URI for the Gravitino API.
+   * @param authDataProvider The provider of the data which is used for authentication.
+   * @param checkVersion Whether to check the version of the Gravitino server.
+   * @param headers The base header of the Gravitino API.
+   * @param properties The properties to configure the HTTP client, see {@link HTTPClient}.
+   */
+  protected GravitinoClientBase(
+      String uri,
+      AuthDataProvider authDataProvider,
+      boolean checkVersion,
+      Map<String, String> headers,
+      Map<String, String> properties) {
     ObjectMapper mapper = ObjectMapperProvider.objectMapper();
 
     if (checkVersion) {
       this.restClient =
-          HTTPClient.builder(Collections.emptyMap())
+          HTTPClient.builder(properties)
               .uri(uri)
               .withAuthDataProvider(authDataProvider)
               .withObjectMapper(mapper)
@@ -81,7 +100,7 @@ public abstract class GravitinoClientBase implements Closeable {
 
     } else {
       this.restClient =
-          HTTPClient.builder(Collections.emptyMap())
+          HTTPClient.builder(properties)
               .uri(uri)
               .withAuthDataProvider(authDataProvider)
               .withObjectMapper(mapper)
@@ -208,6 +227,8 @@ public abstract class GravitinoClientBase implements Closeable {
     protected boolean checkVersion = true;
     /** The request base header for the Gravitino API. */
     protected Map<String, String> headers = ImmutableMap.of();
+    /** The properties to configure the HTTP client. */
+    protected Map<String, String> properties = ImmutableMap.of();
 
     /**
      * The constructor for the Builder class.
@@ -294,6 +315,22 @@ public abstract class GravitinoClientBase implements Closeable {
       return this;
     }
 
+    /**
+     * Set the properties to configure the HTTP client of Gravitino Client, like the size of the
+     * connection pool. See {@link HTTPClient#MAX_CONNECTIONS}, {@link
+     * HTTPClient#MAX_CONNECTIONS_PER_ROUTE}, {@link HTTPClient#CONNECTION_KEEP_ALIVE_MS} and {@link
+     * HTTPClient#COMPRESSION_ENABLED}.
+     *
+     * @param properties the properties of the HTTP client.
+     * @return This Builder instance for method chaining.
+     */
+    public Builder<T> withClientConfig(Map<String, String> properties) {
+      if (properties != null) {
+        this.properties = ImmutableMap.copyOf(properties);
+      }
+      return this;
+    }
+
     /**
      * Builds a new instance. Subclasses should overwrite this method.
      *
@@ -24,10 +24,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Maps;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -39,12 +41,15 @@ import org.apache.gravitino.rest.RESTResponse;
 import org.apache.gravitino.rest.RESTUtils;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequest;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.HttpStatus;
 import org.apache.hc.core5.http.Method;
@@ -55,6 +60,7 @@ import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.apache.hc.core5.http.message.BasicHeader;
 import org.apache.hc.core5.io.CloseMode;
 import org.apache.hc.core5.net.URIBuilder;
+import org.apache.hc.core5.util.TimeValue;
 
 /**
  * An HttpClient for usage with the REST catalog.
@@ -69,6 +75,27 @@ public class HTTPClient implements RESTClient {
 
   private static final String VERSION_HEADER = "application/vnd.gravitino.v1+json";
 
+  /** The property key of the maximum number of the pooled connections. */
+  public static final String MAX_CONNECTIONS = "gravitino.client.http.max-connections";
+
+  /** The property key of the maximum number of the pooled connections to one server. */
+  public static final String MAX_CONNECTIONS_PER_ROUTE =
+      "gravitino.client.http.max-connections-per-route";
+
+  /**
+   * The property key of the time in milliseconds to keep an idle connection alive, idle
+   * connections are evicted from the pool after this time.
+   */
+  public static final String CONNECTION_KEEP_ALIVE_MS =
+      "gravitino.client.http.connection-keep-alive-ms";
+
+  /** The property key of whether to ask the server to compress the responses. */
+  public static final String COMPRESSION_ENABLED = "gravitino.client.http.compression-enabled";
+
+  private static final int DEFAULT_MAX_CONNECTIONS = 100;
+  private static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 100;
+  private static final long DEFAULT_CONNECTION_KEEP_ALIVE_MS = 180_000L;
+
   private final String uri;
   private final CloseableHttpClient httpClient;
   private final ObjectMapper mapper;
@@ -93,6 +120,7 @@ public class HTTPClient implements RESTClient {
    * Constructs an instance of HTTPClient with the provided information.
    *
    * @param uri The base URI of the REST API.
+   * @param properties The properties to configure the connection pool of the client.
    * @param baseHeaders A map of base headers to be included in all HTTP requests.
    * @param objectMapper The ObjectMapper used for JSON serialization and deserialization.
    * @param authDataProvider The provider of authentication data.
@@ -100,6 +128,7 @@ public class HTTPClient implements RESTClient {
    */
   private HTTPClient(
       String uri,
+      Map<String, String> properties,
       Map<String, String> baseHeaders,
       ObjectMapper objectMapper,
       AuthDataProvider authDataProvider,
@@ -108,6 +137,7 @@ public class HTTPClient implements RESTClient {
     this.mapper = objectMapper;
 
     HttpClientBuilder clientBuilder = HttpClients.custom();
+    configureConnections(clientBuilder, properties);
 
     if (baseHeaders != null) {
       clientBuilder.setDefaultHeaders(
@@ -125,6 +155,56 @@ public class HTTPClient implements RESTClient {
     this.beforeConnectHandler = beforeConnectHandler;
   }
 
+  private static void configureConnections(
+      HttpClientBuilder clientBuilder, Map<String, String> properties) {
+    int maxConnections = intProperty(properties, MAX_CONNECTIONS, DEFAULT_MAX_CONNECTIONS);
+    int maxConnectionsPerRoute =
+        intProperty(properties, MAX_CONNECTIONS_PER_ROUTE, DEFAULT_MAX_CONNECTIONS_PER_ROUTE);
+    long keepAliveMs =
+        longProperty(properties, CONNECTION_KEEP_ALIVE_MS, DEFAULT_CONNECTION_KEEP_ALIVE_MS);
+
+    // The client usually talks to one server, so all the pooled connections may go to one route.
+    clientBuilder.setConnectionManager(
+        PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(maxConnections)
+            .setMaxConnPerRoute(maxConnectionsPerRoute)
+            .build());
+    clientBuilder.setDefaultRequestConfig(
+        RequestConfig.custom()
+            .setConnectionKeepAlive(TimeValue.ofMilliseconds(keepAliveMs))
+            .build());
+    clientBuilder.evictIdleConnections(TimeValue.ofMilliseconds(keepAliveMs));
+
+    // The responses are decompressed transparently if the server compresses them.
+    if (!Boolean.parseBoolean(properties.getOrDefault(COMPRESSION_ENABLED, "true"))) {
+      clientBuilder.disableContentCompression();
+    }
+  }
+
+  private static int intProperty(Map<String, String> properties, String key, int defaultValue) {
+    long value = longProperty(properties, key, defaultValue);
+    Preconditions.checkArgument(
+        value <= Integer.MAX_VALUE, "The value of %s is too large: %s", key, value);
+    return (int) value;
+  }
+
+  private static long longProperty(Map<String, String> properties, String key, long defaultValue) {
+    String value = properties.get(key);
+    if (value == null) {
+      return defaultValue;
+    }
+
+    try {
+      long longValue = Long.parseLong(value.trim());
+      Preconditions.checkArgument(
+          longValue > 0, "The value of %s must be a positive number: %s", key, value);
+      return longValue;
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException(
+          String.format("The value of %s must be a number: %s", key, value), e);
+    }
+  }
+
   /**
    * Extracts the response body as a string from the provided HTTP response.
    *
@@ -370,14 +450,16 @@ public class HTTPClient implements RESTClient {
         return null;
       }
 
-      String responseBody = extractResponseBodyAsString(response);
-
       if (!isSuccessful(response)) {
         // The provided error handler is expected to throw, but a RESTException.java is thrown if
         // not.
-        throwFailure(response, responseBody, errorHandler);
+        throwFailure(response, extractResponseBodyAsString(response), errorHandler);
       }
 
+      // Parse the response from the entity stream directly rather than reading it into a string
+      // first, large responses like the table and partition lists are not held twice in memory.
+      HttpEntity entity = response.getEntity();
+      InputStream responseBody = entity == null ? null : entity.getContent();
       if (responseBody == null) {
         throw new RESTException(
             "Invalid (null) response body for request (expected %s): method=%s, path=%s, status=%d",
@@ -667,6 +749,10 @@ public class HTTPClient implements RESTClient {
   /**
    * Creates a new instance of the HTTPClient.Builder with the specified properties.
    *
+   * <p>The properties configure the pooled connections of the client, see {@link
+   * #MAX_CONNECTIONS}, {@link #MAX_CONNECTIONS_PER_ROUTE}, {@link #CONNECTION_KEEP_ALIVE_MS} and
+   * {@link #COMPRESSION_ENABLED}.
+   *
    * @param properties A map of properties (key-value pairs) used to configure the HTTP client.
    * @return A new instance of HTTPClient.Builder with the provided properties.
    */
@@ -681,7 +767,6 @@ public class HTTPClient implements RESTClient {
    * URI, request headers, and ObjectMapper.
    */
   public static class Builder {
-    @SuppressWarnings("UnusedVariable")
     private final Map<String, String> properties;
 
     private final Map<String, String> baseHeaders = Maps.newHashMap();
@@ -691,7 +776,7 @@ public class HTTPClient implements RESTClient {
     private Runnable beforeConnectHandler;
 
     private Builder(Map<String, String> properties) {
-      this.properties = properties;
+      this.properties = properties == null ? Collections.emptyMap() : properties;
     }
 
     /**
@@ -770,7 +855,8 @@ public class HTTPClient implements RESTClient {
      */
     public HTTPClient build() {
 
-      return new HTTPClient(uri, baseHeaders, mapper, authDataProvider, beforeConnectHandler);
+      return new HTTPClient(
+          uri, properties, baseHeaders, mapper, authDataProvider, beforeConnectHandler);
     }
   }
 
@@ -22,6 +22,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -101,6 +102,32 @@ class MessagingCatalog extends BaseSchemaCatalog implements TopicCatalog {
         .toArray(NameIdentifier[]::new);
   }
 
+  /**
+   * Iterate the topics in a schema page by page, so listing a large schema doesn't need to hold
+   * all the topic identifiers in memory. The topics are returned in the order of their names.
+   *
+   * @param namespace The namespace of the schema, which should be "schema" format.
+   * @param pageSize The number of topics to fetch in one request.
+   * @return An iterator of the topic identifiers, which are in "schema.topic" format.
+   * @throws NoSuchSchemaException if the schema with specified namespace does not exist.
+   */
+  public Iterator<NameIdentifier> iterateTopics(Namespace namespace, int pageSize)
+      throws NoSuchSchemaException {
+    checkTopicNamespace(namespace);
+
+    Namespace fullNamespace = getTopicFullNamespace(namespace);
+    return new EntityListIterator<>(
+        pageSize,
+        queryParams ->
+            restClient.get(
+                formatTopicRequestPath(fullNamespace),
+                queryParams,
+                EntityListResponse.class,
+                Collections.emptyMap(),
+                ErrorHandlers.topicErrorHandler()),
+        ident -> NameIdentifier.of(ident.namespace().level(2), ident.name()));
+  }
+
   /**
    * Load the topic with the given identifier.
    *
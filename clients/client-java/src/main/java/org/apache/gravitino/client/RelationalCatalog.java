@@ -23,9 +23,14 @@ import static org.apache.gravitino.dto.util.DTOConverters.toDTOs;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -40,6 +45,7 @@ import org.apache.gravitino.dto.requests.TableUpdateRequest;
 import org.apache.gravitino.dto.requests.TableUpdatesRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
+import org.apache.gravitino.dto.responses.TableListResponse;
 import org.apache.gravitino.dto.responses.TableResponse;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.NoSuchTableException;
@@ -61,6 +67,15 @@ import org.apache.gravitino.rest.RESTUtils;
  */
 class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog {
 
+  /** The number of tables to load in one request when listing the tables with their metadata. */
+  @VisibleForTesting static final int LIST_TABLES_INFO_PAGE_SIZE = 1000;
+
+  /**
+   * The number of tables to load in one request when loading the tables by names, which keeps the
+   * request URL within the common length limits.
+   */
+  @VisibleForTesting static final int LOAD_TABLES_BATCH_SIZE = 100;
+
   RelationalCatalog(
       Namespace namespace,
       String name,
@@ -104,6 +119,32 @@ class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog {
         .toArray(NameIdentifier[]::new);
   }
 
+  /**
+   * Iterate the tables in a schema page by page, so listing a large schema doesn't need to hold
+   * all the table identifiers in memory. The tables are returned in the order of their names.
+   *
+   * @param namespace The namespace of the schema, which should be "schema" format.
+   * @param pageSize The number of tables to fetch in one request.
+   * @return An iterator of the table identifiers, which are in "schema.table" format.
+   * @throws NoSuchSchemaException if the schema with specified namespace does not exist.
+   */
+  public Iterator<NameIdentifier> iterateTables(Namespace namespace, int pageSize)
+      throws NoSuchSchemaException {
+    checkTableNamespace(namespace);
+
+    Namespace fullNamespace = getTableFullNamespace(namespace);
+    return new EntityListIterator<>(
+        pageSize,
+        queryParams ->
+            restClient.get(
+                formatTableRequestPath(fullNamespace),
+                queryParams,
+                EntityListResponse.class,
+                Collections.emptyMap(),
+                ErrorHandlers.tableErrorHandler()),
+        ident -> NameIdentifier.of(ident.namespace().level(2), ident.name()));
+  }
+
   /**
    * Load the table with specified identifier.
    *
@@ -127,6 +168,102 @@ class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog {
     return RelationalTable.from(fullNamespace, resp.getTable(), restClient);
   }
 
+  /**
+   * Load the tables with specified identifiers, the tables of the same schema are loaded with as
+   * few requests as possible. The tables that do not exist are skipped.
+   *
+   * @param idents The identifiers of the tables to load, which should be "schema.table" format.
+   * @return The existing tables, in the order of the specified identifiers.
+   */
+  @Override
+  public Table[] loadTables(NameIdentifier... idents) {
+    Arrays.stream(idents).forEach(RelationalCatalog::checkTableNameIdentifier);
+    Map<Namespace, List<String>> namesBySchema =
+        Arrays.stream(idents)
+            .collect(
+                Collectors.groupingBy(
+                    NameIdentifier::namespace,
+                    LinkedHashMap::new,
+                    Collectors.mapping(NameIdentifier::name, Collectors.toList())));
+
+    Map<NameIdentifier, Table> loadedTables = new HashMap<>();
+    for (Map.Entry<Namespace, List<String>> entry : namesBySchema.entrySet()) {
+      Namespace fullNamespace = getTableFullNamespace(entry.getKey());
+      for (List<String> names : Lists.partition(entry.getValue(), LOAD_TABLES_BATCH_SIZE)) {
+        // The names are passed as a repeated query parameter.
+        String path =
+            formatTableRequestPath(fullNamespace)
+                + names.stream()
+                    .map(name -> "names=" + RESTUtils.encodeString(name))
+                    .collect(Collectors.joining("&", "?", ""));
+        TableListResponse resp =
+            restClient.get(
+                path,
+                ImmutableMap.of("details", "true"),
+                TableListResponse.class,
+                Collections.emptyMap(),
+                ErrorHandlers.tableErrorHandler());
+        resp.validate();
+        // The server may return the names normalized, key the tables by the requested names.
+        Arrays.stream(resp.getTables())
+            .forEach(
+                table ->
+                    loadedTables.put(
+                        NameIdentifier.of(entry.getKey(), requestedName(names, table.name())),
+                        RelationalTable.from(fullNamespace, table, restClient)));
+      }
+    }
+
+    List<Table> tables = new ArrayList<>(idents.length);
+    for (NameIdentifier ident : idents) {
+      Table table = loadedTables.get(ident);
+      if (table != null) {
+        tables.add(table);
+      }
+    }
+    return tables.toArray(new Table[0]);
+  }
+
+  /**
+   * List all the tables with their metadata under the given Schema namespace. The tables are
+   * loaded page by page, each page is loaded with one request.
+   *
+   * @param namespace The namespace to list the tables under it. This namespace should have 1 level,
+   *     which is the schema name;
+   * @return An array of the tables under the given namespace, ordered by name.
+   * @throws NoSuchSchemaException if the schema with specified namespace does not exist.
+   */
+  @Override
+  public Table[] listTablesInfo(Namespace namespace) throws NoSuchSchemaException {
+    checkTableNamespace(namespace);
+
+    Namespace fullNamespace = getTableFullNamespace(namespace);
+    List<Table> tables = new ArrayList<>();
+    String pageToken = null;
+    do {
+      Map<String, String> queryParams = new HashMap<>();
+      queryParams.put("details", "true");
+      queryParams.put("pageSize", String.valueOf(LIST_TABLES_INFO_PAGE_SIZE));
+      if (pageToken != null) {
+        queryParams.put("pageToken", pageToken);
+      }
+
+      TableListResponse resp =
+          restClient.get(
+              formatTableRequestPath(fullNamespace),
+              queryParams,
+              TableListResponse.class,
+              Collections.emptyMap(),
+              ErrorHandlers.tableErrorHandler());
+      resp.validate();
+      Arrays.stream(resp.getTables())
+          .forEach(table -> tables.add(RelationalTable.from(fullNamespace, table, restClient)));
+      pageToken = resp.getNextPageToken();
+    } while (pageToken != null);
+
+    return tables.toArray(new Table[0]);
+  }
+
   /**
    * Create a new table with specified identifier, columns, comment and properties.
    *
@@ -302,6 +439,27 @@ class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog {
     return Namespace.of(this.catalogNamespace().level(0), this.name(), tableNamespace.level(0));
   }
 
+  /**
+   * Get the requested name of a loaded table, the server may return the name in a different case
+   * if the catalog normalizes the names.
+   *
+   * @param requestedNames The requested table names.
+   * @param loadedName The name of the loaded table.
+   * @return The requested name matching the loaded name.
+   */
+  private static String requestedName(List<String> requestedNames, String loadedName) {
+    String caseInsensitiveMatch = null;
+    for (String name : requestedNames) {
+      if (name.equals(loadedName)) {
+        return name;
+      }
+      if (caseInsensitiveMatch == null && name.equalsIgnoreCase(loadedName)) {
+        caseInsensitiveMatch = name;
+      }
+    }
+    return caseInsensitiveMatch == null ? loadedName : caseInsensitiveMatch;
+  }
+
   /**
    * Create a new builder for the relational catalog.
    *
@@ -23,11 +23,13 @@ import static org.apache.gravitino.dto.util.DTOConverters.toDTO;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableMap;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import javax.annotation.Nullable;
 import lombok.SneakyThrows;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Audit;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.MetadataObjects;
@@ -171,6 +173,30 @@ class RelationalTable implements Table, SupportsPartitions, SupportsTags, Suppor
     return resp.partitionNames();
   }
 
+  /**
+   * Returns the names of the partitions matching the filter, the filter is evaluated by the
+   * catalog on the server side.
+   *
+   * @param filter The catalog specific partition filter, null or empty to list all partition
+   *     names.
+   * @return The names of the partitions matching the filter.
+   */
+  @Override
+  public String[] listPartitionNames(String filter) {
+    if (StringUtils.isBlank(filter)) {
+      return listPartitionNames();
+    }
+
+    PartitionNameListResponse resp =
+        restClient.get(
+            getPartitionRequestPath(),
+            ImmutableMap.of("filter", filter),
+            PartitionNameListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.partitionErrorHandler());
+    return resp.partitionNames();
+  }
+
   /** @return The partition request path. */
   @VisibleForTesting
   String getPartitionRequestPath() {
@@ -200,6 +226,29 @@ class RelationalTable implements Table, SupportsPartitions, SupportsTags, Suppor
     return resp.getPartitions();
   }
 
+  /**
+   * Returns the partitions matching the filter, the filter is evaluated by the catalog on the
+   * server side.
+   *
+   * @param filter The catalog specific partition filter, null or empty to list all partitions.
+   * @return The partitions matching the filter.
+   */
+  @Override
+  public Partition[] listPartitions(String filter) {
+    if (StringUtils.isBlank(filter)) {
+      return listPartitions();
+    }
+
+    PartitionListResponse resp =
+        restClient.get(
+            getPartitionRequestPath(),
+            ImmutableMap.of("details", "true", "filter", filter),
+            PartitionListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.partitionErrorHandler());
+    return resp.getPartitions();
+  }
+
   /**
    * Returns the partition with the given name.
    *
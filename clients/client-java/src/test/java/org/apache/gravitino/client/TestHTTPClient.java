@@ -31,11 +31,13 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
 import org.apache.gravitino.dto.responses.ErrorResponse;
 import org.apache.gravitino.exceptions.NotFoundException;
 import org.apache.gravitino.rest.RESTRequest;
@@ -46,6 +48,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.mockserver.integration.ClientAndServer;
+import org.mockserver.model.BinaryBody;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpResponse;
 
@@ -127,6 +130,71 @@ public class TestHTTPClient {
     testHttpMethodOnFailure(Method.HEAD, false, false);
   }
 
+  @Test
+  public void testGzipResponse() throws IOException {
+    Item body = new Item(1L, "gzip");
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+      gzip.write(MAPPER.writeValueAsBytes(body));
+    }
+    mockServer
+        .when(
+            request("/gzip_success")
+                .withMethod(Method.GET.name())
+                .withHeader("Accept-Encoding", ".*gzip.*"))
+        .respond(
+            response()
+                .withStatusCode(200)
+                .withHeader("Content-Encoding", "gzip")
+                .withBody(BinaryBody.binary(compressed.toByteArray())));
+
+    ErrorHandler onError = mock(ErrorHandler.class);
+    Assertions.assertEquals(
+        body, restClient.get("gzip_success", Item.class, ImmutableMap.of(), onError));
+    verify(onError, never()).accept(any());
+  }
+
+  @Test
+  public void testConnectionPoolProperties() throws IOException {
+    Map<String, String> properties =
+        ImmutableMap.of(
+            HTTPClient.MAX_CONNECTIONS,
+            "4",
+            HTTPClient.MAX_CONNECTIONS_PER_ROUTE,
+            "2",
+            HTTPClient.CONNECTION_KEEP_ALIVE_MS,
+            "1000");
+    try (RESTClient client =
+        HTTPClient.builder(properties)
+            .uri(String.format("http://127.0.0.1:%d", mockServer.getPort()))
+            .build()) {
+      Item body = new Item(2L, "pooled");
+      mockServer
+          .when(request("/pooled_success").withMethod(Method.GET.name()))
+          .respond(response().withStatusCode(200).withBody(MAPPER.writeValueAsString(body)));
+
+      ErrorHandler onError = mock(ErrorHandler.class);
+      // More requests than the pooled connections, the connections are returned to the pool.
+      for (int i = 0; i < 5; i++) {
+        Assertions.assertEquals(
+            body, client.get("pooled_success", Item.class, ImmutableMap.of(), onError));
+      }
+    }
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            HTTPClient.builder(ImmutableMap.of(HTTPClient.MAX_CONNECTIONS, "0"))
+                .uri("http://127.0.0.1")
+                .build());
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            HTTPClient.builder(ImmutableMap.of(HTTPClient.CONNECTION_KEEP_ALIVE_MS, "abc"))
+                .uri("http://127.0.0.1")
+                .build());
+  }
+
   public static void testHttpMethodOnSuccess(
       Method method, boolean hasRequestBody, boolean hasResponseBody)
       throws JsonProcessingException {
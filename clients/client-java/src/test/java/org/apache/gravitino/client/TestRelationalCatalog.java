@@ -32,9 +32,12 @@ import static org.apache.hc.core5.http.HttpStatus.SC_OK;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
@@ -69,6 +72,7 @@ import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorResponse;
 import org.apache.gravitino.dto.responses.SchemaResponse;
+import org.apache.gravitino.dto.responses.TableListResponse;
 import org.apache.gravitino.dto.responses.TableResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
@@ -360,6 +364,37 @@ public class TestRelationalCatalog extends TestBase {
     Assertions.assertTrue(ex2.getMessage().contains("unparsed error"));
   }
 
+  @Test
+  public void testIterateTables() throws JsonProcessingException {
+    NameIdentifier table1 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table1");
+    NameIdentifier table2 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table2");
+    NameIdentifier table3 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table3");
+    String tablePath = withSlash(RelationalCatalog.formatTableRequestPath(table1.namespace()));
+
+    EntityListResponse page1 =
+        new EntityListResponse(new NameIdentifier[] {table1, table2}, "token1");
+    buildMockResource(Method.GET, tablePath, ImmutableMap.of("pageSize", "2"), null, page1, SC_OK);
+    EntityListResponse page2 = new EntityListResponse(new NameIdentifier[] {table3}, null);
+    buildMockResource(
+        Method.GET,
+        tablePath,
+        ImmutableMap.of("pageSize", "2", "pageToken", "token1"),
+        null,
+        page2,
+        SC_OK);
+
+    Iterator<NameIdentifier> tables =
+        ((RelationalCatalog) catalog.asTableCatalog()).iterateTables(Namespace.of("schema1"), 2);
+    List<NameIdentifier> result = Lists.newArrayList(tables);
+    Assertions.assertEquals(
+        Lists.newArrayList(
+            NameIdentifier.of("schema1", "table1"),
+            NameIdentifier.of("schema1", "table2"),
+            NameIdentifier.of("schema1", "table3")),
+        result);
+    Assertions.assertFalse(tables.hasNext());
+  }
+
   @Test
   public void testCreateTable() throws JsonProcessingException {
     NameIdentifier tableId = NameIdentifier.of("schema1", "table1");
@@ -775,6 +810,105 @@ public class TestRelationalCatalog extends TestBase {
     Assertions.assertTrue(ex.getMessage().contains("table not found"));
   }
 
+  @Test
+  public void testListTablesInfo() throws JsonProcessingException {
+    Namespace fullNamespace = Namespace.of(metalakeName, catalogName, "schema1");
+    String tablePath = withSlash(RelationalCatalog.formatTableRequestPath(fullNamespace));
+    ColumnDTO[] columns =
+        new ColumnDTO[] {createMockColumn("col1", Types.ByteType.get(), "comment1")};
+    TableDTO table1 =
+        createMockTable(
+            "table1",
+            columns,
+            "comment",
+            Collections.emptyMap(),
+            EMPTY_PARTITIONING,
+            DistributionDTO.NONE,
+            SortOrderDTO.EMPTY_SORT);
+    TableDTO table2 =
+        createMockTable(
+            "table2",
+            columns,
+            "comment",
+            Collections.emptyMap(),
+            EMPTY_PARTITIONING,
+            DistributionDTO.NONE,
+            SortOrderDTO.EMPTY_SORT);
+    String pageSize = String.valueOf(RelationalCatalog.LIST_TABLES_INFO_PAGE_SIZE);
+
+    TableListResponse page1 = new TableListResponse(new TableDTO[] {table1}, "token1");
+    buildMockResource(
+        Method.GET,
+        tablePath,
+        ImmutableMap.of("details", "true", "pageSize", pageSize),
+        null,
+        page1,
+        SC_OK);
+    TableListResponse page2 = new TableListResponse(new TableDTO[] {table2}, null);
+    buildMockResource(
+        Method.GET,
+        tablePath,
+        ImmutableMap.of("details", "true", "pageSize", pageSize, "pageToken", "token1"),
+        null,
+        page2,
+        SC_OK);
+
+    Table[] tables = catalog.asTableCatalog().listTablesInfo(Namespace.of("schema1"));
+    Assertions.assertEquals(2, tables.length);
+    assertTableEquals(fromDTO(table1), tables[0]);
+    assertTableEquals(fromDTO(table2), tables[1]);
+
+    // Test throw NoSuchSchemaException
+    ErrorResponse errorResp =
+        ErrorResponse.notFound(NoSuchSchemaException.class.getSimpleName(), "schema not found");
+    buildMockResource(
+        Method.GET,
+        tablePath,
+        ImmutableMap.of("details", "true", "pageSize", pageSize),
+        null,
+        errorResp,
+        SC_NOT_FOUND);
+
+    TableCatalog tableCatalog = catalog.asTableCatalog();
+    Throwable ex =
+        Assertions.assertThrows(
+            NoSuchSchemaException.class,
+            () -> tableCatalog.listTablesInfo(Namespace.of("schema1")));
+    Assertions.assertTrue(ex.getMessage().contains("schema not found"));
+  }
+
+  @Test
+  public void testLoadTables() throws JsonProcessingException {
+    NameIdentifier tableId = NameIdentifier.of("schema1", "table1");
+    Namespace fullNamespace = Namespace.of(metalakeName, catalogName, "schema1");
+    String tablePath = withSlash(RelationalCatalog.formatTableRequestPath(fullNamespace));
+    ColumnDTO[] columns =
+        new ColumnDTO[] {createMockColumn("col1", Types.ByteType.get(), "comment1")};
+    TableDTO expectedTable =
+        createMockTable(
+            "table1",
+            columns,
+            "comment",
+            Collections.emptyMap(),
+            EMPTY_PARTITIONING,
+            DistributionDTO.NONE,
+            SortOrderDTO.EMPTY_SORT);
+
+    TableListResponse resp = new TableListResponse(new TableDTO[] {expectedTable});
+    buildMockResource(
+        Method.GET,
+        tablePath,
+        ImmutableMap.of("details", "true", "names", "table1"),
+        null,
+        resp,
+        SC_OK);
+
+    Table[] tables = catalog.asTableCatalog().loadTables(tableId);
+    Assertions.assertEquals(1, tables.length);
+    assertTableEquals(fromDTO(expectedTable), tables[0]);
+    Assertions.assertEquals(0, catalog.asTableCatalog().loadTables().length);
+  }
+
   @Test
   public void testRenameTable() throws JsonProcessingException {
     NameIdentifier tableId = NameIdentifier.of("schema1", "table1");
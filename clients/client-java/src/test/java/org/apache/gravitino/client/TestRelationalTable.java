@@ -26,6 +26,7 @@ import static org.apache.http.HttpStatus.SC_NOT_FOUND;
 import static org.apache.http.HttpStatus.SC_NOT_IMPLEMENTED;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import java.util.Collections;
 import org.apache.gravitino.NameIdentifier;
@@ -167,6 +168,19 @@ public class TestRelationalTable extends TestRelationalCatalog {
     Assertions.assertEquals("table does not support partition operations", exception.getMessage());
   }
 
+  @Test
+  public void testListPartitionNamesByFilter() throws JsonProcessingException {
+    String partitionPath =
+        withSlash(((RelationalTable) partitionedTable).getPartitionRequestPath());
+    PartitionNameListResponse resp = new PartitionNameListResponse(new String[] {"p2"});
+    buildMockResource(
+        Method.GET, partitionPath, ImmutableMap.of("filter", "col1 = \"v2\""), null, resp, SC_OK);
+
+    String[] partitionNames =
+        partitionedTable.supportPartitions().listPartitionNames("col1 = \"v2\"");
+    Assertions.assertArrayEquals(new String[] {"p2"}, partitionNames);
+  }
+
   @Test
   public void testListPartitions() throws JsonProcessingException {
     String partitionName = "p1";
@@ -189,6 +203,17 @@ public class TestRelationalTable extends TestRelationalCatalog {
     Assertions.assertTrue(partitions[0] instanceof RangePartition);
     Assertions.assertEquals(partition, partitions[0]);
 
+    // test list partitions by filter
+    buildMockResource(
+        Method.GET,
+        partitionPath,
+        ImmutableMap.of("details", "true", "filter", "col1 = \"v1\""),
+        null,
+        resp,
+        SC_OK);
+    Partition[] filtered = partitionedTable.supportPartitions().listPartitions("col1 = \"v1\"");
+    Assertions.assertArrayEquals(new Partition[] {partition}, filtered);
+
     // test throws exception
     ErrorResponse errorResp =
         ErrorResponse.unsupportedOperation("table does not support partition operations");
@@ -26,6 +26,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.URI;
 import java.util.Arrays;
@@ -45,6 +46,7 @@ import org.apache.gravitino.client.DefaultOAuth2TokenProvider;
 import org.apache.gravitino.client.GravitinoClient;
 import org.apache.gravitino.client.KerberosTokenProvider;
 import org.apache.gravitino.exceptions.GravitinoRuntimeException;
+import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.file.FilesetCatalog;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FSDataInputStream;
@@ -73,6 +75,8 @@ public class GravitinoVirtualFileSystem extends FileSystem {
   private ScheduledThreadPoolExecutor catalogCleanScheduler;
   private Cache<String, FileSystem> internalFileSystemCache;
   private ScheduledThreadPoolExecutor internalFileSystemCleanScheduler;
+  // Null if the fileset location cache is disabled.
+  private Cache<NameIdentifier, FilesetLocation> filesetLocationCache;
 
   // The pattern is used to match gvfs path. The scheme prefix (gvfs://fileset) is optional.
   // The following path can be match:
@@ -116,6 +120,39 @@ public class GravitinoVirtualFileSystem extends FileSystem {
     initializeFileSystemCache(maxCapacity, evictionMillsAfterAccess);
     initializeCatalogCache();
 
+    boolean locationCacheEnabled =
+        configuration.getBoolean(
+            GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLED_KEY,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLED_DEFAULT);
+    if (locationCacheEnabled) {
+      int locationCacheCapacity =
+          configuration.getInt(
+              GravitinoVirtualFileSystemConfiguration
+                  .FS_GRAVITINO_FILESET_LOCATION_CACHE_MAX_CAPACITY_KEY,
+              GravitinoVirtualFileSystemConfiguration
+                  .FS_GRAVITINO_FILESET_LOCATION_CACHE_MAX_CAPACITY_DEFAULT);
+      Preconditions.checkArgument(
+          locationCacheCapacity > 0,
+          "'%s' should be greater than 0",
+          GravitinoVirtualFileSystemConfiguration
+              .FS_GRAVITINO_FILESET_LOCATION_CACHE_MAX_CAPACITY_KEY);
+
+      long locationExpireMillsAfterWrite =
+          configuration.getLong(
+              GravitinoVirtualFileSystemConfiguration
+                  .FS_GRAVITINO_FILESET_LOCATION_CACHE_EXPIRE_MILLS_AFTER_WRITE_KEY,
+              GravitinoVirtualFileSystemConfiguration
+                  .FS_GRAVITINO_FILESET_LOCATION_CACHE_EXPIRE_MILLS_AFTER_WRITE_DEFAULT);
+      Preconditions.checkArgument(
+          locationExpireMillsAfterWrite > 0,
+          "'%s' should be greater than 0",
+          GravitinoVirtualFileSystemConfiguration
+              .FS_GRAVITINO_FILESET_LOCATION_CACHE_EXPIRE_MILLS_AFTER_WRITE_KEY);
+
+      initializeFilesetLocationCache(locationCacheCapacity, locationExpireMillsAfterWrite);
+    }
+
     this.metalakeName =
         configuration.get(GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_CLIENT_METALAKE_KEY);
     Preconditions.checkArgument(
@@ -177,6 +214,21 @@ public class GravitinoVirtualFileSystem extends FileSystem {
             .build();
   }
 
+  private void initializeFilesetLocationCache(int maxCapacity, long expireAfterWrite) {
+    // The cached values hold no resources, so expired entries can be dropped lazily without a
+    // cleanup scheduler.
+    this.filesetLocationCache =
+        Caffeine.newBuilder()
+            .maximumSize(maxCapacity)
+            .expireAfterWrite(expireAfterWrite, TimeUnit.MILLISECONDS)
+            .build();
+  }
+
+  @VisibleForTesting
+  Cache<NameIdentifier, FilesetLocation> filesetLocationCache() {
+    return filesetLocationCache;
+  }
+
   private ThreadFactory newDaemonThreadFactory(String name) {
     return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(name + "-%d").build();
   }
@@ -360,29 +412,60 @@ public class GravitinoVirtualFileSystem extends FileSystem {
     CallerContext callerContext = CallerContext.builder().withContext(contextMap).build();
     CallerContext.CallerContextHolder.set(callerContext);
 
-    String actualFileLocation =
-        filesetCatalog.getFileLocation(
-            NameIdentifier.of(identifier.namespace().level(2), identifier.name()), subPath);
+    String actualFileLocation;
+    if (filesetLocationCache != null) {
+      // Resolve the sub path locally against the cached storage location, the server is only
+      // asked for the fileset when the location is not cached.
+      FilesetLocation filesetLocation =
+          filesetLocationCache.get(
+              identifier, ident -> loadFilesetLocation(filesetCatalog, ident));
+      actualFileLocation = filesetLocation.resolve(identifier, subPath, operation);
+    } else {
+      actualFileLocation =
+          filesetCatalog.getFileLocation(
+              NameIdentifier.of(identifier.namespace().level(2), identifier.name()), subPath);
+    }
 
     URI uri = new Path(actualFileLocation).toUri();
+    return new FilesetContextPair(new Path(actualFileLocation), getActualFileSystem(uri));
+  }
+
+  private FileSystem getActualFileSystem(URI uri) {
     // we cache the fs for the same scheme, so we can reuse it
     String scheme = uri.getScheme();
     Preconditions.checkArgument(
         StringUtils.isNotBlank(scheme), "Scheme of the actual file location cannot be null.");
-    FileSystem fs =
-        internalFileSystemCache.get(
-            scheme,
-            str -> {
-              try {
-                return FileSystem.newInstance(uri, getConf());
-              } catch (IOException ioe) {
-                throw new GravitinoRuntimeException(
-                    "Exception occurs when create new FileSystem for actual uri: %s, msg: %s",
-                    uri, ioe);
-              }
-            });
-
-    return new FilesetContextPair(new Path(actualFileLocation), fs);
+    return internalFileSystemCache.get(
+        scheme,
+        str -> {
+          try {
+            return FileSystem.newInstance(uri, getConf());
+          } catch (IOException ioe) {
+            throw new GravitinoRuntimeException(
+                "Exception occurs when create new FileSystem for actual uri: %s, msg: %s",
+                uri, ioe);
+          }
+        });
+  }
+
+  private FilesetLocation loadFilesetLocation(
+      FilesetCatalog filesetCatalog, NameIdentifier identifier) {
+    Fileset fileset =
+        filesetCatalog.loadFileset(
+            NameIdentifier.of(identifier.namespace().level(2), identifier.name()));
+    String storageLocation = fileset.storageLocation();
+    Path storagePath = new Path(storageLocation);
+
+    boolean singleFile;
+    try {
+      singleFile = getActualFileSystem(storagePath.toUri()).getFileStatus(storagePath).isFile();
+    } catch (FileNotFoundException e) {
+      singleFile = false;
+    } catch (IOException e) {
+      throw new GravitinoRuntimeException(
+          e, "Cannot check the storage location: %s of fileset: %s", storageLocation, identifier);
+    }
+    return new FilesetLocation(storageLocation, singleFile);
   }
 
   private String getSubPathFromVirtualPath(NameIdentifier identifier, String virtualPathString) {
@@ -548,6 +631,9 @@ public class GravitinoVirtualFileSystem extends FileSystem {
     }
     internalFileSystemCache.invalidateAll();
     catalogCache.invalidateAll();
+    if (filesetLocationCache != null) {
+      filesetLocationCache.invalidateAll();
+    }
     // close the client
     try {
       if (client != null) {
@@ -578,4 +664,58 @@ public class GravitinoVirtualFileSystem extends FileSystem {
       return fileSystem;
     }
   }
+
+  /**
+   * The storage location of a fileset cached on the client side. The sub paths are resolved in the
+   * same way as the server does in {@code FilesetCatalog#getFileLocation}.
+   */
+  @VisibleForTesting
+  static class FilesetLocation {
+    private final String storageLocation;
+    private final boolean singleFile;
+
+    FilesetLocation(String storageLocation, boolean singleFile) {
+      this.storageLocation = storageLocation;
+      this.singleFile = singleFile;
+    }
+
+    String storageLocation() {
+      return storageLocation;
+    }
+
+    String resolve(NameIdentifier identifier, String subPath, FilesetDataOperation operation) {
+      String processedSubPath;
+      if (!subPath.trim().isEmpty() && !subPath.trim().startsWith(SLASH)) {
+        processedSubPath = SLASH + subPath.trim();
+      } else {
+        processedSubPath = subPath.trim();
+      }
+
+      // if the storage location is a single file, it cannot have sub path to access.
+      if (singleFile && StringUtils.isBlank(processedSubPath)) {
+        throw new GravitinoRuntimeException(
+            "Sub path should always be blank, because the fileset only mounts a single file.");
+      }
+
+      if (operation == FilesetDataOperation.RENAME) {
+        if (singleFile) {
+          throw new GravitinoRuntimeException(
+              "Cannot rename the fileset: %s which only mounts to a single file.", identifier);
+        }
+        if (StringUtils.isBlank(processedSubPath) || SLASH.equals(processedSubPath)) {
+          throw new GravitinoRuntimeException(
+              "subPath cannot be blank when need to rename a file or a directory.");
+        }
+      }
+
+      if (singleFile || StringUtils.isBlank(processedSubPath)) {
+        return storageLocation;
+      }
+      String location =
+          storageLocation.endsWith(SLASH)
+              ? storageLocation.substring(0, storageLocation.length() - 1)
+              : storageLocation;
+      return String.format("%s%s", location, processedSubPath);
+    }
+  }
 }
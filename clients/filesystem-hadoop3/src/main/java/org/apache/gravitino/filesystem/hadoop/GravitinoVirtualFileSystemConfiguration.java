@@ -76,5 +76,33 @@ class GravitinoVirtualFileSystemConfiguration {
   public static final long FS_GRAVITINO_FILESET_CACHE_EVICTION_MILLS_AFTER_ACCESS_DEFAULT =
       1000L * 60 * 60;
 
+  /**
+   * The configuration key for whether to cache the storage locations of the filesets on the client
+   * side. When enabled, the sub paths are resolved locally against the cached location instead of
+   * asking the server for every file operation, so the server no longer audits, authorizes or runs
+   * the hooks of the individual operations, and changes of the fileset take effect only after the
+   * cached location expires. Disabled by default.
+   */
+  public static final String FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLED_KEY =
+      "fs.gravitino.fileset.location.cache.enabled";
+
+  public static final boolean FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLED_DEFAULT = false;
+
+  /** The configuration key for the maximum capacity of the fileset location cache. */
+  public static final String FS_GRAVITINO_FILESET_LOCATION_CACHE_MAX_CAPACITY_KEY =
+      "fs.gravitino.fileset.location.cache.maxCapacity";
+
+  public static final int FS_GRAVITINO_FILESET_LOCATION_CACHE_MAX_CAPACITY_DEFAULT = 10000;
+
+  /**
+   * The configuration key for the expiration time of the fileset location cache, measured in mills
+   * after write.
+   */
+  public static final String FS_GRAVITINO_FILESET_LOCATION_CACHE_EXPIRE_MILLS_AFTER_WRITE_KEY =
+      "fs.gravitino.fileset.location.cache.expireMillsAfterWrite";
+
+  public static final long FS_GRAVITINO_FILESET_LOCATION_CACHE_EXPIRE_MILLS_AFTER_WRITE_DEFAULT =
+      1000L * 60 * 5;
+
   private GravitinoVirtualFileSystemConfiguration() {}
 }
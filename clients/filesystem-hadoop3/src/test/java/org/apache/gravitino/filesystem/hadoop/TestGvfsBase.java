@@ -22,11 +22,13 @@ import static org.apache.hc.core5.http.HttpStatus.SC_OK;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.github.benmanes.caffeine.cache.Cache;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -40,7 +42,10 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.audit.FilesetDataOperation;
 import org.apache.gravitino.dto.responses.FileLocationResponse;
+import org.apache.gravitino.exceptions.GravitinoRuntimeException;
+import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.rest.RESTUtils;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileStatus;
@@ -203,6 +208,82 @@ public class TestGvfsBase extends GravitinoMockServerBase {
     }
   }
 
+  @Test
+  public void testFilesetLocationCache() throws IOException {
+    String filesetName = "testFilesetLocationCache";
+    Path managedFilesetPath =
+        FileSystemTestUtils.createFilesetPath(catalogName, schemaName, filesetName, true);
+    Path localPath = FileSystemTestUtils.createLocalDirPrefix(catalogName, schemaName, filesetName);
+    Configuration configuration = new Configuration(conf);
+    configuration.setBoolean(
+        GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLED_KEY,
+        true);
+    // only the fileset is mocked, the location endpoint must not be called
+    mockFilesetDTO(
+        metalakeName,
+        catalogName,
+        schemaName,
+        filesetName,
+        Fileset.Type.MANAGED,
+        localPath.toString());
+
+    try (FileSystem gravitinoFileSystem = managedFilesetPath.getFileSystem(configuration);
+        FileSystem localFileSystem = localPath.getFileSystem(conf)) {
+      FileSystemTestUtils.mkdirs(localPath, localFileSystem);
+
+      Path subPath = new Path(managedFilesetPath + "/sub_dir");
+      assertTrue(gravitinoFileSystem.mkdirs(subPath));
+      assertTrue(localFileSystem.exists(new Path(localPath + "/sub_dir")));
+      assertTrue(gravitinoFileSystem.getFileStatus(subPath).isDirectory());
+      assertEquals(1, gravitinoFileSystem.listStatus(managedFilesetPath).length);
+
+      Cache<NameIdentifier, GravitinoVirtualFileSystem.FilesetLocation> locationCache =
+          ((GravitinoVirtualFileSystem) gravitinoFileSystem).filesetLocationCache();
+      GravitinoVirtualFileSystem.FilesetLocation filesetLocation =
+          locationCache.getIfPresent(
+              NameIdentifier.of(metalakeName, catalogName, schemaName, filesetName));
+      assertNotNull(filesetLocation);
+      assertEquals(localPath.toString(), filesetLocation.storageLocation());
+
+      // the fileset root cannot be renamed
+      Path dstPath = new Path(managedFilesetPath + "/rename_dst");
+      assertThrows(
+          GravitinoRuntimeException.class,
+          () -> gravitinoFileSystem.rename(managedFilesetPath, dstPath));
+    }
+  }
+
+  @Test
+  public void testResolveFilesetLocation() {
+    NameIdentifier identifier = NameIdentifier.of(metalakeName, catalogName, schemaName, "test");
+    GravitinoVirtualFileSystem.FilesetLocation dirLocation =
+        new GravitinoVirtualFileSystem.FilesetLocation("hdfs://localhost:9000/fileset/", false);
+    assertEquals(
+        "hdfs://localhost:9000/fileset/",
+        dirLocation.resolve(identifier, "", FilesetDataOperation.LIST_STATUS));
+    assertEquals(
+        "hdfs://localhost:9000/fileset/a/b.txt",
+        dirLocation.resolve(identifier, "a/b.txt", FilesetDataOperation.OPEN));
+    assertEquals(
+        "hdfs://localhost:9000/fileset/a",
+        dirLocation.resolve(identifier, " /a ", FilesetDataOperation.RENAME));
+    assertThrows(
+        GravitinoRuntimeException.class,
+        () -> dirLocation.resolve(identifier, "/", FilesetDataOperation.RENAME));
+
+    GravitinoVirtualFileSystem.FilesetLocation fileLocation =
+        new GravitinoVirtualFileSystem.FilesetLocation("hdfs://localhost:9000/file.txt", true);
+    assertEquals(
+        "hdfs://localhost:9000/file.txt",
+        fileLocation.resolve(identifier, "/a", FilesetDataOperation.OPEN));
+    assertThrows(
+        GravitinoRuntimeException.class,
+        () -> fileLocation.resolve(identifier, "", FilesetDataOperation.OPEN));
+    assertThrows(
+        GravitinoRuntimeException.class,
+        () -> fileLocation.resolve(identifier, "/a", FilesetDataOperation.RENAME));
+  }
+
   @ParameterizedTest
   @ValueSource(booleans = {true, false})
   public void testCreate(boolean withScheme) throws IOException {
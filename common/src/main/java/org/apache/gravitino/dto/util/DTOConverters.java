@@ -679,6 +679,19 @@ public class DTOConverters {
     return Arrays.stream(catalogs).map(DTOConverters::toDTO).toArray(CatalogDTO[]::new);
   }
 
+  /**
+   * Converts an array of Tables to an array of TableDTOs.
+   *
+   * @param tables The tables to be converted.
+   * @return The array of TableDTOs.
+   */
+  public static TableDTO[] toDTOs(Table[] tables) {
+    if (ArrayUtils.isEmpty(tables)) {
+      return new TableDTO[0];
+    }
+    return Arrays.stream(tables).map(DTOConverters::toDTO).toArray(TableDTO[]::new);
+  }
+
   /**
    * Converts an array of Users to an array of UserDTOs.
    *
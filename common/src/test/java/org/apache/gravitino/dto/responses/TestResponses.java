@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -91,6 +92,11 @@ public class TestResponses {
     NameIdentifier[] identsB = entityList.identifiers();
     assertEquals(1, identsB.length);
     assertEquals("TableA", identsB[0].name());
+    assertNull(entityList.nextPageToken());
+
+    EntityListResponse page = new EntityListResponse(identsA, "token");
+    page.validate(); // No exception thrown
+    assertEquals("token", page.nextPageToken());
   }
 
   @Test
@@ -213,6 +219,27 @@ public class TestResponses {
     assertThrows(IllegalArgumentException.class, () -> table.validate());
   }
 
+  @Test
+  void testTableListResponse() throws IllegalArgumentException {
+    AuditDTO audit =
+        AuditDTO.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    ColumnDTO column =
+        ColumnDTO.builder().withName("ColumnA").withDataType(Types.ByteType.get()).build();
+    TableDTO table =
+        TableDTO.builder()
+            .withName("TableA")
+            .withColumns(new ColumnDTO[] {column})
+            .withAudit(audit)
+            .withPartitioning(Partitioning.EMPTY_PARTITIONING)
+            .build();
+    TableListResponse response = new TableListResponse(new TableDTO[] {table}, "token");
+    response.validate(); // No exception thrown
+    assertEquals("token", response.getNextPageToken());
+
+    TableListResponse emptyResponse = new TableListResponse();
+    assertThrows(IllegalArgumentException.class, () -> emptyResponse.validate());
+  }
+
   @Test
   void testRestErrorResponse() throws IllegalArgumentException {
     ErrorResponse error = ErrorResponse.restError("Rest error");
@@ -53,6 +53,13 @@ public class Configs {
   public static final String ENTITY_RELATIONAL_JDBC_BACKEND_STORAGE_PATH_KEY =
       "gravitino.entity.store.relational.storagePath";
 
+  public static final String ENTITY_RELATIONAL_CACHE_ENABLED_KEY =
+      "gravitino.entity.store.relational.cache.enabled";
+  public static final String ENTITY_RELATIONAL_CACHE_MAX_ENTRIES_KEY =
+      "gravitino.entity.store.relational.cache.maxEntries";
+  public static final String ENTITY_RELATIONAL_CACHE_EXPIRE_TIME_MS_KEY =
+      "gravitino.entity.store.relational.cache.expireTimeMs";
+
   public static final String ENTITY_KV_ROCKSDB_BACKEND_PATH_KEY =
       "gravitino.entity.store.kv.rocksdbPath";
 
@@ -95,6 +102,10 @@ public class Configs {
 
   public static final String DEFAULT_RELATIONAL_JDBC_BACKEND_PASSWORD = "gravitino";
 
+  public static final long DEFAULT_ENTITY_RELATIONAL_CACHE_MAX_ENTRIES = 10000L;
+
+  public static final long DEFAULT_ENTITY_RELATIONAL_CACHE_EXPIRE_TIME_MS = 60 * 1000L;
+
   public static final int GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT = 100;
   public static final long MAX_NODE_IN_MEMORY = 100000L;
 
@@ -166,6 +177,35 @@ public class Configs {
           .stringConf()
           .createWithDefault(DEFAULT_RELATIONAL_JDBC_BACKEND_PATH);
 
+  public static final ConfigEntry<Boolean> ENTITY_RELATIONAL_CACHE_ENABLED =
+      new ConfigBuilder(ENTITY_RELATIONAL_CACHE_ENABLED_KEY)
+          .doc(
+              "Whether to cache the metadata entities read from the relational entity store. The "
+                  + "cached entities are invalidated on writes through this server, entities "
+                  + "changed by other servers sharing the same backend are visible after the "
+                  + "cache entries expire")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Long> ENTITY_RELATIONAL_CACHE_MAX_ENTRIES =
+      new ConfigBuilder(ENTITY_RELATIONAL_CACHE_MAX_ENTRIES_KEY)
+          .doc("The maximum number of entries in the relational entity store cache")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_ENTITY_RELATIONAL_CACHE_MAX_ENTRIES);
+
+  public static final ConfigEntry<Long> ENTITY_RELATIONAL_CACHE_EXPIRE_TIME_MS =
+      new ConfigBuilder(ENTITY_RELATIONAL_CACHE_EXPIRE_TIME_MS_KEY)
+          .doc(
+              "The time in milliseconds after which an entry of the relational entity store "
+                  + "cache expires since it's loaded")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_ENTITY_RELATIONAL_CACHE_EXPIRE_TIME_MS);
+
   public static final ConfigEntry<String> ENTITY_KV_ROCKSDB_BACKEND_PATH =
       new ConfigBuilder(ENTITY_KV_ROCKSDB_BACKEND_PATH_KEY)
           .doc(
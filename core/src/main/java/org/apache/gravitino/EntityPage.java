@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+/**
+ * A page of a list result. Pages are ordered by name and addressed by an opaque page token, which
+ * encodes the last name of the previous page. Because the token is a cursor rather than an offset,
+ * the entities created or dropped between two page requests don't shift the following pages.
+ *
+ * @param <T> the type of the items in the page
+ */
+public final class EntityPage<T> {
+
+  /** The size of a page when a page token is given without a page size. */
+  public static final int DEFAULT_PAGE_SIZE = 1000;
+
+  private final List<T> items;
+
+  @Nullable private final String nextPageToken;
+
+  /**
+   * Creates a page with the items and the token of the next page.
+   *
+   * @param items the items in the page
+   * @param nextPageToken the token of the next page, or null if this is the last page
+   */
+  public EntityPage(List<T> items, @Nullable String nextPageToken) {
+    this.items = Collections.unmodifiableList(items);
+    this.nextPageToken = nextPageToken;
+  }
+
+  /**
+   * Builds a page from the items of one extra row fetched past the page size. If there are more
+   * than {@code pageSize} items, the last item is dropped and the next page starts after the last
+   * remaining item.
+   *
+   * @param items the items ordered by name, at most {@code pageSize + 1}
+   * @param nameOf the function to get the name of an item
+   * @param pageSize the size of the page
+   * @param <T> the type of the items
+   * @return the page
+   */
+  public static <T> EntityPage<T> fromLookahead(
+      List<T> items, Function<T, String> nameOf, int pageSize) {
+    if (items.size() <= pageSize) {
+      return new EntityPage<>(items, null);
+    }
+
+    List<T> page = items.subList(0, pageSize);
+    return new EntityPage<>(page, encodePageToken(nameOf.apply(page.get(pageSize - 1))));
+  }
+
+  /**
+   * Slices a page out of the fully loaded items. This is used when the underlying source can only
+   * return the whole list, it bounds the size of the page but not the memory used to load it. Only
+   * the smallest names after the page token are kept while scanning the items, so the items are
+   * not sorted as a whole.
+   *
+   * @param items the items in any order
+   * @param nameOf the function to get the name of an item
+   * @param pageToken the token of the page, or null for the first page
+   * @param pageSize the size of the page
+   * @param <T> the type of the items
+   * @return the page
+   */
+  public static <T> EntityPage<T> slice(
+      List<T> items, Function<T, String> nameOf, @Nullable String pageToken, int pageSize) {
+    checkPageSize(pageSize);
+    String afterName = decodePageToken(pageToken);
+    Comparator<T> byName = Comparator.comparing(nameOf);
+    // A max-heap of one item more than the page, its head is the largest name kept so far.
+    PriorityQueue<T> lookahead =
+        new PriorityQueue<>(Math.min(items.size(), pageSize) + 1, byName.reversed());
+    for (T item : items) {
+      if (afterName != null && nameOf.apply(item).compareTo(afterName) <= 0) {
+        continue;
+      }
+
+      lookahead.offer(item);
+      if (lookahead.size() > pageSize + 1L) {
+        lookahead.poll();
+      }
+    }
+
+    List<T> page = Lists.newArrayList(lookahead);
+    page.sort(byName);
+    return fromLookahead(page, nameOf, pageSize);
+  }
+
+  /**
+   * Encodes the last name of a page into the token of the next page.
+   *
+   * @param lastName the last name of the page
+   * @return the token of the next page
+   */
+  public static String encodePageToken(String lastName) {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(lastName.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes the page token into the last name of the previous page.
+   *
+   * @param pageToken the page token, or null for the first page
+   * @return the last name of the previous page, or null for the first page
+   * @throws IllegalArgumentException if the page token is malformed
+   */
+  @Nullable
+  public static String decodePageToken(@Nullable String pageToken) {
+    if (pageToken == null || pageToken.isEmpty()) {
+      return null;
+    }
+
+    try {
+      return new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid page token: " + pageToken, e);
+    }
+  }
+
+  /**
+   * Checks that the page size is positive.
+   *
+   * @param pageSize the size of the page
+   * @throws IllegalArgumentException if the page size is not positive
+   */
+  public static void checkPageSize(int pageSize) {
+    Preconditions.checkArgument(pageSize > 0, "Page size must be positive, but got %s", pageSize);
+  }
+
+  /**
+   * Returns the items in the page.
+   *
+   * @return the items in the page
+   */
+  public List<T> items() {
+    return items;
+  }
+
+  /**
+   * Returns the token of the next page.
+   *
+   * @return the token of the next page, or null if this is the last page
+   */
+  @Nullable
+  public String nextPageToken() {
+    return nextPageToken;
+  }
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.gravitino;
 
+import com.google.common.collect.Lists;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.List;
@@ -198,6 +199,78 @@ public interface EntityStore extends Closeable {
    */
   boolean delete(NameIdentifier ident, EntityType entityType, boolean cascade) throws IOException;
 
+  /**
+   * Store the entities into the underlying storage in one batch. According to the {@code
+   * overwritten} flag, it will overwrite the existing entities or throw an {@link
+   * EntityAlreadyExistsException}.
+   *
+   * <p>Note. The default implementation stores the entities one by one. The implementations should
+   * override it to store the entities with as few round trips as possible, and store either all or
+   * none of them.
+   *
+   * @param entities the entities to store
+   * @param overwritten whether to overwrite the existing entities
+   * @param <E> the type of the entity
+   * @throws IOException if the store operation fails
+   * @throws EntityAlreadyExistsException if one of the entities already exists and the overwritten
+   *     flag is set to false
+   */
+  default <E extends Entity & HasIdentifier> void batchPut(List<E> entities, boolean overwritten)
+      throws IOException, EntityAlreadyExistsException {
+    for (E e : entities) {
+      put(e, overwritten);
+    }
+  }
+
+  /**
+   * Get the entities with the specified {@link org.apache.gravitino.NameIdentifier}s from the
+   * underlying storage in one batch. The entities that don't exist are skipped.
+   *
+   * <p>Note. The default implementation gets the entities one by one.
+   *
+   * @param idents the name identifiers of the entities
+   * @param entityType the general type of the entities
+   * @param e the entity class instance
+   * @param <E> the class of entity
+   * @return the existing entities, in the order of the specified identifiers
+   * @throws IOException if the retrieve operation fails
+   */
+  default <E extends Entity & HasIdentifier> List<E> batchGet(
+      List<NameIdentifier> idents, EntityType entityType, Class<E> e) throws IOException {
+    List<E> entities = Lists.newArrayListWithCapacity(idents.size());
+    for (NameIdentifier ident : idents) {
+      try {
+        entities.add(get(ident, entityType, e));
+      } catch (NoSuchEntityException nse) {
+        // Skip the entities that don't exist.
+      }
+    }
+    return entities;
+  }
+
+  /**
+   * Delete the entities with the specified {@link org.apache.gravitino.NameIdentifier}s from the
+   * underlying storage in one batch.
+   *
+   * <p>Note. The default implementation deletes the entities one by one.
+   *
+   * @param idents the name identifiers of the entities
+   * @param entityType the type of the entities to be deleted
+   * @param cascade support cascade delete or not
+   * @return the number of the entities that exist and are deleted
+   * @throws IOException if the delete operation fails
+   */
+  default int batchDelete(List<NameIdentifier> idents, EntityType entityType, boolean cascade)
+      throws IOException {
+    int deleted = 0;
+    for (NameIdentifier ident : idents) {
+      if (delete(ident, entityType, cascade)) {
+        deleted++;
+      }
+    }
+    return deleted;
+  }
+
   /**
    * Execute the specified {@link Executable} in a transaction.
    *
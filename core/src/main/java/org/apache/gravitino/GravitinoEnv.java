@@ -345,6 +345,10 @@ public class GravitinoEnv {
       eventListenerManager.stop();
     }
 
+    if (lockManager != null) {
+      lockManager.close();
+    }
+
     LOG.info("Gravitino Environment is shut down.");
   }
 
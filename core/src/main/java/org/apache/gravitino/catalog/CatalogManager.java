@@ -43,6 +43,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -72,6 +73,7 @@ import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.connector.BaseCatalog;
 import org.apache.gravitino.connector.CatalogOperations;
 import org.apache.gravitino.connector.HasPropertyMetadata;
+import org.apache.gravitino.connector.PropertiesMetadata;
 import org.apache.gravitino.connector.PropertyEntry;
 import org.apache.gravitino.connector.SupportsSchemas;
 import org.apache.gravitino.connector.capability.Capability;
@@ -89,6 +91,7 @@ import org.apache.gravitino.rel.SupportsPartitions;
 import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableCatalog;
 import org.apache.gravitino.storage.IdGenerator;
+import org.apache.gravitino.utils.InvalidationFence;
 import org.apache.gravitino.utils.IsolatedClassLoader;
 import org.apache.gravitino.utils.PrincipalUtils;
 import org.apache.gravitino.utils.ThrowableFunction;
@@ -108,11 +111,134 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     private BaseCatalog catalog;
     private IsolatedClassLoader classLoader;
 
+    // The cache of the loaded tables, null if the table cache is not enabled for the catalog.
+    private volatile Cache<NameIdentifier, EntityCombinedTable> tableCache;
+
+    // The loads that race with a table change are not cached.
+    private final InvalidationFence tableCacheFence = new InvalidationFence();
+
     public CatalogWrapper(BaseCatalog catalog, IsolatedClassLoader classLoader) {
       this.catalog = catalog;
       this.classLoader = classLoader;
     }
 
+    void enableTableCache(long maxSize, long expireTimeMs) {
+      this.tableCache =
+          Caffeine.newBuilder()
+              .maximumSize(maxSize)
+              .expireAfterWrite(expireTimeMs, TimeUnit.MILLISECONDS)
+              .build();
+    }
+
+    /**
+     * Load the table from the table cache of the catalog, or load it with the specified loader if
+     * it is not cached. Only the tables that have been imported into Gravitino are cached.
+     *
+     * @param ident The identifier of the table.
+     * @param loader The loader to load the table if it is not cached.
+     * @return The cached or loaded table.
+     */
+    EntityCombinedTable loadTable(
+        NameIdentifier ident, ThrowableFunction<NameIdentifier, EntityCombinedTable> loader)
+        throws Exception {
+      Cache<NameIdentifier, EntityCombinedTable> cache = tableCache;
+      if (cache == null) {
+        return loader.apply(ident);
+      }
+
+      EntityCombinedTable cached = cache.getIfPresent(ident);
+      if (cached != null) {
+        return cached;
+      }
+
+      long loadGeneration = tableCacheFence.generation();
+      EntityCombinedTable table = loader.apply(ident);
+      if (table.imported()) {
+        tableCacheFence.putIfNotInvalidated(loadGeneration, () -> cache.put(ident, table));
+      }
+      return table;
+    }
+
+    /**
+     * Load the tables from the table cache of the catalog, and load the tables that are not cached
+     * with the specified loader in one call. Only the tables that have been imported into Gravitino
+     * are cached.
+     *
+     * @param idents The identifiers of the tables.
+     * @param loader The loader to load the tables that are not cached, the tables that don't exist
+     *     are absent from the returned map.
+     * @return The existing tables keyed by the specified identifiers, in the order of the specified
+     *     identifiers.
+     */
+    Map<NameIdentifier, EntityCombinedTable> loadTables(
+        List<NameIdentifier> idents,
+        ThrowableFunction<List<NameIdentifier>, Map<NameIdentifier, EntityCombinedTable>> loader)
+        throws Exception {
+      Cache<NameIdentifier, EntityCombinedTable> cache = tableCache;
+      Map<NameIdentifier, EntityCombinedTable> tables;
+      if (cache == null) {
+        tables = loader.apply(idents);
+      } else {
+        tables = new HashMap<>(cache.getAllPresent(idents));
+        List<NameIdentifier> missingIdents =
+            idents.stream().filter(i -> !tables.containsKey(i)).collect(Collectors.toList());
+        if (!missingIdents.isEmpty()) {
+          long loadGeneration = tableCacheFence.generation();
+          Map<NameIdentifier, EntityCombinedTable> loadedTables = loader.apply(missingIdents);
+          tables.putAll(loadedTables);
+          tableCacheFence.putIfNotInvalidated(
+              loadGeneration,
+              () ->
+                  loadedTables.forEach(
+                      (ident, table) -> {
+                        if (table.imported()) {
+                          cache.put(ident, table);
+                        }
+                      }));
+        }
+      }
+
+      Map<NameIdentifier, EntityCombinedTable> result = new LinkedHashMap<>();
+      for (NameIdentifier ident : idents) {
+        EntityCombinedTable table = tables.get(ident);
+        if (table != null) {
+          result.put(ident, table);
+        }
+      }
+      return result;
+    }
+
+    /**
+     * Invalidate the cached tables with the specified identifiers.
+     *
+     * @param idents The identifiers of the changed tables.
+     */
+    void invalidateTables(NameIdentifier... idents) {
+      Cache<NameIdentifier, EntityCombinedTable> cache = tableCache;
+      if (cache != null) {
+        tableCacheFence.invalidate(() -> cache.invalidateAll(Arrays.asList(idents)));
+      }
+    }
+
+    /**
+     * Invalidate all the cached tables under the specified schema.
+     *
+     * @param schemaIdent The identifier of the changed schema.
+     */
+    void invalidateTablesOfSchema(NameIdentifier schemaIdent) {
+      Cache<NameIdentifier, EntityCombinedTable> cache = tableCache;
+      if (cache != null) {
+        tableCacheFence.invalidate(
+            () ->
+                cache
+                    .asMap()
+                    .keySet()
+                    .removeIf(
+                        ident ->
+                            NameIdentifier.of(ident.namespace().levels()).equals(schemaIdent)));
+      }
+    }
+
     public <R> R doWithSchemaOps(ThrowableFunction<SupportsSchemas, R> fn) throws Exception {
       return classLoader.withClassLoader(
           cl -> {
@@ -181,6 +307,10 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
 
     public void close() {
+      if (tableCache != null) {
+        tableCache.invalidateAll();
+      }
+
       try {
         classLoader.withClassLoader(
             cl -> {
@@ -684,6 +814,18 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
           // so that AppClassLoader can get the value of properties.
           wrapper.catalog.properties();
           wrapper.catalog.capability();
+
+          PropertiesMetadata catalogPropertiesMetadata = catalog.catalogPropertiesMetadata();
+          if (catalogPropertiesMetadata.containsProperty(BaseCatalog.TABLE_CACHE_ENABLED)
+              && (boolean)
+                  catalogPropertiesMetadata.getOrDefault(conf, BaseCatalog.TABLE_CACHE_ENABLED)) {
+            wrapper.enableTableCache(
+                (long)
+                    catalogPropertiesMetadata.getOrDefault(conf, BaseCatalog.TABLE_CACHE_MAX_SIZE),
+                (long)
+                    catalogPropertiesMetadata.getOrDefault(
+                        conf, BaseCatalog.TABLE_CACHE_EXPIRE_TIME_MS));
+          }
           return null;
         },
         IllegalArgumentException.class);
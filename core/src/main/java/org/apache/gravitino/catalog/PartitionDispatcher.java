@@ -47,6 +47,54 @@ public interface PartitionDispatcher {
    */
   Partition[] listPartitions(NameIdentifier tableIdent);
 
+  /**
+   * List the names of the partitions matching the filter in the table.
+   *
+   * @param tableIdent The identifier of the table.
+   * @param filter The catalog specific partition filter, null or empty to list all partition
+   *     names.
+   * @return The names of the partitions matching the filter.
+   * @throws UnsupportedOperationException If partition filtering is not supported.
+   */
+  String[] listPartitionNames(NameIdentifier tableIdent, String filter)
+      throws UnsupportedOperationException;
+
+  /**
+   * List one page of the names of the partitions matching the filter in the table, ordered by
+   * name.
+   *
+   * @param tableIdent The identifier of the table.
+   * @param filter The catalog specific partition filter, null or empty to list all partition
+   *     names.
+   * @param afterName The name the page starts after, null for the first page.
+   * @param limit The maximum number of names in the page.
+   * @return The names of the matching partitions after the given name.
+   * @throws UnsupportedOperationException If partition filtering is not supported.
+   */
+  String[] listPartitionNames(NameIdentifier tableIdent, String filter, String afterName, int limit)
+      throws UnsupportedOperationException;
+
+  /**
+   * List the partitions matching the filter in the table.
+   *
+   * @param tableIdent The identifier of the table.
+   * @param filter The catalog specific partition filter, null or empty to list all partitions.
+   * @return The partitions matching the filter.
+   * @throws UnsupportedOperationException If partition filtering is not supported.
+   */
+  Partition[] listPartitions(NameIdentifier tableIdent, String filter)
+      throws UnsupportedOperationException;
+
+  /**
+   * Get the partitions by their names from the table, the partitions that don't exist are
+   * skipped.
+   *
+   * @param tableIdent The identifier of the table.
+   * @param partitionNames The names of the partitions.
+   * @return The existing partitions in the order of the given names.
+   */
+  Partition[] getPartitions(NameIdentifier tableIdent, String[] partitionNames);
+
   /**
    * Get a partition by name from the table.
    *
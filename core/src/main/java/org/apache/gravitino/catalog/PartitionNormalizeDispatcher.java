@@ -61,6 +61,63 @@ public class PartitionNormalizeDispatcher implements PartitionDispatcher {
     return applyCaseSensitive(partitions, capabilities);
   }
 
+  @Override
+  public String[] listPartitionNames(NameIdentifier tableIdent, String filter)
+      throws UnsupportedOperationException {
+    Capability capabilities = getCapability(tableIdent, catalogManager);
+    String[] partitionNames =
+        dispatcher.listPartitionNames(
+            applyCaseSensitive(tableIdent, Capability.Scope.TABLE, capabilities), filter);
+    return Arrays.stream(partitionNames)
+        .map(
+            partitionName ->
+                applyCaseSensitiveOnName(Capability.Scope.PARTITION, partitionName, capabilities))
+        .toArray(String[]::new);
+  }
+
+  @Override
+  public String[] listPartitionNames(
+      NameIdentifier tableIdent, String filter, String afterName, int limit)
+      throws UnsupportedOperationException {
+    Capability capabilities = getCapability(tableIdent, catalogManager);
+    String[] partitionNames =
+        dispatcher.listPartitionNames(
+            applyCaseSensitive(tableIdent, Capability.Scope.TABLE, capabilities),
+            filter,
+            afterName,
+            limit);
+    return Arrays.stream(partitionNames)
+        .map(
+            partitionName ->
+                applyCaseSensitiveOnName(Capability.Scope.PARTITION, partitionName, capabilities))
+        .toArray(String[]::new);
+  }
+
+  @Override
+  public Partition[] listPartitions(NameIdentifier tableIdent, String filter)
+      throws UnsupportedOperationException {
+    Capability capabilities = getCapability(tableIdent, catalogManager);
+    Partition[] partitions =
+        dispatcher.listPartitions(
+            applyCaseSensitive(tableIdent, Capability.Scope.TABLE, capabilities), filter);
+    return applyCaseSensitive(partitions, capabilities);
+  }
+
+  @Override
+  public Partition[] getPartitions(NameIdentifier tableIdent, String[] partitionNames) {
+    Capability capabilities = getCapability(tableIdent, catalogManager);
+    Partition[] partitions =
+        dispatcher.getPartitions(
+            applyCaseSensitive(tableIdent, Capability.Scope.TABLE, capabilities),
+            Arrays.stream(partitionNames)
+                .map(
+                    partitionName ->
+                        applyCaseSensitiveOnName(
+                            Capability.Scope.PARTITION, partitionName, capabilities))
+                .toArray(String[]::new));
+    return applyCaseSensitive(partitions, capabilities);
+  }
+
   @Override
   public Partition getPartition(NameIdentifier tableIdent, String partitionName)
       throws NoSuchPartitionException {
@@ -53,6 +53,34 @@ public class PartitionOperationDispatcher extends OperationDispatcher
     return doWithTable(tableIdent, SupportsPartitions::listPartitions, NoSuchTableException.class);
   }
 
+  @Override
+  public String[] listPartitionNames(NameIdentifier tableIdent, String filter)
+      throws UnsupportedOperationException {
+    return doWithTable(tableIdent, p -> p.listPartitionNames(filter), NoSuchTableException.class);
+  }
+
+  @Override
+  public String[] listPartitionNames(
+      NameIdentifier tableIdent, String filter, String afterName, int limit)
+      throws UnsupportedOperationException {
+    return doWithTable(
+        tableIdent,
+        p -> p.listPartitionNames(filter, afterName, limit),
+        NoSuchTableException.class);
+  }
+
+  @Override
+  public Partition[] listPartitions(NameIdentifier tableIdent, String filter)
+      throws UnsupportedOperationException {
+    return doWithTable(tableIdent, p -> p.listPartitions(filter), NoSuchTableException.class);
+  }
+
+  @Override
+  public Partition[] getPartitions(NameIdentifier tableIdent, String[] partitionNames) {
+    return doWithTable(
+        tableIdent, p -> p.getPartitions(partitionNames), NoSuchTableException.class);
+  }
+
   @Override
   public Partition getPartition(NameIdentifier tableIdent, String partitionName)
       throws NoSuchPartitionException {
@@ -279,7 +279,13 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
     boolean droppedFromCatalog =
         doWithCatalog(
             catalogIdent,
-            c -> c.doWithSchemaOps(s -> s.dropSchema(ident, cascade)),
+            c -> {
+              try {
+                return c.doWithSchemaOps(s -> s.dropSchema(ident, cascade));
+              } finally {
+                c.invalidateTablesOfSchema(ident);
+              }
+            },
             NonEmptySchemaException.class,
             RuntimeException.class);
 
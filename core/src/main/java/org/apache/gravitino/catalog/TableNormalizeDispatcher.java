@@ -63,6 +63,13 @@ public class TableNormalizeDispatcher implements TableDispatcher {
     return dispatcher.loadTable(normalizeCaseSensitive(ident));
   }
 
+  @Override
+  public Table[] loadTables(NameIdentifier... idents) {
+    // The constraints of the name spec may be more strict than underlying catalog,
+    // and for compatibility reasons, we only apply case-sensitive capabilities here.
+    return dispatcher.loadTables(normalizeCaseSensitive(idents));
+  }
+
   @Override
   public Table createTable(
       NameIdentifier ident,
@@ -24,9 +24,18 @@ import static org.apache.gravitino.catalog.PropertiesMetadataHelpers.validatePro
 import static org.apache.gravitino.rel.expressions.transforms.Transforms.EMPTY_TRANSFORM;
 import static org.apache.gravitino.utils.NameIdentifierUtil.getCatalogIdentifier;
 
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
@@ -97,8 +106,17 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
    */
   @Override
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
+    // The imported tables are served from the table cache of the catalog if it is enabled.
     EntityCombinedTable table =
-        TreeLockUtils.doWithTreeLock(ident, LockType.READ, () -> internalLoadTable(ident));
+        doWithCatalog(
+            getCatalogIdentifier(ident),
+            c ->
+                c.loadTable(
+                    ident,
+                    i ->
+                        TreeLockUtils.doWithTreeLock(
+                            i, LockType.READ, () -> internalLoadTable(i))),
+            NoSuchTableException.class);
 
     if (!table.imported()) {
       // Load the schema to make sure the schema is imported.
@@ -119,6 +137,36 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
     return table;
   }
 
+  /**
+   * Loads the tables with the specified identifiers. The tables of the same schema are loaded from
+   * the catalog and the entity store in bulk, the tables that do not exist are skipped.
+   *
+   * @param idents The identifiers of the tables to load.
+   * @return The loaded tables, in the order of the specified identifiers.
+   */
+  @Override
+  public Table[] loadTables(NameIdentifier... idents) {
+    Map<Namespace, List<NameIdentifier>> identsBySchema =
+        Arrays.stream(idents)
+            .collect(
+                Collectors.groupingBy(
+                    NameIdentifier::namespace, LinkedHashMap::new, Collectors.toList()));
+
+    Map<NameIdentifier, Table> loadedTables = Maps.newHashMapWithExpectedSize(idents.length);
+    for (List<NameIdentifier> schemaIdents : identsBySchema.values()) {
+      loadedTables.putAll(loadTablesOfSchema(schemaIdents));
+    }
+
+    List<Table> tables = Lists.newArrayListWithCapacity(idents.length);
+    for (NameIdentifier ident : idents) {
+      Table table = loadedTables.get(ident);
+      if (table != null) {
+        tables.add(table);
+      }
+    }
+    return tables.toArray(new Table[0]);
+  }
+
   /**
    * Creates a new table in a schema.
    *
@@ -177,6 +225,15 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
   @Override
   public Table alterTable(NameIdentifier ident, TableChange... changes)
       throws NoSuchTableException, IllegalArgumentException {
+    try {
+      return internalAlterTable(ident, changes);
+    } finally {
+      invalidateTableCache(ident);
+    }
+  }
+
+  private Table internalAlterTable(NameIdentifier ident, TableChange... changes)
+      throws NoSuchTableException, IllegalArgumentException {
     validateAlterProperties(ident, HasPropertyMetadata::tablePropertiesMetadata, changes);
 
     NameIdentifier catalogIdent = getCatalogIdentifier(ident);
@@ -253,7 +310,15 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
     NameIdentifier catalogIdent = getCatalogIdentifier(ident);
     boolean droppedFromCatalog =
         doWithCatalog(
-            catalogIdent, c -> c.doWithTableOps(t -> t.dropTable(ident)), RuntimeException.class);
+            catalogIdent,
+            c -> {
+              try {
+                return c.doWithTableOps(t -> t.dropTable(ident));
+              } finally {
+                c.invalidateTables(ident);
+              }
+            },
+            RuntimeException.class);
 
     // For unmanaged table, it could happen that the table:
     // 1. Is not found in the catalog (dropped directly from underlying sources)
@@ -299,7 +364,13 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
     boolean droppedFromCatalog =
         doWithCatalog(
             catalogIdent,
-            c -> c.doWithTableOps(t -> t.purgeTable(ident)),
+            c -> {
+              try {
+                return c.doWithTableOps(t -> t.purgeTable(ident));
+              } finally {
+                c.invalidateTables(ident);
+              }
+            },
             RuntimeException.class,
             UnsupportedOperationException.class);
 
@@ -328,6 +399,66 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
         : droppedFromCatalog;
   }
 
+  private Map<NameIdentifier, EntityCombinedTable> loadTablesOfSchema(
+      List<NameIdentifier> idents) {
+    NameIdentifier schemaIdent = NameIdentifier.of(idents.get(0).namespace().levels());
+    // The imported tables are served from the table cache of the catalog if it is enabled.
+    Map<NameIdentifier, EntityCombinedTable> tables =
+        doWithCatalog(
+            getCatalogIdentifier(schemaIdent),
+            c ->
+                c.loadTables(
+                    idents,
+                    i ->
+                        TreeLockUtils.doWithTreeLock(
+                            schemaIdent, LockType.READ, () -> internalLoadTables(i))),
+            RuntimeException.class);
+
+    List<NameIdentifier> notImported =
+        tables.entrySet().stream()
+            .filter(e -> !e.getValue().imported())
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toList());
+    if (!notImported.isEmpty()) {
+      // Load the schema to make sure the schema is imported.
+      SchemaDispatcher schemaDispatcher = GravitinoEnv.getInstance().schemaDispatcher();
+      schemaDispatcher.loadSchema(schemaIdent);
+
+      // Import the tables.
+      TreeLockUtils.doWithTreeLock(
+          schemaIdent,
+          LockType.WRITE,
+          () -> {
+            importTables(notImported);
+            return null;
+          });
+    }
+
+    return tables;
+  }
+
+  private void importTables(List<NameIdentifier> idents) {
+    // Load the tables again under the write lock, the tables may have been imported meanwhile.
+    List<TableEntity> tableEntities = Lists.newArrayList();
+    internalLoadTables(idents)
+        .forEach(
+            (ident, table) -> {
+              if (!table.imported()) {
+                tableEntities.add(toImportedTableEntity(ident, table));
+              }
+            });
+    if (tableEntities.isEmpty()) {
+      return;
+    }
+
+    try {
+      store.batchPut(tableEntities, true);
+    } catch (Exception e) {
+      LOG.error(FormattedErrorMessages.STORE_OP_FAILURE, "batchPut", idents, e);
+      throw new RuntimeException("Fail to import the table entities to the store.", e);
+    }
+  }
+
   private void importTable(NameIdentifier identifier) {
     EntityCombinedTable table = internalLoadTable(identifier);
 
@@ -335,6 +466,16 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
       return;
     }
 
+    TableEntity tableEntity = toImportedTableEntity(identifier, table);
+    try {
+      store.put(tableEntity, true);
+    } catch (Exception e) {
+      LOG.error(FormattedErrorMessages.STORE_OP_FAILURE, "put", identifier, e);
+      throw new RuntimeException("Fail to import the table entity to the store.", e);
+    }
+  }
+
+  private TableEntity toImportedTableEntity(NameIdentifier identifier, EntityCombinedTable table) {
     StringIdentifier stringId = null;
     try {
       stringId = table.stringIdentifier();
@@ -357,25 +498,28 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
       uid = idGenerator.nextId();
     }
 
-    TableEntity tableEntity =
-        TableEntity.builder()
-            .withId(uid)
-            .withName(identifier.name())
-            .withNamespace(identifier.namespace())
-            .withAuditInfo(
-                AuditInfo.builder()
-                    .withCreator(table.auditInfo().creator())
-                    .withCreateTime(table.auditInfo().createTime())
-                    .withLastModifier(table.auditInfo().lastModifier())
-                    .withLastModifiedTime(table.auditInfo().lastModifiedTime())
-                    .build())
-            .build();
-    try {
-      store.put(tableEntity, true);
-    } catch (Exception e) {
-      LOG.error(FormattedErrorMessages.STORE_OP_FAILURE, "put", identifier, e);
-      throw new RuntimeException("Fail to import the table entity to the store.", e);
-    }
+    return TableEntity.builder()
+        .withId(uid)
+        .withName(identifier.name())
+        .withNamespace(identifier.namespace())
+        .withAuditInfo(
+            AuditInfo.builder()
+                .withCreator(table.auditInfo().creator())
+                .withCreateTime(table.auditInfo().createTime())
+                .withLastModifier(table.auditInfo().lastModifier())
+                .withLastModifiedTime(table.auditInfo().lastModifiedTime())
+                .build())
+        .build();
+  }
+
+  private void invalidateTableCache(NameIdentifier ident) {
+    doWithCatalog(
+        getCatalogIdentifier(ident),
+        c -> {
+          c.invalidateTables(ident);
+          return null;
+        },
+        RuntimeException.class);
   }
 
   private EntityCombinedTable internalLoadTable(NameIdentifier ident) {
@@ -418,6 +562,86 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
         .withImported(tableEntity != null);
   }
 
+  private Map<NameIdentifier, EntityCombinedTable> internalLoadTables(List<NameIdentifier> idents) {
+    NameIdentifier catalogIdentifier = getCatalogIdentifier(idents.get(0));
+    Table[] tables =
+        doWithCatalog(
+            catalogIdentifier,
+            c -> c.doWithTableOps(t -> t.loadTables(idents.toArray(new NameIdentifier[0]))),
+            RuntimeException.class);
+
+    // Key the tables by the requested identifiers, the catalog may return the names normalized.
+    // The identifiers are indexed by the exact and the lower-cased names once for the batch.
+    Map<String, NameIdentifier> identsByName = Maps.newHashMapWithExpectedSize(idents.size());
+    Map<String, NameIdentifier> identsByLowerCaseName =
+        Maps.newHashMapWithExpectedSize(idents.size());
+    for (NameIdentifier ident : idents) {
+      identsByName.putIfAbsent(ident.name(), ident);
+      identsByLowerCaseName.putIfAbsent(ident.name().toLowerCase(Locale.ROOT), ident);
+    }
+    List<NameIdentifier> tableIdents =
+        Arrays.stream(tables)
+            .map(t -> requestedIdent(identsByName, identsByLowerCaseName, t))
+            .collect(Collectors.toList());
+    Map<NameIdentifier, TableEntity> tableEntities;
+    try {
+      tableEntities =
+          store.batchGet(tableIdents, TABLE, TableEntity.class).stream()
+              .collect(Collectors.toMap(TableEntity::nameIdentifier, Function.identity()));
+    } catch (Exception e) {
+      LOG.error(FormattedErrorMessages.STORE_OP_FAILURE, "batchGet", tableIdents, e);
+      throw new RuntimeException("Fail to get the table entities from the store.", e);
+    }
+
+    Map<NameIdentifier, EntityCombinedTable> combinedTables = new LinkedHashMap<>();
+    for (int i = 0; i < tables.length; i++) {
+      Table table = tables[i];
+      NameIdentifier ident = tableIdents.get(i);
+      TableEntity tableEntity = tableEntities.get(ident);
+      Set<String> hiddenProperties =
+          getHiddenPropertyNames(
+              catalogIdentifier, HasPropertyMetadata::tablePropertiesMetadata, table.properties());
+
+      StringIdentifier stringId = getStringIdFromProperties(table.properties());
+      // Case 1: The table is not created by Gravitino or the external system does not support
+      // storing string identifier, the table is imported if the entity exists.
+      if (stringId == null) {
+        combinedTables.put(
+            ident,
+            EntityCombinedTable.of(table)
+                .withHiddenPropertiesSet(hiddenProperties)
+                .withImported(tableEntity != null));
+        continue;
+      }
+
+      if (tableEntity == null) {
+        LOG.error(FormattedErrorMessages.ENTITY_NOT_FOUND, ident);
+      } else if (tableEntity.id() != stringId.id()) {
+        LOG.error(FormattedErrorMessages.ENTITY_UNMATCHED, ident, tableEntity.id(), stringId.id());
+        tableEntity = null;
+      }
+      combinedTables.put(
+          ident,
+          EntityCombinedTable.of(table, tableEntity)
+              .withHiddenPropertiesSet(hiddenProperties)
+              .withImported(tableEntity != null));
+    }
+    return combinedTables;
+  }
+
+  private static NameIdentifier requestedIdent(
+      Map<String, NameIdentifier> identsByName,
+      Map<String, NameIdentifier> identsByLowerCaseName,
+      Table table) {
+    NameIdentifier ident = identsByName.get(table.name());
+    if (ident == null) {
+      ident = identsByLowerCaseName.get(table.name().toLowerCase(Locale.ROOT));
+    }
+    Preconditions.checkState(
+        ident != null, "The catalog returned the table %s which was not requested", table.name());
+    return ident;
+  }
+
   private Table internalCreateTable(
       NameIdentifier ident,
       Column[] columns,
@@ -65,6 +65,15 @@ public abstract class BaseCatalog<T extends BaseCatalog>
   // The object you used is not stable, don't use it unless you know what you are doing.
   public static final String CATALOG_OPERATION_IMPL = "ops-impl";
 
+  // The properties to enable and tune the cache of loaded tables of this catalog. The cache is
+  // disabled by default, enable it only if the tables are not changed outside Gravitino or a
+  // bounded staleness is acceptable.
+  public static final String TABLE_CACHE_ENABLED = "table-cache.enabled";
+
+  public static final String TABLE_CACHE_MAX_SIZE = "table-cache.max-size";
+
+  public static final String TABLE_CACHE_EXPIRE_TIME_MS = "table-cache.expire-time-ms";
+
   // Underlying access control system plugin for this catalog.
   private volatile BaseAuthorization<?> authorization;
 
@@ -73,6 +73,26 @@ public abstract class BaseCatalogPropertiesMetadata extends BasePropertiesMetada
                   "The region code of the cloud that the catalog is running on",
                   false /* immutable */,
                   null /* The default value does not work because if the user does not set it, this property will not be displayed */,
+                  false /* hidden */),
+              PropertyEntry.booleanPropertyEntry(
+                  BaseCatalog.TABLE_CACHE_ENABLED,
+                  "Whether to cache the loaded tables of the catalog",
+                  false /* required */,
+                  false /* immutable */,
+                  false /* default value */,
+                  false /* hidden */,
+                  false /* reserved */),
+              PropertyEntry.longOptionalPropertyEntry(
+                  BaseCatalog.TABLE_CACHE_MAX_SIZE,
+                  "The maximum number of the cached tables of the catalog",
+                  false /* immutable */,
+                  1000L /* default value */,
+                  false /* hidden */),
+              PropertyEntry.longOptionalPropertyEntry(
+                  BaseCatalog.TABLE_CACHE_EXPIRE_TIME_MS,
+                  "The time in milliseconds a cached table of the catalog is kept",
+                  false /* immutable */,
+                  60000L /* default value */,
                   false /* hidden */)),
           PropertyEntry::getName);
 
@@ -61,6 +61,11 @@ public class TableHookDispatcher implements TableDispatcher {
     return dispatcher.loadTable(ident);
   }
 
+  @Override
+  public Table[] loadTables(NameIdentifier... idents) {
+    return dispatcher.loadTables(idents);
+  }
+
   @Override
   public Table createTable(
       NameIdentifier ident,
@@ -16,55 +16,83 @@
  * specific language governing permissions and limitations
  * under the License.
  */
-
 package org.apache.gravitino.listener;
 
+import com.codahale.metrics.Counter;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
 import org.apache.gravitino.listener.api.event.Event;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.MetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * AsyncQueueListener acts as event listener, and internally buffer event to a queue, start a
- * dispatcher thread to dispatch event to the real listeners. For default AsyncQueueListener it may
- * contain multi listeners share with one queue and dispatcher thread. For other
- * AsyncQueueDispatchers, contain only one listener.
+ * AsyncQueueListener acts as event listener, and internally buffer events to bounded queues, start
+ * dispatcher threads to dispatch events to the real listeners. For default AsyncQueueListener it
+ * may contain multi listeners, for other AsyncQueueDispatchers, contain only one listener.
+ *
+ * <p>Every listener has its own lock-free ring buffer and dispatcher thread, so a slow listener
+ * never delays the others. The dispatcher delivers the queued events in batches, see {@link
+ * org.apache.gravitino.listener.api.BatchEventListenerPlugin}. When the queue of a listener is
+ * full, the event is either dropped or the caller waits for a bounded time according to the {@link
+ * QueueFullPolicy}. The queue size and the number of dropped events of every listener are exported
+ * through the {@link MetricsSystem}.
  */
 public class AsyncQueueListener implements EventListenerPlugin {
   private static final Logger LOG = LoggerFactory.getLogger(AsyncQueueListener.class);
   private static final String NAME_PREFIX = "async-queue-listener-";
+  // An idle dispatcher is woken up by the producers, the timeout is only a safety net.
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+  private static final long BLOCK_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+  /** The policy to apply when the queue of a listener is full. */
+  public enum QueueFullPolicy {
+    /** Drop the event immediately. */
+    DROP,
+    /** Wait for the listener to consume events for a bounded time, and drop the event after it. */
+    BLOCK
+  }
 
-  private final List<EventListenerPlugin> eventListeners;
-  private final BlockingQueue<Event> queue;
-  private final Thread asyncProcessor;
+  private final List<ListenerWorker> workers;
   private final int dispatcherJoinSeconds;
+  private final QueueFullPolicy queueFullPolicy;
+  private final long queueBlockNanos;
+  private final int dispatchBatchSize;
   private final AtomicBoolean stopped = new AtomicBoolean(false);
-  private final AtomicLong dropEventCounters = new AtomicLong(0);
-  private final AtomicLong lastDropEventCounters = new AtomicLong(0);
-  private Instant lastRecordDropEventTime;
   private final String asyncQueueListenerName;
+  private final AsyncQueueListenerMetricsSource metricsSource;
 
   public AsyncQueueListener(
-      List<EventListenerPlugin> listeners,
+      List<EventListenerPluginWrapper> listeners,
       String name,
       int queueCapacity,
-      int dispatcherJoinSeconds) {
+      int dispatcherJoinSeconds,
+      QueueFullPolicy queueFullPolicy,
+      long queueBlockMillis,
+      int dispatchBatchSize) {
     this.asyncQueueListenerName = NAME_PREFIX + name;
-    this.eventListeners = listeners;
-    this.queue = new LinkedBlockingQueue<>(queueCapacity);
-    this.asyncProcessor = new Thread(() -> processEvents());
     this.dispatcherJoinSeconds = dispatcherJoinSeconds;
-    asyncProcessor.setDaemon(true);
-    asyncProcessor.setName(asyncQueueListenerName);
+    this.queueFullPolicy = queueFullPolicy;
+    this.queueBlockNanos = TimeUnit.MILLISECONDS.toNanos(queueBlockMillis);
+    this.dispatchBatchSize = dispatchBatchSize;
+    this.metricsSource = new AsyncQueueListenerMetricsSource(name);
+    this.workers =
+        listeners.stream()
+            .map(listener -> new ListenerWorker(listener, queueCapacity))
+            .collect(Collectors.toList());
   }
 
   @Override
@@ -77,11 +105,9 @@ public class AsyncQueueListener implements EventListenerPlugin {
       return;
     }
 
-    if (queue.offer(event)) {
-      return;
+    for (ListenerWorker worker : workers) {
+      worker.enqueue(event);
     }
-
-    logDropEventsIfNecessary();
   }
 
   @Override
@@ -92,66 +118,174 @@ public class AsyncQueueListener implements EventListenerPlugin {
 
   @Override
   public void start() {
-    eventListeners.forEach(listenerPlugin -> listenerPlugin.start());
-    asyncProcessor.start();
+    workers.forEach(worker -> worker.listener.start());
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+    workers.forEach(worker -> worker.dispatcher.start());
   }
 
   @Override
   public void stop() {
     Preconditions.checkState(!stopped.get(), asyncQueueListenerName + " had already stopped");
     stopped.compareAndSet(false, true);
-    asyncProcessor.interrupt();
-    try {
-      asyncProcessor.join(dispatcherJoinSeconds * 1000L);
-    } catch (InterruptedException e) {
-      LOG.warn("{} interrupt async processor failed.", asyncQueueListenerName, e);
+
+    // Give the dispatchers a chance to deliver the queued events before interrupting them.
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(dispatcherJoinSeconds);
+    workers.forEach(worker -> LockSupport.unpark(worker.dispatcher));
+    for (ListenerWorker worker : workers) {
+      try {
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        worker.dispatcher.join(Math.max(1, remainingMillis));
+      } catch (InterruptedException e) {
+        LOG.warn("{} interrupt async processor failed.", asyncQueueListenerName, e);
+        Thread.currentThread().interrupt();
+      }
+      if (worker.dispatcher.isAlive()) {
+        worker.dispatcher.interrupt();
+      }
+    }
+
+    workers.forEach(worker -> worker.listener.stop());
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
     }
-    eventListeners.forEach(listenerPlugin -> listenerPlugin.stop());
   }
 
   @VisibleForTesting
   List<EventListenerPlugin> getEventListeners() {
-    return this.eventListeners;
+    return workers.stream().map(worker -> worker.listener).collect(Collectors.toList());
   }
 
-  private void processEvents() {
-    while (!Thread.currentThread().isInterrupted()) {
-      try {
-        Event event = queue.take();
-        this.eventListeners.forEach(listener -> listener.onPostEvent(event));
-      } catch (InterruptedException e) {
-        LOG.warn("{} event dispatcher thread is interrupted.", asyncQueueListenerName);
-        break;
-      } catch (Exception e) {
-        LOG.warn("{} throw a exception while processing event", asyncQueueListenerName, e);
+  @VisibleForTesting
+  MetricsSource getMetricsSource() {
+    return metricsSource;
+  }
+
+  /** Buffers the events of one listener and dispatches them on a dedicated thread. */
+  private class ListenerWorker {
+    private final EventListenerPluginWrapper listener;
+    private final EventRingBuffer queue;
+    private final Thread dispatcher;
+    private final Counter dropEventCounter;
+    private final AtomicLong dropEventCounters = new AtomicLong(0);
+    private final AtomicLong lastDropEventCounters = new AtomicLong(0);
+    private volatile Instant lastRecordDropEventTime = Instant.now();
+    // Set by the dispatcher before parking, the producers unpark it after adding an event.
+    private volatile boolean idle = false;
+
+    private ListenerWorker(EventListenerPluginWrapper listener, int queueCapacity) {
+      this.listener = listener;
+      this.queue = new EventRingBuffer(queueCapacity);
+      this.dispatcher = new Thread(this::processEvents);
+      dispatcher.setDaemon(true);
+      dispatcher.setName(asyncQueueListenerName + "-" + listener.listenerName());
+
+      String prefix = listener.listenerName() + ".";
+      this.dropEventCounter =
+          metricsSource.getCounter(prefix + MetricNames.EVENT_QUEUE_DROPPED_COUNT);
+      metricsSource.registerGauge(prefix + MetricNames.EVENT_QUEUE_SIZE, queue::size);
+    }
+
+    private void enqueue(Event event) {
+      boolean added = queue.offer(event);
+      if (!added && queueFullPolicy == QueueFullPolicy.BLOCK) {
+        added = offerUntilDeadline(event);
       }
+
+      if (added) {
+        if (idle) {
+          LockSupport.unpark(dispatcher);
+        }
+        return;
+      }
+
+      dropEventCounter.inc();
+      logDropEventsIfNecessary();
     }
 
-    if (!queue.isEmpty()) {
-      LOG.warn(
-          "{} drop {} events since dispatch thread is interrupted",
-          asyncQueueListenerName,
-          queue.size());
+    private boolean offerUntilDeadline(Event event) {
+      long deadline = System.nanoTime() + queueBlockNanos;
+      do {
+        LockSupport.unpark(dispatcher);
+        LockSupport.parkNanos(BLOCK_BACKOFF_NANOS);
+        if (queue.offer(event)) {
+          return true;
+        }
+      } while (deadline - System.nanoTime() > 0 && !stopped.get());
+      return false;
     }
-  }
 
-  private void logDropEventsIfNecessary() {
-    long currentDropEvents = dropEventCounters.incrementAndGet();
-    long lastDropEvents = lastDropEventCounters.get();
-    // dropEvents may less than zero in such conditions:
-    // 1. Thread A increment dropEventCounters
-    // 2. Thread B increment dropEventCounters and update lastDropEventCounters
-    // 3. Thread A get lastDropEventCounters
-    long dropEvents = currentDropEvents - lastDropEvents;
-    if (dropEvents > 0 && Instant.now().isAfter(lastRecordDropEventTime.plusSeconds(60))) {
-      if (lastDropEventCounters.compareAndSet(lastDropEvents, currentDropEvents)) {
+    private void processEvents() {
+      List<Event> batch = new ArrayList<>(dispatchBatchSize);
+      while (!Thread.currentThread().isInterrupted()) {
+        if (queue.drain(batch, dispatchBatchSize) > 0) {
+          dispatch(batch);
+          batch.clear();
+          continue;
+        }
+
+        if (stopped.get()) {
+          break;
+        }
+
+        idle = true;
+        // Check again after publishing the idle flag, so an event added in between is not missed.
+        if (queue.isEmpty() && !stopped.get()) {
+          LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+        idle = false;
+      }
+
+      if (!queue.isEmpty()) {
         LOG.warn(
-            "{} drop {} events since {}",
+            "{} drop {} events of listener {} since dispatch thread is interrupted",
             asyncQueueListenerName,
-            dropEvents,
-            lastRecordDropEventTime);
-        lastRecordDropEventTime = Instant.now();
+            queue.size(),
+            listener.listenerName());
       }
     }
+
+    private void dispatch(List<Event> batch) {
+      try {
+        listener.onPostEvents(batch);
+      } catch (Exception e) {
+        LOG.warn(
+            "{} throw a exception while processing {} events for listener {}",
+            asyncQueueListenerName,
+            batch.size(),
+            listener.listenerName(),
+            e);
+      }
+    }
+
+    private void logDropEventsIfNecessary() {
+      long currentDropEvents = dropEventCounters.incrementAndGet();
+      long lastDropEvents = lastDropEventCounters.get();
+      // dropEvents may less than zero in such conditions:
+      // 1. Thread A increment dropEventCounters
+      // 2. Thread B increment dropEventCounters and update lastDropEventCounters
+      // 3. Thread A get lastDropEventCounters
+      long dropEvents = currentDropEvents - lastDropEvents;
+      if (dropEvents > 0 && Instant.now().isAfter(lastRecordDropEventTime.plusSeconds(60))) {
+        if (lastDropEventCounters.compareAndSet(lastDropEvents, currentDropEvents)) {
+          LOG.warn(
+              "{} drop {} events of listener {} since {}",
+              asyncQueueListenerName,
+              dropEvents,
+              listener.listenerName(),
+              lastRecordDropEventTime);
+          lastRecordDropEventTime = Instant.now();
+        }
+      }
+    }
+  }
+
+  private static class AsyncQueueListenerMetricsSource extends MetricsSource {
+    private AsyncQueueListenerMetricsSource(String name) {
+      super(MetricsSource.EVENT_LISTENER_METRIC_NAME + "." + name);
+    }
   }
 }
@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.listener;
 
+import java.util.Arrays;
 import java.util.Map;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.config.ConfigBuilder;
@@ -49,6 +50,39 @@ class EventListenerConfig extends Config {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(3);
 
+  static final ConfigEntry<String> QUEUE_FULL_POLICY =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_QUEUE_FULL_POLICY)
+          .doc(
+              "The policy of the async event listener when its queue is full, `drop` drops the "
+                  + "event, `block` waits for the listener for at most `queueBlockMillis` before "
+                  + "dropping the event")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .stringConf()
+          .checkValue(
+              value ->
+                  Arrays.stream(AsyncQueueListener.QueueFullPolicy.values())
+                      .anyMatch(policy -> policy.name().equalsIgnoreCase(value)),
+              "The value must be one of `drop` and `block`")
+          .createWithDefault("drop");
+
+  static final ConfigEntry<Long> QUEUE_BLOCK_MILLIS =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_QUEUE_BLOCK_MILLIS)
+          .doc(
+              "The maximum time in milliseconds to wait for a full async event listener queue "
+                  + "when the queue full policy is `block`")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100L);
+
+  static final ConfigEntry<Integer> DISPATCH_BATCH_SIZE =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_DISPATCH_BATCH_SIZE)
+          .doc("The maximum number of events delivered to an async event listener at once")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100);
+
   EventListenerConfig(Map<String, String> properties) {
     super(false);
     loadFromMap(properties, k -> true);
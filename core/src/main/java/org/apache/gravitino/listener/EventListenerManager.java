@@ -26,6 +26,7 @@ import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableList;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -55,17 +56,28 @@ public class EventListenerManager {
   @VisibleForTesting static final String GRAVITINO_EVENT_LISTENER_CLASS = "class";
   static final String GRAVITINO_EVENT_LISTENER_QUEUE_CAPACITY = "queueCapacity";
   static final String GRAVITINO_EVENT_LISTENER_DISPATCHER_JOIN_SECONDS = "dispatcherJoinSeconds";
+  static final String GRAVITINO_EVENT_LISTENER_QUEUE_FULL_POLICY = "queueFullPolicy";
+  static final String GRAVITINO_EVENT_LISTENER_QUEUE_BLOCK_MILLIS = "queueBlockMillis";
+  static final String GRAVITINO_EVENT_LISTENER_DISPATCH_BATCH_SIZE = "dispatchBatchSize";
   private static final Splitter splitter = Splitter.on(",");
   private static final Joiner DOT = Joiner.on(".");
 
   private int queueCapacity;
   private int dispatcherJoinSeconds;
+  private AsyncQueueListener.QueueFullPolicy queueFullPolicy;
+  private long queueBlockMillis;
+  private int dispatchBatchSize;
   private List<EventListenerPlugin> eventListeners;
 
   public void init(Map<String, String> properties) {
     EventListenerConfig config = new EventListenerConfig(properties);
     this.queueCapacity = config.get(EventListenerConfig.QUEUE_CAPACITY);
     this.dispatcherJoinSeconds = config.get(EventListenerConfig.DISPATCHER_JOIN_SECONDS);
+    this.queueFullPolicy =
+        AsyncQueueListener.QueueFullPolicy.valueOf(
+            config.get(EventListenerConfig.QUEUE_FULL_POLICY).toUpperCase(Locale.ROOT));
+    this.queueBlockMillis = config.get(EventListenerConfig.QUEUE_BLOCK_MILLIS);
+    this.dispatchBatchSize = config.get(EventListenerConfig.DISPATCH_BATCH_SIZE);
 
     String eventListenerNames = config.get(EventListenerConfig.LISTENER_NAMES);
     Map<String, EventListenerPlugin> userEventListenerPlugins =
@@ -101,7 +113,7 @@ public class EventListenerManager {
 
   private List<EventListenerPlugin> assembleEventListeners(
       Map<String, EventListenerPlugin> userEventListeners) {
-    List<EventListenerPlugin> sharedQueueListeners = new ArrayList<>();
+    List<EventListenerPluginWrapper> sharedQueueListeners = new ArrayList<>();
 
     List<EventListenerPlugin> listeners =
         userEventListeners.entrySet().stream()
@@ -113,11 +125,9 @@ public class EventListenerManager {
                     case SYNC:
                       return new EventListenerPluginWrapper(listenerName, listener);
                     case ASYNC_ISOLATED:
-                      return new AsyncQueueListener(
+                      return createAsyncQueueListener(
                           ImmutableList.of(new EventListenerPluginWrapper(listenerName, listener)),
-                          listenerName,
-                          queueCapacity,
-                          dispatcherJoinSeconds);
+                          listenerName);
                     case ASYNC_SHARED:
                       sharedQueueListeners.add(
                           new EventListenerPluginWrapper(listenerName, listener));
@@ -130,13 +140,23 @@ public class EventListenerManager {
             .collect(Collectors.toList());
 
     if (!sharedQueueListeners.isEmpty()) {
-      listeners.add(
-          new AsyncQueueListener(
-              sharedQueueListeners, "default", queueCapacity, dispatcherJoinSeconds));
+      listeners.add(createAsyncQueueListener(sharedQueueListeners, "default"));
     }
     return listeners;
   }
 
+  private AsyncQueueListener createAsyncQueueListener(
+      List<EventListenerPluginWrapper> listeners, String name) {
+    return new AsyncQueueListener(
+        listeners,
+        name,
+        queueCapacity,
+        dispatcherJoinSeconds,
+        queueFullPolicy,
+        queueBlockMillis,
+        dispatchBatchSize);
+  }
+
   private EventListenerPlugin loadUserEventListenerPlugin(
       String listenerName, Map<String, String> config) {
     LOG.info("EventListener:{}, config:{}.", listenerName, config);
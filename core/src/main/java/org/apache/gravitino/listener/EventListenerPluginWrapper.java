@@ -20,7 +20,9 @@
 package org.apache.gravitino.listener;
 
 import com.google.common.annotations.VisibleForTesting;
+import java.util.List;
 import java.util.Map;
+import org.apache.gravitino.listener.api.BatchEventListenerPlugin;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
 import org.apache.gravitino.listener.api.event.Event;
 import org.slf4j.Logger;
@@ -30,7 +32,7 @@ import org.slf4j.LoggerFactory;
  * A wrapper for user provided event listener, could contain common logic like exception handling,
  * recording metrics, recording slow event process.
  */
-public class EventListenerPluginWrapper implements EventListenerPlugin {
+public class EventListenerPluginWrapper implements BatchEventListenerPlugin {
   private static final Logger LOG = LoggerFactory.getLogger(EventListenerPluginWrapper.class);
   private String listenerName;
   private EventListenerPlugin userEventListener;
@@ -75,6 +77,24 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
     }
   }
 
+  @Override
+  public void onPostEvents(List<Event> events) {
+    if (userEventListener instanceof BatchEventListenerPlugin) {
+      try {
+        ((BatchEventListenerPlugin) userEventListener).onPostEvents(events);
+      } catch (Exception e) {
+        LOG.warn("Event listener {} process {} events failed,", listenerName, events.size(), e);
+      }
+      return;
+    }
+
+    events.forEach(this::onPostEvent);
+  }
+
+  String listenerName() {
+    return listenerName;
+  }
+
   @VisibleForTesting
   EventListenerPlugin getUserEventListener() {
     return userEventListener;
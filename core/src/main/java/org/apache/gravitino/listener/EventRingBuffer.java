@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.listener;
+
+import com.google.common.base.Preconditions;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.apache.gravitino.listener.api.event.Event;
+
+/**
+ * A bounded, lock-free ring buffer of events with multiple producers and a single consumer.
+ *
+ * <p>Every slot has a sequence number. A producer claims the slot of the next producer index with
+ * a CAS and publishes the event by advancing the sequence of the slot, the consumer only reads the
+ * slots which have been published and hands them back to the producers by advancing the sequence
+ * by one lap. Producers never wait for each other, and a full buffer is reported to the caller
+ * instead of blocking it.
+ */
+final class EventRingBuffer {
+  private final int capacity;
+  private final AtomicReferenceArray<Event> events;
+  private final AtomicLongArray sequences;
+  private final AtomicLong producerIndex = new AtomicLong();
+  // Only written by the consumer thread.
+  private final AtomicLong consumerIndex = new AtomicLong();
+
+  EventRingBuffer(int capacity) {
+    Preconditions.checkArgument(capacity > 0, "The capacity should be greater than 0");
+    this.capacity = capacity;
+    this.events = new AtomicReferenceArray<>(capacity);
+    this.sequences = new AtomicLongArray(capacity);
+    for (int i = 0; i < capacity; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  /**
+   * Add the event to the buffer, this method is safe to be called from multiple threads.
+   *
+   * @param event the event to add
+   * @return true if the event is added, false if the buffer is full
+   */
+  boolean offer(Event event) {
+    while (true) {
+      long index = producerIndex.get();
+      int slot = slotOf(index);
+      long diff = sequences.get(slot) - index;
+      if (diff == 0) {
+        if (producerIndex.compareAndSet(index, index + 1)) {
+          events.lazySet(slot, event);
+          sequences.set(slot, index + 1);
+          return true;
+        }
+      } else if (diff < 0) {
+        // The consumer has not released the slot from the previous lap.
+        return false;
+      }
+      // Another producer claimed the slot, retry with the new index.
+    }
+  }
+
+  /**
+   * Move at most {@code maxEvents} published events to the specified list in the order they were
+   * added, this method must only be called by the consumer thread.
+   *
+   * @param drainTo the list to add the events to
+   * @param maxEvents the maximum number of the events to move
+   * @return the number of the moved events
+   */
+  int drain(List<Event> drainTo, int maxEvents) {
+    long index = consumerIndex.get();
+    int drained = 0;
+    while (drained < maxEvents) {
+      int slot = slotOf(index);
+      if (sequences.get(slot) != index + 1) {
+        break;
+      }
+      drainTo.add(events.get(slot));
+      events.lazySet(slot, null);
+      sequences.set(slot, index + capacity);
+      index++;
+      drained++;
+    }
+    consumerIndex.set(index);
+    return drained;
+  }
+
+  /**
+   * Check whether there is a published event to drain, this method must only be called by the
+   * consumer thread.
+   *
+   * @return true if no event can be drained
+   */
+  boolean isEmpty() {
+    long index = consumerIndex.get();
+    return sequences.get(slotOf(index)) != index + 1;
+  }
+
+  /**
+   * Get the approximate number of events in the buffer, the claimed but not yet published events
+   * are counted.
+   *
+   * @return the number of events in the buffer
+   */
+  int size() {
+    long size = producerIndex.get() - consumerIndex.get();
+    return (int) Math.max(0, Math.min(size, capacity));
+  }
+
+  int capacity() {
+    return capacity;
+  }
+
+  private int slotOf(long index) {
+    return (int) (index % capacity);
+  }
+}
@@ -98,6 +98,26 @@ public class PartitionEventDispatcher implements PartitionDispatcher {
     }
   }
 
+  @Override
+  public Partition[] getPartitions(NameIdentifier ident, String[] partitionNames) {
+    try {
+      Partition[] partitions = dispatcher.getPartitions(ident, partitionNames);
+      for (Partition partition : partitions) {
+        eventBus.dispatchEvent(
+            new GetPartitionEvent(
+                PrincipalUtils.getCurrentUserName(), ident, PartitionInfo.of(partition)));
+      }
+      return partitions;
+    } catch (Exception e) {
+      for (String partitionName : partitionNames) {
+        eventBus.dispatchEvent(
+            new GetPartitionFailureEvent(
+                PrincipalUtils.getCurrentUserName(), ident, e, partitionName));
+      }
+      throw e;
+    }
+  }
+
   @Override
   public boolean dropPartition(NameIdentifier ident, String partitionName) {
     try {
@@ -127,6 +147,19 @@ public class PartitionEventDispatcher implements PartitionDispatcher {
     }
   }
 
+  @Override
+  public Partition[] listPartitions(NameIdentifier ident, String filter) {
+    try {
+      Partition[] listPartitions = dispatcher.listPartitions(ident, filter);
+      eventBus.dispatchEvent(new ListPartitionEvent(PrincipalUtils.getCurrentUserName(), ident));
+      return listPartitions;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListPartitionFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+      throw e;
+    }
+  }
+
   @Override
   public String[] listPartitionNames(NameIdentifier ident) {
     try {
@@ -141,6 +174,35 @@ public class PartitionEventDispatcher implements PartitionDispatcher {
     }
   }
 
+  @Override
+  public String[] listPartitionNames(NameIdentifier ident, String filter) {
+    try {
+      String[] listPartitionNames = dispatcher.listPartitionNames(ident, filter);
+      eventBus.dispatchEvent(
+          new ListPartitionNamesEvent(PrincipalUtils.getCurrentUserName(), ident));
+      return listPartitionNames;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListPartitionNamesFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+      throw e;
+    }
+  }
+
+  @Override
+  public String[] listPartitionNames(
+      NameIdentifier ident, String filter, String afterName, int limit) {
+    try {
+      String[] listPartitionNames = dispatcher.listPartitionNames(ident, filter, afterName, limit);
+      eventBus.dispatchEvent(
+          new ListPartitionNamesEvent(PrincipalUtils.getCurrentUserName(), ident));
+      return listPartitionNames;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListPartitionNamesFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+      throw e;
+    }
+  }
+
   @Override
   public boolean partitionExists(NameIdentifier ident, String partitionName) {
     try {
@@ -19,7 +19,12 @@
 
 package org.apache.gravitino.listener;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.catalog.TableDispatcher;
@@ -98,6 +103,42 @@ public class TableEventDispatcher implements TableDispatcher {
     }
   }
 
+  @Override
+  public Table[] loadTables(NameIdentifier... idents) {
+    // Load the tables schema by schema, so the identifier of each loaded table is known.
+    Map<Namespace, List<NameIdentifier>> identsBySchema =
+        Arrays.stream(idents)
+            .collect(
+                Collectors.groupingBy(
+                    NameIdentifier::namespace, LinkedHashMap::new, Collectors.toList()));
+
+    List<Table> tables = new ArrayList<>(idents.length);
+    for (Map.Entry<Namespace, List<NameIdentifier>> entry : identsBySchema.entrySet()) {
+      Table[] schemaTables;
+      try {
+        schemaTables = dispatcher.loadTables(entry.getValue().toArray(new NameIdentifier[0]));
+      } catch (Exception e) {
+        entry
+            .getValue()
+            .forEach(
+                ident ->
+                    eventBus.dispatchEvent(
+                        new LoadTableFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e)));
+        throw e;
+      }
+
+      for (Table table : schemaTables) {
+        eventBus.dispatchEvent(
+            new LoadTableEvent(
+                PrincipalUtils.getCurrentUserName(),
+                NameIdentifier.of(entry.getKey(), table.name()),
+                new TableInfo(table)));
+        tables.add(table);
+      }
+    }
+    return tables.toArray(new Table[0]);
+  }
+
   @Override
   public Table createTable(
       NameIdentifier ident,
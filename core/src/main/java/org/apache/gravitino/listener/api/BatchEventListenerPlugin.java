@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.listener.api;
+
+import java.util.Collections;
+import java.util.List;
+import org.apache.gravitino.annotation.DeveloperApi;
+import org.apache.gravitino.listener.api.event.Event;
+
+/**
+ * An extension of {@link EventListenerPlugin} for listeners which prefer to process the events in
+ * batches, for example to write them to an external audit system with one request.
+ *
+ * <p>For the asynchronous modes, the dispatcher delivers all the events which are queued for the
+ * listener, up to the configured batch size, with one call to {@link #onPostEvents(List)}. For the
+ * {@code SYNC} mode, every event is delivered as a batch of one.
+ */
+@DeveloperApi
+public interface BatchEventListenerPlugin extends EventListenerPlugin {
+
+  /**
+   * Handles a batch of events generated after the completion of operations. The events are in the
+   * order they were generated.
+   *
+   * @param events The events to be processed, the list must not be modified or retained after the
+   *     method returns.
+   * @throws RuntimeException Indicates issues encountered during event processing.
+   */
+  void onPostEvents(List<Event> events) throws RuntimeException;
+
+  /**
+   * Handles a single event by delivering it as a batch of one.
+   *
+   * @param event The event to be processed.
+   * @throws RuntimeException Indicates issues encountered during event processing.
+   */
+  @Override
+  default void onPostEvent(Event event) throws RuntimeException {
+    onPostEvents(Collections.singletonList(event));
+  }
+}
@@ -46,9 +46,9 @@ public interface EventListenerPlugin {
    *       its own distinct event-processing queue. This mode allows for customized and isolated
    *       event processing but may increase resource consumption due to the necessity of a
    *       dedicated event dispatcher for each listener.
-   *   <li>{@code ASYNC_SHARED} - In this mode, event listeners share a common event-processing
-   *       queue, processing events asynchronously. This approach enhances resource efficiency by
-   *       utilizing a shared dispatcher for handling events across multiple listeners.
+   *   <li>{@code ASYNC_SHARED} - In this mode, event listeners are assembled into one shared
+   *       asynchronous dispatcher, processing events asynchronously. Every listener still consumes
+   *       its own bounded queue on its own thread, so a slow listener does not delay the others.
    * </ul>
    */
   enum Mode {
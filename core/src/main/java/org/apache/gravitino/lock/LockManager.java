@@ -26,6 +26,7 @@ import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
 import java.util.List;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -46,7 +47,7 @@ import org.slf4j.LoggerFactory;
  * <p>It has two main functions: 1. Create the tree lock. 2. Clean up the stale tree lock nodes
  * shared by all tree lock instances.
  */
-public class LockManager {
+public class LockManager implements Closeable {
   private static final Logger LOG = LoggerFactory.getLogger(LockManager.class);
 
   static final NameIdentifier ROOT = NameIdentifier.of("/");
@@ -63,6 +64,12 @@ public class LockManager {
   // The interval in seconds to clean up the stale tree lock nodes.
   @VisibleForTesting long cleanTreeNodeIntervalInSecs;
 
+  // If a thread has been waiting for a tree lock node longer than this value, we will log it.
+  @VisibleForTesting long deadLockThresholdMs = 30000;
+
+  private ScheduledThreadPoolExecutor lockCleaner;
+  private ScheduledThreadPoolExecutor deadLockChecker;
+
   private void initParameters(Config config) {
     long maxNodesInMemory = config.get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     if (maxNodesInMemory <= 0) {
@@ -101,7 +108,7 @@ public class LockManager {
   }
 
   private void startDeadLockChecker() {
-    ScheduledThreadPoolExecutor deadLockChecker =
+    this.deadLockChecker =
         new ScheduledThreadPoolExecutor(
             1,
             new ThreadFactoryBuilder()
@@ -121,7 +128,9 @@ public class LockManager {
   }
 
   /**
-   * Check the deadlock for the given root node.
+   * Check the deadlock for the given root node. The checker samples the threads waiting for the
+   * lock of each node, and reports the node if the same thread has been waiting for it longer
+   * than {@link #deadLockThresholdMs}.
    *
    * @param node The root node to check.
    */
@@ -130,22 +139,18 @@ public class LockManager {
     node.getAllChildren().forEach(this::checkDeadLock);
 
     // Check self
-    node.getHoldingThreadTimestamp()
-        .forEach(
-            (threadIdentifier, ts) -> {
-              // If the thread is holding the lock for more than 30 seconds, we will log it.
-              if (System.currentTimeMillis() - ts > 30000) {
-                LOG.warn(
-                    "Dead lock detected for thread with identifier {} on node {}, threads that holding the node: {} ",
-                    threadIdentifier,
-                    node,
-                    node.getHoldingThreadTimestamp());
-              }
-            });
+    long waitingTimeMs = node.sampleWaitingTime(System.currentTimeMillis());
+    if (waitingTimeMs > deadLockThresholdMs) {
+      LOG.warn(
+          "Dead lock detected on node {}, a thread has been waiting for the node for {} ms, lock state: {}",
+          node,
+          waitingTimeMs,
+          node.describeLockState());
+    }
   }
 
   private void startNodeCleaner() {
-    ScheduledThreadPoolExecutor lockCleaner =
+    this.lockCleaner =
         new ScheduledThreadPoolExecutor(
             1,
             new ThreadFactoryBuilder()
@@ -189,6 +194,13 @@ public class LockManager {
     startDeadLockChecker();
   }
 
+  /** Stops the tree lock cleaner and the deadlock checker. */
+  @Override
+  public void close() {
+    lockCleaner.shutdownNow();
+    deadLockChecker.shutdownNow();
+  }
+
   /**
    * Evict the stale nodes from the tree lock node.
    *
@@ -210,9 +222,10 @@ public class LockManager {
     // Handle self node.
     if (treeNode.getReference() == 0) {
       synchronized (parent) {
-        // Once goes here, the parent node has been locked, so the reference of child (treeNode)
-        // could not be changed.
-        if (treeNode.getReference() == 0) {
+        // Once goes here, the parent node has been locked, so no new node with the same name can
+        // be created. The child (treeNode) may still be referenced without the parent lock, so we
+        // atomically mark it as removed only if it is not referenced.
+        if (treeNode.tryMarkRemoved()) {
           parent.removeChild(treeNode.getName());
           long leftNodeCount = totalNodeCount.decrementAndGet();
           if (LOG.isTraceEnabled()) {
@@ -239,7 +252,8 @@ public class LockManager {
     List<TreeLockNode> treeLockNodes = Lists.newArrayList();
     try {
       TreeLockNode lockNode = treeLockRootNode;
-      lockNode.addReference();
+      // The root node is never removed, so this always succeeds.
+      lockNode.tryAddReference();
       treeLockNodes.add(lockNode);
 
       // Avoid to use value equality instead of reference equality here.
@@ -254,12 +268,17 @@ public class LockManager {
 
       TreeLockNode child;
       for (String level : levels) {
-        synchronized (lockNode) {
-          Pair<TreeLockNode, Boolean> pair = lockNode.getOrCreateChild(level);
-          child = pair.getKey();
-          // If the child node is newly created, we should increase the total node counts.
-          if (pair.getValue()) {
-            totalNodeCount.incrementAndGet();
+        // Fast path: the hot nodes such as the metalake and catalog nodes are already in the tree,
+        // reference them without taking the object lock of their parent.
+        child = lockNode.tryReferenceChild(level);
+        if (child == null) {
+          synchronized (lockNode) {
+            Pair<TreeLockNode, Boolean> pair = lockNode.getOrCreateChild(level);
+            child = pair.getKey();
+            // If the child node is newly created, we should increase the total node counts.
+            if (pair.getValue()) {
+              totalNodeCount.incrementAndGet();
+            }
           }
         }
         treeLockNodes.add(child);
@@ -19,10 +19,7 @@
 
 package org.apache.gravitino.lock;
 
-import java.util.Deque;
 import java.util.List;
-import java.util.concurrent.ConcurrentLinkedDeque;
-import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.NameIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -78,9 +75,11 @@ public class TreeLock {
   // TreeLockNode to be locked
   private final List<TreeLockNode> lockNodes;
 
-  // TreeLockNode that has been locked along with its lock type.
-  private final Deque<Pair<TreeLockNode, LockType>> heldLocks = new ConcurrentLinkedDeque<>();
+  // The number of the nodes in lockNodes that have been locked, the nodes are locked from the root
+  // to the leaf, and only the leaf node is locked with the given lock type.
+  private int lockedNodeCount;
   private LockType lockType;
+  private long lockedTimeMs;
 
   TreeLock(List<TreeLockNode> lockNodes, NameIdentifier identifier) {
     this.lockNodes = lockNodes;
@@ -89,8 +88,8 @@ public class TreeLock {
 
   /**
    * Lock the tree lock with the given lock type. This method locks all nodes in the list, from the
-   * root to the leaf, and pushes them onto the deque. If an exception occurs during the locking
-   * process, it will unlock all nodes that have been locked so far.
+   * root to the leaf. If an exception occurs during the locking process, it will unlock all nodes
+   * that have been locked so far.
    *
    * @param lockType The lock type to lock the tree lock.
    */
@@ -100,22 +99,9 @@ public class TreeLock {
     int length = lockNodes.size();
     for (int i = 0; i < length; i++) {
       TreeLockNode treeLockNode = lockNodes.get(i);
-      LockType type = i == length - 1 ? lockType : LockType.READ;
       try {
-        treeLockNode.lock(type);
-        heldLocks.push(Pair.of(treeLockNode, type));
-
-        treeLockNode.addHoldingThreadTimestamp(
-            Thread.currentThread(), identifier, System.currentTimeMillis());
-        if (LOG.isTraceEnabled()) {
-          LOG.trace(
-              "Node {} has been lock with '{}' lock, hold by {} with ident '{}' at {}",
-              this,
-              lockType,
-              Thread.currentThread(),
-              identifier,
-              System.currentTimeMillis());
-        }
+        treeLockNode.lock(lockTypeOf(i));
+        lockedNodeCount++;
       } catch (Exception e) {
         LOG.error(
             "Failed to lock the treeNode, identifier: {}, node {} of lockNodes: [{}]",
@@ -130,11 +116,13 @@ public class TreeLock {
     }
 
     if (LOG.isTraceEnabled()) {
+      lockedTimeMs = System.currentTimeMillis();
       LOG.trace(
-          "Locked the tree lock, ident: {}, lockNodes: [{}], lock type: {}",
+          "Locked the tree lock, ident: {}, lockNodes: [{}], lock type: {}, hold by {}",
           identifier,
           lockNodes,
-          lockType);
+          lockType,
+          Thread.currentThread());
     }
   }
 
@@ -144,30 +132,23 @@ public class TreeLock {
       throw new IllegalStateException("We must lock the tree lock before unlock it.");
     }
 
-    while (!heldLocks.isEmpty()) {
-      Pair<TreeLockNode, LockType> pair = heldLocks.pop();
-      TreeLockNode current = pair.getLeft();
-      LockType type = pair.getRight();
-      current.unlock(type);
-
-      long holdStartTime = current.removeHoldingThreadTimestamp(Thread.currentThread(), identifier);
-      if (LOG.isTraceEnabled()) {
-        LOG.trace(
-            "Node {} has been unlock with '{}' lock, hold by {} with ident '{}' for {} ms",
-            this,
-            lockType,
-            Thread.currentThread(),
-            identifier,
-            System.currentTimeMillis() - holdStartTime);
-      }
+    // Unlock the nodes in the inverse sequences they are locked.
+    while (lockedNodeCount > 0) {
+      lockedNodeCount--;
+      lockNodes.get(lockedNodeCount).unlock(lockTypeOf(lockedNodeCount));
     }
 
     if (LOG.isTraceEnabled()) {
       LOG.trace(
-          "Unlocked the tree lock, identifier: {}, lockNodes: [{}], lock type: {}",
+          "Unlocked the tree lock, identifier: {}, lockNodes: [{}], lock type: {}, held for {} ms",
           identifier,
           lockNodes,
-          lockType);
+          lockType,
+          System.currentTimeMillis() - lockedTimeMs);
     }
   }
+
+  private LockType lockTypeOf(int nodeIndex) {
+    return nodeIndex == lockNodes.size() - 1 ? lockType : LockType.READ;
+  }
 }
@@ -22,6 +22,7 @@ package org.apache.gravitino.lock;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Objects;
 import com.google.common.collect.Lists;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -29,7 +30,6 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.commons.lang3.tuple.Pair;
-import org.apache.gravitino.NameIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,65 +43,38 @@ import org.slf4j.LoggerFactory;
 public class TreeLockNode {
   public static final Logger LOG = LoggerFactory.getLogger(TreeLockNode.class);
   private final String name;
-  private final ReentrantReadWriteLock readWriteLock;
+  private final InspectableReadWriteLock readWriteLock;
   @VisibleForTesting final Map<String, TreeLockNode> childMap;
 
-  private final Map<ThreadIdentifier, Long> holdingThreadTimestamp = new ConcurrentHashMap<>();
-
   // The reference count of this node. The reference count is used to track the number of the
   // TreeLocks that are using this node. If the reference count is 0, it means that no TreeLock is
-  // using this node, and this node can be removed from the tree.
+  // using this node, and this node can be removed from the tree. A removed node has a reference
+  // count of -1 and can never be referenced again.
   private final AtomicLong referenceCount = new AtomicLong();
 
+  // The waiting thread sampled by the deadlock checker and the time it was first seen waiting.
+  private Thread sampledWaitingThread;
+  private long sampledWaitingSinceMs;
+
   /**
-   * The identifier of a thread. This class is used to identify this tree lock node is held by which
-   * thread and identifier because one thread can hold multiple tree lock nodes at the same time.
-   * For example, a thread can hold the lock of the root node and the lock of the child node at the
-   * same time.
+   * A {@link ReentrantReadWriteLock} that exposes the owner and the queued threads, so the deadlock
+   * checker can sample the state of the lock instead of recording every acquisition.
    */
-  static class ThreadIdentifier {
-    private final Thread thread;
-    private final NameIdentifier ident;
-
-    public ThreadIdentifier(Thread thread, NameIdentifier ident) {
-      this.thread = thread;
-      this.ident = ident;
-    }
-
-    static ThreadIdentifier of(Thread thread, NameIdentifier identifier) {
-      return new ThreadIdentifier(thread, identifier);
-    }
-
-    @Override
-    public boolean equals(Object o) {
-      if (this == o) {
-        return true;
-      }
-      if (!(o instanceof ThreadIdentifier)) {
-        return false;
-      }
-      ThreadIdentifier that = (ThreadIdentifier) o;
-      return Objects.equal(thread, that.thread) && Objects.equal(ident, that.ident);
-    }
-
+  private static class InspectableReadWriteLock extends ReentrantReadWriteLock {
     @Override
-    public int hashCode() {
-      return Objects.hashCode(thread, ident);
+    protected Thread getOwner() {
+      return super.getOwner();
     }
 
     @Override
-    public String toString() {
-      final StringBuilder sb = new StringBuilder("ThreadIdentifier{");
-      sb.append("thread=").append(thread);
-      sb.append(", ident=").append(ident);
-      sb.append('}');
-      return sb.toString();
+    protected Collection<Thread> getQueuedThreads() {
+      return super.getQueuedThreads();
     }
   }
 
   protected TreeLockNode(String name) {
     this.name = name;
-    this.readWriteLock = new ReentrantReadWriteLock();
+    this.readWriteLock = new InspectableReadWriteLock();
     this.childMap = new ConcurrentHashMap<>();
   }
 
@@ -109,38 +82,85 @@ public class TreeLockNode {
     return name;
   }
 
-  Map<ThreadIdentifier, Long> getHoldingThreadTimestamp() {
-    return holdingThreadTimestamp;
-  }
-
-  void addHoldingThreadTimestamp(Thread currentThread, NameIdentifier identifier, long timestamp) {
-    holdingThreadTimestamp.put(ThreadIdentifier.of(currentThread, identifier), timestamp);
-  }
-
-  long removeHoldingThreadTimestamp(Thread currentThread, NameIdentifier identifier) {
-    return holdingThreadTimestamp.remove(ThreadIdentifier.of(currentThread, identifier));
-  }
-
   /**
-   * Increase the reference count of this node. The reference count should always be greater than or
-   * equal to 0.
+   * Increase the reference count of this node if it has not been removed from the tree.
+   *
+   * @return true if the reference count is increased, false if the node has been removed.
    */
-  synchronized void addReference() {
-    referenceCount.getAndIncrement();
+  boolean tryAddReference() {
+    long count;
+    do {
+      count = referenceCount.get();
+      if (count < 0) {
+        return false;
+      }
+    } while (!referenceCount.compareAndSet(count, count + 1));
+    return true;
   }
 
   /**
    * Decrease the reference count of this node. The reference count should always be greater than or
    * equal to 0.
    */
-  synchronized void decReference() {
+  void decReference() {
     referenceCount.getAndDecrement();
   }
 
+  /**
+   * Mark this node as removed if no TreeLock is using it. Once marked, the node can't be referenced
+   * anymore.
+   *
+   * <p>Note: This method should be guarded by the object lock of the parent node.
+   *
+   * @return true if the node is marked as removed, false if the node is still in use.
+   */
+  boolean tryMarkRemoved() {
+    return referenceCount.compareAndSet(0, -1);
+  }
+
   long getReference() {
     return referenceCount.get();
   }
 
+  /**
+   * Sample the threads waiting for the lock of this node. A waiting thread is picked and tracked
+   * across the samples, so that a thread that is stuck can be told apart from a busy node that is
+   * always being waited for by different threads.
+   *
+   * @param nowMs The current time in milliseconds.
+   * @return The time in milliseconds that the tracked thread has been waiting, 0 if no thread is
+   *     waiting.
+   */
+  synchronized long sampleWaitingTime(long nowMs) {
+    if (!readWriteLock.hasQueuedThreads()) {
+      sampledWaitingThread = null;
+      return 0;
+    }
+
+    if (sampledWaitingThread != null && readWriteLock.hasQueuedThread(sampledWaitingThread)) {
+      return nowMs - sampledWaitingSinceMs;
+    }
+
+    Collection<Thread> queuedThreads = readWriteLock.getQueuedThreads();
+    sampledWaitingThread = queuedThreads.isEmpty() ? null : queuedThreads.iterator().next();
+    sampledWaitingSinceMs = nowMs;
+    return 0;
+  }
+
+  /**
+   * Describe the current state of the lock of this node, used to log the detected deadlocks.
+   *
+   * @return The description of the lock state.
+   */
+  String describeLockState() {
+    final StringBuilder sb = new StringBuilder("LockState{");
+    sb.append("writeOwner=").append(readWriteLock.getOwner()).append(",");
+    sb.append("readLockCount=").append(readWriteLock.getReadLockCount()).append(",");
+    sb.append("queuedThreads=").append(readWriteLock.getQueuedThreads());
+    sb.append('}');
+    return sb.toString();
+  }
+
   /**
    * Lock the node with the given lock type. This method should be followed by {@link
    * #unlock(LockType)}.
@@ -172,6 +192,19 @@ public class TreeLockNode {
     this.referenceCount.decrementAndGet();
   }
 
+  /**
+   * Get the tree lock node by the given name and increase its reference count without taking the
+   * object lock. This is the fast path for the nodes that are already in the tree.
+   *
+   * @param name The name of a resource such as entity or others.
+   * @return The referenced tree lock node, or null if the node doesn't exist or is being removed,
+   *     then {@link #getOrCreateChild(String)} should be used.
+   */
+  TreeLockNode tryReferenceChild(String name) {
+    TreeLockNode childNode = childMap.get(name);
+    return childNode != null && childNode.tryAddReference() ? childNode : null;
+  }
+
   /**
    * Get the tree lock node by the given name. If the node doesn't exist, create a new TreeNode.
    *
@@ -195,7 +228,9 @@ public class TreeLockNode {
               return newNode;
             });
 
-    childNode.addReference();
+    // The node in the child map can't be removed while the object lock is held, so this always
+    // succeeds.
+    childNode.tryAddReference();
     return Pair.of(childNode, newCreated[0]);
   }
 
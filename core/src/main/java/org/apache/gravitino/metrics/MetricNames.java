@@ -22,6 +22,25 @@ package org.apache.gravitino.metrics;
 public class MetricNames {
   public static final String HTTP_PROCESS_DURATION = "http-request-duration-seconds";
   public static final String SERVER_IDLE_THREAD_NUM = "http-server.idle-thread.num";
+  public static final String SERVER_RESPONSE_COMPRESSION_BYTES_SAVED =
+      "http-server.response-compression.bytes-saved";
+  public static final String ENTITY_CACHE_HIT_COUNT = "entity-cache.hit.count";
+  public static final String ENTITY_CACHE_MISS_COUNT = "entity-cache.miss.count";
+  public static final String ENTITY_CACHE_SIZE = "entity-cache.size";
+  public static final String FILESET_CACHE_HIT_COUNT = "fileset-cache.hit.count";
+  public static final String FILESET_CACHE_MISS_COUNT = "fileset-cache.miss.count";
+  public static final String FILESET_CACHE_HIT_RATIO = "fileset-cache.hit.ratio";
+  public static final String FILESET_CACHE_SIZE = "fileset-cache.size";
+  public static final String CLIENT_POOL_BORROW_WAIT = "client-pool.borrow-wait";
+  public static final String CLIENT_POOL_IN_USE = "client-pool.in-use";
+  public static final String CLIENT_POOL_IDLE = "client-pool.idle";
+  public static final String CLIENT_POOL_WAITING = "client-pool.waiting";
+  public static final String EVENT_QUEUE_SIZE = "event-queue.size";
+  public static final String EVENT_QUEUE_DROPPED_COUNT = "event-queue.dropped.count";
+  public static final String ICEBERG_METRICS_QUEUE_SIZE = "metrics-queue.size";
+  public static final String ICEBERG_METRICS_DROPPED_COUNT = "metrics-queue.dropped.count";
+  public static final String ICEBERG_METRICS_FLUSH_DURATION = "metrics-flush.duration";
+  public static final String ICEBERG_METRICS_FLUSH_FAILED_COUNT = "metrics-flush.failed.count";
 
   private MetricNames() {}
 }
@@ -177,7 +177,13 @@ public class MetricsSystem implements Closeable {
         new MapperConfig(
             MetricsSource.GRAVITINO_SERVER_METRIC_NAME + ".*.*",
             MetricsSource.GRAVITINO_SERVER_METRIC_NAME + "_${1}",
-            ImmutableMap.of("operation", "${0}")));
+            ImmutableMap.of("operation", "${0}")),
+        // The Hive catalog registers a client pool for each user, named
+        // "hive-catalog.{metalake}.{catalog}.{user}.client-pool.{metric}".
+        new MapperConfig(
+            MetricsSource.HIVE_CATALOG_METRIC_NAME + ".*.*.*.client-pool.*",
+            "client_pool_${3}",
+            ImmutableMap.of("metalake", "${0}", "catalog", "${1}", "user", "${2}")));
   }
 
   private void registerMetricsToPrometheusRegistry() {
@@ -41,6 +41,11 @@ public abstract class MetricsSource {
   public static final String ICEBERG_REST_SERVER_METRIC_NAME = "iceberg-rest-server";
   public static final String GRAVITINO_SERVER_METRIC_NAME = "gravitino-server";
   public static final String JVM_METRIC_NAME = "jvm";
+  public static final String ENTITY_STORE_METRIC_NAME = "entity-store";
+  public static final String EVENT_LISTENER_METRIC_NAME = "event-listener";
+  public static final String ICEBERG_METRICS_STORE_METRIC_NAME = "iceberg-metrics-store";
+  public static final String HADOOP_CATALOG_METRIC_NAME = "hadoop-catalog";
+  public static final String HIVE_CATALOG_METRIC_NAME = "hive-catalog";
   private final MetricRegistry metricRegistry;
   private final String metricsSourceName;
   private final int timeSlidingWindowSeconds;
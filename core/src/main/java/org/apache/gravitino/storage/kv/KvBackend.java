@@ -21,6 +21,7 @@ package org.apache.gravitino.storage.kv;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Config;
@@ -48,6 +49,20 @@ public interface KvBackend extends Closeable {
   void put(byte[] key, byte[] value, boolean overwrite)
       throws IOException, EntityAlreadyExistsException;
 
+  /**
+   * Stores the key-value pairs in one batch, overwriting the existing values. The default
+   * implementation stores the pairs one by one, the implementations that support atomic batch
+   * writes should override it.
+   *
+   * @param pairs The key-value pairs to store.
+   * @throws IOException If an I/O exception occurs during the operation.
+   */
+  default void batchPut(List<Pair<byte[], byte[]>> pairs) throws IOException {
+    for (Pair<byte[], byte[]> pair : pairs) {
+      put(pair.getKey(), pair.getValue(), true);
+    }
+  }
+
   /**
    * Retrieves the value associated with a given key.
    *
@@ -57,6 +72,22 @@ public interface KvBackend extends Closeable {
    */
   byte[] get(byte[] key) throws IOException;
 
+  /**
+   * Retrieves the values associated with the given keys. The default implementation retrieves the
+   * values one by one, the implementations that support batch lookups should override it.
+   *
+   * @param keys The keys to retrieve the values for.
+   * @return The values in the same order as the keys, the value is null if the key does not exist.
+   * @throws IOException If an I/O exception occurs during retrieval.
+   */
+  default List<byte[]> multiGet(List<byte[]> keys) throws IOException {
+    List<byte[]> values = new ArrayList<>(keys.size());
+    for (byte[] key : keys) {
+      values.add(get(key));
+    }
+    return values;
+  }
+
   /**
    * Deletes the key-value pair associated with the given key.
    *
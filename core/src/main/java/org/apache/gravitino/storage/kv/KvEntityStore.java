@@ -302,6 +302,59 @@ public class KvEntityStore implements EntityStore {
         });
   }
 
+  // The batch operations run in one transaction, so all the values written by them are committed
+  // with a single RocksDB write batch.
+  @Override
+  public <E extends Entity & HasIdentifier> void batchPut(List<E> entities, boolean overwritten)
+      throws IOException, EntityAlreadyExistsException {
+    executeInTransaction(
+        () -> {
+          for (E e : entities) {
+            byte[] key = entityKeyEncoder.encode(e.nameIdentifier(), e.type());
+            transactionalKvBackend.put(key, serDe.serialize(e), overwritten);
+          }
+          return null;
+        });
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> batchGet(
+      List<NameIdentifier> idents, EntityType entityType, Class<E> e) throws IOException {
+    List<byte[]> values =
+        executeInTransaction(
+            () -> {
+              List<byte[]> result = Lists.newArrayListWithCapacity(idents.size());
+              for (NameIdentifier ident : idents) {
+                byte[] key = entityKeyEncoder.encode(ident, entityType, true);
+                result.add(key == null ? null : transactionalKvBackend.get(key));
+              }
+              return result;
+            });
+
+    List<E> entities = Lists.newArrayListWithCapacity(idents.size());
+    for (int i = 0; i < idents.size(); i++) {
+      if (values.get(i) != null) {
+        entities.add(serDe.deserialize(values.get(i), e, idents.get(i).namespace()));
+      }
+    }
+    return entities;
+  }
+
+  @Override
+  public int batchDelete(List<NameIdentifier> idents, EntityType entityType, boolean cascade)
+      throws IOException {
+    return executeInTransaction(
+        () -> {
+          int deleted = 0;
+          for (NameIdentifier ident : idents) {
+            if (delete(ident, entityType, cascade)) {
+              deleted++;
+            }
+          }
+          return deleted;
+        });
+  }
+
   private void unbindNameAndId(NameIdentifier ident, EntityType entityType) throws IOException {
     String identNameToIdKey = generateKeyForMapping(ident, entityType, nameMappingService);
     nameMappingService.unbindNameAndId(identNameToIdKey);
@@ -34,10 +34,14 @@ import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.utils.ByteUtils;
 import org.apache.gravitino.utils.Bytes;
 import org.rocksdb.Options;
+import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
+import org.rocksdb.Slice;
 import org.rocksdb.TransactionDB;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -131,6 +135,23 @@ public class RocksDBKvBackend implements KvBackend {
     db.put(key, value);
   }
 
+  @Override
+  public void batchPut(List<Pair<byte[], byte[]>> pairs) throws IOException {
+    if (pairs.isEmpty()) {
+      return;
+    }
+
+    try (WriteBatch writeBatch = new WriteBatch();
+        WriteOptions writeOptions = new WriteOptions()) {
+      for (Pair<byte[], byte[]> pair : pairs) {
+        writeBatch.put(pair.getKey(), pair.getValue());
+      }
+      db.write(writeOptions, writeBatch);
+    } catch (RocksDBException e) {
+      throw new IOException(e);
+    }
+  }
+
   @Override
   public byte[] get(byte[] key) throws IOException {
     try {
@@ -141,9 +162,26 @@ public class RocksDBKvBackend implements KvBackend {
   }
 
   @Override
-  public List<Pair<byte[], byte[]>> scan(KvRange scanRange) throws IOException {
-    RocksIterator rocksIterator = db.newIterator();
+  public List<byte[]> multiGet(List<byte[]> keys) throws IOException {
+    if (keys.isEmpty()) {
+      return Lists.newArrayList();
+    }
+
     try {
+      return db.multiGetAsList(keys);
+    } catch (RocksDBException e) {
+      throw new IOException(e);
+    }
+  }
+
+  @Override
+  public List<Pair<byte[], byte[]>> scan(KvRange scanRange) throws IOException {
+    // Bound the iterator so RocksDB stops at the end of the range instead of reading ahead into
+    // the keys after it. The upper bound is exclusive, so we use the smallest key greater than the
+    // end key to keep the end key itself visible.
+    try (Slice upperBound = new Slice(Bytes.concat(scanRange.getEnd(), new byte[] {0x00}));
+        ReadOptions readOptions = new ReadOptions().setIterateUpperBound(upperBound);
+        RocksIterator rocksIterator = db.newIterator(readOptions)) {
       rocksIterator.seek(scanRange.getStart());
 
       List<Pair<byte[], byte[]>> result = Lists.newArrayList();
@@ -179,8 +217,6 @@ public class RocksDBKvBackend implements KvBackend {
         rocksIterator.next();
       }
       return result;
-    } finally {
-      rocksIterator.close();
     }
   }
 
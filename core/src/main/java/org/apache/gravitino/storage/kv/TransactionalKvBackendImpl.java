@@ -19,11 +19,17 @@
 
 package org.apache.gravitino.storage.kv;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import javax.annotation.concurrent.ThreadSafe;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.SerializationUtils;
@@ -74,6 +80,11 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
 
   @VisibleForTesting final ThreadLocal<Long> txId = new ThreadLocal<>();
 
+  // The ids of the transactions that are known to be committed, used to avoid looking up the
+  // commit mark for every version of a key during reads and scans.
+  private final Cache<Bytes, Boolean> committedTransactionIds =
+      Caffeine.newBuilder().maximumSize(MAX_CACHED_COMMITTED_TRANSACTIONS).build();
+
   // 0x1E is control character RS
   private static final byte[] TRANSACTION_PREFIX = {0x1E};
 
@@ -88,6 +99,11 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
   private static final int LENGTH_OF_SEPARATOR = SEPARATOR.length;
   private static final int LENGTH_OF_VALUE_STATUS = Byte.BYTES;
 
+  // The number of raw key-value pairs read from the underlying backend in one scan batch.
+  @VisibleForTesting static final int SCAN_BATCH_SIZE = 1000;
+
+  private static final long MAX_CACHED_COMMITTED_TRANSACTIONS = 100_000L;
+
   public TransactionalKvBackendImpl(
       KvBackend kvBackend, TransactionIdGenerator transactionIdGenerator) {
     this.kvBackend = kvBackend;
@@ -111,16 +127,16 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
         return;
       }
 
-      // Prepare
-      for (Pair<byte[], byte[]> pair : putPairs.get()) {
-        kvBackend.put(pair.getKey(), pair.getValue(), true);
-      }
+      // Prepare, all the values of the transaction are written in one batch
+      kvBackend.batchPut(putPairs.get());
 
       // Commit
       kvBackend.put(
           generateCommitKey(txId.get()),
           SerializationUtils.serialize((Serializable) originalKeys.get()),
           true);
+      committedTransactionIds.put(
+          Bytes.wrap(revertByteArray(ByteUtils.longToByte(txId.get()))), Boolean.TRUE);
     } finally {
       putPairs.get().clear();
       originalKeys.get().clear();
@@ -214,54 +230,69 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
       endInclude = false;
     }
 
-    KvRange kvRange =
-        new KvRange.KvRangeBuilder()
-            .start(scanRange.getStart())
-            .end(end)
-            .startInclusive(scanRange.isStartInclusive())
-            .endInclusive(endInclude)
-            .predicate(
-                (k, v) -> {
-                  byte[] transactionId = getBinaryTransactionId(k);
-                  return kvBackend.get(generateCommitKey(transactionId)) != null;
-                })
-            .limit(Integer.MAX_VALUE)
-            .build();
-
-    List<Pair<byte[], byte[]>> rawPairs = kvBackend.scan(kvRange);
     List<Pair<byte[], byte[]>> result = Lists.newArrayList();
-    int i = 0, j = 0;
-    while (i < scanRange.getLimit() && j < rawPairs.size()) {
-      Pair<byte[], byte[]> pair = rawPairs.get(j);
-      byte[] rawKey = pair.getKey();
-      byte[] realKey = getRealKey(rawKey);
-      Bytes minNextKey = Bytes.increment(Bytes.wrap(Bytes.concat(realKey, SEPARATOR)));
-
-      // If the start key is exclusive and the key is equal to the start key, we need to skip it.
-      if (!scanRange.isStartInclusive()
-          && Bytes.wrap(realKey).compareTo(scanRange.getStart()) == 0) {
-        while (j < rawPairs.size() && minNextKey.compareTo(rawPairs.get(j).getKey()) >= 0) {
-          j++;
-        }
-        continue;
-      }
-
-      // If the end key is exclusive and the key is equal to the end key, we need to skip it.
-      if (!scanRange.isEndInclusive() && Bytes.wrap(realKey).compareTo(scanRange.getEnd()) == 0) {
+    // The real key whose latest committed version has been handled, the older versions of it are
+    // skipped even if they are returned by the next batch of raw key-value pairs.
+    byte[] handledKey = null;
+    byte[] start = scanRange.getStart();
+    boolean startInclude = scanRange.isStartInclusive();
+    while (result.size() < scanRange.getLimit()) {
+      // Read the raw key-value pairs batch by batch, so a scan with a small limit doesn't need to
+      // read all versions in the range and the visibility of a whole batch is resolved at once
+      // instead of one commit mark lookup per version.
+      List<Pair<byte[], byte[]>> rawPairs =
+          kvBackend.scan(
+              new KvRange.KvRangeBuilder()
+                  .start(start)
+                  .end(end)
+                  .startInclusive(startInclude)
+                  .endInclusive(endInclude)
+                  .limit(SCAN_BATCH_SIZE)
+                  .build());
+      if (rawPairs.isEmpty()) {
         break;
       }
 
-      byte[] value = getRealValue(pair.getValue());
-      if (value != null) {
-        result.add(Pair.of(realKey, value));
-        i++;
+      Set<Bytes> committedTransactionIds = getCommittedTransactionIds(rawPairs);
+      for (Pair<byte[], byte[]> pair : rawPairs) {
+        byte[] rawKey = pair.getKey();
+        if (!committedTransactionIds.contains(Bytes.wrap(getBinaryTransactionId(rawKey)))) {
+          continue;
+        }
+
+        // Skip all older versions of the same key.
+        byte[] realKey = getRealKey(rawKey);
+        if (handledKey != null && Arrays.equals(handledKey, realKey)) {
+          continue;
+        }
+        handledKey = realKey;
+
+        // If the start key is exclusive and the key is equal to the start key, we need to skip it.
+        if (!scanRange.isStartInclusive()
+            && Bytes.wrap(realKey).compareTo(scanRange.getStart()) == 0) {
+          continue;
+        }
+
+        // If the end key is exclusive and the key is equal to the end key, we need to skip it.
+        if (!scanRange.isEndInclusive()
+            && Bytes.wrap(realKey).compareTo(scanRange.getEnd()) == 0) {
+          return result;
+        }
+
+        byte[] value = getRealValue(pair.getValue());
+        if (value != null) {
+          result.add(Pair.of(realKey, value));
+          if (result.size() >= scanRange.getLimit()) {
+            return result;
+          }
+        }
       }
 
-      j++;
-      // Skip all versions of the same key.
-      while (j < rawPairs.size() && minNextKey.compareTo(rawPairs.get(j).getKey()) >= 0) {
-        j++;
+      if (rawPairs.size() < SCAN_BATCH_SIZE) {
+        break;
       }
+      start = rawPairs.get(rawPairs.size() - 1).getKey();
+      startInclude = false;
     }
 
     return result;
@@ -305,11 +336,7 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
                 .startInclusive(false)
                 .end(endOfKey(key))
                 .endInclusive(false)
-                .predicate(
-                    (k, v) -> {
-                      byte[] transactionId = getBinaryTransactionId(k);
-                      return kvBackend.get(generateCommitKey(transactionId)) != null;
-                    })
+                .predicate((k, v) -> isCommitted(getBinaryTransactionId(k)))
                 .limit(1)
                 .build());
 
@@ -320,6 +347,55 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
     return pairs.get(0).getValue();
   }
 
+  /**
+   * Check whether the transaction has been committed. A committed transaction can never become
+   * uncommitted, so only the committed ones are cached. The commit mark is removed by the garbage
+   * collector only after all the keys of the transaction are removed.
+   */
+  private boolean isCommitted(byte[] binaryTransactionId) throws IOException {
+    Bytes transactionId = Bytes.wrap(binaryTransactionId);
+    if (committedTransactionIds.getIfPresent(transactionId) != null) {
+      return true;
+    }
+
+    if (kvBackend.get(generateCommitKey(binaryTransactionId)) == null) {
+      return false;
+    }
+    committedTransactionIds.put(transactionId, Boolean.TRUE);
+    return true;
+  }
+
+  /** Get the committed transaction ids among the raw key-value pairs with one multi-get. */
+  private Set<Bytes> getCommittedTransactionIds(List<Pair<byte[], byte[]>> rawPairs)
+      throws IOException {
+    Set<Bytes> committed = Sets.newHashSet();
+    Set<Bytes> unknown = Sets.newLinkedHashSet();
+    for (Pair<byte[], byte[]> pair : rawPairs) {
+      Bytes transactionId = Bytes.wrap(getBinaryTransactionId(pair.getKey()));
+      if (committedTransactionIds.getIfPresent(transactionId) != null) {
+        committed.add(transactionId);
+      } else {
+        unknown.add(transactionId);
+      }
+    }
+
+    if (unknown.isEmpty()) {
+      return committed;
+    }
+
+    List<Bytes> transactionIds = Lists.newArrayList(unknown);
+    List<byte[]> commitKeys =
+        transactionIds.stream().map(id -> generateCommitKey(id.get())).collect(Collectors.toList());
+    List<byte[]> commitMarks = kvBackend.multiGet(commitKeys);
+    for (int i = 0; i < transactionIds.size(); i++) {
+      if (commitMarks.get(i) != null) {
+        committed.add(transactionIds.get(i));
+        committedTransactionIds.put(transactionIds.get(i), Boolean.TRUE);
+      }
+    }
+    return committed;
+  }
+
   /**
    * Revert the bytes, Why we need to revert the bytes? Because we use the transaction id to
    * construct a row key and need to place the latest version of the same key first. That is to say,
@@ -51,6 +51,7 @@ import org.apache.gravitino.meta.UserEntity;
 import org.apache.gravitino.storage.relational.converters.SQLExceptionConverterFactory;
 import org.apache.gravitino.storage.relational.database.H2Database;
 import org.apache.gravitino.storage.relational.service.CatalogMetaService;
+import org.apache.gravitino.storage.relational.service.CommonMetaService;
 import org.apache.gravitino.storage.relational.service.FilesetMetaService;
 import org.apache.gravitino.storage.relational.service.GroupMetaService;
 import org.apache.gravitino.storage.relational.service.MetalakeMetaService;
@@ -84,6 +85,7 @@ public class JDBCBackend implements RelationalBackend {
 
     SqlSessionFactoryHelper.getInstance().init(config);
     SQLExceptionConverterFactory.initConverter(config);
+    CommonMetaService.getInstance().initialize(config);
   }
 
   @Override
@@ -247,6 +249,36 @@ public class JDBCBackend implements RelationalBackend {
     }
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> void batchInsert(List<E> entities, boolean overwritten)
+      throws EntityAlreadyExistsException, IOException {
+    if (!entities.isEmpty() && entities.stream().allMatch(e -> e instanceof TableEntity)) {
+      TableMetaService.getInstance()
+          .batchInsertTables((List<TableEntity>) (List<?>) entities, overwritten);
+      return;
+    }
+    RelationalBackend.super.batchInsert(entities, overwritten);
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> batchGet(
+      List<NameIdentifier> idents, Entity.EntityType entityType) throws IOException {
+    if (entityType == Entity.EntityType.TABLE) {
+      return (List<E>) TableMetaService.getInstance().batchGetTablesByIdentifiers(idents);
+    }
+    return RelationalBackend.super.batchGet(idents, entityType);
+  }
+
+  @Override
+  public int batchDelete(List<NameIdentifier> idents, Entity.EntityType entityType, boolean cascade)
+      throws IOException {
+    // Tables have no sub-entities, so the cascade flag doesn't matter.
+    if (entityType == Entity.EntityType.TABLE) {
+      return TableMetaService.getInstance().batchDeleteTables(idents);
+    }
+    return RelationalBackend.super.batchDelete(idents, entityType, cascade);
+  }
+
   @Override
   public int hardDeleteLegacyData(Entity.EntityType entityType, long legacyTimeline)
       throws IOException {
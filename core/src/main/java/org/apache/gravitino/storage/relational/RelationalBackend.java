@@ -18,6 +18,7 @@
  */
 package org.apache.gravitino.storage.relational;
 
+import com.google.common.collect.Lists;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.List;
@@ -120,6 +121,74 @@ public interface RelationalBackend
   boolean delete(NameIdentifier ident, Entity.EntityType entityType, boolean cascade)
       throws IOException;
 
+  /**
+   * Stores the entities in one batch, possibly overwriting the existing entities if specified. The
+   * default implementation stores the entities one by one.
+   *
+   * @param entities The entities which need be stored.
+   * @param overwritten If true, overwrites the existing values.
+   * @throws EntityAlreadyExistsException If one of the entities already exists and overwrite is
+   *     false.
+   * @throws IOException If the store operation fails
+   */
+  default <E extends Entity & HasIdentifier> void batchInsert(List<E> entities, boolean overwritten)
+      throws EntityAlreadyExistsException, IOException {
+    for (E e : entities) {
+      insert(e, overwritten);
+    }
+  }
+
+  /**
+   * Retrieves the entities associated with the identifiers and the entity type in one batch. The
+   * default implementation retrieves the entities one by one.
+   *
+   * @param idents The identifiers of the entities.
+   * @param entityType The type of the entities.
+   * @return The existing entities, in the order of the identifiers.
+   * @throws IOException If an I/O exception occurs during retrieval.
+   */
+  default <E extends Entity & HasIdentifier> List<E> batchGet(
+      List<NameIdentifier> idents, Entity.EntityType entityType) throws IOException {
+    List<E> entities = Lists.newArrayListWithCapacity(idents.size());
+    for (NameIdentifier ident : idents) {
+      try {
+        E e = get(ident, entityType);
+        if (e != null) {
+          entities.add(e);
+        }
+      } catch (NoSuchEntityException nse) {
+        // Skip the entities that don't exist.
+      }
+    }
+    return entities;
+  }
+
+  /**
+   * Soft deletes the entities associated with the identifiers and the entity type in one batch.
+   * The default implementation deletes the entities one by one.
+   *
+   * @param idents The identifiers of the entities.
+   * @param entityType The type of the entities.
+   * @param cascade True, If you need to cascade delete entities, else false.
+   * @return The count of the deleted entities.
+   * @throws IOException If the store operation fails
+   */
+  default int batchDelete(
+      List<NameIdentifier> idents, Entity.EntityType entityType, boolean cascade)
+      throws IOException {
+    int deleted = 0;
+    for (NameIdentifier ident : idents) {
+      try {
+        if (delete(ident, entityType, cascade)) {
+          deleted++;
+        }
+      } catch (NoSuchEntityException nse) {
+        // Skip the entities that don't exist.
+      }
+    }
+    return deleted;
+  }
+
   /**
    * Permanently deletes the legacy data that has been marked as deleted before the given legacy
    * timeline.
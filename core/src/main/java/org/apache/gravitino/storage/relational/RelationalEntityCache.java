@@ -0,0 +1,368 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CACHE_EXPIRE_TIME_MS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CACHE_MAX_ENTRIES;
+
+import com.codahale.metrics.Counter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.HasIdentifier;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.MetricsSource;
+import org.apache.gravitino.utils.Executable;
+import org.apache.gravitino.utils.InvalidationFence;
+
+/**
+ * A size and TTL bounded cache in front of the {@link RelationalBackend}. Entities are keyed by
+ * their {@link NameIdentifier} and {@link Entity.EntityType}, and the results of list operations
+ * are keyed by the {@link Namespace} they are listed from.
+ *
+ * <p>Only the metadata object entities are cached, entities such as users, groups, roles and tags
+ * are maintained through relations and are always read from the backend. Any write to an
+ * identifier invalidates the identifier itself, all the entities and lists under it, and the list
+ * of its parent namespace, so cascade deletes and renames never leave stale children behind. Writes
+ * to the leaf entities such as tables are invalidated with direct lookups, only the writes to the
+ * metalakes, catalogs and schemas have to scan the cache for their children.
+ */
+public class RelationalEntityCache implements Closeable {
+
+  private static final Set<Entity.EntityType> CACHEABLE_ENTITY_TYPES =
+      ImmutableSet.of(
+          Entity.EntityType.METALAKE,
+          Entity.EntityType.CATALOG,
+          Entity.EntityType.SCHEMA,
+          Entity.EntityType.TABLE,
+          Entity.EntityType.FILESET,
+          Entity.EntityType.TOPIC);
+
+  // The length of the namespaces of the tables, filesets and topics, which have no children.
+  private static final int LEAF_NAMESPACE_LENGTH = 3;
+
+  private final Cache<Pair<NameIdentifier, Entity.EntityType>, Entity> entityCache;
+
+  // Keyed by the namespace, the value holds the lists of each entity type and field selection.
+  private final Cache<Namespace, Map<Pair<Entity.EntityType, Boolean>, List<? extends Entity>>>
+      listCache;
+
+  // The loads that race with a write will not populate the cache.
+  private final InvalidationFence invalidationFence = new InvalidationFence();
+
+  private final EntityCacheMetricsSource metricsSource;
+
+  public RelationalEntityCache(Config config) {
+    long maxEntries = config.get(ENTITY_RELATIONAL_CACHE_MAX_ENTRIES);
+    long expireTimeMs = config.get(ENTITY_RELATIONAL_CACHE_EXPIRE_TIME_MS);
+
+    this.entityCache =
+        Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(expireTimeMs, TimeUnit.MILLISECONDS)
+            .build();
+    this.listCache =
+        Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(expireTimeMs, TimeUnit.MILLISECONDS)
+            .build();
+
+    this.metricsSource = new EntityCacheMetricsSource();
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+  }
+
+  /**
+   * Get the entity from the cache, or load it with the specified loader if it is not cached.
+   *
+   * @param ident the name identifier of the entity
+   * @param entityType the type of the entity
+   * @param loader the loader to load the entity from the backend
+   * @param <E> the class of the entity
+   * @return the cached or loaded entity
+   * @throws IOException if the loader fails
+   */
+  @SuppressWarnings("unchecked")
+  public <E extends Entity & HasIdentifier> E get(
+      NameIdentifier ident, Entity.EntityType entityType, Executable<E, IOException> loader)
+      throws IOException {
+    if (!CACHEABLE_ENTITY_TYPES.contains(entityType)) {
+      return loader.execute();
+    }
+
+    Pair<NameIdentifier, Entity.EntityType> key = Pair.of(ident, entityType);
+    Entity cached = entityCache.getIfPresent(key);
+    if (cached != null) {
+      metricsSource.hitCounter.inc();
+      return (E) cached;
+    }
+
+    metricsSource.missCounter.inc();
+    long loadGeneration = invalidationFence.generation();
+    E entity = loader.execute();
+    invalidationFence.putIfNotInvalidated(loadGeneration, () -> entityCache.put(key, entity));
+    return entity;
+  }
+
+  /**
+   * Get the entities from the cache, the ones that are not cached are loaded with the specified
+   * loader in one batch.
+   *
+   * @param idents the name identifiers of the entities
+   * @param entityType the type of the entities
+   * @param loader the loader to load the missing entities from the backend
+   * @param <E> the class of the entity
+   * @return the cached or loaded entities in the order of the identifiers, the entities that don't
+   *     exist are skipped
+   * @throws IOException if the loader fails
+   */
+  @SuppressWarnings("unchecked")
+  public <E extends Entity & HasIdentifier> List<E> getAll(
+      List<NameIdentifier> idents, Entity.EntityType entityType, BatchLoader<E> loader)
+      throws IOException {
+    if (!CACHEABLE_ENTITY_TYPES.contains(entityType)) {
+      return loader.load(idents);
+    }
+
+    Map<NameIdentifier, E> entities = Maps.newHashMapWithExpectedSize(idents.size());
+    List<NameIdentifier> missingIdents = Lists.newArrayList();
+    for (NameIdentifier ident : idents) {
+      Entity cached = entityCache.getIfPresent(Pair.of(ident, entityType));
+      if (cached != null) {
+        metricsSource.hitCounter.inc();
+        entities.put(ident, (E) cached);
+      } else {
+        metricsSource.missCounter.inc();
+        missingIdents.add(ident);
+      }
+    }
+
+    if (!missingIdents.isEmpty()) {
+      long loadGeneration = invalidationFence.generation();
+      List<E> loaded = loader.load(missingIdents);
+      for (E entity : loaded) {
+        entities.put(entity.nameIdentifier(), entity);
+      }
+      invalidationFence.putIfNotInvalidated(
+          loadGeneration,
+          () ->
+              loaded.forEach(
+                  entity -> entityCache.put(Pair.of(entity.nameIdentifier(), entityType), entity)));
+    }
+
+    List<E> result = Lists.newArrayListWithCapacity(entities.size());
+    for (NameIdentifier ident : idents) {
+      E entity = entities.get(ident);
+      if (entity != null) {
+        result.add(entity);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * List the entities from the cache, or load them with the specified loader if they are not
+   * cached.
+   *
+   * @param namespace the namespace of the entities
+   * @param entityType the type of the entities
+   * @param allFields whether all the fields of the entities are loaded
+   * @param loader the loader to list the entities from the backend
+   * @param <E> the class of the entity
+   * @return the cached or loaded entities
+   * @throws IOException if the loader fails
+   */
+  @SuppressWarnings("unchecked")
+  public <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace,
+      Entity.EntityType entityType,
+      boolean allFields,
+      Executable<List<E>, IOException> loader)
+      throws IOException {
+    if (!CACHEABLE_ENTITY_TYPES.contains(entityType)) {
+      return loader.execute();
+    }
+
+    Pair<Entity.EntityType, Boolean> key = Pair.of(entityType, allFields);
+    Map<Pair<Entity.EntityType, Boolean>, List<? extends Entity>> lists =
+        listCache.getIfPresent(namespace);
+    List<? extends Entity> cached = lists == null ? null : lists.get(key);
+    if (cached != null) {
+      metricsSource.hitCounter.inc();
+      return Lists.newArrayList((List<E>) cached);
+    }
+
+    metricsSource.missCounter.inc();
+    long loadGeneration = invalidationFence.generation();
+    List<E> entities = loader.execute();
+    List<E> copy = ImmutableList.copyOf(entities);
+    invalidationFence.putIfNotInvalidated(
+        loadGeneration,
+        () -> listCache.get(namespace, ns -> new ConcurrentHashMap<>()).put(key, copy));
+    return entities;
+  }
+
+  /**
+   * Check whether the entity is in the cache. Only a positive answer is meaningful, a missing entry
+   * means that the backend has to be consulted.
+   *
+   * @param ident the name identifier of the entity
+   * @param entityType the type of the entity
+   * @return true if the entity is cached, false otherwise
+   */
+  public boolean contains(NameIdentifier ident, Entity.EntityType entityType) {
+    boolean cached = entityCache.getIfPresent(Pair.of(ident, entityType)) != null;
+    if (cached) {
+      metricsSource.hitCounter.inc();
+    } else {
+      metricsSource.missCounter.inc();
+    }
+    return cached;
+  }
+
+  /**
+   * Invalidate the entity with the specified identifier, all the entities and lists under it, and
+   * the list of the namespace it belongs to.
+   *
+   * @param ident the name identifier of the changed entity
+   */
+  public void invalidate(NameIdentifier ident) {
+    invalidate(Collections.singletonList(ident));
+  }
+
+  /**
+   * Invalidate the entities with the specified identifiers in one pass over the cache, see {@link
+   * #invalidate(NameIdentifier)}.
+   *
+   * @param idents the name identifiers of the changed entities
+   */
+  public void invalidate(Collection<NameIdentifier> idents) {
+    if (idents.isEmpty()) {
+      return;
+    }
+
+    invalidationFence.invalidate(() -> invalidateUnderFence(idents));
+  }
+
+  private void invalidateUnderFence(Collection<NameIdentifier> idents) {
+    // The prefixes of the metalakes, catalogs and schemas, whose children must be scanned for.
+    Set<List<String>> prefixes = Sets.newHashSet();
+    for (NameIdentifier ident : idents) {
+      listCache.invalidate(ident.namespace());
+      if (ident.namespace().length() >= LEAF_NAMESPACE_LENGTH) {
+        for (Entity.EntityType entityType : CACHEABLE_ENTITY_TYPES) {
+          entityCache.invalidate(Pair.of(ident, entityType));
+        }
+      } else {
+        prefixes.add(Arrays.asList(toLevels(ident)));
+      }
+    }
+
+    if (!prefixes.isEmpty()) {
+      entityCache.asMap().keySet().removeIf(key -> hasPrefixIn(toLevels(key.getLeft()), prefixes));
+      listCache.asMap().keySet().removeIf(namespace -> hasPrefixIn(namespace.levels(), prefixes));
+    }
+  }
+
+  /** Invalidate all the cached entities and lists. */
+  public void invalidateAll() {
+    invalidationFence.invalidate(
+        () -> {
+          entityCache.invalidateAll();
+          listCache.invalidateAll();
+        });
+  }
+
+  @VisibleForTesting
+  long size() {
+    return entityCache.estimatedSize() + listCache.estimatedSize();
+  }
+
+  @Override
+  public void close() {
+    invalidateAll();
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+  }
+
+  private static String[] toLevels(NameIdentifier ident) {
+    String[] namespaceLevels = ident.namespace().levels();
+    String[] levels = Arrays.copyOf(namespaceLevels, namespaceLevels.length + 1);
+    levels[namespaceLevels.length] = ident.name();
+    return levels;
+  }
+
+  private static boolean hasPrefixIn(String[] levels, Set<List<String>> prefixes) {
+    List<String> levelList = Arrays.asList(levels);
+    for (int i = 1; i <= levelList.size(); i++) {
+      if (prefixes.contains(levelList.subList(0, i))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Loads the entities that are not cached in one batch.
+   *
+   * @param <E> the class of the entity
+   */
+  @FunctionalInterface
+  public interface BatchLoader<E> {
+    List<E> load(List<NameIdentifier> idents) throws IOException;
+  }
+
+  private class EntityCacheMetricsSource extends MetricsSource {
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    private EntityCacheMetricsSource() {
+      super(MetricsSource.ENTITY_STORE_METRIC_NAME);
+      this.hitCounter = getCounter(MetricNames.ENTITY_CACHE_HIT_COUNT);
+      this.missCounter = getCounter(MetricNames.ENTITY_CACHE_MISS_COUNT);
+      registerGauge(MetricNames.ENTITY_CACHE_SIZE, RelationalEntityCache.this::size);
+    }
+  }
+}
@@ -18,12 +18,14 @@
  */
 package org.apache.gravitino.storage.relational;
 
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CACHE_ENABLED;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_STORE;
 
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
@@ -55,12 +57,17 @@ public class RelationalEntityStore
           Configs.DEFAULT_ENTITY_RELATIONAL_STORE, JDBCBackend.class.getCanonicalName());
   private RelationalBackend backend;
   private RelationalGarbageCollector garbageCollector;
+  // Null if the entity cache is disabled.
+  private RelationalEntityCache cache;
 
   @Override
   public void initialize(Config config) throws RuntimeException {
     this.backend = createRelationalEntityBackend(config);
     this.garbageCollector = new RelationalGarbageCollector(backend, config);
     this.garbageCollector.start();
+    if (Boolean.TRUE.equals(config.get(ENTITY_RELATIONAL_CACHE_ENABLED))) {
+      this.cache = new RelationalEntityCache(config);
+    }
   }
 
   private static RelationalBackend createRelationalEntityBackend(Config config) {
@@ -89,39 +96,62 @@ public class RelationalEntityStore
   @Override
   public <E extends Entity & HasIdentifier> List<E> list(
       Namespace namespace, Class<E> type, Entity.EntityType entityType) throws IOException {
-    return backend.list(namespace, entityType, false);
+    return list(namespace, type, entityType, false);
   }
 
   @Override
   public <E extends Entity & HasIdentifier> List<E> list(
       Namespace namespace, Class<E> type, Entity.EntityType entityType, boolean allFields)
       throws IOException {
-    return backend.list(namespace, entityType, allFields);
+    if (cache == null) {
+      return backend.list(namespace, entityType, allFields);
+    }
+    return cache.list(
+        namespace, entityType, allFields, () -> backend.list(namespace, entityType, allFields));
   }
 
   @Override
   public boolean exists(NameIdentifier ident, Entity.EntityType entityType) throws IOException {
+    if (cache != null && cache.contains(ident, entityType)) {
+      return true;
+    }
     return backend.exists(ident, entityType);
   }
 
   @Override
   public <E extends Entity & HasIdentifier> void put(E e, boolean overwritten)
       throws IOException, EntityAlreadyExistsException {
-    backend.insert(e, overwritten);
+    try {
+      backend.insert(e, overwritten);
+    } finally {
+      invalidateCache(e.nameIdentifier());
+    }
   }
 
   @Override
   public <E extends Entity & HasIdentifier> E update(
       NameIdentifier ident, Class<E> type, Entity.EntityType entityType, Function<E, E> updater)
       throws IOException, NoSuchEntityException, EntityAlreadyExistsException {
-    return backend.update(ident, entityType, updater);
+    E updatedEntity = null;
+    try {
+      updatedEntity = backend.update(ident, entityType, updater);
+      return updatedEntity;
+    } finally {
+      invalidateCache(ident);
+      if (updatedEntity != null && !updatedEntity.nameIdentifier().equals(ident)) {
+        invalidateCache(updatedEntity.nameIdentifier());
+      }
+    }
   }
 
   @Override
   public <E extends Entity & HasIdentifier> E get(
       NameIdentifier ident, Entity.EntityType entityType, Class<E> e)
       throws NoSuchEntityException, IOException {
-    return backend.get(ident, entityType);
+    if (cache == null) {
+      return backend.get(ident, entityType);
+    }
+    return cache.get(ident, entityType, () -> backend.get(ident, entityType));
   }
 
   @Override
@@ -131,6 +161,43 @@ public class RelationalEntityStore
       return backend.delete(ident, entityType, cascade);
     } catch (NoSuchEntityException nse) {
       return false;
+    } finally {
+      invalidateCache(ident);
+    }
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> void batchPut(List<E> entities, boolean overwritten)
+      throws IOException, EntityAlreadyExistsException {
+    try {
+      backend.batchInsert(entities, overwritten);
+    } finally {
+      if (cache != null) {
+        cache.invalidate(
+            entities.stream().map(HasIdentifier::nameIdentifier).collect(Collectors.toList()));
+      }
+    }
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> batchGet(
+      List<NameIdentifier> idents, Entity.EntityType entityType, Class<E> e) throws IOException {
+    if (cache == null) {
+      return backend.batchGet(idents, entityType);
+    }
+    return cache.getAll(
+        idents, entityType, missingIdents -> backend.batchGet(missingIdents, entityType));
+  }
+
+  @Override
+  public int batchDelete(List<NameIdentifier> idents, Entity.EntityType entityType, boolean cascade)
+      throws IOException {
+    try {
+      return backend.batchDelete(idents, entityType, cascade);
+    } finally {
+      if (cache != null) {
+        cache.invalidate(idents);
+      }
     }
   }
 
@@ -141,10 +208,19 @@ public class RelationalEntityStore
 
   @Override
   public void close() throws IOException {
+    if (cache != null) {
+      cache.close();
+    }
     garbageCollector.close();
     backend.close();
   }
 
+  private void invalidateCache(NameIdentifier ident) {
+    if (cache != null) {
+      cache.invalidate(ident);
+    }
+  }
+
   @Override
   public SupportsTagOperations tagOperations() {
     return this;
@@ -61,6 +61,11 @@ public class CatalogMetaSQLProviderFactory {
     return getProvider().selectCatalogIdByMetalakeIdAndName(metalakeId, name);
   }
 
+  public static String selectCatalogIdByMetalakeNameAndCatalogName(
+      @Param("metalakeName") String metalakeName, @Param("catalogName") String catalogName) {
+    return getProvider().selectCatalogIdByMetalakeNameAndCatalogName(metalakeName, catalogName);
+  }
+
   public static String selectCatalogMetaByMetalakeIdAndName(
       @Param("metalakeId") Long metalakeId, @Param("catalogName") String name) {
     return getProvider().selectCatalogMetaByMetalakeIdAndName(metalakeId, name);
@@ -59,6 +59,15 @@ public class SchemaMetaSQLProviderFactory {
     return getProvider().selectSchemaIdByCatalogIdAndName(catalogId, name);
   }
 
+  public static String selectSchemaIdByMetalakeNameAndCatalogNameAndSchemaName(
+      @Param("metalakeName") String metalakeName,
+      @Param("catalogName") String catalogName,
+      @Param("schemaName") String schemaName) {
+    return getProvider()
+        .selectSchemaIdByMetalakeNameAndCatalogNameAndSchemaName(
+            metalakeName, catalogName, schemaName);
+  }
+
   public static String selectSchemaMetaByCatalogIdAndName(
       @Param("catalogId") Long catalogId, @Param("schemaName") String name) {
     return getProvider().selectSchemaMetaByCatalogIdAndName(catalogId, name);
@@ -104,7 +104,7 @@ public class CatalogMetaService {
     String catalogName = identifier.name();
 
     Long metalakeId =
-        CommonMetaService.getInstance().getParentEntityIdByNamespace(identifier.namespace());
+        CommonMetaService.getInstance().getCachedParentEntityIdByNamespace(identifier.namespace());
 
     CatalogPO catalogPO = getCatalogPOByMetalakeIdAndName(metalakeId, catalogName);
 
@@ -114,7 +114,7 @@ public class CatalogMetaService {
   public List<CatalogEntity> listCatalogsByNamespace(Namespace namespace) {
     NamespaceUtil.checkCatalog(namespace);
 
-    Long metalakeId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+    Long metalakeId = CommonMetaService.getInstance().getCachedParentEntityIdByNamespace(namespace);
 
     List<CatalogPO> catalogPOS =
         SessionUtils.getWithoutCommit(
@@ -182,6 +182,7 @@ public class CatalogMetaService {
     }
 
     if (updateResult > 0) {
+      CommonMetaService.getInstance().invalidateParentEntityIds(identifier);
       return newEntity;
     } else {
       throw new IOException("Failed to update the entity: " + identifier);
@@ -249,6 +250,7 @@ public class CatalogMetaService {
                           catalogId, MetadataObject.Type.CATALOG.name())));
     }
 
+    CommonMetaService.getInstance().invalidateParentEntityIds(identifier);
     return true;
   }
 
@@ -19,8 +19,21 @@
 
 package org.apache.gravitino.storage.relational.service;
 
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CACHE_ENABLED;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CACHE_EXPIRE_TIME_MS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CACHE_MAX_ENTRIES;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Preconditions;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.storage.relational.mapper.CatalogMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.SchemaMetaMapper;
+import org.apache.gravitino.storage.relational.utils.SessionUtils;
+import org.apache.gravitino.utils.InvalidationFence;
 
 /** The service class for common metadata operations. */
 public class CommonMetaService {
@@ -30,13 +43,131 @@ public class CommonMetaService {
     return INSTANCE;
   }
 
+  // The cache of the ids resolved from namespaces, null if the relational cache is disabled.
+  private volatile Cache<Namespace, Long> namespaceIdCache;
+
+  // The resolutions that race with an invalidation are not cached.
+  private final InvalidationFence invalidationFence = new InvalidationFence();
+
   private CommonMetaService() {}
 
+  /**
+   * Initialize the namespace id cache according to the relational entity store cache configs. The
+   * cache is only enabled when {@code gravitino.entity.store.relational.cache.enabled} is true.
+   *
+   * @param config the configuration of the entity store
+   */
+  public void initialize(Config config) {
+    if (Boolean.TRUE.equals(config.get(ENTITY_RELATIONAL_CACHE_ENABLED))) {
+      this.namespaceIdCache =
+          Caffeine.newBuilder()
+              .maximumSize(config.get(ENTITY_RELATIONAL_CACHE_MAX_ENTRIES))
+              .expireAfterWrite(
+                  config.get(ENTITY_RELATIONAL_CACHE_EXPIRE_TIME_MS), TimeUnit.MILLISECONDS)
+              .build();
+    } else {
+      this.namespaceIdCache = null;
+    }
+  }
+
+  /**
+   * Resolve the id of the entity the namespace refers to from the backend. It never uses the
+   * namespace id cache, so it must be used by the write paths, whose parent ids are persisted.
+   *
+   * @param namespace the namespace to resolve
+   * @return the id of the entity the namespace refers to
+   */
   public Long getParentEntityIdByNamespace(Namespace namespace) {
+    checkNamespace(namespace);
+    return resolveParentEntityIdByNamespace(namespace);
+  }
+
+  /**
+   * Get the id of the entity the namespace refers to from the namespace id cache, or resolve it
+   * from the backend if it is not cached. The cached id may refer to an entity dropped and
+   * re-created on another server until the cache entry expires, so it must only be used by the read
+   * paths.
+   *
+   * @param namespace the namespace to resolve
+   * @return the id of the entity the namespace refers to
+   */
+  public Long getCachedParentEntityIdByNamespace(Namespace namespace) {
+    checkNamespace(namespace);
+    Cache<Namespace, Long> cache = namespaceIdCache;
+    if (cache == null) {
+      return resolveParentEntityIdByNamespace(namespace);
+    }
+
+    Long cachedId = cache.getIfPresent(namespace);
+    if (cachedId != null) {
+      return cachedId;
+    }
+
+    long resolveGeneration = invalidationFence.generation();
+    Long parentEntityId = resolveParentEntityIdByNamespace(namespace);
+    invalidationFence.putIfNotInvalidated(
+        resolveGeneration, () -> cache.put(namespace, parentEntityId));
+    return parentEntityId;
+  }
+
+  /**
+   * Invalidate the cached ids of the namespaces which are the same as or under the identifier. It
+   * should be called when a metalake, catalog or schema is renamed or dropped.
+   *
+   * @param ident the name identifier of the renamed or dropped entity
+   */
+  public void invalidateParentEntityIds(NameIdentifier ident) {
+    Cache<Namespace, Long> cache = namespaceIdCache;
+    if (cache == null) {
+      return;
+    }
+
+    invalidationFence.invalidate(
+        () -> cache.asMap().keySet().removeIf(namespace -> isUnder(namespace, ident)));
+  }
+
+  private static boolean isUnder(Namespace namespace, NameIdentifier ident) {
+    String[] identLevels = ident.namespace().levels();
+    if (namespace.length() <= identLevels.length) {
+      return false;
+    }
+    for (int i = 0; i < identLevels.length; i++) {
+      if (!namespace.level(i).equals(identLevels[i])) {
+        return false;
+      }
+    }
+    return namespace.level(identLevels.length).equals(ident.name());
+  }
+
+  private static void checkNamespace(Namespace namespace) {
     Preconditions.checkArgument(
         !namespace.isEmpty() && namespace.levels().length <= 3,
         "Namespace should not be empty and length should be less than or equal to 3.");
+  }
+
+  private Long resolveParentEntityIdByNamespace(Namespace namespace) {
+    // Resolve the id with a single joined query, and fall back to resolving the namespace level by
+    // level to find out which level doesn't exist.
     Long parentEntityId = null;
+    if (namespace.levels().length == 2) {
+      parentEntityId =
+          SessionUtils.getWithoutCommit(
+              CatalogMetaMapper.class,
+              mapper ->
+                  mapper.selectCatalogIdByMetalakeNameAndCatalogName(
+                      namespace.level(0), namespace.level(1)));
+    } else if (namespace.levels().length == 3) {
+      parentEntityId =
+          SessionUtils.getWithoutCommit(
+              SchemaMetaMapper.class,
+              mapper ->
+                  mapper.selectSchemaIdByMetalakeNameAndCatalogNameAndSchemaName(
+                      namespace.level(0), namespace.level(1), namespace.level(2)));
+    }
+    if (parentEntityId != null) {
+      return parentEntityId;
+    }
+
     if (namespace.levels().length >= 1) {
       parentEntityId = MetalakeMetaService.getInstance().getMetalakeIdByName(namespace.level(0));
     }
@@ -102,7 +102,7 @@ public class FilesetMetaService {
     String filesetName = identifier.name();
 
     Long schemaId =
-        CommonMetaService.getInstance().getParentEntityIdByNamespace(identifier.namespace());
+        CommonMetaService.getInstance().getCachedParentEntityIdByNamespace(identifier.namespace());
 
     FilesetPO filesetPO = getFilesetPOBySchemaIdAndName(schemaId, filesetName);
 
@@ -112,7 +112,7 @@ public class FilesetMetaService {
   public List<FilesetEntity> listFilesetsByNamespace(Namespace namespace) {
     NamespaceUtil.checkFileset(namespace);
 
-    Long schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+    Long schemaId = CommonMetaService.getInstance().getCachedParentEntityIdByNamespace(namespace);
 
     List<FilesetPO> filesetPOs =
         SessionUtils.getWithoutCommit(
@@ -163,6 +163,7 @@ public class MetalakeMetaService {
     }
 
     if (updateResult > 0) {
+      CommonMetaService.getInstance().invalidateParentEntityIds(ident);
       return newMetalakeEntity;
     } else {
       throw new IOException("Failed to update the entity: " + ident);
@@ -290,6 +291,7 @@ public class MetalakeMetaService {
                     mapper -> mapper.softDeleteOwnerRelByMetalakeId(metalakeId)));
       }
     }
+    CommonMetaService.getInstance().invalidateParentEntityIds(ident);
     return true;
   }
 
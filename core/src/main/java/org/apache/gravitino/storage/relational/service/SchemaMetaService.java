@@ -97,7 +97,7 @@ public class SchemaMetaService {
     String schemaName = identifier.name();
 
     Long catalogId =
-        CommonMetaService.getInstance().getParentEntityIdByNamespace(identifier.namespace());
+        CommonMetaService.getInstance().getCachedParentEntityIdByNamespace(identifier.namespace());
 
     SchemaPO schemaPO = getSchemaPOByCatalogIdAndName(catalogId, schemaName);
 
@@ -107,7 +107,7 @@ public class SchemaMetaService {
   public List<SchemaEntity> listSchemasByNamespace(Namespace namespace) {
     NamespaceUtil.checkSchema(namespace);
 
-    Long catalogId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+    Long catalogId = CommonMetaService.getInstance().getCachedParentEntityIdByNamespace(namespace);
 
     List<SchemaPO> schemaPOs =
         SessionUtils.getWithoutCommit(
@@ -172,6 +172,7 @@ public class SchemaMetaService {
     }
 
     if (updateResult > 0) {
+      CommonMetaService.getInstance().invalidateParentEntityIds(identifier);
       return newEntity;
     } else {
       throw new IOException("Failed to update the entity: " + identifier);
@@ -249,6 +250,7 @@ public class SchemaMetaService {
                             schemaId, MetadataObject.Type.SCHEMA.name())));
       }
     }
+    CommonMetaService.getInstance().invalidateParentEntityIds(identifier);
     return true;
   }
 
@@ -19,10 +19,18 @@
 package org.apache.gravitino.storage.relational.service;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.MetadataObject;
@@ -43,6 +51,9 @@ import org.apache.gravitino.utils.NamespaceUtil;
 public class TableMetaService {
   private static final TableMetaService INSTANCE = new TableMetaService();
 
+  // The max number of rows in one multi-row statement, to keep the statements in a sane size.
+  private static final int MAX_ROWS_PER_STATEMENT = 500;
+
   public static TableMetaService getInstance() {
     return INSTANCE;
   }
@@ -91,7 +102,7 @@ public class TableMetaService {
     NameIdentifierUtil.checkTable(identifier);
 
     Long schemaId =
-        CommonMetaService.getInstance().getParentEntityIdByNamespace(identifier.namespace());
+        CommonMetaService.getInstance().getCachedParentEntityIdByNamespace(identifier.namespace());
 
     TablePO tablePO = getTablePOBySchemaIdAndName(schemaId, identifier.name());
 
@@ -101,7 +112,7 @@ public class TableMetaService {
   public List<TableEntity> listTablesByNamespace(Namespace namespace) {
     NamespaceUtil.checkTable(namespace);
 
-    Long schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+    Long schemaId = CommonMetaService.getInstance().getCachedParentEntityIdByNamespace(namespace);
 
     List<TablePO> tablePOs =
         SessionUtils.getWithoutCommit(
@@ -134,6 +145,125 @@ public class TableMetaService {
     }
   }
 
+  public void batchInsertTables(List<TableEntity> tableEntities, boolean overwrite)
+      throws IOException {
+    if (tableEntities.isEmpty()) {
+      return;
+    }
+
+    try {
+      // The parent entity ids are resolved once for each namespace.
+      Map<Namespace, TablePO> parentPOs = Maps.newHashMap();
+      List<TablePO> tablePOs = Lists.newArrayListWithCapacity(tableEntities.size());
+      for (TableEntity tableEntity : tableEntities) {
+        NameIdentifierUtil.checkTable(tableEntity.nameIdentifier());
+
+        TablePO.Builder builder = TablePO.builder();
+        TablePO parentPO = parentPOs.get(tableEntity.namespace());
+        if (parentPO == null) {
+          fillTablePOBuilderParentEntityId(builder, tableEntity.namespace());
+        } else {
+          builder
+              .withMetalakeId(parentPO.getMetalakeId())
+              .withCatalogId(parentPO.getCatalogId())
+              .withSchemaId(parentPO.getSchemaId());
+        }
+        TablePO tablePO = POConverters.initializeTablePOWithVersion(tableEntity, builder);
+        parentPOs.putIfAbsent(tableEntity.namespace(), tablePO);
+        tablePOs.add(tablePO);
+      }
+
+      SessionUtils.doWithCommit(
+          TableMetaMapper.class,
+          mapper -> {
+            for (List<TablePO> partition : Lists.partition(tablePOs, MAX_ROWS_PER_STATEMENT)) {
+              if (overwrite) {
+                mapper.batchInsertTableMetasOnDuplicateKeyUpdate(partition);
+              } else {
+                mapper.batchInsertTableMetas(partition);
+              }
+            }
+          });
+    } catch (RuntimeException re) {
+      ExceptionUtils.checkSQLException(
+          re,
+          Entity.EntityType.TABLE,
+          tableEntities.stream()
+              .map(TableEntity::namespace)
+              .distinct()
+              .map(Namespace::toString)
+              .collect(Collectors.joining(",")));
+      throw re;
+    }
+  }
+
+  public List<TableEntity> batchGetTablesByIdentifiers(List<NameIdentifier> identifiers) {
+    Map<NameIdentifier, TableEntity> tables = Maps.newHashMap();
+    for (Map.Entry<Namespace, List<String>> entry : groupTableNames(identifiers).entrySet()) {
+      Long schemaId = getSchemaIdIfExists(entry.getKey(), true);
+      if (schemaId == null) {
+        continue;
+      }
+
+      for (List<String> partition : Lists.partition(entry.getValue(), MAX_ROWS_PER_STATEMENT)) {
+        List<TablePO> tablePOs =
+            SessionUtils.getWithoutCommit(
+                TableMetaMapper.class,
+                mapper -> mapper.listTablePOsBySchemaIdAndTableNames(schemaId, partition));
+        for (TableEntity table : POConverters.fromTablePOs(tablePOs, entry.getKey())) {
+          tables.put(table.nameIdentifier(), table);
+        }
+      }
+    }
+
+    return identifiers.stream()
+        .map(tables::get)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
+  }
+
+  public int batchDeleteTables(List<NameIdentifier> identifiers) {
+    List<Long> tableIds = Lists.newArrayList();
+    for (Map.Entry<Namespace, List<String>> entry : groupTableNames(identifiers).entrySet()) {
+      Long schemaId = getSchemaIdIfExists(entry.getKey(), false);
+      if (schemaId == null) {
+        continue;
+      }
+
+      for (List<String> partition : Lists.partition(entry.getValue(), MAX_ROWS_PER_STATEMENT)) {
+        List<TablePO> tablePOs =
+            SessionUtils.getWithoutCommit(
+                TableMetaMapper.class,
+                mapper -> mapper.listTablePOsBySchemaIdAndTableNames(schemaId, partition));
+        tablePOs.forEach(tablePO -> tableIds.add(tablePO.getTableId()));
+      }
+    }
+
+    if (tableIds.isEmpty()) {
+      return 0;
+    }
+
+    AtomicInteger deleted = new AtomicInteger();
+    List<List<Long>> partitions = Lists.partition(tableIds, MAX_ROWS_PER_STATEMENT);
+    SessionUtils.doMultipleWithCommit(
+        () ->
+            SessionUtils.doWithoutCommit(
+                TableMetaMapper.class,
+                mapper ->
+                    partitions.forEach(
+                        partition ->
+                            deleted.addAndGet(mapper.softDeleteTableMetasByTableIds(partition)))),
+        () ->
+            SessionUtils.doWithoutCommit(
+                OwnerMetaMapper.class,
+                mapper ->
+                    partitions.forEach(
+                        partition ->
+                            mapper.softDeleteOwnerRelByMetadataObjectIdsAndType(
+                                partition, MetadataObject.Type.TABLE.name()))));
+    return deleted.get();
+  }
+
   public <E extends Entity & HasIdentifier> TableEntity updateTable(
       NameIdentifier identifier, Function<E, E> updater) throws IOException {
     NameIdentifierUtil.checkTable(identifier);
@@ -205,6 +335,31 @@ public class TableMetaService {
         });
   }
 
+  private static Map<Namespace, List<String>> groupTableNames(List<NameIdentifier> identifiers) {
+    Map<Namespace, Set<String>> tableNames = new LinkedHashMap<>();
+    for (NameIdentifier identifier : identifiers) {
+      NameIdentifierUtil.checkTable(identifier);
+      tableNames
+          .computeIfAbsent(identifier.namespace(), k -> new LinkedHashSet<>())
+          .add(identifier.name());
+    }
+
+    Map<Namespace, List<String>> result = new LinkedHashMap<>();
+    tableNames.forEach((namespace, names) -> result.put(namespace, Lists.newArrayList(names)));
+    return result;
+  }
+
+  private static Long getSchemaIdIfExists(Namespace namespace, boolean cached) {
+    CommonMetaService commonMetaService = CommonMetaService.getInstance();
+    try {
+      return cached
+          ? commonMetaService.getCachedParentEntityIdByNamespace(namespace)
+          : commonMetaService.getParentEntityIdByNamespace(namespace);
+    } catch (NoSuchEntityException e) {
+      return null;
+    }
+  }
+
   private void fillTablePOBuilderParentEntityId(TablePO.Builder builder, Namespace namespace) {
     NamespaceUtil.checkTable(namespace);
     Long parentEntityId = null;
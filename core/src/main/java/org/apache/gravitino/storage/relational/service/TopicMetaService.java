@@ -80,7 +80,7 @@ public class TopicMetaService {
   public List<TopicEntity> listTopicsByNamespace(Namespace namespace) {
     NamespaceUtil.checkTopic(namespace);
 
-    Long schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+    Long schemaId = CommonMetaService.getInstance().getCachedParentEntityIdByNamespace(namespace);
 
     List<TopicPO> topicPOs =
         SessionUtils.getWithoutCommit(
@@ -179,7 +179,7 @@ public class TopicMetaService {
     NameIdentifierUtil.checkTopic(identifier);
 
     Long schemaId =
-        CommonMetaService.getInstance().getParentEntityIdByNamespace(identifier.namespace());
+        CommonMetaService.getInstance().getCachedParentEntityIdByNamespace(identifier.namespace());
 
     TopicPO topicPO = getTopicPOBySchemaIdAndName(schemaId, identifier.name());
 
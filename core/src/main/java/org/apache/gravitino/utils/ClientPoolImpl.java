@@ -18,33 +18,96 @@
  */
 package org.apache.gravitino.utils;
 
+import com.codahale.metrics.Timer;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import java.io.Closeable;
-import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.exceptions.ConnectionFailedException;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.MetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-// core/src/main/java/org/apache/iceberg/ClientPoolImpl.java
+/**
+ * A bounded pool of clients, referred from Apache Iceberg's ClientPoolImpl
+ * core/src/main/java/org/apache/iceberg/ClientPoolImpl.java
+ *
+ * <p>The callers borrow the clients in the order they arrive through a fair semaphore, and may give
+ * up after the acquire timeout. The idle clients are reused most recently used first, so the
+ * clients left idle longer than the idle timeout are closed when the pool is used. A borrowed
+ * client is validated by {@link #isValid(Object)} if it has been idle for a while, and a client
+ * failing with a connection exception that can't be reconnected is closed instead of being
+ * returned to the pool.
+ */
 public abstract class ClientPoolImpl<C, E extends Exception>
     implements Closeable, ClientPool<C, E> {
   private static final Logger LOG = LoggerFactory.getLogger(ClientPoolImpl.class);
 
+  // The clients idle for less than this are not validated before being borrowed, they were just
+  // used successfully.
+  @VisibleForTesting static final long VALIDATION_IDLE_TIME_MS = TimeUnit.SECONDS.toMillis(30);
+
   private final int poolSize;
-  private final Deque<C> clients;
   private final Class<? extends E> reconnectExc;
-  private final Object signal = new Object();
   private final boolean retryByDefault;
-  private volatile int currentSize;
+  private final long acquireTimeoutMs;
+  private final long idleTimeoutMs;
+  private final Semaphore permits;
+  private final Deque<IdleClient<C>> idleClients = new ConcurrentLinkedDeque<>();
+  private final AtomicInteger currentSize = new AtomicInteger();
+  private final AtomicInteger inUseSize = new AtomicInteger();
+  private final ClientPoolMetricsSource metricsSource;
   private volatile boolean closed;
 
   protected ClientPoolImpl(int poolSize, Class<? extends E> reconnectExc, boolean retryByDefault) {
+    this(poolSize, reconnectExc, retryByDefault, 0, 0, null);
+  }
+
+  /**
+   * Creates a client pool.
+   *
+   * @param poolSize the maximum number of clients in the pool
+   * @param reconnectExc the exception class that indicates the client should reconnect
+   * @param retryByDefault whether to retry the action after reconnecting by default
+   * @param acquireTimeoutMs the maximum time to wait for a client, 0 to wait without a limit
+   * @param idleTimeoutMs the time after which an idle client is closed, 0 to keep idle clients
+   * @param metricsSourceName the name to register the pool metrics with, null to not register them
+   */
+  protected ClientPoolImpl(
+      int poolSize,
+      Class<? extends E> reconnectExc,
+      boolean retryByDefault,
+      long acquireTimeoutMs,
+      long idleTimeoutMs,
+      @Nullable String metricsSourceName) {
+    Preconditions.checkArgument(poolSize > 0, "Pool size must be positive");
+    Preconditions.checkArgument(acquireTimeoutMs >= 0, "Acquire timeout must not be negative");
+    Preconditions.checkArgument(idleTimeoutMs >= 0, "Idle timeout must not be negative");
     this.poolSize = poolSize;
     this.reconnectExc = reconnectExc;
-    this.clients = new ArrayDeque<>(poolSize);
-    this.currentSize = 0;
-    this.closed = false;
     this.retryByDefault = retryByDefault;
+    this.acquireTimeoutMs = acquireTimeoutMs;
+    this.idleTimeoutMs = idleTimeoutMs;
+    this.permits = new Semaphore(poolSize, true /* fair */);
+    this.closed = false;
+
+    if (metricsSourceName != null) {
+      this.metricsSource = new ClientPoolMetricsSource(metricsSourceName);
+      MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+      if (metricsSystem != null) {
+        metricsSystem.register(metricsSource);
+      }
+    } else {
+      this.metricsSource = null;
+    }
   }
 
   @Override
@@ -55,15 +118,22 @@ public abstract class ClientPoolImpl<C, E extends Exception>
   @Override
   public <R> R run(Action<R, C, E> action, boolean retry) throws E, InterruptedException {
     C client = get();
+    boolean broken = false;
     try {
       return action.run(client);
 
     } catch (Exception exc) {
-      if (retry && isConnectionException(exc)) {
+      if (isConnectionException(exc)) {
+        if (!retry) {
+          broken = true;
+          throw exc;
+        }
+
         try {
           client = reconnect(client);
         } catch (Exception ignored) {
           // if reconnection throws any exception, rethrow the original failure
+          broken = true;
           throw reconnectExc.cast(exc);
         }
 
@@ -73,7 +143,7 @@ public abstract class ClientPoolImpl<C, E extends Exception>
       throw exc;
 
     } finally {
-      release(client);
+      release(client, broken);
     }
   }
 
@@ -85,6 +155,17 @@ public abstract class ClientPoolImpl<C, E extends Exception>
     return reconnectExc.isInstance(exc);
   }
 
+  /**
+   * Checks whether an idle client still works before it is borrowed. The clients idle for less
+   * than {@link #VALIDATION_IDLE_TIME_MS} are not checked.
+   *
+   * @param client the idle client
+   * @return true if the client can be borrowed, false to close it
+   */
+  protected boolean isValid(C client) {
+    return true;
+  }
+
   protected abstract void close(C client);
 
   @Override
@@ -97,57 +178,119 @@ public abstract class ClientPoolImpl<C, E extends Exception>
 
     this.closed = true;
     try {
-      while (currentSize > 0) {
-        if (!clients.isEmpty()) {
-          synchronized (this) {
-            if (!clients.isEmpty()) {
-              C client = clients.removeFirst();
-              close(client);
-              currentSize -= 1;
-            }
-          }
-        }
-        if (clients.isEmpty() && currentSize > 0) {
-          // wake every second in case this missed the signal
-          synchronized (signal) {
-            signal.wait(1000);
-          }
-        }
+      // Wait for the borrowed clients to be returned, the callers waiting for a client get the
+      // permits first and fail as the pool is closed.
+      permits.acquire(poolSize);
+      IdleClient<C> idleClient;
+      while ((idleClient = idleClients.pollFirst()) != null) {
+        discard(idleClient.client);
       }
+      permits.release(poolSize);
 
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
       LOG.warn("Interrupted while shutting down pool. Some clients may not be closed.", e);
     }
+
+    if (metricsSource != null) {
+      MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+      if (metricsSystem != null) {
+        metricsSystem.unregister(metricsSource);
+      }
+    }
   }
 
   private C get() throws InterruptedException {
     Preconditions.checkState(!closed, "Cannot get a client from a closed pool");
-    while (true) {
-      if (!clients.isEmpty() || currentSize < poolSize) {
-        synchronized (this) {
-          if (!clients.isEmpty()) {
-            return clients.removeFirst();
-          } else if (currentSize < poolSize) {
-            C client = newClient();
-            currentSize += 1;
-            return client;
-          }
-        }
+    acquirePermit();
+    try {
+      Preconditions.checkState(!closed, "Cannot get a client from a closed pool");
+      C client = pollIdleClient();
+      if (client == null) {
+        // Connect after the permit is acquired, the pool never holds more than poolSize clients.
+        client = newClient();
+        currentSize.incrementAndGet();
+      }
+      inUseSize.incrementAndGet();
+      return client;
+
+    } catch (RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  private void acquirePermit() throws InterruptedException {
+    long startNanos = System.nanoTime();
+    if (acquireTimeoutMs == 0) {
+      permits.acquire();
+    } else if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+      throw new ConnectionFailedException(
+          "Timed out after %d ms waiting for a client from the pool of size %d",
+          acquireTimeoutMs, poolSize);
+    }
+
+    if (metricsSource != null) {
+      metricsSource.borrowWaitTimer.update(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private C pollIdleClient() {
+    IdleClient<C> idleClient;
+    while ((idleClient = idleClients.pollFirst()) != null) {
+      long idleTimeMs = idleClient.idleTimeMs();
+      if (idleTimeoutMs > 0 && idleTimeMs >= idleTimeoutMs) {
+        discard(idleClient.client);
+      } else if (idleTimeMs >= VALIDATION_IDLE_TIME_MS && !isValidQuietly(idleClient.client)) {
+        LOG.warn("Closing a broken client idle for {} ms", idleTimeMs);
+        discard(idleClient.client);
+      } else {
+        return idleClient.client;
       }
-      synchronized (signal) {
-        // wake every second in case this missed the signal
-        signal.wait(1000);
+    }
+    return null;
+  }
+
+  private void release(C client, boolean broken) {
+    inUseSize.decrementAndGet();
+    if (closed || broken) {
+      discard(client);
+    } else {
+      idleClients.offerFirst(new IdleClient<>(client));
+      evictIdleClients();
+    }
+    permits.release();
+  }
+
+  private void evictIdleClients() {
+    if (idleTimeoutMs == 0) {
+      return;
+    }
+
+    // The least recently used clients are at the tail of the deque.
+    IdleClient<C> oldest;
+    while ((oldest = idleClients.peekLast()) != null && oldest.idleTimeMs() >= idleTimeoutMs) {
+      if (idleClients.removeLastOccurrence(oldest)) {
+        discard(oldest.client);
       }
     }
   }
 
-  private void release(C client) {
-    synchronized (this) {
-      clients.addFirst(client);
+  private boolean isValidQuietly(C client) {
+    try {
+      return isValid(client);
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to validate the client", e);
+      return false;
     }
-    synchronized (signal) {
-      signal.notifyAll();
+  }
+
+  private void discard(C client) {
+    currentSize.decrementAndGet();
+    try {
+      close(client);
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to close the client", e);
     }
   }
 
@@ -158,4 +301,45 @@ public abstract class ClientPoolImpl<C, E extends Exception>
   public boolean isClosed() {
     return closed;
   }
+
+  @VisibleForTesting
+  int currentSize() {
+    return currentSize.get();
+  }
+
+  @VisibleForTesting
+  int idleSize() {
+    return idleClients.size();
+  }
+
+  @VisibleForTesting
+  int inUseSize() {
+    return inUseSize.get();
+  }
+
+  private static class IdleClient<C> {
+    private final C client;
+    private final long idleSinceNanos;
+
+    private IdleClient(C client) {
+      this.client = client;
+      this.idleSinceNanos = System.nanoTime();
+    }
+
+    private long idleTimeMs() {
+      return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - idleSinceNanos);
+    }
+  }
+
+  private class ClientPoolMetricsSource extends MetricsSource {
+    private final Timer borrowWaitTimer;
+
+    private ClientPoolMetricsSource(String name) {
+      super(name);
+      this.borrowWaitTimer = getTimer(MetricNames.CLIENT_POOL_BORROW_WAIT);
+      registerGauge(MetricNames.CLIENT_POOL_IN_USE, inUseSize::get);
+      registerGauge(MetricNames.CLIENT_POOL_IDLE, idleClients::size);
+      registerGauge(MetricNames.CLIENT_POOL_WAITING, permits::getQueueLength);
+    }
+  }
 }
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Fences the puts into a cache against the invalidations of the cache. A value loaded before an
+ * invalidation may be stale, so it must not be put into the cache after the invalidation removed
+ * the entry.
+ *
+ * <p>The caller takes the {@link #generation()} before loading a value, and puts the loaded value
+ * with {@link #putIfNotInvalidated(long, Runnable)}. Every {@link #invalidate(Runnable)} bumps the
+ * generation, so the put is skipped if an invalidation happened during the load. The puts run
+ * under the read lock and the invalidations under the write lock, so the generation check and the
+ * put are atomic against the invalidations while the puts don't block each other.
+ */
+public class InvalidationFence {
+
+  private final AtomicLong generation = new AtomicLong();
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  /**
+   * Returns the current generation, it should be taken before loading the values to put.
+   *
+   * @return The current generation.
+   */
+  public long generation() {
+    return generation.get();
+  }
+
+  /**
+   * Runs the put if no invalidation happened since the given generation was taken.
+   *
+   * @param loadGeneration The generation taken before loading the values to put.
+   * @param put The put into the cache.
+   * @return True if the put ran, false if it was skipped.
+   */
+  public boolean putIfNotInvalidated(long loadGeneration, Runnable put) {
+    lock.readLock().lock();
+    try {
+      if (loadGeneration != generation.get()) {
+        return false;
+      }
+
+      put.run();
+      return true;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Bumps the generation and runs the invalidation of the cache.
+   *
+   * @param invalidation The invalidation of the cache.
+   */
+  public void invalidate(Runnable invalidation) {
+    lock.writeLock().lock();
+    try {
+      generation.incrementAndGet();
+      invalidation.run();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+}
@@ -115,6 +115,32 @@ public class TestCatalog extends BaseCatalog<TestCatalog> {
                     false,
                     false,
                     false))
+            .put(
+                BaseCatalog.TABLE_CACHE_ENABLED,
+                PropertyEntry.booleanPropertyEntry(
+                    BaseCatalog.TABLE_CACHE_ENABLED,
+                    "Whether to cache the loaded tables of the catalog",
+                    false,
+                    false,
+                    false,
+                    false,
+                    false))
+            .put(
+                BaseCatalog.TABLE_CACHE_MAX_SIZE,
+                PropertyEntry.longOptionalPropertyEntry(
+                    BaseCatalog.TABLE_CACHE_MAX_SIZE,
+                    "The maximum number of the cached tables of the catalog",
+                    false,
+                    1000L,
+                    false))
+            .put(
+                BaseCatalog.TABLE_CACHE_EXPIRE_TIME_MS,
+                PropertyEntry.longOptionalPropertyEntry(
+                    BaseCatalog.TABLE_CACHE_EXPIRE_TIME_MS,
+                    "The time in milliseconds a cached table of the catalog is kept",
+                    false,
+                    60000L,
+                    false))
             .put(
                 AUTHORIZATION_PROVIDER,
                 PropertyEntry.stringImmutablePropertyEntry(
@@ -113,6 +113,51 @@ public class TestPartitionOperationDispatcher extends TestOperationDispatcher {
     Assertions.assertTrue(Arrays.asList(partitions).contains(PARTITION));
   }
 
+  @Test
+  public void testListPartitionNamesByFilter() {
+    String[] partitionNames = partitionOperationDispatcher.listPartitionNames(TABLE_IDENT, null);
+    Assertions.assertTrue(Arrays.asList(partitionNames).contains(PARTITION.name()));
+    Assertions.assertThrows(
+        UnsupportedOperationException.class,
+        () -> partitionOperationDispatcher.listPartitionNames(TABLE_IDENT, "col1 = \"v1\""));
+  }
+
+  @Test
+  public void testListPartitionNamesByPage() {
+    String[] allNames = partitionOperationDispatcher.listPartitionNames(TABLE_IDENT);
+    Arrays.sort(allNames);
+
+    String[] firstPage =
+        partitionOperationDispatcher.listPartitionNames(TABLE_IDENT, null, null, 1);
+    Assertions.assertArrayEquals(Arrays.copyOfRange(allNames, 0, 1), firstPage);
+    String[] restPages =
+        partitionOperationDispatcher.listPartitionNames(
+            TABLE_IDENT, null, firstPage[0], allNames.length);
+    Assertions.assertArrayEquals(Arrays.copyOfRange(allNames, 1, allNames.length), restPages);
+    Assertions.assertThrows(
+        UnsupportedOperationException.class,
+        () ->
+            partitionOperationDispatcher.listPartitionNames(
+                TABLE_IDENT, "col1 = \"v1\"", null, 1));
+  }
+
+  @Test
+  public void testListPartitionsByFilter() {
+    Partition[] partitions = partitionOperationDispatcher.listPartitions(TABLE_IDENT, "");
+    Assertions.assertTrue(Arrays.asList(partitions).contains(PARTITION));
+    Assertions.assertThrows(
+        UnsupportedOperationException.class,
+        () -> partitionOperationDispatcher.listPartitions(TABLE_IDENT, "col1 = \"v1\""));
+  }
+
+  @Test
+  public void testGetPartitions() {
+    Partition[] partitions =
+        partitionOperationDispatcher.getPartitions(
+            TABLE_IDENT, new String[] {"not_exist", PARTITION.name()});
+    Assertions.assertArrayEquals(new Partition[] {PARTITION}, partitions);
+  }
+
   @Test
   public void testGetPartition() {
     Partition p = partitionOperationDispatcher.getPartition(TABLE_IDENT, PARTITION.name());
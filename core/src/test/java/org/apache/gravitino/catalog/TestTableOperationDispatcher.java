@@ -41,6 +41,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.CatalogChange;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
@@ -48,8 +50,10 @@ import org.apache.gravitino.Namespace;
 import org.apache.gravitino.TestCatalog;
 import org.apache.gravitino.TestColumn;
 import org.apache.gravitino.auth.AuthConstants;
+import org.apache.gravitino.connector.BaseCatalog;
 import org.apache.gravitino.connector.TestCatalogOperations;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.exceptions.NoSuchTableException;
 import org.apache.gravitino.lock.LockManager;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.TableEntity;
@@ -230,6 +234,53 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
     Assertions.assertEquals("test", loadedTable4.auditInfo().creator());
   }
 
+  @Test
+  public void testCreateAndLoadTables() throws IOException {
+    Namespace tableNs = Namespace.of(metalake, catalog, "schema52");
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    schemaOperationDispatcher.createSchema(NameIdentifier.of(tableNs.levels()), "comment", props);
+
+    NameIdentifier tableIdent1 = NameIdentifier.of(tableNs, "table21");
+    NameIdentifier tableIdent2 = NameIdentifier.of(tableNs, "table22");
+    NameIdentifier missingIdent = NameIdentifier.of(tableNs, "table23");
+    Column[] columns =
+        new Column[] {
+          TestColumn.builder().withName("col1").withType(Types.StringType.get()).build()
+        };
+    tableOperationDispatcher.createTable(tableIdent1, columns, "comment", props, new Transform[0]);
+    tableOperationDispatcher.createTable(tableIdent2, columns, "comment", props, new Transform[0]);
+
+    Table[] tables = tableOperationDispatcher.loadTables(tableIdent2, missingIdent, tableIdent1);
+    Assertions.assertEquals(2, tables.length);
+    Assertions.assertEquals("table22", tables[0].name());
+    Assertions.assertEquals("table21", tables[1].name());
+    // Audit info is gotten from the entity store
+    Assertions.assertEquals(AuthConstants.ANONYMOUS_USER, tables[0].auditInfo().creator());
+    Assertions.assertEquals(AuthConstants.ANONYMOUS_USER, tables[1].auditInfo().creator());
+
+    // Test if the table entity is not found in the entity store, the table is imported
+    entityStore.delete(tableIdent2, TABLE);
+    tables = tableOperationDispatcher.loadTables(tableIdent1, tableIdent2);
+    Assertions.assertEquals(2, tables.length);
+    Assertions.assertTrue(entityStore.exists(tableIdent2, TABLE));
+    // Audit info is gotten from the catalog, not from the entity store
+    Assertions.assertEquals("test", tables[1].auditInfo().creator());
+    TableEntity tableImportedEntity = entityStore.get(tableIdent2, TABLE, TableEntity.class);
+    Assertions.assertEquals("test", tableImportedEntity.auditInfo().creator());
+
+    // The tables of different schemas are returned in the order of the specified identifiers
+    Namespace otherTableNs = Namespace.of(metalake, catalog, "schema53");
+    schemaOperationDispatcher.createSchema(
+        NameIdentifier.of(otherTableNs.levels()), "comment", props);
+    NameIdentifier tableIdent3 = NameIdentifier.of(otherTableNs, "table24");
+    tableOperationDispatcher.createTable(tableIdent3, columns, "comment", props, new Transform[0]);
+    tables = tableOperationDispatcher.loadTables(tableIdent1, tableIdent3, tableIdent2);
+    Assertions.assertEquals(3, tables.length);
+    Assertions.assertEquals("table21", tables[0].name());
+    Assertions.assertEquals("table24", tables[1].name());
+    Assertions.assertEquals("table22", tables[2].name());
+  }
+
   @Test
   public void testCreateAndAlterTable() throws IOException {
     Namespace tableNs = Namespace.of(metalake, catalog, "schema61");
@@ -326,6 +377,74 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
         RuntimeException.class, () -> tableOperationDispatcher.dropTable(tableIdent));
   }
 
+  @Test
+  public void testLoadTableWithTableCache() throws IOException {
+    NameIdentifier catalogIdent = NameIdentifier.of(metalake, "catalog_with_table_cache");
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    catalogManager.createCatalog(
+        catalogIdent,
+        Catalog.Type.RELATIONAL,
+        "test",
+        "comment",
+        ImmutableMap.of("key1", "value1", "key2", "value2"));
+    catalogManager.loadCatalogAndWrap(catalogIdent).enableTableCache(100L, 60000L);
+
+    Namespace tableNs = Namespace.of(metalake, catalogIdent.name(), "schema191");
+    NameIdentifier tableIdent = NameIdentifier.of(tableNs, "table91");
+    schemaOperationDispatcher.createSchema(NameIdentifier.of(tableNs.levels()), "comment", props);
+    Column[] columns =
+        new Column[] {
+          TestColumn.builder().withName("col1").withType(Types.StringType.get()).build()
+        };
+    tableOperationDispatcher.createTable(tableIdent, columns, "comment", props, new Transform[0]);
+
+    Table loadedTable1 = tableOperationDispatcher.loadTable(tableIdent);
+    Assertions.assertSame(loadedTable1, tableOperationDispatcher.loadTable(tableIdent));
+
+    // Altering the table invalidates the cached table
+    tableOperationDispatcher.alterTable(tableIdent, TableChange.setProperty("k3", "v3"));
+    Table loadedTable2 = tableOperationDispatcher.loadTable(tableIdent);
+    Assertions.assertNotSame(loadedTable1, loadedTable2);
+    Assertions.assertEquals("v3", loadedTable2.properties().get("k3"));
+    Assertions.assertSame(loadedTable2, tableOperationDispatcher.loadTable(tableIdent));
+
+    // Dropping the table invalidates the cached table
+    Assertions.assertTrue(tableOperationDispatcher.dropTable(tableIdent));
+    Assertions.assertThrows(
+        NoSuchTableException.class, () -> tableOperationDispatcher.loadTable(tableIdent));
+  }
+
+  @Test
+  public void testTableCacheEnabledByCatalogProperty() throws IOException {
+    NameIdentifier catalogIdent = NameIdentifier.of(metalake, "catalog_with_table_cache_prop");
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    catalogManager.createCatalog(
+        catalogIdent,
+        Catalog.Type.RELATIONAL,
+        "test",
+        "comment",
+        ImmutableMap.of(
+            "key1", "value1", "key2", "value2", BaseCatalog.TABLE_CACHE_ENABLED, "true"));
+
+    Namespace tableNs = Namespace.of(metalake, catalogIdent.name(), "schema192");
+    NameIdentifier tableIdent = NameIdentifier.of(tableNs, "table92");
+    schemaOperationDispatcher.createSchema(NameIdentifier.of(tableNs.levels()), "comment", props);
+    Column[] columns =
+        new Column[] {
+          TestColumn.builder().withName("col1").withType(Types.StringType.get()).build()
+        };
+    tableOperationDispatcher.createTable(tableIdent, columns, "comment", props, new Transform[0]);
+
+    Table loadedTable = tableOperationDispatcher.loadTable(tableIdent);
+    Assertions.assertSame(loadedTable, tableOperationDispatcher.loadTable(tableIdent));
+
+    // Disabling the table cache by the catalog property reloads the table every time
+    catalogManager.alterCatalog(
+        catalogIdent, CatalogChange.setProperty(BaseCatalog.TABLE_CACHE_ENABLED, "false"));
+    loadedTable = tableOperationDispatcher.loadTable(tableIdent);
+    Assertions.assertNotSame(loadedTable, tableOperationDispatcher.loadTable(tableIdent));
+  }
+
   @Test
   public void testCreateTableNeedImportingSchema() throws IOException {
     Namespace tableNs = Namespace.of(metalake, catalog, "schema181");
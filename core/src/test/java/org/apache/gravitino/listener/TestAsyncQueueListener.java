@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.listener;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.listener.api.BatchEventListenerPlugin;
+import org.apache.gravitino.listener.api.event.Event;
+import org.apache.gravitino.metrics.MetricNames;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestAsyncQueueListener {
+
+  static class DummyBatchEventListener implements BatchEventListenerPlugin {
+    private final List<List<Event>> batches = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch blocker;
+
+    DummyBatchEventListener(CountDownLatch blocker) {
+      this.blocker = blocker;
+    }
+
+    @Override
+    public void init(Map<String, String> properties) {}
+
+    @Override
+    public void start() {}
+
+    @Override
+    public void stop() {}
+
+    @Override
+    public void onPostEvents(List<Event> events) {
+      try {
+        blocker.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      batches.add(ImmutableList.copyOf(events));
+    }
+
+    @Override
+    public Mode mode() {
+      return Mode.ASYNC_ISOLATED;
+    }
+
+    List<Event> events() {
+      synchronized (batches) {
+        return batches.stream().flatMap(List::stream).collect(Collectors.toList());
+      }
+    }
+  }
+
+  @Test
+  void testBatchDelivery() {
+    CountDownLatch blocker = new CountDownLatch(1);
+    DummyBatchEventListener batchListener = new DummyBatchEventListener(blocker);
+    AsyncQueueListener listener =
+        createListener(
+            Lists.newArrayList(new EventListenerPluginWrapper("batch", batchListener)),
+            100,
+            AsyncQueueListener.QueueFullPolicy.DROP);
+    listener.start();
+
+    List<Event> events = createEvents(10);
+    events.forEach(listener::onPostEvent);
+    blocker.countDown();
+
+    Awaitility.await()
+        .atMost(20, TimeUnit.SECONDS)
+        .pollInterval(10, TimeUnit.MILLISECONDS)
+        .until(() -> batchListener.events().size() == events.size());
+    Assertions.assertEquals(events, batchListener.events());
+    // The events queued while the listener is blocked are delivered together.
+    Assertions.assertTrue(batchListener.batches.size() < events.size());
+
+    listener.stop();
+  }
+
+  @Test
+  void testSlowListenerDoesNotBlockOthers() {
+    CountDownLatch blocker = new CountDownLatch(1);
+    DummyBatchEventListener slowListener = new DummyBatchEventListener(blocker);
+    DummyEventListener fastListener = new DummyEventListener();
+    AsyncQueueListener listener =
+        createListener(
+            Lists.newArrayList(
+                new EventListenerPluginWrapper("slow", slowListener),
+                new EventListenerPluginWrapper("fast", fastListener)),
+            100,
+            AsyncQueueListener.QueueFullPolicy.DROP);
+    listener.start();
+
+    List<Event> events = createEvents(5);
+    events.forEach(listener::onPostEvent);
+    Awaitility.await()
+        .atMost(20, TimeUnit.SECONDS)
+        .pollInterval(10, TimeUnit.MILLISECONDS)
+        .until(() -> fastListener.getEvents().size() == events.size());
+    Assertions.assertTrue(slowListener.events().isEmpty());
+
+    blocker.countDown();
+    listener.stop();
+    Assertions.assertEquals(events, slowListener.events());
+  }
+
+  @Test
+  void testDropEventsWhenQueueIsFull() {
+    CountDownLatch blocker = new CountDownLatch(1);
+    DummyBatchEventListener batchListener = new DummyBatchEventListener(blocker);
+    AsyncQueueListener listener =
+        createListener(
+            Lists.newArrayList(new EventListenerPluginWrapper("batch", batchListener)),
+            2,
+            AsyncQueueListener.QueueFullPolicy.BLOCK);
+    listener.start();
+
+    createEvents(10).forEach(listener::onPostEvent);
+    // At most one batch is in flight and two events are queued.
+    long dropped =
+        listener
+            .getMetricsSource()
+            .getCounter("batch." + MetricNames.EVENT_QUEUE_DROPPED_COUNT)
+            .getCount();
+    Assertions.assertTrue(dropped >= 10 - 2 - 2, "Dropped events: " + dropped);
+
+    blocker.countDown();
+    listener.stop();
+    Assertions.assertEquals(10 - dropped, batchListener.events().size());
+  }
+
+  @Test
+  void testEventRingBuffer() {
+    EventRingBuffer ringBuffer = new EventRingBuffer(3);
+    List<Event> events = createEvents(5);
+    Assertions.assertTrue(ringBuffer.isEmpty());
+
+    Assertions.assertTrue(ringBuffer.offer(events.get(0)));
+    Assertions.assertTrue(ringBuffer.offer(events.get(1)));
+    Assertions.assertTrue(ringBuffer.offer(events.get(2)));
+    Assertions.assertFalse(ringBuffer.offer(events.get(3)));
+    Assertions.assertEquals(3, ringBuffer.size());
+
+    List<Event> drained = new ArrayList<>();
+    Assertions.assertEquals(2, ringBuffer.drain(drained, 2));
+    Assertions.assertEquals(events.subList(0, 2), drained);
+
+    // The released slots are reused after wrapping around.
+    Assertions.assertTrue(ringBuffer.offer(events.get(3)));
+    Assertions.assertTrue(ringBuffer.offer(events.get(4)));
+    Assertions.assertFalse(ringBuffer.offer(events.get(0)));
+
+    drained.clear();
+    Assertions.assertEquals(3, ringBuffer.drain(drained, 10));
+    Assertions.assertEquals(events.subList(2, 5), drained);
+    Assertions.assertTrue(ringBuffer.isEmpty());
+    Assertions.assertEquals(0, ringBuffer.size());
+  }
+
+  private static AsyncQueueListener createListener(
+      List<EventListenerPluginWrapper> listeners,
+      int queueCapacity,
+      AsyncQueueListener.QueueFullPolicy policy) {
+    return new AsyncQueueListener(listeners, "test", queueCapacity, 3, policy, 10L, 100);
+  }
+
+  private static List<Event> createEvents(int count) {
+    List<Event> events = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      events.add(
+          new TestEventListenerManager.DummyEvent("user", NameIdentifier.of("a", "b" + i)));
+    }
+    return events;
+  }
+}
@@ -26,6 +26,9 @@ import static org.mockito.Mockito.doThrow;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -102,4 +105,45 @@ class TestTreeLock {
     Mockito.verify(mockNode2, Mockito.never()).unlock(Mockito.any());
     Mockito.verify(mockNode3, Mockito.never()).unlock(Mockito.any());
   }
+
+  @Test
+  void testSampleWaitingTime() throws InterruptedException {
+    TreeLockNode node = new TreeLockNode("node");
+    Assertions.assertEquals(0, node.sampleWaitingTime(1000L));
+
+    node.lock(LockType.WRITE);
+    Thread waiter =
+        new Thread(
+            () -> {
+              node.lock(LockType.READ);
+              node.unlock(LockType.READ);
+            });
+    try {
+      waiter.start();
+      Awaitility.await()
+          .atMost(10, TimeUnit.SECONDS)
+          .until(() -> waiter.getState() == Thread.State.WAITING);
+
+      // The first sample only starts tracking the waiting thread.
+      Assertions.assertEquals(0, node.sampleWaitingTime(1000L));
+      Assertions.assertEquals(4000L, node.sampleWaitingTime(5000L));
+    } finally {
+      node.unlock(LockType.WRITE);
+    }
+
+    waiter.join();
+    Assertions.assertEquals(0, node.sampleWaitingTime(6000L));
+  }
+
+  @Test
+  void testRemovedNodeCannotBeReferenced() {
+    TreeLockNode node = new TreeLockNode("node");
+    Assertions.assertTrue(node.tryAddReference());
+    Assertions.assertFalse(node.tryMarkRemoved());
+
+    node.decReference();
+    Assertions.assertTrue(node.tryMarkRemoved());
+    Assertions.assertFalse(node.tryAddReference());
+    Assertions.assertEquals(-1, node.getReference());
+  }
 }
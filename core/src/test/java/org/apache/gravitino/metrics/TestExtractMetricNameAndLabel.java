@@ -79,5 +79,19 @@ public class TestExtractMetricNameAndLabel {
             + "_"
             + Collector.sanitizeMetricName(MetricNames.HTTP_PROCESS_DURATION),
         ImmutableMap.of("operation", "update-table"));
+
+    checkResult(
+        MetricsSource.HIVE_CATALOG_METRIC_NAME
+            + ".metalake1.catalog1.user1."
+            + MetricNames.CLIENT_POOL_IN_USE,
+        "client_pool_in_use",
+        ImmutableMap.of("metalake", "metalake1", "catalog", "catalog1", "user", "user1"));
+
+    checkResult(
+        MetricsSource.HIVE_CATALOG_METRIC_NAME
+            + ".metalake1.catalog2.user2."
+            + MetricNames.CLIENT_POOL_BORROW_WAIT,
+        "client_pool_borrow_wait",
+        ImmutableMap.of("metalake", "metalake1", "catalog", "catalog2", "user", "user2"));
   }
 }
@@ -33,6 +33,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 
@@ -292,7 +293,9 @@ public class TestRocksDBKvBackend {
     RocksDB db = rocksDBKvBackend.getDb();
     RocksDB spyDb = Mockito.spy(db);
 
-    Mockito.when(spyDb.newIterator()).thenThrow(new RuntimeException("Mock: RocksDB is broken"));
+    Mockito.doThrow(new RuntimeException("Mock: RocksDB is broken"))
+        .when(spyDb)
+        .newIterator(Mockito.any(ReadOptions.class));
     rocksDBKvBackend.setDb(spyDb);
 
     Exception e =
@@ -340,7 +343,9 @@ public class TestRocksDBKvBackend {
     RocksDB db = rocksDBKvBackend.getDb();
     RocksDB spyDb = Mockito.spy(db);
 
-    Mockito.when(spyDb.newIterator()).thenThrow(new RuntimeException("Mock: RocksDB is broken"));
+    Mockito.doThrow(new RuntimeException("Mock: RocksDB is broken"))
+        .when(spyDb)
+        .newIterator(Mockito.any(ReadOptions.class));
     rocksDBKvBackend.setDb(spyDb);
 
     Exception e =
@@ -388,7 +393,9 @@ public class TestRocksDBKvBackend {
     RocksDB db = rocksDBKvBackend.getDb();
     RocksDB spyDb = Mockito.spy(db);
 
-    Mockito.when(spyDb.newIterator()).thenThrow(new RuntimeException("Mock: RocksDB is broken"));
+    Mockito.doThrow(new RuntimeException("Mock: RocksDB is broken"))
+        .when(spyDb)
+        .newIterator(Mockito.any(ReadOptions.class));
     rocksDBKvBackend.setDb(spyDb);
 
     Exception e =
@@ -455,7 +462,7 @@ public class TestRocksDBKvBackend {
     RocksDB db = rocksDBKvBackend.getDb();
     RocksDB spyDb = Mockito.spy(db);
 
-    Mockito.when(spyDb.newIterator()).thenCallRealMethod();
+    Mockito.doCallRealMethod().when(spyDb).newIterator(Mockito.any(ReadOptions.class));
     Assertions.assertDoesNotThrow(() -> kvBackend.scan(kvRange));
   }
 }
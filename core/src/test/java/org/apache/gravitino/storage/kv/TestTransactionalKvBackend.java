@@ -239,6 +239,68 @@ class TestTransactionalKvBackend {
     transactionIdGenerator.close();
   }
 
+  @Test
+  void testScanAcrossBatches() throws IOException {
+    Config config = getConfig();
+    KvBackend kvBackend = getKvBackEnd(config);
+    TransactionIdGenerator transactionIdGenerator =
+        new TransactionIdGeneratorImpl(kvBackend, config);
+    TransactionalKvBackend transactionalKvBackend =
+        new TransactionalKvBackendImpl(kvBackend, transactionIdGenerator);
+
+    // Two committed versions of every key make the raw pairs span several scan batches.
+    int keyCount = TransactionalKvBackendImpl.SCAN_BATCH_SIZE + 500;
+    for (String value : Lists.newArrayList("old", "new")) {
+      transactionalKvBackend.begin();
+      for (int i = 0; i < keyCount; i++) {
+        transactionalKvBackend.put(
+            String.format("key%05d", i).getBytes(), (value + i).getBytes(), true);
+      }
+      transactionalKvBackend.commit();
+    }
+
+    transactionalKvBackend.begin();
+    transactionalKvBackend.delete(String.format("key%05d", 0).getBytes());
+    transactionalKvBackend.commit();
+
+    // A version without commit mark is not visible.
+    kvBackend.put(
+        TransactionalKvBackendImpl.generateKey(
+            String.format("key%05d", 1).getBytes(), transactionIdGenerator.nextId()),
+        "uncommitted".getBytes(),
+        true);
+
+    transactionalKvBackend.begin();
+    List<Pair<byte[], byte[]>> pairs =
+        transactionalKvBackend.scan(
+            new KvRange.KvRangeBuilder()
+                .start("key".getBytes())
+                .end("kez".getBytes())
+                .startInclusive(true)
+                .endInclusive(false)
+                .build());
+    Assertions.assertEquals(keyCount - 1, pairs.size());
+    for (int i = 1; i < keyCount; i++) {
+      Pair<byte[], byte[]> pair = pairs.get(i - 1);
+      Assertions.assertEquals(String.format("key%05d", i), new String(pair.getKey()));
+      Assertions.assertEquals("new" + i, new String(pair.getValue()));
+    }
+
+    pairs =
+        transactionalKvBackend.scan(
+            new KvRange.KvRangeBuilder()
+                .start("key".getBytes())
+                .end("kez".getBytes())
+                .startInclusive(true)
+                .endInclusive(false)
+                .limit(10)
+                .build());
+    Assertions.assertEquals(10, pairs.size());
+    Assertions.assertEquals(String.format("key%05d", 10), new String(pairs.get(9).getKey()));
+    transactionalKvBackend.close();
+    transactionIdGenerator.close();
+  }
+
   @Test
   void testDeleteRange() throws IOException {
     Config config = getConfig();
@@ -19,6 +19,9 @@
 package org.apache.gravitino.storage.relational;
 
 import static org.apache.gravitino.Configs.DEFAULT_ENTITY_RELATIONAL_STORE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CACHE_ENABLED;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CACHE_EXPIRE_TIME_MS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CACHE_MAX_ENTRIES;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL;
@@ -56,11 +59,13 @@ import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.authorization.AuthorizationUtils;
 import org.apache.gravitino.authorization.Privileges;
 import org.apache.gravitino.authorization.SecurableObject;
 import org.apache.gravitino.authorization.SecurableObjects;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.BaseMetalake;
@@ -77,6 +82,7 @@ import org.apache.gravitino.meta.UserEntity;
 import org.apache.gravitino.storage.RandomIdGenerator;
 import org.apache.gravitino.storage.relational.mapper.GroupMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.UserMetaMapper;
+import org.apache.gravitino.storage.relational.service.CommonMetaService;
 import org.apache.gravitino.storage.relational.service.RoleMetaService;
 import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
 import org.apache.gravitino.storage.relational.utils.SessionUtils;
@@ -1036,6 +1042,142 @@ public class TestJDBCBackend {
     }
   }
 
+  @Test
+  public void testGetParentEntityIdByNamespace() throws IOException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), "metalake", auditInfo);
+    backend.insert(metalake, false);
+    CatalogEntity catalog =
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(),
+            NamespaceUtil.ofCatalog("metalake"),
+            "catalog",
+            auditInfo);
+    backend.insert(catalog, false);
+    SchemaEntity schema =
+        createSchemaEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            NamespaceUtil.ofSchema("metalake", "catalog"),
+            "schema",
+            auditInfo);
+    backend.insert(schema, false);
+
+    Config cacheConfig = Mockito.mock(Config.class);
+    Mockito.when(cacheConfig.get(ENTITY_RELATIONAL_CACHE_ENABLED)).thenReturn(true);
+    Mockito.when(cacheConfig.get(ENTITY_RELATIONAL_CACHE_MAX_ENTRIES)).thenReturn(100L);
+    Mockito.when(cacheConfig.get(ENTITY_RELATIONAL_CACHE_EXPIRE_TIME_MS)).thenReturn(60_000L);
+    CommonMetaService commonMetaService = CommonMetaService.getInstance();
+    commonMetaService.initialize(cacheConfig);
+    try {
+      assertEquals(
+          metalake.id(),
+          commonMetaService.getCachedParentEntityIdByNamespace(Namespace.of("metalake")));
+      assertEquals(
+          catalog.id(),
+          commonMetaService.getCachedParentEntityIdByNamespace(
+              Namespace.of("metalake", "catalog")));
+      assertEquals(
+          schema.id(),
+          commonMetaService.getCachedParentEntityIdByNamespace(
+              Namespace.of("metalake", "catalog", "schema")));
+      assertThrows(
+          NoSuchEntityException.class,
+          () ->
+              commonMetaService.getCachedParentEntityIdByNamespace(
+                  Namespace.of("metalake", "catalog", "schema1")));
+
+      // Renaming the catalog invalidates the cached ids under the old catalog name.
+      backend.update(
+          catalog.nameIdentifier(),
+          Entity.EntityType.CATALOG,
+          e ->
+              createCatalog(
+                  catalog.id(), NamespaceUtil.ofCatalog("metalake"), "catalog1", auditInfo));
+      assertThrows(
+          NoSuchEntityException.class,
+          () ->
+              commonMetaService.getCachedParentEntityIdByNamespace(
+                  Namespace.of("metalake", "catalog", "schema")));
+      assertEquals(
+          schema.id(),
+          commonMetaService.getCachedParentEntityIdByNamespace(
+              Namespace.of("metalake", "catalog1", "schema")));
+
+      // Dropping the schema invalidates its cached id.
+      backend.delete(
+          NameIdentifier.of("metalake", "catalog1", "schema"), Entity.EntityType.SCHEMA, false);
+      assertThrows(
+          NoSuchEntityException.class,
+          () ->
+              commonMetaService.getCachedParentEntityIdByNamespace(
+                  Namespace.of("metalake", "catalog1", "schema")));
+    } finally {
+      commonMetaService.initialize(config);
+    }
+  }
+
+  @Test
+  public void testBatchInsertGetAndDeleteTables() throws IOException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    backend.insert(
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), "metalake", auditInfo), false);
+    backend.insert(
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(),
+            NamespaceUtil.ofCatalog("metalake"),
+            "catalog",
+            auditInfo),
+        false);
+    backend.insert(
+        createSchemaEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            NamespaceUtil.ofSchema("metalake", "catalog"),
+            "schema",
+            auditInfo),
+        false);
+
+    // More tables than the rows of one statement, so the batch is split into several statements.
+    Namespace tableNamespace = NamespaceUtil.ofTable("metalake", "catalog", "schema");
+    List<TableEntity> tables = Lists.newArrayList();
+    for (int i = 0; i < 1200; i++) {
+      tables.add(
+          createTableEntity(
+              RandomIdGenerator.INSTANCE.nextId(), tableNamespace, "table" + i, auditInfo));
+    }
+    backend.batchInsert(tables, false);
+    assertEquals(1200, backend.list(tableNamespace, Entity.EntityType.TABLE, true).size());
+
+    assertThrows(
+        EntityAlreadyExistsException.class,
+        () -> backend.batchInsert(Lists.newArrayList(tables.get(0)), false));
+    TableEntity overwritten =
+        createTableEntity(tables.get(0).id(), tableNamespace, "table0", auditInfo);
+    backend.batchInsert(Lists.newArrayList(overwritten), true);
+
+    List<NameIdentifier> idents =
+        Lists.newArrayList(
+            tables.get(700).nameIdentifier(),
+            NameIdentifier.of(tableNamespace, "not_exist"),
+            NameIdentifier.of("metalake", "catalog", "not_exist_schema", "table1"),
+            tables.get(3).nameIdentifier());
+    List<TableEntity> loaded = backend.batchGet(idents, Entity.EntityType.TABLE);
+    assertEquals(Lists.newArrayList(tables.get(700), tables.get(3)), loaded);
+
+    List<NameIdentifier> toDelete = Lists.newArrayList();
+    for (int i = 0; i < 600; i++) {
+      toDelete.add(tables.get(i).nameIdentifier());
+    }
+    toDelete.add(NameIdentifier.of(tableNamespace, "not_exist"));
+    assertEquals(600, backend.batchDelete(toDelete, Entity.EntityType.TABLE, false));
+    assertEquals(600, backend.list(tableNamespace, Entity.EntityType.TABLE, true).size());
+    assertFalse(backend.exists(tables.get(0).nameIdentifier(), Entity.EntityType.TABLE));
+    assertTrue(backend.exists(tables.get(600).nameIdentifier(), Entity.EntityType.TABLE));
+    assertEquals(0, backend.batchDelete(toDelete, Entity.EntityType.TABLE, false));
+  }
+
   public static BaseMetalake createBaseMakeLake(Long id, String name, AuditInfo auditInfo) {
     return BaseMetalake.builder()
         .withId(id)
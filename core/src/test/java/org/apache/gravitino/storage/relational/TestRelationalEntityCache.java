@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CACHE_EXPIRE_TIME_MS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CACHE_MAX_ENTRIES;
+
+import com.google.common.collect.Lists;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.meta.UserEntity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestRelationalEntityCache {
+
+  private static final AuditInfo AUDIT_INFO =
+      AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+  private RelationalEntityCache cache;
+
+  @BeforeEach
+  public void setUp() {
+    Config config = Mockito.mock(Config.class);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CACHE_MAX_ENTRIES)).thenReturn(100L);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CACHE_EXPIRE_TIME_MS)).thenReturn(60_000L);
+    cache = new RelationalEntityCache(config);
+  }
+
+  @Test
+  public void testGetIsCached() throws IOException {
+    SchemaEntity schema =
+        TestJDBCBackend.createSchemaEntity(
+            1L, Namespace.of("metalake", "catalog"), "schema", AUDIT_INFO);
+    AtomicInteger loads = new AtomicInteger();
+
+    for (int i = 0; i < 3; i++) {
+      SchemaEntity loaded =
+          cache.get(
+              schema.nameIdentifier(),
+              Entity.EntityType.SCHEMA,
+              () -> {
+                loads.incrementAndGet();
+                return schema;
+              });
+      Assertions.assertEquals(schema, loaded);
+    }
+    Assertions.assertEquals(1, loads.get());
+    Assertions.assertTrue(cache.contains(schema.nameIdentifier(), Entity.EntityType.SCHEMA));
+    Assertions.assertFalse(cache.contains(schema.nameIdentifier(), Entity.EntityType.TABLE));
+
+    cache.invalidate(schema.nameIdentifier());
+    Assertions.assertFalse(cache.contains(schema.nameIdentifier(), Entity.EntityType.SCHEMA));
+    cache.get(
+        schema.nameIdentifier(),
+        Entity.EntityType.SCHEMA,
+        () -> {
+          loads.incrementAndGet();
+          return schema;
+        });
+    Assertions.assertEquals(2, loads.get());
+  }
+
+  @Test
+  public void testNonCacheableEntityType() throws IOException {
+    UserEntity user =
+        TestJDBCBackend.createUserEntity(
+            1L, Namespace.of("metalake", "system", "user"), "user", AUDIT_INFO);
+    AtomicInteger loads = new AtomicInteger();
+
+    for (int i = 0; i < 2; i++) {
+      cache.get(
+          user.nameIdentifier(),
+          Entity.EntityType.USER,
+          () -> {
+            loads.incrementAndGet();
+            return user;
+          });
+    }
+    Assertions.assertEquals(2, loads.get());
+    Assertions.assertFalse(cache.contains(user.nameIdentifier(), Entity.EntityType.USER));
+  }
+
+  @Test
+  public void testInvalidateCascades() throws IOException {
+    Namespace schemaNamespace = Namespace.of("metalake", "catalog");
+    Namespace tableNamespace = Namespace.of("metalake", "catalog", "schema");
+    SchemaEntity schema =
+        TestJDBCBackend.createSchemaEntity(1L, schemaNamespace, "schema", AUDIT_INFO);
+    TableEntity table = TestJDBCBackend.createTableEntity(2L, tableNamespace, "table", AUDIT_INFO);
+    TableEntity otherTable =
+        TestJDBCBackend.createTableEntity(
+            3L, Namespace.of("metalake", "catalog", "schema2"), "table", AUDIT_INFO);
+
+    cache.get(schema.nameIdentifier(), Entity.EntityType.SCHEMA, () -> schema);
+    cache.get(table.nameIdentifier(), Entity.EntityType.TABLE, () -> table);
+    cache.get(otherTable.nameIdentifier(), Entity.EntityType.TABLE, () -> otherTable);
+    cache.list(tableNamespace, Entity.EntityType.TABLE, false, () -> Lists.newArrayList(table));
+    cache.list(schemaNamespace, Entity.EntityType.SCHEMA, false, () -> Lists.newArrayList(schema));
+
+    // Dropping the schema invalidates the schema, the tables under it and the schema list.
+    cache.invalidate(NameIdentifier.of("metalake", "catalog", "schema"));
+    Assertions.assertFalse(cache.contains(schema.nameIdentifier(), Entity.EntityType.SCHEMA));
+    Assertions.assertFalse(cache.contains(table.nameIdentifier(), Entity.EntityType.TABLE));
+    Assertions.assertTrue(cache.contains(otherTable.nameIdentifier(), Entity.EntityType.TABLE));
+
+    AtomicInteger loads = new AtomicInteger();
+    List<TableEntity> tables =
+        cache.list(
+            tableNamespace,
+            Entity.EntityType.TABLE,
+            false,
+            () -> {
+              loads.incrementAndGet();
+              return Lists.newArrayList();
+            });
+    Assertions.assertTrue(tables.isEmpty());
+    cache.list(
+        schemaNamespace,
+        Entity.EntityType.SCHEMA,
+        false,
+        () -> {
+          loads.incrementAndGet();
+          return Lists.newArrayList();
+        });
+    Assertions.assertEquals(2, loads.get());
+  }
+
+  @Test
+  public void testLoadRacingWithInvalidationIsNotCached() throws IOException {
+    Namespace tableNamespace = Namespace.of("metalake", "catalog", "schema");
+    TableEntity table = TestJDBCBackend.createTableEntity(1L, tableNamespace, "table", AUDIT_INFO);
+
+    // The write lands and invalidates the table after the loader has read the old value.
+    cache.get(
+        table.nameIdentifier(),
+        Entity.EntityType.TABLE,
+        () -> {
+          cache.invalidate(table.nameIdentifier());
+          return table;
+        });
+    Assertions.assertFalse(cache.contains(table.nameIdentifier(), Entity.EntityType.TABLE));
+
+    cache.list(
+        tableNamespace,
+        Entity.EntityType.TABLE,
+        false,
+        () -> {
+          cache.invalidate(table.nameIdentifier());
+          return Lists.newArrayList(table);
+        });
+    List<TableEntity> tables =
+        cache.list(tableNamespace, Entity.EntityType.TABLE, false, Lists::newArrayList);
+    Assertions.assertTrue(tables.isEmpty());
+  }
+
+  @Test
+  public void testInvalidateLeafEntity() throws IOException {
+    Namespace tableNamespace = Namespace.of("metalake", "catalog", "schema");
+    TableEntity table1 = TestJDBCBackend.createTableEntity(1L, tableNamespace, "t1", AUDIT_INFO);
+    TableEntity table2 = TestJDBCBackend.createTableEntity(2L, tableNamespace, "t2", AUDIT_INFO);
+    cache.get(table1.nameIdentifier(), Entity.EntityType.TABLE, () -> table1);
+    cache.get(table2.nameIdentifier(), Entity.EntityType.TABLE, () -> table2);
+    cache.list(tableNamespace, Entity.EntityType.TABLE, false, () -> Lists.newArrayList(table1));
+    cache.list(tableNamespace, Entity.EntityType.TABLE, true, () -> Lists.newArrayList(table1));
+
+    cache.invalidate(table2.nameIdentifier());
+    Assertions.assertTrue(cache.contains(table1.nameIdentifier(), Entity.EntityType.TABLE));
+    Assertions.assertFalse(cache.contains(table2.nameIdentifier(), Entity.EntityType.TABLE));
+    // Both lists of the namespace are invalidated.
+    Assertions.assertTrue(
+        cache.list(tableNamespace, Entity.EntityType.TABLE, false, Lists::newArrayList).isEmpty());
+    Assertions.assertTrue(
+        cache.list(tableNamespace, Entity.EntityType.TABLE, true, Lists::newArrayList).isEmpty());
+  }
+
+  @Test
+  public void testListReturnsCopy() throws IOException {
+    Namespace tableNamespace = Namespace.of("metalake", "catalog", "schema");
+    TableEntity table = TestJDBCBackend.createTableEntity(1L, tableNamespace, "table", AUDIT_INFO);
+
+    List<TableEntity> first =
+        cache.list(tableNamespace, Entity.EntityType.TABLE, true, () -> Lists.newArrayList(table));
+    first.clear();
+
+    List<TableEntity> second =
+        cache.list(
+            tableNamespace,
+            Entity.EntityType.TABLE,
+            true,
+            () -> {
+              throw new IOException("Should be served from the cache");
+            });
+    Assertions.assertEquals(1, second.size());
+    Assertions.assertEquals(table, second.get(0));
+  }
+
+  @Test
+  public void testGetAllLoadsOnlyMissingEntities() throws IOException {
+    Namespace tableNamespace = Namespace.of("metalake", "catalog", "schema");
+    TableEntity table1 = TestJDBCBackend.createTableEntity(1L, tableNamespace, "t1", AUDIT_INFO);
+    TableEntity table2 = TestJDBCBackend.createTableEntity(2L, tableNamespace, "t2", AUDIT_INFO);
+    NameIdentifier missing = NameIdentifier.of(tableNamespace, "t3");
+    cache.get(table1.nameIdentifier(), Entity.EntityType.TABLE, () -> table1);
+
+    List<List<NameIdentifier>> loadedIdents = Lists.newArrayList();
+    List<TableEntity> tables =
+        cache.getAll(
+            Lists.newArrayList(table2.nameIdentifier(), missing, table1.nameIdentifier()),
+            Entity.EntityType.TABLE,
+            idents -> {
+              loadedIdents.add(idents);
+              return Lists.newArrayList(table2);
+            });
+    Assertions.assertEquals(Lists.newArrayList(table2, table1), tables);
+    Assertions.assertEquals(1, loadedIdents.size());
+    Assertions.assertEquals(
+        Lists.newArrayList(table2.nameIdentifier(), missing), loadedIdents.get(0));
+    Assertions.assertTrue(cache.contains(table2.nameIdentifier(), Entity.EntityType.TABLE));
+
+    cache.invalidate(Lists.newArrayList(table1.nameIdentifier(), table2.nameIdentifier()));
+    Assertions.assertFalse(cache.contains(table1.nameIdentifier(), Entity.EntityType.TABLE));
+    Assertions.assertFalse(cache.contains(table2.nameIdentifier(), Entity.EntityType.TABLE));
+  }
+}
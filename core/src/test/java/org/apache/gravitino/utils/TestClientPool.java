@@ -22,6 +22,14 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.gravitino.exceptions.ConnectionFailedException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -68,14 +76,112 @@ public class TestClientPool {
     assertEquals(2, clientPool.poolSize());
   }
 
+  @Test
+  public void testClientsAreReused() throws Exception {
+    try (ClientPoolImplExtension pool = new ClientPoolImplExtension(2, 0, 0)) {
+      for (int i = 0; i < 5; i++) {
+        pool.run(client -> client.performAction("test"));
+      }
+      assertEquals(1, pool.createdClients.get());
+      assertEquals(1, pool.currentSize());
+      assertEquals(1, pool.idleSize());
+      assertEquals(0, pool.inUseSize());
+    }
+  }
+
+  @Test
+  public void testAcquireTimeout() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try (ClientPoolImplExtension pool = new ClientPoolImplExtension(1, 100, 0)) {
+      CountDownLatch borrowed = new CountDownLatch(1);
+      CountDownLatch done = new CountDownLatch(1);
+      Future<?> holder =
+          executor.submit(
+              () ->
+                  pool.run(
+                      client -> {
+                        borrowed.countDown();
+                        return done.await(10, TimeUnit.SECONDS);
+                      }));
+      assertTrue(borrowed.await(10, TimeUnit.SECONDS));
+      assertEquals(1, pool.inUseSize());
+
+      assertThrows(
+          ConnectionFailedException.class, () -> pool.run(client -> client.performAction("test")));
+
+      done.countDown();
+      holder.get(10, TimeUnit.SECONDS);
+      assertEquals("test", pool.run(client -> client.performAction("test")));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testIdleClientsAreEvicted() throws Exception {
+    try (ClientPoolImplExtension pool = new ClientPoolImplExtension(2, 0, 10)) {
+      pool.run(client -> client.performAction("test"));
+      assertEquals(1, pool.idleSize());
+
+      TimeUnit.MILLISECONDS.sleep(50);
+      pool.run(client -> client.performAction("test"));
+      // The expired client is closed, a new one is created.
+      assertEquals(2, pool.createdClients.get());
+      assertEquals(1, pool.closedClients.get());
+      assertEquals(1, pool.currentSize());
+    }
+  }
+
+  @Test
+  public void testBrokenClientIsDiscarded() throws Exception {
+    try (ClientPoolImplExtension pool = new ClientPoolImplExtension(1, 0, 0)) {
+      pool.connectionException = true;
+      assertThrows(
+          IOException.class,
+          () ->
+              pool.run(
+                  client -> {
+                    throw new IOException("Broken connection");
+                  },
+                  false));
+      assertEquals(0, pool.currentSize());
+      assertEquals(1, pool.closedClients.get());
+
+      pool.connectionException = false;
+      assertEquals("test", pool.run(client -> client.performAction("test")));
+      assertEquals(2, pool.createdClients.get());
+    }
+  }
+
+  @Test
+  public void testCloseClosesIdleClients() throws Exception {
+    ClientPoolImplExtension pool = new ClientPoolImplExtension(2, 0, 0);
+    pool.run(client -> client.performAction("test"));
+    pool.close();
+    assertTrue(pool.isClosed());
+    assertEquals(0, pool.currentSize());
+    assertEquals(1, pool.closedClients.get());
+    assertThrows(IllegalStateException.class, () -> pool.run(client -> client.performAction("")));
+    assertEquals(1, pool.createdClients.get());
+  }
+
   private static final class ClientPoolImplExtension extends ClientPoolImpl<ClientMock, Exception> {
+    private final AtomicInteger createdClients = new AtomicInteger();
+    private final AtomicInteger closedClients = new AtomicInteger();
+    private volatile boolean connectionException = false;
+
     private ClientPoolImplExtension(
         int poolSize, Class<? extends Exception> reconnectExc, boolean retryByDefault) {
       super(poolSize, reconnectExc, retryByDefault);
     }
 
+    private ClientPoolImplExtension(int poolSize, long acquireTimeoutMs, long idleTimeoutMs) {
+      super(poolSize, Exception.class, false, acquireTimeoutMs, idleTimeoutMs, null);
+    }
+
     @Override
     protected ClientMock newClient() {
+      createdClients.incrementAndGet();
       return new ClientMock();
     }
 
@@ -86,11 +192,12 @@ public class TestClientPool {
 
     @Override
     protected boolean isConnectionException(Exception exc) {
-      return false;
+      return connectionException;
     }
 
     @Override
     protected void close(ClientMock client) {
+      closedClients.incrementAndGet();
       client.close();
     }
   }
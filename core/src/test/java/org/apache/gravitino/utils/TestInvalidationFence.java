@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.utils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestInvalidationFence {
+
+  @Test
+  public void testPutWithoutInvalidation() {
+    InvalidationFence fence = new InvalidationFence();
+    AtomicInteger puts = new AtomicInteger();
+
+    long loadGeneration = fence.generation();
+    Assertions.assertTrue(fence.putIfNotInvalidated(loadGeneration, puts::incrementAndGet));
+    Assertions.assertTrue(fence.putIfNotInvalidated(loadGeneration, puts::incrementAndGet));
+    Assertions.assertEquals(2, puts.get());
+  }
+
+  @Test
+  public void testPutSkippedAfterInvalidation() {
+    InvalidationFence fence = new InvalidationFence();
+    AtomicInteger puts = new AtomicInteger();
+    AtomicInteger invalidations = new AtomicInteger();
+
+    long loadGeneration = fence.generation();
+    fence.invalidate(invalidations::incrementAndGet);
+    Assertions.assertEquals(1, invalidations.get());
+    Assertions.assertNotEquals(loadGeneration, fence.generation());
+    Assertions.assertFalse(fence.putIfNotInvalidated(loadGeneration, puts::incrementAndGet));
+    Assertions.assertEquals(0, puts.get());
+
+    // The loads started after the invalidation are put.
+    Assertions.assertTrue(fence.putIfNotInvalidated(fence.generation(), puts::incrementAndGet));
+    Assertions.assertEquals(1, puts.get());
+  }
+
+  @Test
+  public void testInvalidationWaitsForPut() throws Exception {
+    InvalidationFence fence = new InvalidationFence();
+    CountDownLatch putStarted = new CountDownLatch(1);
+    CountDownLatch putReleased = new CountDownLatch(1);
+    AtomicInteger putsFinished = new AtomicInteger();
+
+    long loadGeneration = fence.generation();
+    CompletableFuture<Boolean> put =
+        CompletableFuture.supplyAsync(
+            () ->
+                fence.putIfNotInvalidated(
+                    loadGeneration,
+                    () -> {
+                      putStarted.countDown();
+                      try {
+                        putReleased.await();
+                      } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                      }
+                      putsFinished.incrementAndGet();
+                    }));
+    Assertions.assertTrue(putStarted.await(10, TimeUnit.SECONDS));
+
+    CompletableFuture<Integer> invalidation =
+        CompletableFuture.supplyAsync(
+            () -> {
+              AtomicInteger seenPuts = new AtomicInteger();
+              fence.invalidate(() -> seenPuts.set(putsFinished.get()));
+              return seenPuts.get();
+            });
+    Assertions.assertThrows(
+        TimeoutException.class,
+        () -> invalidation.get(200, TimeUnit.MILLISECONDS));
+
+    putReleased.countDown();
+    Assertions.assertTrue(put.get(10, TimeUnit.SECONDS));
+    // The invalidation runs only after the put, so it removes what the put added.
+    Assertions.assertEquals(1, invalidation.get(10, TimeUnit.SECONDS));
+  }
+}
@@ -23,6 +23,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.MapDifference;
 import com.google.common.collect.Maps;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -108,7 +109,9 @@ public abstract class BaseCatalog extends AbstractCatalog {
   public CatalogDatabase getDatabase(String databaseName)
       throws DatabaseNotExistException, CatalogException {
     try {
-      Schema schema = catalog().asSchemas().loadSchema(databaseName);
+      Schema schema =
+          catalogCache()
+              .loadSchema(databaseName, () -> catalog().asSchemas().loadSchema(databaseName));
       Map<String, String> properties =
           propertiesConverter.toFlinkDatabaseProperties(schema.properties());
       return new CatalogDatabaseImpl(properties, schema.comment());
@@ -119,7 +122,8 @@ public abstract class BaseCatalog extends AbstractCatalog {
 
   @Override
   public boolean databaseExists(String databaseName) throws CatalogException {
-    return catalog().asSchemas().schemaExists(databaseName);
+    return catalogCache().containsSchema(databaseName)
+        || catalog().asSchemas().schemaExists(databaseName);
   }
 
   @Override
@@ -130,6 +134,7 @@ public abstract class BaseCatalog extends AbstractCatalog {
       Map<String, String> properties =
           propertiesConverter.toGravitinoSchemaProperties(catalogDatabase.getProperties());
       catalog().asSchemas().createSchema(databaseName, catalogDatabase.getComment(), properties);
+      catalogCache().invalidateSchema(databaseName);
     } catch (SchemaAlreadyExistsException e) {
       if (!ignoreIfExists) {
         throw new DatabaseAlreadyExistException(catalogName(), databaseName);
@@ -151,6 +156,8 @@ public abstract class BaseCatalog extends AbstractCatalog {
       throw new DatabaseNotEmptyException(catalogName(), databaseName);
     } catch (NoSuchCatalogException e) {
       throw new CatalogException(e);
+    } finally {
+      catalogCache().invalidateSchema(databaseName);
     }
   }
 
@@ -159,8 +166,11 @@ public abstract class BaseCatalog extends AbstractCatalog {
       String databaseName, CatalogDatabase catalogDatabase, boolean ignoreIfNotExists)
       throws DatabaseNotExistException, CatalogException {
     try {
+      // Compute the changes against the latest schema rather than the cached one.
+      catalogCache().invalidateSchema(databaseName);
       SchemaChange[] schemaChanges = getSchemaChange(getDatabase(databaseName), catalogDatabase);
       catalog().asSchemas().alterSchema(databaseName, schemaChanges);
+      catalogCache().invalidateSchema(databaseName);
     } catch (NoSuchSchemaException e) {
       if (!ignoreIfNotExists) {
         throw new DatabaseNotExistException(catalogName(), databaseName);
@@ -174,9 +184,17 @@ public abstract class BaseCatalog extends AbstractCatalog {
   public List<String> listTables(String databaseName)
       throws DatabaseNotExistException, CatalogException {
     try {
-      return Stream.of(catalog().asTableCatalog().listTables(Namespace.of(databaseName)))
-          .map(NameIdentifier::name)
-          .collect(Collectors.toList());
+      // Return a copy, the callers may modify the list.
+      Namespace namespace = Namespace.of(databaseName);
+      return new ArrayList<>(
+          catalogCache()
+              .listTables(
+                  databaseName,
+                  () ->
+                      Stream.of(catalog().asTableCatalog().listTables(namespace))
+                          .map(NameIdentifier::name)
+                          .collect(Collectors.toList()),
+                  () -> catalog().asTableCatalog().listTablesInfo(namespace)));
     } catch (NoSuchSchemaException e) {
       throw new DatabaseNotExistException(catalogName(), databaseName, e);
     } catch (Exception e) {
@@ -192,11 +210,12 @@ public abstract class BaseCatalog extends AbstractCatalog {
   @Override
   public CatalogBaseTable getTable(ObjectPath tablePath)
       throws TableNotExistException, CatalogException {
+    NameIdentifier identifier =
+        NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName());
     try {
       Table table =
-          catalog()
-              .asTableCatalog()
-              .loadTable(NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName()));
+          catalogCache()
+              .loadTable(identifier, () -> catalog().asTableCatalog().loadTable(identifier));
       return toFlinkTable(table);
     } catch (NoSuchTableException e) {
       throw new TableNotExistException(catalogName(), tablePath, e);
@@ -207,10 +226,11 @@ public abstract class BaseCatalog extends AbstractCatalog {
 
   @Override
   public boolean tableExists(ObjectPath tablePath) throws CatalogException {
+    NameIdentifier identifier =
+        NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName());
     try {
-      return catalog()
-          .asTableCatalog()
-          .tableExists(NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName()));
+      return catalogCache().containsTable(identifier)
+          || catalog().asTableCatalog().tableExists(identifier);
     } catch (Exception e) {
       throw new CatalogException(e);
     }
@@ -219,10 +239,14 @@ public abstract class BaseCatalog extends AbstractCatalog {
   @Override
   public void dropTable(ObjectPath tablePath, boolean ignoreIfNotExists)
       throws TableNotExistException, CatalogException {
-    boolean dropped =
-        catalog()
-            .asTableCatalog()
-            .dropTable(NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName()));
+    NameIdentifier identifier =
+        NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName());
+    boolean dropped;
+    try {
+      dropped = catalog().asTableCatalog().dropTable(identifier);
+    } finally {
+      catalogCache().invalidateTable(identifier);
+    }
     if (!dropped && !ignoreIfNotExists) {
       throw new TableNotExistException(catalogName(), tablePath);
     }
@@ -239,18 +263,19 @@ public abstract class BaseCatalog extends AbstractCatalog {
           catalogName(), ObjectPath.fromString(tablePath.getDatabaseName() + newTableName));
     }
 
+    NameIdentifier oldIdentifier =
+        NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName());
     try {
-      catalog()
-          .asTableCatalog()
-          .alterTable(
-              NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName()),
-              TableChange.rename(newTableName));
+      catalog().asTableCatalog().alterTable(oldIdentifier, TableChange.rename(newTableName));
     } catch (NoSuchTableException e) {
       if (!ignoreIfNotExists) {
         throw new TableNotExistException(catalogName(), tablePath, e);
       }
     } catch (Exception e) {
       throw new CatalogException(e);
+    } finally {
+      catalogCache().invalidateTable(oldIdentifier);
+      catalogCache().invalidateTable(identifier);
     }
   }
 
@@ -282,6 +307,8 @@ public abstract class BaseCatalog extends AbstractCatalog {
       }
     } catch (Exception e) {
       throw new CatalogException(e);
+    } finally {
+      catalogCache().invalidateTable(identifier);
     }
   }
 
@@ -299,8 +326,12 @@ public abstract class BaseCatalog extends AbstractCatalog {
   @Override
   public void alterTable(ObjectPath tablePath, CatalogBaseTable newTable, boolean ignoreIfNotExists)
       throws TableNotExistException, CatalogException {
+    NameIdentifier identifier =
+        NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName());
     CatalogBaseTable existingTable;
 
+    // Compute the changes against the latest table rather than the cached one.
+    catalogCache().invalidateTable(identifier);
     try {
       existingTable = this.getTable(tablePath);
     } catch (TableNotExistException e) {
@@ -317,11 +348,13 @@ public abstract class BaseCatalog extends AbstractCatalog {
               existingTable.getTableKind(), newTable.getTableKind()));
     }
 
-    NameIdentifier identifier =
-        NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName());
-    catalog()
-        .asTableCatalog()
-        .alterTable(identifier, getGravitinoTableChanges(existingTable, newTable));
+    try {
+      catalog()
+          .asTableCatalog()
+          .alterTable(identifier, getGravitinoTableChanges(existingTable, newTable));
+    } finally {
+      catalogCache().invalidateTable(identifier);
+    }
   }
 
   @Override
@@ -331,7 +364,10 @@ public abstract class BaseCatalog extends AbstractCatalog {
       List<org.apache.flink.table.catalog.TableChange> tableChanges,
       boolean ignoreIfNotExists)
       throws TableNotExistException, CatalogException {
+    NameIdentifier identifier =
+        NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName());
     CatalogBaseTable existingTable;
+    catalogCache().invalidateTable(identifier);
     try {
       existingTable = this.getTable(tablePath);
     } catch (TableNotExistException e) {
@@ -348,9 +384,11 @@ public abstract class BaseCatalog extends AbstractCatalog {
               existingTable.getTableKind(), newTable.getTableKind()));
     }
 
-    NameIdentifier identifier =
-        NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName());
-    catalog().asTableCatalog().alterTable(identifier, getGravitinoTableChanges(tableChanges));
+    try {
+      catalog().asTableCatalog().alterTable(identifier, getGravitinoTableChanges(tableChanges));
+    } finally {
+      catalogCache().invalidateTable(identifier);
+    }
   }
 
   @Override
@@ -657,7 +695,13 @@ public abstract class BaseCatalog extends AbstractCatalog {
   }
 
   private Catalog catalog() {
-    return GravitinoCatalogManager.get().getGravitinoCatalogInfo(getName());
+    return catalogCache()
+        .loadCatalog(
+            getName(), () -> GravitinoCatalogManager.get().getGravitinoCatalogInfo(getName()));
+  }
+
+  private GravitinoCatalogCache catalogCache() {
+    return GravitinoCatalogManager.get().getCatalogCache(getName());
   }
 
   private String catalogName() {
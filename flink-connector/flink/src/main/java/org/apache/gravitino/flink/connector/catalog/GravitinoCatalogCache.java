@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.flink.connector.catalog;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Schema;
+import org.apache.gravitino.rel.Table;
+
+/**
+ * GravitinoCatalogCache caches one Gravitino catalog together with its schemas, table names and
+ * tables, so the repeated lookups of Flink SQL planning don't go to the Gravitino server every
+ * time. The entries are invalidated by the DDL issued through the connector, the changes made by
+ * others are visible after the entries expire.
+ *
+ * <p>If the cache is disabled, all the lookups are passed to the loaders directly.
+ */
+class GravitinoCatalogCache {
+
+  // All the caches are null if the cache is disabled.
+  @Nullable private final Cache<String, Catalog> catalog;
+  @Nullable private final Cache<String, Schema> schemas;
+  // Keyed by the schema name.
+  @Nullable private final Cache<String, List<String>> tableNames;
+  // Keyed by the schema name and table name.
+  @Nullable private final Cache<NameIdentifier, Table> tables;
+
+  GravitinoCatalogCache(long expireTimeMs, long maxSize) {
+    if (expireTimeMs > 0) {
+      this.catalog = newCache(expireTimeMs, 1);
+      this.schemas = newCache(expireTimeMs, maxSize);
+      this.tableNames = newCache(expireTimeMs, maxSize);
+      this.tables = newCache(expireTimeMs, maxSize);
+    } else {
+      this.catalog = null;
+      this.schemas = null;
+      this.tableNames = null;
+      this.tables = null;
+    }
+  }
+
+  Catalog loadCatalog(String catalogName, Supplier<Catalog> loader) {
+    return get(catalog, catalogName, loader);
+  }
+
+  Schema loadSchema(String schemaName, Supplier<Schema> loader) {
+    return get(schemas, schemaName, loader);
+  }
+
+  boolean containsSchema(String schemaName) {
+    return schemas != null && schemas.getIfPresent(schemaName) != null;
+  }
+
+  /**
+   * List the table names of the schema. If the cache is enabled, the tables are listed together
+   * with their metadata in one call and cached, so loading them afterwards doesn't go to the
+   * Gravitino server. Otherwise only the names are listed.
+   *
+   * @param schemaName the schema name
+   * @param namesLoader the loader of the table names, used if the cache is disabled
+   * @param tablesLoader the loader of the tables with their metadata, used if the cache is enabled
+   * @return the table names
+   */
+  List<String> listTables(
+      String schemaName, Supplier<List<String>> namesLoader, Supplier<Table[]> tablesLoader) {
+    if (tableNames == null) {
+      return namesLoader.get();
+    }
+
+    return get(
+        tableNames,
+        schemaName,
+        () -> {
+          Table[] loaded = tablesLoader.get();
+          List<String> names = new ArrayList<>(loaded.length);
+          for (Table table : loaded) {
+            tables.put(NameIdentifier.of(schemaName, table.name()), table);
+            names.add(table.name());
+          }
+          return names;
+        });
+  }
+
+  Table loadTable(NameIdentifier ident, Supplier<Table> loader) {
+    return get(tables, ident, loader);
+  }
+
+  boolean containsTable(NameIdentifier ident) {
+    return tables != null && tables.getIfPresent(ident) != null;
+  }
+
+  /**
+   * Invalidate the cached table and the table names of its schema, it's called when the table is
+   * created, altered, renamed or dropped through this connector.
+   *
+   * @param ident the table identifier in the catalog
+   */
+  void invalidateTable(NameIdentifier ident) {
+    if (tables != null) {
+      tables.invalidate(ident);
+      tableNames.invalidate(ident.namespace().level(0));
+    }
+  }
+
+  /**
+   * Invalidate the cached schema together with the table names and tables under it.
+   *
+   * @param schemaName the schema name
+   */
+  void invalidateSchema(String schemaName) {
+    if (schemas != null) {
+      schemas.invalidate(schemaName);
+      tableNames.invalidate(schemaName);
+      tables.asMap().keySet().removeIf(ident -> ident.namespace().level(0).equals(schemaName));
+    }
+  }
+
+  void invalidateAll() {
+    if (schemas != null) {
+      catalog.invalidateAll();
+      schemas.invalidateAll();
+      tableNames.invalidateAll();
+      tables.invalidateAll();
+    }
+  }
+
+  @VisibleForTesting
+  boolean isEnabled() {
+    return schemas != null;
+  }
+
+  private static <K, V> Cache<K, V> newCache(long expireTimeMs, long maxSize) {
+    return CacheBuilder.newBuilder()
+        .expireAfterWrite(expireTimeMs, TimeUnit.MILLISECONDS)
+        .maximumSize(maxSize)
+        .build();
+  }
+
+  private static <K, V> V get(@Nullable Cache<K, V> cache, K key, Supplier<V> loader) {
+    if (cache == null) {
+      return loader.get();
+    }
+
+    try {
+      return cache.get(key, loader::get);
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new RuntimeException(e.getCause());
+    }
+  }
+}
@@ -23,6 +23,7 @@ import com.google.common.collect.Sets;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.client.GravitinoAdminClient;
 import org.apache.gravitino.client.GravitinoMetalake;
@@ -38,9 +39,15 @@ public class GravitinoCatalogManager {
   private final String metalakeName;
   private final GravitinoMetalake metalake;
   private final GravitinoAdminClient gravitinoClient;
+  private final long cacheExpireTimeMs;
+  private final long cacheMaxSize;
+  private final Map<String, GravitinoCatalogCache> catalogCaches = new ConcurrentHashMap<>();
 
-  private GravitinoCatalogManager(String gravitinoUri, String metalakeName) {
+  private GravitinoCatalogManager(
+      String gravitinoUri, String metalakeName, long cacheExpireTimeMs, long cacheMaxSize) {
     this.metalakeName = metalakeName;
+    this.cacheExpireTimeMs = cacheExpireTimeMs;
+    this.cacheMaxSize = cacheMaxSize;
     this.gravitinoClient = GravitinoAdminClient.builder(gravitinoUri).build();
     this.metalake = gravitinoClient.loadMetalake(metalakeName);
   }
@@ -53,9 +60,25 @@ public class GravitinoCatalogManager {
    * @return GravitinoCatalogManager
    */
   public static GravitinoCatalogManager create(String gravitinoUri, String metalakeName) {
+    return create(gravitinoUri, metalakeName, 0, 0);
+  }
+
+  /**
+   * Create GravitinoCatalogManager with Gravitino server uri, metalake name and the metadata cache
+   * settings, every catalog gets its own metadata cache.
+   *
+   * @param gravitinoUri Gravitino server uri
+   * @param metalakeName Metalake name
+   * @param cacheExpireTimeMs The time after which a cached entry expires, 0 to disable the cache
+   * @param cacheMaxSize The maximum number of the cached entries of each kind per catalog
+   * @return GravitinoCatalogManager
+   */
+  public static GravitinoCatalogManager create(
+      String gravitinoUri, String metalakeName, long cacheExpireTimeMs, long cacheMaxSize) {
     Preconditions.checkState(
         gravitinoCatalogManager == null, "Should not create duplicate GravitinoCatalogManager");
-    gravitinoCatalogManager = new GravitinoCatalogManager(gravitinoUri, metalakeName);
+    gravitinoCatalogManager =
+        new GravitinoCatalogManager(gravitinoUri, metalakeName, cacheExpireTimeMs, cacheMaxSize);
     return gravitinoCatalogManager;
   }
 
@@ -80,6 +103,7 @@ public class GravitinoCatalogManager {
   public void close() {
     if (!isClosed) {
       isClosed = true;
+      catalogCaches.clear();
       gravitinoClient.close();
       gravitinoCatalogManager = null;
     }
@@ -99,6 +123,18 @@ public class GravitinoCatalogManager {
     return catalog;
   }
 
+  /**
+   * Get the metadata cache of the catalog, the cache passes all the lookups to the loaders if it is
+   * disabled.
+   *
+   * @param catalogName Catalog name
+   * @return The metadata cache of the catalog
+   */
+  GravitinoCatalogCache getCatalogCache(String catalogName) {
+    return catalogCaches.computeIfAbsent(
+        catalogName, name -> new GravitinoCatalogCache(cacheExpireTimeMs, cacheMaxSize));
+  }
+
   /**
    * Get the metalake.
    *
@@ -134,7 +170,11 @@ public class GravitinoCatalogManager {
    * @return boolean
    */
   public boolean dropCatalog(String catalogName) {
-    return metalake.dropCatalog(catalogName);
+    try {
+      return metalake.dropCatalog(catalogName);
+    } finally {
+      catalogCaches.remove(catalogName);
+    }
   }
 
   /**
@@ -21,12 +21,14 @@ package org.apache.gravitino.flink.connector.store;
 
 import static org.apache.flink.table.factories.FactoryUtil.createCatalogStoreFactoryHelper;
 import static org.apache.gravitino.flink.connector.store.GravitinoCatalogStoreFactoryOptions.GRAVITINO;
+import static org.apache.gravitino.flink.connector.store.GravitinoCatalogStoreFactoryOptions.GRAVITINO_CACHE_ENABLED;
+import static org.apache.gravitino.flink.connector.store.GravitinoCatalogStoreFactoryOptions.GRAVITINO_CACHE_EXPIRE_TIME;
+import static org.apache.gravitino.flink.connector.store.GravitinoCatalogStoreFactoryOptions.GRAVITINO_CACHE_MAX_SIZE;
 import static org.apache.gravitino.flink.connector.store.GravitinoCatalogStoreFactoryOptions.GRAVITINO_METALAKE;
 import static org.apache.gravitino.flink.connector.store.GravitinoCatalogStoreFactoryOptions.GRAVITINO_URI;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableSet;
-import java.util.Collections;
 import java.util.Set;
 import org.apache.flink.configuration.ConfigOption;
 import org.apache.flink.configuration.ReadableConfig;
@@ -58,7 +60,19 @@ public class GravitinoCatalogStoreFactory implements CatalogStoreFactory {
     String gravitinoName =
         Preconditions.checkNotNull(
             options.get(GRAVITINO_METALAKE), "The %s must be set.", GRAVITINO_METALAKE.key());
-    this.catalogManager = GravitinoCatalogManager.create(gravitinoUri, gravitinoName);
+
+    long cacheExpireTimeMs = 0;
+    if (options.get(GRAVITINO_CACHE_ENABLED)) {
+      cacheExpireTimeMs = options.get(GRAVITINO_CACHE_EXPIRE_TIME).toMillis();
+      Preconditions.checkArgument(
+          cacheExpireTimeMs > 0, "The %s must be positive.", GRAVITINO_CACHE_EXPIRE_TIME.key());
+    }
+    long cacheMaxSize = options.get(GRAVITINO_CACHE_MAX_SIZE);
+    Preconditions.checkArgument(
+        cacheMaxSize > 0, "The %s must be positive.", GRAVITINO_CACHE_MAX_SIZE.key());
+    this.catalogManager =
+        GravitinoCatalogManager.create(
+            gravitinoUri, gravitinoName, cacheExpireTimeMs, cacheMaxSize);
   }
 
   @Override
@@ -80,6 +94,7 @@ public class GravitinoCatalogStoreFactory implements CatalogStoreFactory {
 
   @Override
   public Set<ConfigOption<?>> optionalOptions() {
-    return Collections.emptySet();
+    return ImmutableSet.of(
+        GRAVITINO_CACHE_ENABLED, GRAVITINO_CACHE_EXPIRE_TIME, GRAVITINO_CACHE_MAX_SIZE);
   }
 }
@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.flink.connector.store;
 
+import java.time.Duration;
 import org.apache.flink.configuration.ConfigOption;
 import org.apache.flink.configuration.ConfigOptions;
 
@@ -38,4 +39,21 @@ public class GravitinoCatalogStoreFactoryOptions {
           .stringType()
           .noDefaultValue()
           .withDescription("The name of Gravitino metalake");
+
+  public static final ConfigOption<Boolean> GRAVITINO_CACHE_ENABLED =
+      ConfigOptions.key("gravitino.cache.enabled")
+          .booleanType()
+          .defaultValue(false)
+          .withDescription(
+              "Whether to cache the catalogs, schemas and tables loaded from Gravitino");
+  public static final ConfigOption<Duration> GRAVITINO_CACHE_EXPIRE_TIME =
+      ConfigOptions.key("gravitino.cache.expire-time")
+          .durationType()
+          .defaultValue(Duration.ofMinutes(1))
+          .withDescription("The time after which a cached entry expires");
+  public static final ConfigOption<Long> GRAVITINO_CACHE_MAX_SIZE =
+      ConfigOptions.key("gravitino.cache.max-size")
+          .longType()
+          .defaultValue(1000L)
+          .withDescription("The maximum number of the cached schemas or tables of each catalog");
 }
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.flink.connector.catalog;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Schema;
+import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.apache.gravitino.rel.Table;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestGravitinoCatalogCache {
+
+  @Test
+  public void testLoadTableIsCached() {
+    GravitinoCatalogCache cache = new GravitinoCatalogCache(60_000L, 100L);
+    Assertions.assertTrue(cache.isEnabled());
+    NameIdentifier ident = NameIdentifier.of("schema", "table");
+    Table table = Mockito.mock(Table.class);
+    AtomicInteger loads = new AtomicInteger();
+
+    for (int i = 0; i < 3; i++) {
+      Table loaded =
+          cache.loadTable(
+              ident,
+              () -> {
+                loads.incrementAndGet();
+                return table;
+              });
+      Assertions.assertSame(table, loaded);
+    }
+    Assertions.assertEquals(1, loads.get());
+    Assertions.assertTrue(cache.containsTable(ident));
+
+    cache.invalidateTable(ident);
+    Assertions.assertFalse(cache.containsTable(ident));
+    cache.loadTable(
+        ident,
+        () -> {
+          loads.incrementAndGet();
+          return table;
+        });
+    Assertions.assertEquals(2, loads.get());
+  }
+
+  @Test
+  public void testLoaderExceptionIsNotWrapped() {
+    GravitinoCatalogCache cache = new GravitinoCatalogCache(60_000L, 100L);
+    NameIdentifier ident = NameIdentifier.of("schema", "table");
+
+    Assertions.assertThrows(
+        NoSuchTableException.class,
+        () ->
+            cache.loadTable(
+                ident,
+                () -> {
+                  throw new NoSuchTableException("Table %s does not exist", ident);
+                }));
+    Assertions.assertFalse(cache.containsTable(ident));
+  }
+
+  @Test
+  public void testInvalidateSchema() {
+    GravitinoCatalogCache cache = new GravitinoCatalogCache(60_000L, 100L);
+    NameIdentifier table1 = NameIdentifier.of("schema", "table1");
+    NameIdentifier table2 = NameIdentifier.of("schema2", "table2");
+    cache.loadSchema("schema", () -> Mockito.mock(Schema.class));
+    cache.loadTable(table1, () -> Mockito.mock(Table.class));
+    cache.loadTable(table2, () -> Mockito.mock(Table.class));
+    listTables(cache, "schema", "table1");
+
+    cache.invalidateSchema("schema");
+    Assertions.assertFalse(cache.containsSchema("schema"));
+    Assertions.assertFalse(cache.containsTable(table1));
+    Assertions.assertTrue(cache.containsTable(table2));
+
+    List<String> tables = listTables(cache, "schema");
+    Assertions.assertTrue(tables.isEmpty());
+  }
+
+  @Test
+  public void testInvalidateTableRefreshesTableNames() {
+    GravitinoCatalogCache cache = new GravitinoCatalogCache(60_000L, 100L);
+    listTables(cache, "schema", "table1");
+
+    cache.invalidateTable(NameIdentifier.of("schema", "table2"));
+    Assertions.assertEquals(
+        ImmutableList.of("table1", "table2"), listTables(cache, "schema", "table1", "table2"));
+  }
+
+  @Test
+  public void testListTablesCachesTables() {
+    GravitinoCatalogCache cache = new GravitinoCatalogCache(60_000L, 100L);
+    Assertions.assertEquals(
+        ImmutableList.of("table1", "table2"), listTables(cache, "schema", "table1", "table2"));
+    Assertions.assertTrue(cache.containsTable(NameIdentifier.of("schema", "table1")));
+    Assertions.assertTrue(cache.containsTable(NameIdentifier.of("schema", "table2")));
+
+    // The listed tables are loaded from the cache
+    Table table =
+        cache.loadTable(
+            NameIdentifier.of("schema", "table1"),
+            () -> {
+              throw new AssertionError("The table should be cached");
+            });
+    Assertions.assertEquals("table1", table.name());
+  }
+
+  @Test
+  public void testDisabledCache() {
+    GravitinoCatalogCache cache = new GravitinoCatalogCache(0, 100L);
+    Assertions.assertFalse(cache.isEnabled());
+    NameIdentifier ident = NameIdentifier.of("schema", "table");
+    AtomicInteger loads = new AtomicInteger();
+
+    for (int i = 0; i < 2; i++) {
+      cache.loadTable(
+          ident,
+          () -> {
+            loads.incrementAndGet();
+            return Mockito.mock(Table.class);
+          });
+    }
+    Assertions.assertEquals(2, loads.get());
+    Assertions.assertFalse(cache.containsTable(ident));
+
+    // Only the names are listed if the cache is disabled
+    Assertions.assertEquals(
+        ImmutableList.of("table"),
+        cache.listTables(
+            "schema",
+            () -> ImmutableList.of("table"),
+            () -> {
+              throw new AssertionError("The tables should not be loaded");
+            }));
+    cache.invalidateTable(ident);
+    cache.invalidateSchema("schema");
+    cache.invalidateAll();
+  }
+
+  private static List<String> listTables(
+      GravitinoCatalogCache cache, String schemaName, String... tableNames) {
+    return cache.listTables(
+        schemaName,
+        () -> {
+          throw new AssertionError("The tables should be listed with their metadata");
+        },
+        () ->
+            Arrays.stream(tableNames)
+                .map(
+                    name -> {
+                      Table table = Mockito.mock(Table.class);
+                      Mockito.when(table.name()).thenReturn(name);
+                      return table;
+                    })
+                .toArray(Table[]::new));
+  }
+}
@@ -187,6 +187,24 @@ public class IcebergConfig extends Config implements OverwriteDefaultConfig {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(1000);
 
+  public static final ConfigEntry<Integer> ICEBERG_METRICS_FLUSH_BATCH_SIZE =
+      new ConfigBuilder(IcebergConstants.ICEBERG_METRICS_FLUSH_BATCH_SIZE)
+          .doc("The max number of Iceberg metrics written to the metrics store in one batch")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100);
+
+  public static final ConfigEntry<Long> ICEBERG_METRICS_FLUSH_INTERVAL_MS =
+      new ConfigBuilder(IcebergConstants.ICEBERG_METRICS_FLUSH_INTERVAL_MS)
+          .doc(
+              "The max time in milliseconds an Iceberg metrics report waits for its batch to fill "
+                  + "before it is written to the metrics store")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000L);
+
   public static final ConfigEntry<String> CATALOG_BACKEND_NAME =
       new ConfigBuilder(IcebergConstants.CATALOG_BACKEND_NAME)
           .doc("The catalog name for Iceberg catalog backend")
@@ -209,6 +227,44 @@ public class IcebergConfig extends Config implements OverwriteDefaultConfig {
           .stringConf()
           .createWithDefault("config-based-provider");
 
+  public static final ConfigEntry<Boolean> TABLE_METADATA_CACHE_ENABLED =
+      new ConfigBuilder(IcebergConstants.TABLE_METADATA_CACHE_ENABLED)
+          .doc(
+              "Whether to cache the parsed table metadata, keyed by the metadata file location, "
+                  + "to avoid reading the metadata file for every table load")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Long> TABLE_METADATA_CACHE_MAX_SIZE =
+      new ConfigBuilder(IcebergConstants.TABLE_METADATA_CACHE_MAX_SIZE)
+          .doc("The maximum number of tables whose metadata location is cached")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000L);
+
+  public static final ConfigEntry<Long> TABLE_METADATA_CACHE_MAX_WEIGHT =
+      new ConfigBuilder(IcebergConstants.TABLE_METADATA_CACHE_MAX_WEIGHT)
+          .doc(
+              "The maximum total weight of the cached table metadata, the weight of a table "
+                  + "metadata is the number of its snapshots, schemas and previous metadata files")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100000L);
+
+  public static final ConfigEntry<Long> TABLE_METADATA_CACHE_EXPIRE_MS =
+      new ConfigBuilder(IcebergConstants.TABLE_METADATA_CACHE_EXPIRE_MS)
+          .doc(
+              "The time in milliseconds after which the cached metadata location of a table is "
+                  + "checked again, this bounds the staleness for changes not made through the "
+                  + "Iceberg REST server")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(60000L);
+
   public static final ConfigEntry<String> GRAVITINO_URI =
       new ConfigBuilder(IcebergConstants.GRAVITINO_URI)
           .doc(
@@ -38,6 +38,7 @@ import org.apache.gravitino.utils.IsolatedClassLoader;
 import org.apache.gravitino.utils.MapUtils;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.security.UserGroupInformation;
+import org.apache.iceberg.TableMetadata;
 import org.apache.iceberg.Transaction;
 import org.apache.iceberg.catalog.Catalog;
 import org.apache.iceberg.catalog.Namespace;
@@ -72,6 +73,8 @@ public class IcebergCatalogWrapper implements AutoCloseable {
   private String catalogUri = null;
   private Map<String, String> catalogConfigToClients;
   private Map<String, String> catalogPropertiesMap;
+  // Null if the table metadata cache is disabled.
+  private final IcebergTableMetadataCache tableMetadataCache;
   private static final Set<String> catalogPropertiesToClientKeys =
       ImmutableSet.of(
           IcebergConstants.IO_IMPL,
@@ -102,6 +105,16 @@ public class IcebergCatalogWrapper implements AutoCloseable {
             key -> catalogPropertiesToClientKeys.contains(key));
 
     this.catalogPropertiesMap = icebergConfig.getIcebergCatalogProperties();
+
+    if (icebergConfig.get(IcebergConfig.TABLE_METADATA_CACHE_ENABLED)) {
+      this.tableMetadataCache =
+          new IcebergTableMetadataCache(
+              icebergConfig.get(IcebergConfig.TABLE_METADATA_CACHE_MAX_SIZE),
+              icebergConfig.get(IcebergConfig.TABLE_METADATA_CACHE_MAX_WEIGHT),
+              icebergConfig.get(IcebergConfig.TABLE_METADATA_CACHE_EXPIRE_MS));
+    } else {
+      this.tableMetadataCache = null;
+    }
   }
 
   public IcebergCatalogWrapper() {
@@ -154,6 +167,7 @@ public class IcebergCatalogWrapper implements AutoCloseable {
   }
 
   public LoadTableResponse registerTable(Namespace namespace, RegisterTableRequest request) {
+    invalidateTableMetadata(TableIdentifier.of(namespace, request.name()));
     return CatalogHandlers.registerTable(catalog, namespace, request);
   }
 
@@ -172,6 +186,7 @@ public class IcebergCatalogWrapper implements AutoCloseable {
 
   public LoadTableResponse createTable(Namespace namespace, CreateTableRequest request) {
     request.validate();
+    invalidateTableMetadata(TableIdentifier.of(namespace, request.name()));
     if (request.stageCreate()) {
       return injectTableConfig(() -> CatalogHandlers.stageTableCreate(catalog, namespace, request));
     }
@@ -179,15 +194,31 @@ public class IcebergCatalogWrapper implements AutoCloseable {
   }
 
   public void dropTable(TableIdentifier tableIdentifier) {
-    CatalogHandlers.dropTable(catalog, tableIdentifier);
+    try {
+      CatalogHandlers.dropTable(catalog, tableIdentifier);
+    } finally {
+      invalidateTableMetadata(tableIdentifier);
+    }
   }
 
   public void purgeTable(TableIdentifier tableIdentifier) {
-    CatalogHandlers.purgeTable(catalog, tableIdentifier);
+    try {
+      CatalogHandlers.purgeTable(catalog, tableIdentifier);
+    } finally {
+      invalidateTableMetadata(tableIdentifier);
+    }
   }
 
   public LoadTableResponse loadTable(TableIdentifier tableIdentifier) {
-    return injectTableConfig(() -> CatalogHandlers.loadTable(catalog, tableIdentifier));
+    if (tableMetadataCache == null) {
+      return injectTableConfig(() -> CatalogHandlers.loadTable(catalog, tableIdentifier));
+    }
+
+    TableMetadata tableMetadata =
+        tableMetadataCache.get(
+            tableIdentifier,
+            () -> CatalogHandlers.loadTable(catalog, tableIdentifier).tableMetadata());
+    return buildLoadTableResponse(tableMetadata);
   }
 
   public boolean tableExists(TableIdentifier tableIdentifier) {
@@ -199,17 +230,30 @@ public class IcebergCatalogWrapper implements AutoCloseable {
   }
 
   public void renameTable(RenameTableRequest renameTableRequest) {
-    CatalogHandlers.renameTable(catalog, renameTableRequest);
+    try {
+      CatalogHandlers.renameTable(catalog, renameTableRequest);
+    } finally {
+      invalidateTableMetadata(renameTableRequest.source());
+      invalidateTableMetadata(renameTableRequest.destination());
+    }
   }
 
   public LoadTableResponse updateTable(
       TableIdentifier tableIdentifier, UpdateTableRequest updateTableRequest) {
-    return CatalogHandlers.updateTable(catalog, tableIdentifier, updateTableRequest);
+    try {
+      return CatalogHandlers.updateTable(catalog, tableIdentifier, updateTableRequest);
+    } finally {
+      invalidateTableMetadata(tableIdentifier);
+    }
   }
 
   public LoadTableResponse updateTable(IcebergTableChange icebergTableChange) {
     Transaction transaction = icebergTableChange.getTransaction();
-    transaction.commitTransaction();
+    try {
+      transaction.commitTransaction();
+    } finally {
+      invalidateTableMetadata(icebergTableChange.getTableIdentifier());
+    }
     return loadTable(icebergTableChange.getTableIdentifier());
   }
 
@@ -246,6 +290,10 @@ public class IcebergCatalogWrapper implements AutoCloseable {
 
   @Override
   public void close() throws Exception {
+    if (tableMetadataCache != null) {
+      tableMetadataCache.close();
+    }
+
     if (catalog instanceof AutoCloseable) {
       // JdbcCatalog and WrappedHiveCatalog need close.
       ((AutoCloseable) catalog).close();
@@ -302,11 +350,20 @@ public class IcebergCatalogWrapper implements AutoCloseable {
     closeDriverLoadedByIsolatedClassLoader(catalogUri);
   }
 
+  private void invalidateTableMetadata(TableIdentifier tableIdentifier) {
+    if (tableMetadataCache != null) {
+      tableMetadataCache.invalidate(tableIdentifier);
+    }
+  }
+
   // Some io and security configuration should pass to Iceberg REST client
   private LoadTableResponse injectTableConfig(Supplier<LoadTableResponse> supplier) {
-    LoadTableResponse loadTableResponse = supplier.get();
+    return buildLoadTableResponse(supplier.get().tableMetadata());
+  }
+
+  private LoadTableResponse buildLoadTableResponse(TableMetadata tableMetadata) {
     return LoadTableResponse.builder()
-        .withTableMetadata(loadTableResponse.tableMetadata())
+        .withTableMetadata(tableMetadata)
         .addAllConfig(getCatalogConfigToClient())
         .build();
   }
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.common.ops;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.gravitino.utils.InvalidationFence;
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.catalog.TableIdentifier;
+
+/**
+ * A cache of the parsed Iceberg {@link TableMetadata}, keyed by the location of the metadata file.
+ *
+ * <p>Metadata files are immutable, so a cached metadata never becomes stale by itself, only the
+ * mapping from a table to its current metadata location may. The mapping is invalidated when the
+ * table is changed through the {@link IcebergCatalogWrapper} and expires after a configurable time
+ * to bound the staleness for changes made directly to the catalog backend. The mappings are bounded
+ * by count and the metadata by weight, since the size of a metadata grows with its snapshots.
+ */
+public class IcebergTableMetadataCache implements AutoCloseable {
+
+  private final Cache<TableIdentifier, String> metadataLocations;
+
+  private final Cache<String, TableMetadata> tableMetadata;
+
+  // The loads that race with a change will not populate the cache.
+  private final InvalidationFence invalidationFence = new InvalidationFence();
+
+  public IcebergTableMetadataCache(long maxSize, long maxWeight, long expireTimeMs) {
+    this.metadataLocations =
+        Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(expireTimeMs, TimeUnit.MILLISECONDS)
+            .build();
+    this.tableMetadata =
+        Caffeine.newBuilder()
+            .maximumWeight(maxWeight)
+            .weigher((String location, TableMetadata metadata) -> weigh(metadata))
+            .build();
+  }
+
+  /**
+   * Get the current metadata of the table from the cache, or load it with the specified loader if
+   * it is not cached.
+   *
+   * @param tableIdentifier the identifier of the table
+   * @param loader the loader to load the metadata from the catalog backend
+   * @return the cached or loaded table metadata
+   */
+  public TableMetadata get(TableIdentifier tableIdentifier, Supplier<TableMetadata> loader) {
+    String metadataLocation = metadataLocations.getIfPresent(tableIdentifier);
+    if (metadataLocation != null) {
+      TableMetadata cached = tableMetadata.getIfPresent(metadataLocation);
+      if (cached != null) {
+        return cached;
+      }
+    }
+
+    long loadGeneration = invalidationFence.generation();
+    TableMetadata loaded = loader.get();
+    // The metadata of a staged table has no location yet.
+    if (loaded.metadataFileLocation() != null) {
+      invalidationFence.putIfNotInvalidated(
+          loadGeneration,
+          () -> {
+            tableMetadata.put(loaded.metadataFileLocation(), loaded);
+            metadataLocations.put(tableIdentifier, loaded.metadataFileLocation());
+          });
+    }
+    return loaded;
+  }
+
+  /**
+   * Invalidate the metadata location of the table, the next load reads the current location from
+   * the catalog backend.
+   *
+   * @param tableIdentifier the identifier of the changed table
+   */
+  public void invalidate(TableIdentifier tableIdentifier) {
+    invalidationFence.invalidate(() -> metadataLocations.invalidate(tableIdentifier));
+  }
+
+  /** Invalidate all the cached metadata locations and metadata. */
+  public void invalidateAll() {
+    invalidationFence.invalidate(
+        () -> {
+          metadataLocations.invalidateAll();
+          tableMetadata.invalidateAll();
+        });
+  }
+
+  @VisibleForTesting
+  boolean contains(TableIdentifier tableIdentifier) {
+    return metadataLocations.getIfPresent(tableIdentifier) != null;
+  }
+
+  @Override
+  public void close() {
+    invalidateAll();
+  }
+
+  private static int weigh(TableMetadata metadata) {
+    return 1
+        + metadata.snapshots().size()
+        + metadata.schemas().size()
+        + metadata.previousFiles().size();
+  }
+}
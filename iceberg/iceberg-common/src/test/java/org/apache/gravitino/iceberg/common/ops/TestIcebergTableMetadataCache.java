@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.common.ops;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergConstants;
+import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.iceberg.MetadataUpdate;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.UpdateRequirement;
+import org.apache.iceberg.UpdateRequirements;
+import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.exceptions.NoSuchTableException;
+import org.apache.iceberg.rest.requests.CreateNamespaceRequest;
+import org.apache.iceberg.rest.requests.CreateTableRequest;
+import org.apache.iceberg.rest.requests.UpdateTableRequest;
+import org.apache.iceberg.types.Types.NestedField;
+import org.apache.iceberg.types.Types.StringType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestIcebergTableMetadataCache {
+
+  private static final Namespace NAMESPACE = Namespace.of("cache_db");
+  private static final TableIdentifier TABLE = TableIdentifier.of(NAMESPACE, "cache_table");
+  private static final Schema TABLE_SCHEMA =
+      new Schema(NestedField.of(1, false, "foo_string", StringType.get()));
+  private static final Schema NEW_TABLE_SCHEMA =
+      new Schema(NestedField.of(2, false, "foo_string1", StringType.get()));
+
+  private IcebergCatalogWrapper icebergCatalogWrapper;
+
+  @BeforeEach
+  void setUp() {
+    icebergCatalogWrapper =
+        new IcebergCatalogWrapper(
+            new IcebergConfig(
+                ImmutableMap.of(IcebergConstants.TABLE_METADATA_CACHE_ENABLED, "true")));
+    icebergCatalogWrapper.createNamespace(
+        CreateNamespaceRequest.builder().withNamespace(NAMESPACE).build());
+    icebergCatalogWrapper.createTable(
+        NAMESPACE,
+        CreateTableRequest.builder().withName(TABLE.name()).withSchema(TABLE_SCHEMA).build());
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    icebergCatalogWrapper.close();
+  }
+
+  @Test
+  void testLoadTableIsCached() {
+    TableMetadata metadata = icebergCatalogWrapper.loadTable(TABLE).tableMetadata();
+    Assertions.assertNotNull(metadata.metadataFileLocation());
+    Assertions.assertSame(metadata, icebergCatalogWrapper.loadTable(TABLE).tableMetadata());
+  }
+
+  @Test
+  void testUpdateAndDropTableInvalidateCache() {
+    TableMetadata base = icebergCatalogWrapper.loadTable(TABLE).tableMetadata();
+    TableMetadata newMetadata = base.updateSchema(NEW_TABLE_SCHEMA, base.lastColumnId());
+    List<MetadataUpdate> metadataUpdates = newMetadata.changes();
+    List<UpdateRequirement> requirements = UpdateRequirements.forUpdateTable(base, metadataUpdates);
+    icebergCatalogWrapper.updateTable(
+        TABLE, new UpdateTableRequest(requirements, metadataUpdates));
+
+    TableMetadata updated = icebergCatalogWrapper.loadTable(TABLE).tableMetadata();
+    Assertions.assertNotEquals(base.metadataFileLocation(), updated.metadataFileLocation());
+    Assertions.assertEquals(NEW_TABLE_SCHEMA.columns(), updated.schema().columns());
+
+    icebergCatalogWrapper.dropTable(TABLE);
+    Assertions.assertThrows(
+        NoSuchTableException.class, () -> icebergCatalogWrapper.loadTable(TABLE));
+  }
+
+  @Test
+  void testLoadRacingWithInvalidation() {
+    TableMetadata metadata = icebergCatalogWrapper.loadTable(TABLE).tableMetadata();
+    IcebergTableMetadataCache cache = new IcebergTableMetadataCache(10, 100, 60000);
+    TableIdentifier identifier = TableIdentifier.of(NAMESPACE, "other_table");
+
+    cache.get(
+        identifier,
+        () -> {
+          cache.invalidate(identifier);
+          return metadata;
+        });
+    Assertions.assertFalse(cache.contains(identifier));
+
+    cache.get(identifier, () -> metadata);
+    Assertions.assertTrue(cache.contains(identifier));
+    Assertions.assertSame(
+        metadata,
+        cache.get(
+            identifier,
+            () -> {
+              throw new IllegalStateException("Should be served from the cache");
+            }));
+    cache.close();
+  }
+}
@@ -18,20 +18,28 @@
  */
 package org.apache.gravitino.iceberg.service.metrics;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.iceberg.common.IcebergConfig;
 import org.apache.gravitino.iceberg.common.ops.IcebergCatalogWrapper;
 import org.apache.gravitino.iceberg.service.IcebergRestUtils;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.MetricsSource;
 import org.apache.iceberg.metrics.MetricsReport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,11 +53,16 @@ public class IcebergMetricsManager {
   private static final ImmutableMap<String, String> ICEBERG_METRICS_STORE_NAMES =
       ImmutableMap.of(
           DummyMetricsStore.ICEBERG_METRICS_STORE_DUMMY_NAME,
-          DummyMetricsStore.class.getCanonicalName());
+          DummyMetricsStore.class.getCanonicalName(),
+          JdbcMetricsStore.ICEBERG_METRICS_STORE_JDBC_NAME,
+          JdbcMetricsStore.class.getCanonicalName());
 
   private final IcebergMetricsFormatter icebergMetricsFormatter;
   private final IcebergMetricsStore icebergMetricsStore;
   private final int retainDays;
+  private final int flushBatchSize;
+  private final long flushIntervalNanos;
+  private final IcebergMetricsManagerMetricsSource metricsSource;
 
   private BlockingQueue<MetricsReport> queue;
   private Thread metricsWriterThread;
@@ -83,12 +96,21 @@ public class IcebergMetricsManager {
 
     int queueCapacity = icebergConfig.get(IcebergConfig.ICEBERG_METRICS_QUEUE_CAPACITY);
     queue = new LinkedBlockingQueue(queueCapacity);
+    flushBatchSize = icebergConfig.get(IcebergConfig.ICEBERG_METRICS_FLUSH_BATCH_SIZE);
+    flushIntervalNanos =
+        TimeUnit.MILLISECONDS.toNanos(
+            icebergConfig.get(IcebergConfig.ICEBERG_METRICS_FLUSH_INTERVAL_MS));
+    metricsSource = new IcebergMetricsManagerMetricsSource();
     metricsWriterThread = new Thread(() -> writeMetrics());
     metricsWriterThread.setName("Iceberg-metrics-writer");
     metricsWriterThread.setDaemon(true);
   }
 
   public void start() {
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
     metricsWriterThread.start();
     metricsCleanerExecutor.ifPresent(
         executorService ->
@@ -111,10 +133,12 @@ public class IcebergMetricsManager {
 
   public void recordMetric(MetricsReport metricsReport) {
     if (isClosed) {
+      metricsSource.droppedCounter.inc();
       logMetrics("Drop Iceberg metrics because Iceberg Metrics Manager is closed.", metricsReport);
       return;
     }
     if (queue.offer(metricsReport) == false) {
+      metricsSource.droppedCounter.inc();
       logMetrics("Drop Iceberg metrics because metrics queue is full.", metricsReport);
     }
   }
@@ -123,6 +147,16 @@ public class IcebergMetricsManager {
     isClosed = true;
     metricsCleanerExecutor.ifPresent(executorService -> executorService.shutdownNow());
 
+    // Stop the writer before closing the store, so the pending batch could still be written.
+    if (metricsWriterThread != null) {
+      metricsWriterThread.interrupt();
+      try {
+        metricsWriterThread.join();
+      } catch (InterruptedException e) {
+        LOG.warn("Iceberg metrics manager is interrupted while join metrics writer thread.");
+      }
+    }
+
     if (icebergMetricsStore != null) {
       try {
         icebergMetricsStore.close();
@@ -131,13 +165,9 @@ public class IcebergMetricsManager {
       }
     }
 
-    if (metricsWriterThread != null) {
-      metricsWriterThread.interrupt();
-      try {
-        metricsWriterThread.join();
-      } catch (InterruptedException e) {
-        LOG.warn("Iceberg metrics manager is interrupted while join metrics writer thread.");
-      }
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
     }
   }
 
@@ -146,27 +176,55 @@ public class IcebergMetricsManager {
     return icebergMetricsStore;
   }
 
+  @VisibleForTesting
+  MetricsSource getMetricsSource() {
+    return metricsSource;
+  }
+
   private void writeMetrics() {
+    List<MetricsReport> batch = new ArrayList<>(flushBatchSize);
     while (Thread.currentThread().isInterrupted() == false) {
-      MetricsReport metricsReport;
       try {
-        metricsReport = queue.take();
+        collectBatch(batch);
       } catch (InterruptedException e) {
         LOG.warn("Iceberg Metrics writer thread is interrupted.");
         break;
       }
-      if (metricsReport != null) {
-        doRecordMetric(metricsReport);
-      }
+      doRecordMetrics(batch);
+      batch.clear();
     }
 
+    // Write the batch collected before the interruption, drop the rest of the queue.
+    doRecordMetrics(batch);
     MetricsReport metricsReport = queue.poll();
     while (metricsReport != null) {
+      metricsSource.droppedCounter.inc();
       logMetrics("Drop Iceberg metrics because it's time to close metrics store.", metricsReport);
       metricsReport = queue.poll();
     }
   }
 
+  // Block until one report arrives, then keep collecting until the batch is full or the flush
+  // interval of the first report elapses.
+  private void collectBatch(List<MetricsReport> batch) throws InterruptedException {
+    batch.add(queue.take());
+    long deadline = System.nanoTime() + flushIntervalNanos;
+    while (batch.size() < flushBatchSize) {
+      if (queue.drainTo(batch, flushBatchSize - batch.size()) > 0) {
+        continue;
+      }
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0) {
+        return;
+      }
+      MetricsReport metricsReport = queue.poll(remaining, TimeUnit.NANOSECONDS);
+      if (metricsReport == null) {
+        return;
+      }
+      batch.add(metricsReport);
+    }
+  }
+
   private IcebergMetricsStore loadIcebergMetricsStore(String metricsStoreName) {
     if (metricsStoreName == null) {
       metricsStoreName = DummyMetricsStore.ICEBERG_METRICS_STORE_DUMMY_NAME;
@@ -188,11 +246,30 @@ public class IcebergMetricsManager {
     LOG.info("{} {}.", message, icebergMetricsFormatter.toPrintableString(metricsReport));
   }
 
-  private void doRecordMetric(MetricsReport metricsReport) {
-    try {
-      icebergMetricsStore.recordMetric(metricsReport);
+  private void doRecordMetrics(List<MetricsReport> metricsReports) {
+    if (metricsReports.isEmpty()) {
+      return;
+    }
+
+    try (Timer.Context ignored = metricsSource.flushTimer.time()) {
+      icebergMetricsStore.recordMetrics(metricsReports);
     } catch (Exception e) {
-      LOG.warn("Write Iceberg metrics failed.", e);
+      metricsSource.flushFailedCounter.inc();
+      LOG.warn("Write {} Iceberg metrics failed.", metricsReports.size(), e);
+    }
+  }
+
+  private class IcebergMetricsManagerMetricsSource extends MetricsSource {
+    private final Counter droppedCounter;
+    private final Counter flushFailedCounter;
+    private final Timer flushTimer;
+
+    private IcebergMetricsManagerMetricsSource() {
+      super(MetricsSource.ICEBERG_METRICS_STORE_METRIC_NAME);
+      this.droppedCounter = getCounter(MetricNames.ICEBERG_METRICS_DROPPED_COUNT);
+      this.flushFailedCounter = getCounter(MetricNames.ICEBERG_METRICS_FLUSH_FAILED_COUNT);
+      this.flushTimer = getTimer(MetricNames.ICEBERG_METRICS_FLUSH_DURATION);
+      registerGauge(MetricNames.ICEBERG_METRICS_QUEUE_SIZE, () -> queue.size());
     }
   }
 }
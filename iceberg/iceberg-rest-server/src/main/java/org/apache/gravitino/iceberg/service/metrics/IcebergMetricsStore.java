@@ -20,6 +20,7 @@ package org.apache.gravitino.iceberg.service.metrics;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import org.apache.iceberg.metrics.MetricsReport;
 
@@ -42,6 +43,19 @@ public interface IcebergMetricsStore {
    */
   void recordMetric(MetricsReport metricsReport) throws IOException;
 
+  /**
+   * Record a batch of metrics reports. The default implementation records the reports one by one,
+   * stores that can write several reports in one round trip should override it.
+   *
+   * @param metricsReports the metrics to be saved
+   * @throws IOException if IO error happens
+   */
+  default void recordMetrics(List<MetricsReport> metricsReports) throws IOException {
+    for (MetricsReport metricsReport : metricsReports) {
+      recordMetric(metricsReport);
+    }
+  }
+
   /**
    * Clean the expired Iceberg metrics
    *
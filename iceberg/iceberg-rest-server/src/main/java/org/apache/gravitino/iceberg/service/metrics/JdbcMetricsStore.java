@@ -0,0 +1,261 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service.metrics;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.iceberg.metrics.CommitReport;
+import org.apache.iceberg.metrics.MetricsReport;
+import org.apache.iceberg.metrics.ScanReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An Iceberg metrics store that saves the metrics reports to a relational database through JDBC.
+ * The reports of one batch are written with a single batched insert in one transaction.
+ *
+ * <p>The JDBC driver of the database should be added to the Iceberg REST service classpath.
+ */
+public class JdbcMetricsStore implements IcebergMetricsStore {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JdbcMetricsStore.class);
+
+  public static final String ICEBERG_METRICS_STORE_JDBC_NAME = "jdbc";
+
+  public static final String JDBC_URI = "metricsStore.jdbc.uri";
+  public static final String JDBC_DRIVER = "metricsStore.jdbc.driver";
+  public static final String JDBC_USER = "metricsStore.jdbc.user";
+  public static final String JDBC_PASSWORD = "metricsStore.jdbc.password";
+  public static final String JDBC_INIT_TABLE = "metricsStore.jdbc.initTable";
+
+  @VisibleForTesting static final String TABLE_NAME = "iceberg_metrics_report";
+
+  private static final String CREATE_TABLE_SQL =
+      "CREATE TABLE IF NOT EXISTS "
+          + TABLE_NAME
+          + " (record_time BIGINT NOT NULL,"
+          + " table_name VARCHAR(1024) NOT NULL,"
+          + " report_type VARCHAR(32) NOT NULL,"
+          + " snapshot_id BIGINT,"
+          + " report TEXT NOT NULL)";
+
+  private static final String INSERT_SQL =
+      "INSERT INTO "
+          + TABLE_NAME
+          + " (record_time, table_name, report_type, snapshot_id, report) VALUES (?, ?, ?, ?, ?)";
+
+  private static final String CLEAN_SQL = "DELETE FROM " + TABLE_NAME + " WHERE record_time < ?";
+
+  private static final int CONNECTION_VALID_TIMEOUT_SECONDS = 5;
+
+  private static final long CONNECTION_VALIDATION_INTERVAL_MS = 60_000L;
+
+  private final IcebergMetricsFormatter metricsFormatter = new IcebergMetricsFormatter();
+
+  private String uri;
+  private Properties connectionProperties;
+  private Connection connection;
+  // The connection is validated only after a failure or when it has not been validated for an
+  // interval, not for every batch.
+  private boolean connectionFailed;
+  private long connectionValidatedTime;
+
+  @Override
+  public synchronized void init(Map<String, String> properties) throws IOException {
+    this.uri = properties.get(JDBC_URI);
+    Preconditions.checkArgument(
+        StringUtils.isNotBlank(uri), "%s is required for the JDBC metrics store", JDBC_URI);
+
+    String driver = properties.get(JDBC_DRIVER);
+    if (StringUtils.isNotBlank(driver)) {
+      try {
+        Class.forName(driver);
+      } catch (ClassNotFoundException e) {
+        throw new IOException("Failed to load JDBC driver " + driver, e);
+      }
+    }
+
+    this.connectionProperties = new Properties();
+    if (properties.containsKey(JDBC_USER)) {
+      connectionProperties.setProperty("user", properties.get(JDBC_USER));
+    }
+    if (properties.containsKey(JDBC_PASSWORD)) {
+      connectionProperties.setProperty("password", properties.get(JDBC_PASSWORD));
+    }
+
+    if (Boolean.parseBoolean(properties.getOrDefault(JDBC_INIT_TABLE, "true"))) {
+      try (Statement statement = getConnection().createStatement()) {
+        statement.execute(CREATE_TABLE_SQL);
+      } catch (SQLException e) {
+        connectionFailed = true;
+        throw new IOException("Failed to create Iceberg metrics table " + TABLE_NAME, e);
+      }
+    }
+  }
+
+  @Override
+  public void recordMetric(MetricsReport metricsReport) throws IOException {
+    recordMetrics(Collections.singletonList(metricsReport));
+  }
+
+  @Override
+  public synchronized void recordMetrics(List<MetricsReport> metricsReports) throws IOException {
+    if (metricsReports.isEmpty()) {
+      return;
+    }
+
+    long recordTime = Instant.now().toEpochMilli();
+    Connection conn = null;
+    try {
+      conn = getConnection();
+      conn.setAutoCommit(false);
+      try (PreparedStatement statement = conn.prepareStatement(INSERT_SQL)) {
+        int batchSize = 0;
+        for (MetricsReport metricsReport : metricsReports) {
+          if (bindReport(statement, recordTime, metricsReport)) {
+            statement.addBatch();
+            batchSize++;
+          }
+        }
+        if (batchSize > 0) {
+          statement.executeBatch();
+        }
+      }
+      conn.commit();
+    } catch (SQLException e) {
+      connectionFailed = true;
+      rollback(conn);
+      throw new IOException("Failed to write " + metricsReports.size() + " Iceberg metrics", e);
+    }
+  }
+
+  @Override
+  public synchronized void clean(Instant expireTime) throws IOException {
+    Connection conn = null;
+    try {
+      conn = getConnection();
+      conn.setAutoCommit(true);
+      try (PreparedStatement statement = conn.prepareStatement(CLEAN_SQL)) {
+        statement.setLong(1, expireTime.toEpochMilli());
+        int deleted = statement.executeUpdate();
+        LOG.info("Cleaned {} Iceberg metrics before {}.", deleted, expireTime);
+      }
+    } catch (SQLException e) {
+      connectionFailed = true;
+      throw new IOException("Failed to clean Iceberg metrics before " + expireTime, e);
+    }
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (connection != null) {
+      try {
+        connection.close();
+      } catch (SQLException e) {
+        throw new IOException("Failed to close the JDBC metrics store connection", e);
+      } finally {
+        connection = null;
+      }
+    }
+  }
+
+  // Returns false and skips the report if its type is not supported, so that the other reports of
+  // the batch are still written.
+  private boolean bindReport(PreparedStatement statement, long recordTime, MetricsReport report)
+      throws SQLException {
+    String tableName;
+    String reportType;
+    long snapshotId;
+    if (report instanceof ScanReport) {
+      ScanReport scanReport = (ScanReport) report;
+      tableName = scanReport.tableName();
+      reportType = "scan";
+      snapshotId = scanReport.snapshotId();
+    } else if (report instanceof CommitReport) {
+      CommitReport commitReport = (CommitReport) report;
+      tableName = commitReport.tableName();
+      reportType = "commit";
+      snapshotId = commitReport.snapshotId();
+    } else {
+      LOG.warn("Skip the Iceberg metrics report of unsupported type: {}", report.getClass());
+      return false;
+    }
+
+    statement.setLong(1, recordTime);
+    statement.setString(2, tableName);
+    statement.setString(3, reportType);
+    statement.setLong(4, snapshotId);
+    statement.setString(5, metricsFormatter.toJson(report));
+    return true;
+  }
+
+  // The connection is reused across batches and reopened if the database closed it.
+  private Connection getConnection() throws SQLException {
+    long now = System.currentTimeMillis();
+    boolean validate =
+        connectionFailed || now - connectionValidatedTime >= CONNECTION_VALIDATION_INTERVAL_MS;
+    if (connection != null && validate) {
+      if (!connection.isValid(CONNECTION_VALID_TIMEOUT_SECONDS)) {
+        closeQuietly(connection);
+        connection = null;
+      } else {
+        connectionFailed = false;
+        connectionValidatedTime = now;
+      }
+    }
+
+    if (connection == null) {
+      connection = DriverManager.getConnection(uri, connectionProperties);
+      connectionFailed = false;
+      connectionValidatedTime = now;
+    }
+    return connection;
+  }
+
+  private static void rollback(Connection conn) {
+    if (conn == null) {
+      return;
+    }
+    try {
+      conn.rollback();
+    } catch (SQLException e) {
+      LOG.warn("Failed to rollback Iceberg metrics batch.", e);
+    }
+  }
+
+  private static void closeQuietly(Connection conn) {
+    try {
+      conn.close();
+    } catch (SQLException e) {
+      LOG.warn("Failed to close the stale JDBC metrics store connection.", e);
+    }
+  }
+}
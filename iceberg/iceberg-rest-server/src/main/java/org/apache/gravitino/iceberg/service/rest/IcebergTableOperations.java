@@ -22,6 +22,10 @@ import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Splitter;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.Consumes;
@@ -29,12 +33,15 @@ import javax.ws.rs.DELETE;
 import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.HEAD;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.apache.gravitino.iceberg.service.IcebergCatalogWrapperManager;
@@ -47,6 +54,7 @@ import org.apache.iceberg.rest.RESTUtil;
 import org.apache.iceberg.rest.requests.CreateTableRequest;
 import org.apache.iceberg.rest.requests.ReportMetricsRequest;
 import org.apache.iceberg.rest.requests.UpdateTableRequest;
+import org.apache.iceberg.rest.responses.LoadTableResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -162,12 +170,24 @@ public class IcebergTableOperations {
       @PathParam("prefix") String prefix,
       @PathParam("namespace") String namespace,
       @PathParam("table") String table,
-      @DefaultValue("all") @QueryParam("snapshots") String snapshots) {
+      @DefaultValue("all") @QueryParam("snapshots") String snapshots,
+      @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
     // todo support snapshots
     TableIdentifier tableIdentifier =
         TableIdentifier.of(RESTUtil.decodeNamespace(namespace), table);
-    return IcebergRestUtils.ok(
-        icebergCatalogWrapperManager.getOps(prefix).loadTable(tableIdentifier));
+    LoadTableResponse loadTableResponse =
+        icebergCatalogWrapperManager.getOps(prefix).loadTable(tableIdentifier);
+
+    // The metadata file of a table is immutable, so the clients which already have the metadata
+    // of the same location can skip the response body.
+    EntityTag entityTag = buildEntityTag(loadTableResponse.metadataLocation(), snapshots);
+    if (entityTag == null) {
+      return IcebergRestUtils.ok(loadTableResponse);
+    }
+    if (isNotModified(ifNoneMatch, entityTag)) {
+      return IcebergRestUtils.notModified(entityTag);
+    }
+    return IcebergRestUtils.ok(loadTableResponse, entityTag);
   }
 
   @HEAD
@@ -202,6 +222,34 @@ public class IcebergTableOperations {
     return IcebergRestUtils.noContent();
   }
 
+  @VisibleForTesting
+  static EntityTag buildEntityTag(String metadataLocation, String snapshots) {
+    if (metadataLocation == null) {
+      return null;
+    }
+    return new EntityTag(
+        Hashing.sha256()
+            .hashString(metadataLocation + "#" + snapshots, StandardCharsets.UTF_8)
+            .toString());
+  }
+
+  @VisibleForTesting
+  static boolean isNotModified(String ifNoneMatchHeader, EntityTag entityTag) {
+    if (ifNoneMatchHeader == null) {
+      return false;
+    }
+
+    String expected = "\"" + entityTag.getValue() + "\"";
+    for (String tag : Splitter.on(',').trimResults().omitEmptyStrings().split(ifNoneMatchHeader)) {
+      // The comparison of If-None-Match is weak, the weak indicator is ignored.
+      String strongTag = tag.startsWith("W/") ? tag.substring(2) : tag;
+      if ("*".equals(strongTag) || expected.equals(strongTag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private String SerializeUpdateTableRequest(UpdateTableRequest updateTableRequest) {
     try {
       return icebergObjectMapper.writeValueAsString(updateTableRequest);
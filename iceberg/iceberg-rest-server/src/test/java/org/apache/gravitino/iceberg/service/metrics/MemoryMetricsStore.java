@@ -19,8 +19,11 @@
 
 package org.apache.gravitino.iceberg.service.metrics;
 
+import java.io.IOException;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.apache.iceberg.metrics.MetricsReport;
 
 /** Store Iceberg metrics in memory, used for test */
@@ -28,6 +31,7 @@ public class MemoryMetricsStore implements IcebergMetricsStore {
   private MetricsReport metricsReport;
   private Instant recordTime = Instant.now();
   private Map<String, String> properties;
+  private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
 
   @Override
   public void init(Map<String, String> properties) {
@@ -40,6 +44,12 @@ public class MemoryMetricsStore implements IcebergMetricsStore {
     this.recordTime = Instant.now();
   }
 
+  @Override
+  public void recordMetrics(List<MetricsReport> metricsReports) throws IOException {
+    batchSizes.add(metricsReports.size());
+    IcebergMetricsStore.super.recordMetrics(metricsReports);
+  }
+
   @Override
   public void close() {}
 
@@ -54,6 +64,10 @@ public class MemoryMetricsStore implements IcebergMetricsStore {
     return metricsReport;
   }
 
+  List<Integer> getBatchSizes() {
+    return batchSizes;
+  }
+
   Map<String, String> getProperties() {
     return properties;
   }
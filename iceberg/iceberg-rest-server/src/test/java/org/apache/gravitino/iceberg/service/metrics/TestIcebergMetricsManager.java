@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.testcontainers.shaded.org.awaitility.Awaitility.await;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergConstants;
@@ -98,4 +99,65 @@ public class TestIcebergMetricsManager {
 
     icebergMetricsManager.close();
   }
+
+  @Test
+  void testIcebergMetricsManagerFlushBySize() {
+    Map<String, String> properties =
+        ImmutableMap.of(
+            IcebergConstants.ICEBERG_METRICS_STORE,
+            MemoryMetricsStore.class.getName(),
+            IcebergConstants.ICEBERG_METRICS_FLUSH_BATCH_SIZE,
+            "5",
+            IcebergConstants.ICEBERG_METRICS_FLUSH_INTERVAL_MS,
+            "60000");
+    IcebergMetricsManager icebergMetricsManager =
+        new IcebergMetricsManager(new IcebergConfig(properties));
+    MemoryMetricsStore memoryMetricsStore =
+        (MemoryMetricsStore) icebergMetricsManager.getIcebergMetricsStore();
+
+    // The reports are queued before the writer starts, so they are written as full batches
+    // without waiting for the flush interval.
+    for (int i = 0; i < 10; i++) {
+      icebergMetricsManager.recordMetric(createMetricsReport());
+    }
+    icebergMetricsManager.start();
+    await()
+        .atMost(20, TimeUnit.SECONDS)
+        .pollInterval(100, TimeUnit.MILLISECONDS)
+        .untilAsserted(
+            () ->
+                Assertions.assertEquals(
+                    Lists.newArrayList(5, 5), memoryMetricsStore.getBatchSizes()));
+
+    icebergMetricsManager.close();
+  }
+
+  @Test
+  void testIcebergMetricsManagerFlushByInterval() {
+    Map<String, String> properties =
+        ImmutableMap.of(
+            IcebergConstants.ICEBERG_METRICS_STORE,
+            MemoryMetricsStore.class.getName(),
+            IcebergConstants.ICEBERG_METRICS_FLUSH_BATCH_SIZE,
+            "100",
+            IcebergConstants.ICEBERG_METRICS_FLUSH_INTERVAL_MS,
+            "100");
+    IcebergMetricsManager icebergMetricsManager =
+        new IcebergMetricsManager(new IcebergConfig(properties));
+    MemoryMetricsStore memoryMetricsStore =
+        (MemoryMetricsStore) icebergMetricsManager.getIcebergMetricsStore();
+
+    for (int i = 0; i < 3; i++) {
+      icebergMetricsManager.recordMetric(createMetricsReport());
+    }
+    icebergMetricsManager.start();
+    await()
+        .atMost(20, TimeUnit.SECONDS)
+        .pollInterval(100, TimeUnit.MILLISECONDS)
+        .untilAsserted(
+            () ->
+                Assertions.assertEquals(Lists.newArrayList(3), memoryMetricsStore.getBatchSizes()));
+
+    icebergMetricsManager.close();
+  }
 }
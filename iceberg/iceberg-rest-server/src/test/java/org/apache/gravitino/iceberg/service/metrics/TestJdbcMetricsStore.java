@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service.metrics;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.List;
+import org.apache.iceberg.metrics.ImmutableCommitMetricsResult;
+import org.apache.iceberg.metrics.ImmutableCommitReport;
+import org.apache.iceberg.metrics.MetricsReport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestJdbcMetricsStore {
+
+  private File dbFile;
+  private String uri;
+  private JdbcMetricsStore metricsStore;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    dbFile = Files.createTempFile("iceberg-metrics", ".db").toFile();
+    uri = "jdbc:sqlite:" + dbFile.getAbsolutePath();
+    metricsStore = new JdbcMetricsStore();
+    metricsStore.init(
+        ImmutableMap.of(
+            JdbcMetricsStore.JDBC_URI, uri, JdbcMetricsStore.JDBC_DRIVER, "org.sqlite.JDBC"));
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    metricsStore.close();
+    Files.deleteIfExists(dbFile.toPath());
+  }
+
+  private static MetricsReport createMetricsReport(String tableName, long snapshotId) {
+    return ImmutableCommitReport.builder()
+        .tableName(tableName)
+        .snapshotId(snapshotId)
+        .sequenceNumber(1)
+        .operation("append")
+        .commitMetrics(ImmutableCommitMetricsResult.builder().build())
+        .build();
+  }
+
+  private int countReports(String condition) throws SQLException {
+    try (Connection connection = DriverManager.getConnection(uri);
+        Statement statement = connection.createStatement();
+        ResultSet resultSet =
+            statement.executeQuery(
+                "SELECT COUNT(*) FROM " + JdbcMetricsStore.TABLE_NAME + " WHERE " + condition)) {
+      resultSet.next();
+      return resultSet.getInt(1);
+    }
+  }
+
+  @Test
+  void testRecordMetrics() throws IOException, SQLException {
+    List<MetricsReport> reports = Lists.newArrayList();
+    for (int i = 0; i < 10; i++) {
+      reports.add(createMetricsReport("db.table" + (i % 2), i));
+    }
+    metricsStore.recordMetrics(reports);
+    metricsStore.recordMetric(createMetricsReport("db.table0", 10));
+
+    Assertions.assertEquals(11, countReports("1 = 1"));
+    Assertions.assertEquals(6, countReports("table_name = 'db.table0'"));
+    Assertions.assertEquals(11, countReports("report_type = 'commit'"));
+    Assertions.assertEquals(1, countReports("snapshot_id = 10"));
+    Assertions.assertEquals(1, countReports("report LIKE '%\"snapshot-id\":10%'"));
+  }
+
+  @Test
+  void testSkipUnsupportedReport() throws IOException, SQLException {
+    MetricsReport unsupportedReport = new MetricsReport() {};
+    metricsStore.recordMetrics(
+        Lists.newArrayList(
+            createMetricsReport("db.table", 1),
+            unsupportedReport,
+            createMetricsReport("db.table", 2)));
+    metricsStore.recordMetric(unsupportedReport);
+
+    Assertions.assertEquals(2, countReports("1 = 1"));
+  }
+
+  @Test
+  void testClean() throws IOException, SQLException {
+    metricsStore.recordMetrics(
+        Lists.newArrayList(createMetricsReport("db.table", 1), createMetricsReport("db.table", 2)));
+
+    metricsStore.clean(Instant.now().minusSeconds(3600));
+    Assertions.assertEquals(2, countReports("1 = 1"));
+
+    metricsStore.clean(Instant.now().plusSeconds(1));
+    Assertions.assertEquals(0, countReports("1 = 1"));
+  }
+
+  @Test
+  void testInitWithoutUri() {
+    Assertions.assertThrowsExactly(
+        IllegalArgumentException.class, () -> new JdbcMetricsStore().init(ImmutableMap.of()));
+  }
+}
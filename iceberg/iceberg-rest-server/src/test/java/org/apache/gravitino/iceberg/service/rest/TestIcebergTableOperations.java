@@ -26,6 +26,8 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.core.Application;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
@@ -228,6 +230,50 @@ public class TestIcebergTableOperations extends TestIcebergNamespaceOperations {
     verifyLoadTableFail("load_foo2", 404);
   }
 
+  @Test
+  void testLoadTableWithETag() {
+    verifyCreateNamespaceSucc(IcebergRestTestUtil.TEST_NAMESPACE_NAME);
+    verifyCreateTableSucc("etag_foo1");
+
+    Response response = doLoadTable("etag_foo1");
+    Assertions.assertEquals(Status.OK.getStatusCode(), response.getStatus());
+    String etag = response.getHeaderString(HttpHeaders.ETAG);
+    Assertions.assertNotNull(etag);
+    TableMetadata metadata = response.readEntity(LoadTableResponse.class).tableMetadata();
+
+    response =
+        getTableClientBuilder(Optional.of("etag_foo1"))
+            .header(HttpHeaders.IF_NONE_MATCH, etag)
+            .get();
+    Assertions.assertEquals(Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+    Assertions.assertFalse(response.hasEntity());
+
+    // The metadata location changes after the table is updated.
+    verifyUpdateSucc("etag_foo1", metadata);
+    response =
+        getTableClientBuilder(Optional.of("etag_foo1"))
+            .header(HttpHeaders.IF_NONE_MATCH, etag)
+            .get();
+    Assertions.assertEquals(Status.OK.getStatusCode(), response.getStatus());
+    Assertions.assertNotEquals(etag, response.getHeaderString(HttpHeaders.ETAG));
+  }
+
+  @Test
+  void testIfNoneMatch() {
+    EntityTag entityTag = IcebergTableOperations.buildEntityTag("/mock/metadata.json", "all");
+    String etag = "\"" + entityTag.getValue() + "\"";
+    Assertions.assertNull(IcebergTableOperations.buildEntityTag(null, "all"));
+    Assertions.assertNotEquals(
+        entityTag, IcebergTableOperations.buildEntityTag("/mock/metadata.json", "refs"));
+
+    Assertions.assertFalse(IcebergTableOperations.isNotModified(null, entityTag));
+    Assertions.assertTrue(IcebergTableOperations.isNotModified(etag, entityTag));
+    Assertions.assertTrue(IcebergTableOperations.isNotModified("W/" + etag, entityTag));
+    Assertions.assertTrue(IcebergTableOperations.isNotModified("\"a\", " + etag, entityTag));
+    Assertions.assertTrue(IcebergTableOperations.isNotModified("*", entityTag));
+    Assertions.assertFalse(IcebergTableOperations.isNotModified("\"a\"", entityTag));
+  }
+
   @Test
   void testDropTable() {
     verifyDropTableFail("drop_foo1", 404);
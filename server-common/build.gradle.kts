@@ -33,6 +33,8 @@ dependencies {
   implementation(project(":core"))
 
   implementation(libs.bundles.jetty)
+  implementation(libs.jetty.alpn.server)
+  implementation(libs.jetty.http2.server)
   implementation(libs.bundles.jwt)
   implementation(libs.bundles.kerby)
   implementation(libs.bundles.log4j)
@@ -41,6 +43,9 @@ dependencies {
   implementation(libs.guava)
   implementation(libs.prometheus.servlet)
 
+  runtimeOnly(libs.jetty.alpn.java.server)
+  runtimeOnly(libs.jetty.alpn.openjdk8.server)
+
   testImplementation(libs.commons.io)
   testImplementation(libs.junit.jupiter.api)
   testImplementation(libs.junit.jupiter.params)
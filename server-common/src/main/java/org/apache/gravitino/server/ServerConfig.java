@@ -35,6 +35,45 @@ public class ServerConfig extends Config {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(3 * 1000);
 
+  public static final ConfigEntry<Boolean> ACCESS_LOG_ENABLED =
+      new ConfigBuilder("gravitino.server.accessLog.enabled")
+          .doc(
+              "Whether to write an entry to the access log for each REST API request. The entries"
+                  + " are written asynchronously to the GravitinoAccessLog logger")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .booleanConf()
+          .createWithDefault(true);
+
+  public static final ConfigEntry<Integer> ACCESS_LOG_QUEUE_SIZE =
+      new ConfigBuilder("gravitino.server.accessLog.queueSize")
+          .doc(
+              "The number of access log entries that can wait to be written, the entries beyond it"
+                  + " are dropped")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10000);
+
+  public static final ConfigEntry<Integer> ACCESS_LOG_SAMPLING_INTERVAL =
+      new ConfigBuilder("gravitino.server.accessLog.samplingInterval")
+          .doc(
+              "Write the access log entry of one in every this number of successful requests."
+                  + " The failed requests and the slow requests are always written")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1);
+
+  public static final ConfigEntry<Long> ACCESS_LOG_SLOW_REQUEST_THRESHOLD_MS =
+      new ConfigBuilder("gravitino.server.accessLog.slowRequestThresholdMs")
+          .doc(
+              "The latency in milliseconds from which a request is slow, the access log entries of"
+                  + " the slow requests are not sampled")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000L);
+
   public ServerConfig(boolean loadDefaults) {
     super(loadDefaults);
   }
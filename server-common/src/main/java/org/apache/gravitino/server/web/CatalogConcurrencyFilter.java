@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.Striped;
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Limits the requests to the same catalog to a bounded number of concurrent ones when the requests
+ * are handled on virtual threads, so a slow catalog can't take all the requests of the server. The
+ * requests that don't address a catalog, such as the health checks, are not limited.
+ *
+ * <p>The waiting requests block their threads, which is only cheap for virtual threads.
+ */
+class CatalogConcurrencyFilter implements Filter {
+
+  private static final Pattern CATALOG_PATH_PATTERN =
+      Pattern.compile("/metalakes/([^/]+)/catalogs/([^/]+)");
+
+  // Catalogs whose names hash to the same stripe share the limit, so keep enough stripes to make
+  // that unlikely. The semaphores are weakly referenced and only created for accessed stripes.
+  private static final int CATALOG_LIMITER_STRIPES = 1024;
+
+  private final Striped<Semaphore> catalogLimiters;
+
+  CatalogConcurrencyFilter(int catalogConcurrency) {
+    this.catalogLimiters = Striped.lazyWeakSemaphore(CATALOG_LIMITER_STRIPES, catalogConcurrency);
+  }
+
+  @Override
+  public void init(FilterConfig filterConfig) {}
+
+  @Override
+  public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+      throws IOException, ServletException {
+    Semaphore limiter =
+        request instanceof HttpServletRequest
+            ? catalogLimiter(((HttpServletRequest) request).getRequestURI())
+            : null;
+    if (limiter == null) {
+      chain.doFilter(request, response);
+      return;
+    }
+
+    try {
+      limiter.acquire();
+    } catch (InterruptedException e) {
+      // The server is stopping.
+      Thread.currentThread().interrupt();
+      ((HttpServletResponse) response).sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+      return;
+    }
+    try {
+      chain.doFilter(request, response);
+    } finally {
+      limiter.release();
+    }
+  }
+
+  @Override
+  public void destroy() {}
+
+  @VisibleForTesting
+  Semaphore catalogLimiter(String requestUri) {
+    Matcher matcher = CATALOG_PATH_PATTERN.matcher(requestUri);
+    if (!matcher.find()) {
+      return null;
+    }
+    return catalogLimiters.get(matcher.group(1) + "." + matcher.group(2));
+  }
+}
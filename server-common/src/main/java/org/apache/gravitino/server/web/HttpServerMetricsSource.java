@@ -40,5 +40,8 @@ public class HttpServerMetricsSource extends MetricsSource {
                     getTimeSlidingWindowSeconds(), TimeUnit.SECONDS)));
     registerGauge(
         MetricNames.SERVER_IDLE_THREAD_NUM, () -> server.getThreadPool().getIdleThreads());
+    registerGauge(
+        MetricNames.SERVER_RESPONSE_COMPRESSION_BYTES_SAVED,
+        server::getResponseCompressionBytesSaved);
   }
 }
@@ -23,6 +23,7 @@ import com.codahale.metrics.servlets.MetricsServlet;
 import com.google.common.base.Preconditions;
 import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.Method;
 import java.net.BindException;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
@@ -34,6 +35,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import javax.servlet.DispatcherType;
 import javax.servlet.Filter;
 import javax.servlet.Servlet;
@@ -41,6 +43,10 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.metrics.MetricsSystem;
 import org.apache.gravitino.server.authentication.AuthenticationFilter;
+import org.eclipse.jetty.alpn.server.ALPNServerConnectionFactory;
+import org.eclipse.jetty.http2.HTTP2Cipher;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.http2.server.HTTP2ServerConnectionFactory;
 import org.eclipse.jetty.server.ConnectionFactory;
 import org.eclipse.jetty.server.HttpConfiguration;
 import org.eclipse.jetty.server.HttpConnectionFactory;
@@ -77,6 +83,8 @@ public final class JettyServer {
 
   private JettyServerConfig serverConfig;
 
+  private ResponseCompressionHandler responseCompressionHandler;
+
   private String serverName;
 
   public JettyServer() {}
@@ -86,11 +94,25 @@ public final class JettyServer {
     this.serverConfig = serverConfig;
     this.serverName = serverName;
 
+    ThreadFactory virtualThreadFactory = null;
+    if (serverConfig.isEnableVirtualThreads()) {
+      virtualThreadFactory = newVirtualThreadFactory().orElse(null);
+      if (virtualThreadFactory == null) {
+        LOG.warn(
+            "The JVM doesn't support virtual threads, {} web server handles the requests on "
+                + "platform threads.",
+            serverName);
+      } else {
+        LOG.info("{} web server handles the requests on virtual threads.", serverName);
+      }
+    }
+
     ThreadPool threadPool =
         createThreadPool(
             serverConfig.getMinThreads(),
             serverConfig.getMaxThreads(),
-            serverConfig.getThreadPoolWorkQueueSize());
+            serverConfig.getThreadPoolWorkQueueSize(),
+            virtualThreadFactory);
 
     // Create and config Jetty Server
     server = new Server(threadPool);
@@ -139,7 +161,8 @@ public final class JettyServer {
               serverConfig.isEnableClientAuth(),
               serverConfig.getTrustStorePath(),
               serverConfig.getTrustStorePassword(),
-              serverConfig.getTrustStoreType());
+              serverConfig.getTrustStoreType(),
+              serverConfig.isEnableHttp2());
       server.addConnector(httpsConnector);
     } else {
       // Create and set Http ServerConnector
@@ -150,7 +173,8 @@ public final class JettyServer {
               serverConfig.getResponseHeaderSize(),
               serverConfig.getHost(),
               serverConfig.getHttpPort(),
-              serverConfig.getIdleTimeout());
+              serverConfig.getIdleTimeout(),
+              serverConfig.isEnableHttp2());
       server.addConnector(httpConnector);
     }
 
@@ -161,6 +185,11 @@ public final class JettyServer {
       initializeBasicServletContextHandler();
     }
 
+    // The filter limits the requests per catalog before any other filter does work for them.
+    if (virtualThreadFactory != null) {
+      addCatalogConcurrencyFilter();
+    }
+
     MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
     // Metrics System could be null in UT.
     if (metricsSystem != null) {
@@ -175,7 +204,16 @@ public final class JettyServer {
 
     HandlerCollection handlers = new HandlerCollection();
     handlers.addHandler(servletContextHandler);
-    server.setHandler(handlers);
+    if (serverConfig.isEnableResponseCompression()) {
+      responseCompressionHandler =
+          new ResponseCompressionHandler(
+              serverConfig.getResponseCompressionMinSize(),
+              serverConfig.getResponseCompressionMimeTypes(),
+              handlers);
+      server.setHandler(responseCompressionHandler);
+    } else {
+      server.setHandler(handlers);
+    }
   }
 
   public synchronized void start() throws RuntimeException {
@@ -241,6 +279,16 @@ public final class JettyServer {
     }
   }
 
+  /**
+   * Returns the number of response bytes saved by the response compression since the server was
+   * initialized, or 0 if the response compression is disabled.
+   *
+   * @return The number of bytes saved.
+   */
+  public long getResponseCompressionBytesSaved() {
+    return responseCompressionHandler == null ? 0 : responseCompressionHandler.getBytesSaved();
+  }
+
   public void addServlet(Servlet servlet, String pathSpec) {
     servletContextHandler.addServlet(new ServletHolder(servlet), pathSpec);
   }
@@ -250,6 +298,14 @@ public final class JettyServer {
         new FilterHolder(filter), pathSpec, EnumSet.allOf(DispatcherType.class));
   }
 
+  private void addCatalogConcurrencyFilter() {
+    FilterHolder filterHolder =
+        new FilterHolder(
+            new CatalogConcurrencyFilter(serverConfig.getVirtualThreadsCatalogConcurrency()));
+    filterHolder.setAsyncSupported(true);
+    servletContextHandler.addFilter(filterHolder, "/*", EnumSet.of(DispatcherType.REQUEST));
+  }
+
   private void initializeBasicServletContextHandler() {
     servletContextHandler = new ServletContextHandler();
     servletContextHandler.setContextPath("/");
@@ -320,7 +376,8 @@ public final class JettyServer {
       int respHeaderSize,
       String host,
       int port,
-      int idleTimeout) {
+      int idleTimeout,
+      boolean enableHttp2) {
     HttpConfiguration httpConfig = new HttpConfiguration();
     httpConfig.setRequestHeaderSize(reqHeaderSize);
     httpConfig.setResponseHeaderSize(respHeaderSize);
@@ -328,8 +385,14 @@ public final class JettyServer {
     httpConfig.setIdleTimeout(idleTimeout);
 
     HttpConnectionFactory httpConnectionFactory = new HttpConnectionFactory(httpConfig);
-    ServerConnector connector =
-        createServerConnector(server, new ConnectionFactory[] {httpConnectionFactory});
+    // HTTP/2 over cleartext is served through prior knowledge or the HTTP/1.1 upgrade.
+    ConnectionFactory[] connectionFactories =
+        enableHttp2
+            ? new ConnectionFactory[] {
+              httpConnectionFactory, new HTTP2CServerConnectionFactory(httpConfig)
+            }
+            : new ConnectionFactory[] {httpConnectionFactory};
+    ServerConnector connector = createServerConnector(server, connectionFactories);
     connector.setHost(host);
     connector.setPort(port);
     connector.setReuseAddress(true);
@@ -362,7 +425,8 @@ public final class JettyServer {
       boolean isEnableClientAuth,
       String trustStorePath,
       String trustStorePassword,
-      String trustStoreType) {
+      String trustStoreType,
+      boolean enableHttp2) {
     HttpConfiguration httpConfig = new HttpConfiguration();
     httpConfig.setSecureScheme(HTTPS);
     httpConfig.setRequestHeaderSize(reqHeaderSize);
@@ -389,11 +453,27 @@ public final class JettyServer {
     SecureRequestCustomizer src = new SecureRequestCustomizer();
     httpConfig.addCustomizer(src);
     HttpConnectionFactory httpConnectionFactory = new HttpConnectionFactory(httpConfig);
-    SslConnectionFactory sslConnectionFactory =
-        new SslConnectionFactory(sslContextFactory, HTTP_PROTOCOL);
-    ServerConnector connector =
-        createServerConnector(
-            server, new ConnectionFactory[] {sslConnectionFactory, httpConnectionFactory});
+    ConnectionFactory[] connectionFactories;
+    if (enableHttp2) {
+      // Clients that don't negotiate a protocol through ALPN fall back to HTTP/1.1.
+      sslContextFactory.setCipherComparator(HTTP2Cipher.COMPARATOR);
+      ALPNServerConnectionFactory alpnConnectionFactory = new ALPNServerConnectionFactory();
+      alpnConnectionFactory.setDefaultProtocol(HTTP_PROTOCOL);
+      SslConnectionFactory sslConnectionFactory =
+          new SslConnectionFactory(sslContextFactory, alpnConnectionFactory.getProtocol());
+      connectionFactories =
+          new ConnectionFactory[] {
+            sslConnectionFactory,
+            alpnConnectionFactory,
+            new HTTP2ServerConnectionFactory(httpConfig),
+            httpConnectionFactory
+          };
+    } else {
+      SslConnectionFactory sslConnectionFactory =
+          new SslConnectionFactory(sslContextFactory, HTTP_PROTOCOL);
+      connectionFactories = new ConnectionFactory[] {sslConnectionFactory, httpConnectionFactory};
+    }
+    ServerConnector connector = createServerConnector(server, connectionFactories);
     connector.setHost(host);
     connector.setPort(port);
     connector.setReuseAddress(true);
@@ -408,8 +488,29 @@ public final class JettyServer {
     return new ServerConnector(server, null, serverExecutor, null, -1, -1, connectionFactories);
   }
 
+  /**
+   * Creates a factory of virtual threads.
+   *
+   * @return The factory, or empty if the JVM doesn't support virtual threads.
+   */
+  private static Optional<ThreadFactory> newVirtualThreadFactory() {
+    try {
+      // Virtual threads are only available since JDK 21, while the server is built with JDK 8.
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+      return Optional.of((ThreadFactory) factory.invoke(builder));
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      LOG.debug("Virtual threads are not supported by the JVM", e);
+      return Optional.empty();
+    }
+  }
+
   @SuppressWarnings("removal")
-  private ThreadPool createThreadPool(int minThreads, int maxThreads, int threadPoolWorkQueueSize) {
+  private ThreadPool createThreadPool(
+      int minThreads,
+      int maxThreads,
+      int threadPoolWorkQueueSize,
+      ThreadFactory virtualThreadFactory) {
 
     ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
     // Use QueuedThreadPool not ExecutorThreadPool to work around the accidental test failures.
@@ -424,7 +525,12 @@ public final class JettyServer {
                 new PrivilegedAction<Thread>() {
                   @Override
                   public Thread run() {
-                    Thread thread = new Thread(runnable);
+                    // The virtual threads don't hold a platform thread while they are blocked, so
+                    // the pool isn't exhausted by the requests waiting on slow backends.
+                    Thread thread =
+                        virtualThreadFactory != null
+                            ? virtualThreadFactory.newThread(runnable)
+                            : new Thread(runnable);
                     thread.setDaemon(true);
                     thread.setPriority(getThreadsPriority());
                     thread.setName(getName() + "-" + thread.getId());
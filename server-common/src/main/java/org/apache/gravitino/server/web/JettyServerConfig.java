@@ -23,11 +23,13 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Sets;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 import javax.net.ssl.SSLContext;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Config;
@@ -293,6 +295,63 @@ public final class JettyServerConfig {
           .booleanConf()
           .createWithDefault(true);
 
+  public static final ConfigEntry<Boolean> ENABLE_RESPONSE_COMPRESSION =
+      new ConfigBuilder("enableResponseCompression")
+          .doc(
+              "Whether to gzip responses for clients that accept it. Only responses whose MIME type"
+                  + " is listed in responseCompressionMimeTypes and whose size reaches"
+                  + " responseCompressionMinSize are compressed")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Integer> RESPONSE_COMPRESSION_MIN_SIZE =
+      new ConfigBuilder("responseCompressionMinSize")
+          .doc("The minimum response size in bytes to compress")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1024);
+
+  public static final ConfigEntry<String> RESPONSE_COMPRESSION_MIME_TYPES =
+      new ConfigBuilder("responseCompressionMimeTypes")
+          .doc("A comma separated list of the response MIME types to compress")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .stringConf()
+          .checkValue(StringUtils::isNotBlank, ConfigConstants.NOT_BLANK_ERROR_MSG)
+          .createWithDefault(
+              "application/json,application/javascript,text/html,text/plain,text/css");
+
+  public static final ConfigEntry<Boolean> ENABLE_HTTP2 =
+      new ConfigBuilder("enableHttp2")
+          .doc(
+              "Whether to serve HTTP/2 besides HTTP/1.1. The http connector accepts h2c, the https"
+                  + " connector negotiates h2 through ALPN")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Boolean> ENABLE_VIRTUAL_THREADS =
+      new ConfigBuilder("enableVirtualThreads")
+          .doc(
+              "Whether the Jetty thread pool creates virtual threads instead of platform threads,"
+                  + " so the requests blocked on slow backends don't hold platform threads and"
+                  + " maxThreads can be raised well beyond the platform threads the server can"
+                  + " afford. Only takes effect if the JVM supports virtual threads")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Integer> VIRTUAL_THREADS_CATALOG_CONCURRENCY =
+      new ConfigBuilder("virtualThreadsCatalogConcurrency")
+          .doc(
+              "The maximum number of requests to the same catalog handled concurrently when the"
+                  + " requests are handled on virtual threads")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(200);
+
   private final String host;
 
   private final int httpPort;
@@ -333,6 +392,12 @@ public final class JettyServerConfig {
   private final boolean allowCredentials;
   private final String exposedHeaders;
   private final boolean chainPreflight;
+  private final boolean enableResponseCompression;
+  private final int responseCompressionMinSize;
+  private final Set<String> responseCompressionMimeTypes;
+  private final boolean enableHttp2;
+  private final boolean enableVirtualThreads;
+  private final int virtualThreadsCatalogConcurrency;
 
   private final Config internalConfig;
 
@@ -409,6 +474,19 @@ public final class JettyServerConfig {
     this.allowCredentials = internalConfig.get(ALLOW_CREDENTIALS);
     this.exposedHeaders = internalConfig.get(EXPOSED_HEADERS);
     this.chainPreflight = internalConfig.get(CHAIN_PREFLIGHT);
+
+    this.enableResponseCompression = internalConfig.get(ENABLE_RESPONSE_COMPRESSION);
+    this.responseCompressionMinSize = internalConfig.get(RESPONSE_COMPRESSION_MIN_SIZE);
+    this.responseCompressionMimeTypes =
+        Collections.unmodifiableSet(
+            Arrays.stream(internalConfig.get(RESPONSE_COMPRESSION_MIME_TYPES).split(SPLITTER))
+                .map(String::trim)
+                .filter(StringUtils::isNotBlank)
+                .collect(Collectors.toSet()));
+    this.enableHttp2 = internalConfig.get(ENABLE_HTTP2);
+
+    this.enableVirtualThreads = internalConfig.get(ENABLE_VIRTUAL_THREADS);
+    this.virtualThreadsCatalogConcurrency = internalConfig.get(VIRTUAL_THREADS_CATALOG_CONCURRENCY);
   }
 
   public static JettyServerConfig fromConfig(Config config, String prefix) {
@@ -557,6 +635,30 @@ public final class JettyServerConfig {
     return allowedHeaders;
   }
 
+  public boolean isEnableResponseCompression() {
+    return enableResponseCompression;
+  }
+
+  public int getResponseCompressionMinSize() {
+    return responseCompressionMinSize;
+  }
+
+  public Set<String> getResponseCompressionMimeTypes() {
+    return responseCompressionMimeTypes;
+  }
+
+  public boolean isEnableHttp2() {
+    return enableHttp2;
+  }
+
+  public boolean isEnableVirtualThreads() {
+    return enableVirtualThreads;
+  }
+
+  public int getVirtualThreadsCatalogConcurrency() {
+    return virtualThreadsCatalogConcurrency;
+  }
+
   private SSLContext getDefaultSSLContext() {
     try {
       return SSLContext.getDefault();
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.HttpOutput;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.handler.HandlerWrapper;
+import org.eclipse.jetty.server.handler.gzip.GzipHandler;
+import org.eclipse.jetty.util.Callback;
+
+/**
+ * Gzips the responses of the wrapped handler and keeps track of the number of bytes the compression
+ * saved.
+ *
+ * <p>The response bytes are counted twice: once above the gzip interceptor, which sees the bytes
+ * written by the application, and once below it, which sees the bytes actually sent. The
+ * difference is recorded when the last chunk of the response has been written.
+ */
+class ResponseCompressionHandler extends HandlerWrapper {
+
+  private static final String RESPONSE_BYTES_ATTRIBUTE =
+      ResponseCompressionHandler.class.getName() + ".responseBytes";
+
+  private final LongAdder bytesSaved = new LongAdder();
+
+  ResponseCompressionHandler(int minCompressSize, Set<String> mimeTypes, Handler handler) {
+    HandlerWrapper uncompressedBytesCounter =
+        new HandlerWrapper() {
+          @Override
+          public void handle(
+              String target,
+              Request baseRequest,
+              HttpServletRequest request,
+              HttpServletResponse response)
+              throws IOException, ServletException {
+            ResponseBytes responseBytes =
+                (ResponseBytes) baseRequest.getAttribute(RESPONSE_BYTES_ATTRIBUTE);
+            if (responseBytes != null) {
+              HttpOutput out = baseRequest.getResponse().getHttpOutput();
+              out.setInterceptor(
+                  new UncompressedBytesInterceptor(out.getInterceptor(), responseBytes));
+            }
+            super.handle(target, baseRequest, request, response);
+          }
+        };
+    uncompressedBytesCounter.setHandler(handler);
+
+    GzipHandler gzipHandler = new GzipHandler();
+    gzipHandler.setMinGzipSize(minCompressSize);
+    gzipHandler.setIncludedMimeTypes(mimeTypes.toArray(new String[0]));
+    gzipHandler.setHandler(uncompressedBytesCounter);
+    setHandler(gzipHandler);
+  }
+
+  @Override
+  public void handle(
+      String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response)
+      throws IOException, ServletException {
+    // Requests re-dispatched through this handler, e.g. after an async dispatch, keep counting
+    // with the interceptors installed by the first dispatch.
+    if (baseRequest.getAttribute(RESPONSE_BYTES_ATTRIBUTE) == null) {
+      ResponseBytes responseBytes = new ResponseBytes();
+      baseRequest.setAttribute(RESPONSE_BYTES_ATTRIBUTE, responseBytes);
+      HttpOutput out = baseRequest.getResponse().getHttpOutput();
+      out.setInterceptor(new CompressedBytesInterceptor(out.getInterceptor(), responseBytes));
+    }
+    super.handle(target, baseRequest, request, response);
+  }
+
+  /**
+   * Returns the total number of response bytes saved by the compression.
+   *
+   * @return The number of bytes saved.
+   */
+  long getBytesSaved() {
+    return bytesSaved.sum();
+  }
+
+  private static final class ResponseBytes {
+    private long uncompressed;
+    private long compressed;
+  }
+
+  private abstract static class CountingInterceptor implements HttpOutput.Interceptor {
+    private final HttpOutput.Interceptor next;
+
+    CountingInterceptor(HttpOutput.Interceptor next) {
+      this.next = next;
+    }
+
+    abstract void count(int length, boolean last);
+
+    @Override
+    public void write(ByteBuffer content, boolean last, Callback callback) {
+      count(content == null ? 0 : content.remaining(), last);
+      next.write(content, last, callback);
+    }
+
+    @Override
+    public HttpOutput.Interceptor getNextInterceptor() {
+      return next;
+    }
+
+    @Override
+    public boolean isOptimizedForDirectBuffers() {
+      return next.isOptimizedForDirectBuffers();
+    }
+  }
+
+  private static final class UncompressedBytesInterceptor extends CountingInterceptor {
+    private final ResponseBytes responseBytes;
+
+    UncompressedBytesInterceptor(HttpOutput.Interceptor next, ResponseBytes responseBytes) {
+      super(next);
+      this.responseBytes = responseBytes;
+    }
+
+    @Override
+    void count(int length, boolean last) {
+      responseBytes.uncompressed += length;
+    }
+  }
+
+  private final class CompressedBytesInterceptor extends CountingInterceptor {
+    private final ResponseBytes responseBytes;
+
+    CompressedBytesInterceptor(HttpOutput.Interceptor next, ResponseBytes responseBytes) {
+      super(next);
+      this.responseBytes = responseBytes;
+    }
+
+    @Override
+    void count(int length, boolean last) {
+      responseBytes.compressed += length;
+      if (last && responseBytes.uncompressed > responseBytes.compressed) {
+        bytesSaved.add(responseBytes.uncompressed - responseBytes.compressed);
+      }
+    }
+  }
+}
@@ -19,12 +19,27 @@
 package org.apache.gravitino.server.web;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Semaphore;
+import java.util.zip.GZIPInputStream;
 import javax.servlet.Filter;
 import javax.servlet.Servlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.rest.RESTUtils;
 import org.junit.jupiter.api.AfterEach;
@@ -86,6 +101,107 @@ public class TestJettyServer {
     jettyServer.stop();
   }
 
+  @Test
+  public void testResponseCompression() throws IOException {
+    Config config = new Config(false) {};
+    int port = RESTUtils.findAvailablePort(5000, 6000);
+    config.set(JettyServerConfig.WEBSERVER_HTTP_PORT, port);
+    config.set(JettyServerConfig.ENABLE_RESPONSE_COMPRESSION, true);
+    config.set(JettyServerConfig.ENABLE_HTTP2, true);
+    JettyServerConfig serverConfig = JettyServerConfig.fromConfig(config);
+    jettyServer.initialize(serverConfig, "test", false);
+
+    String body = StringUtils.repeat("{\"name\":\"column\",\"type\":\"string\"},", 1000);
+    jettyServer.addServlet(
+        new HttpServlet() {
+          @Override
+          protected void doGet(HttpServletRequest req, HttpServletResponse resp)
+              throws IOException {
+            resp.setContentType("application/json");
+            resp.getWriter().write(body);
+          }
+        },
+        "/test");
+    jettyServer.start();
+    assertEquals(0, jettyServer.getResponseCompressionBytesSaved());
+
+    HttpURLConnection connection =
+        (HttpURLConnection) new URL("http://127.0.0.1:" + port + "/test").openConnection();
+    connection.setRequestProperty("Accept-Encoding", "gzip");
+    assertEquals(200, connection.getResponseCode());
+    assertEquals("gzip", connection.getContentEncoding());
+    try (InputStream in = new GZIPInputStream(connection.getInputStream())) {
+      assertEquals(body, IOUtils.toString(in, StandardCharsets.UTF_8));
+    }
+    assertTrue(jettyServer.getResponseCompressionBytesSaved() > 0);
+
+    jettyServer.stop();
+  }
+
+  @Test
+  public void testVirtualThreads() throws IOException {
+    Config config = new Config(false) {};
+    int port = RESTUtils.findAvailablePort(5000, 6000);
+    config.set(JettyServerConfig.WEBSERVER_HTTP_PORT, port);
+    config.set(JettyServerConfig.ENABLE_VIRTUAL_THREADS, true);
+    JettyServerConfig serverConfig = JettyServerConfig.fromConfig(config);
+    jettyServer.initialize(serverConfig, "test", false);
+
+    // Falls back to platform threads if the JVM doesn't support virtual threads.
+    jettyServer.addServlet(
+        new HttpServlet() {
+          @Override
+          protected void doGet(HttpServletRequest req, HttpServletResponse resp)
+              throws IOException {
+            resp.setHeader("X-Virtual-Thread", String.valueOf(isVirtualThread()));
+            resp.getWriter().write(req.getPathInfo());
+          }
+        },
+        "/api/*");
+    jettyServer.start();
+
+    String url = "http://127.0.0.1:" + port + "/api/metalakes/m1/catalogs/c1/schemas";
+    HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+    assertEquals(200, connection.getResponseCode());
+    assertEquals(
+        String.valueOf(supportsVirtualThreads()), connection.getHeaderField("X-Virtual-Thread"));
+    try (InputStream in = connection.getInputStream()) {
+      assertEquals(
+          "/metalakes/m1/catalogs/c1/schemas", IOUtils.toString(in, StandardCharsets.UTF_8));
+    }
+
+    jettyServer.stop();
+  }
+
+  private static boolean supportsVirtualThreads() {
+    try {
+      Thread.class.getMethod("ofVirtual").invoke(null);
+      return true;
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return false;
+    }
+  }
+
+  private static boolean isVirtualThread() {
+    try {
+      // Virtual threads are only available since JDK 21, while the server is built with JDK 8.
+      return (boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread());
+    } catch (ReflectiveOperationException e) {
+      return false;
+    }
+  }
+
+  @Test
+  public void testCatalogConcurrencyLimiter() {
+    CatalogConcurrencyFilter filter = new CatalogConcurrencyFilter(2);
+    assertNull(filter.catalogLimiter("/api/version"));
+    assertNull(filter.catalogLimiter("/api/metalakes/m1/catalogs"));
+
+    Semaphore limiter = filter.catalogLimiter("/api/metalakes/m1/catalogs/c1/schemas/s1");
+    assertEquals(2, limiter.availablePermits());
+    assertSame(limiter, filter.catalogLimiter("/api/metalakes/m1/catalogs/c1"));
+  }
+
   @Test
   public void testStopWithNullServer() {
     assertDoesNotThrow(() -> jettyServer.stop());
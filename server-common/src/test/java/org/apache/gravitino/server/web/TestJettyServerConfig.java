@@ -76,4 +76,25 @@ public class TestJettyServerConfig {
     Assertions.assertTrue(jettyServerConfig.getAllWithPrefix("2.").isEmpty());
     Assertions.assertEquals(2, jettyServerConfig.getAllWithPrefix("1.").size());
   }
+
+  @Test
+  public void testResponseCompression() {
+    Config emptyConfig = new Config() {};
+    JettyServerConfig jettyServerConfig = JettyServerConfig.fromConfig(emptyConfig, "");
+    Assertions.assertFalse(jettyServerConfig.isEnableResponseCompression());
+    Assertions.assertFalse(jettyServerConfig.isEnableHttp2());
+    Assertions.assertTrue(
+        jettyServerConfig.getResponseCompressionMimeTypes().contains("application/json"));
+
+    Config config = new Config() {};
+    config.set(JettyServerConfig.ENABLE_RESPONSE_COMPRESSION, true);
+    config.set(JettyServerConfig.RESPONSE_COMPRESSION_MIN_SIZE, 2048);
+    config.set(JettyServerConfig.RESPONSE_COMPRESSION_MIME_TYPES, "application/json, text/plain,");
+    jettyServerConfig = JettyServerConfig.fromConfig(config, "");
+    Assertions.assertTrue(jettyServerConfig.isEnableResponseCompression());
+    Assertions.assertEquals(2048, jettyServerConfig.getResponseCompressionMinSize());
+    Assertions.assertEquals(
+        Sets.newHashSet("application/json", "text/plain"),
+        jettyServerConfig.getResponseCompressionMimeTypes());
+  }
 }
@@ -41,6 +41,8 @@ import org.apache.gravitino.server.web.JettyServer;
 import org.apache.gravitino.server.web.JettyServerConfig;
 import org.apache.gravitino.server.web.ObjectMapperProvider;
 import org.apache.gravitino.server.web.VersioningFilter;
+import org.apache.gravitino.server.web.accesslog.AccessLogFilter;
+import org.apache.gravitino.server.web.accesslog.AccessLogger;
 import org.apache.gravitino.server.web.filter.AccessControlNotAllowedFilter;
 import org.apache.gravitino.server.web.mapper.JsonMappingExceptionMapper;
 import org.apache.gravitino.server.web.mapper.JsonParseExceptionMapper;
@@ -72,6 +74,8 @@ public class GravitinoServer extends ResourceConfig {
 
   private final GravitinoEnv gravitinoEnv;
 
+  private AccessLogger accessLogger;
+
   public GravitinoServer(ServerConfig config, GravitinoEnv gravitinoEnv) {
     serverConfig = config;
     server = new JettyServer();
@@ -124,6 +128,11 @@ public class GravitinoServer extends ResourceConfig {
       register(AccessControlNotAllowedFilter.class);
     }
 
+    if (serverConfig.get(ServerConfig.ACCESS_LOG_ENABLED)) {
+      accessLogger = new AccessLogger(serverConfig);
+      register(new AccessLogFilter(accessLogger));
+    }
+
     HttpServerMetricsSource httpServerMetricsSource =
         new HttpServerMetricsSource(MetricsSource.GRAVITINO_SERVER_METRIC_NAME, this, server);
     MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
@@ -143,6 +152,9 @@ public class GravitinoServer extends ResourceConfig {
 
   public void start() throws Exception {
     gravitinoEnv.start();
+    if (accessLogger != null) {
+      accessLogger.start();
+    }
     server.start();
   }
 
@@ -152,6 +164,9 @@ public class GravitinoServer extends ResourceConfig {
 
   public void stop() {
     server.stop();
+    if (accessLogger != null) {
+      accessLogger.close();
+    }
     gravitinoEnv.shutdown();
   }
 
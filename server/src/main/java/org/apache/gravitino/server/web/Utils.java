@@ -20,17 +20,21 @@ package org.apache.gravitino.server.web;
 
 import com.google.common.collect.Maps;
 import java.security.PrivilegedExceptionAction;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Optional;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.EntityPage;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.UserPrincipal;
 import org.apache.gravitino.audit.FilesetAuditConstants;
 import org.apache.gravitino.audit.FilesetDataOperation;
 import org.apache.gravitino.audit.InternalClientType;
 import org.apache.gravitino.auth.AuthConstants;
+import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorResponse;
 import org.apache.gravitino.utils.PrincipalUtils;
 
@@ -48,6 +52,40 @@ public class Utils {
     return Response.status(Response.Status.OK).entity(t).type(MediaType.APPLICATION_JSON).build();
   }
 
+  /**
+   * Builds the response of a list request. If the request doesn't ask for a page, all the
+   * identifiers are returned, otherwise only the requested page ordered by name is returned.
+   *
+   * @param idents All the identifiers of the list.
+   * @param pageToken The page token returned with the previous page, or null for the first page.
+   * @param pageSize The size of the page, 0 means the list is not paged unless a page token is
+   *     given, in which case the default page size is used.
+   * @return The list response.
+   */
+  public static EntityListResponse entityListResponse(
+      NameIdentifier[] idents, String pageToken, int pageSize) {
+    if (pageSize == 0 && StringUtils.isEmpty(pageToken)) {
+      return new EntityListResponse(idents);
+    }
+
+    EntityPage<NameIdentifier> page =
+        EntityPage.slice(
+            Arrays.asList(idents), NameIdentifier::name, pageToken, pageSizeOrDefault(pageSize));
+    return new EntityListResponse(
+        page.items().toArray(new NameIdentifier[0]), page.nextPageToken());
+  }
+
+  /**
+   * Returns the requested page size, or the default page size if the request only gives a page
+   * token.
+   *
+   * @param pageSize The requested page size, 0 if it is omitted.
+   * @return The page size to use.
+   */
+  public static int pageSizeOrDefault(int pageSize) {
+    return pageSize == 0 ? EntityPage.DEFAULT_PAGE_SIZE : pageSize;
+  }
+
   public static Response ok() {
     return Response.status(Response.Status.NO_CONTENT).type(MediaType.APPLICATION_JSON).build();
   }
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.accesslog;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/** An entry of the access log, which records a REST API request once it has been handled. */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"method", "operation", "identifier", "status", "latencyMs", "user"})
+public class AccessLogEntry {
+
+  @JsonProperty("method")
+  private final String method;
+
+  @JsonProperty("operation")
+  private final String operation;
+
+  @JsonProperty("identifier")
+  private final String identifier;
+
+  @JsonProperty("status")
+  private final int status;
+
+  @JsonProperty("latencyMs")
+  private final long latencyMs;
+
+  @JsonProperty("user")
+  private final String user;
+
+  /**
+   * Creates an access log entry.
+   *
+   * @param method The HTTP method of the request.
+   * @param operation The name of the REST API operation, or null if the request matched none.
+   * @param identifier The identifier of the metadata object the request addresses, or null if the
+   *     request addresses none.
+   * @param status The HTTP status of the response.
+   * @param latencyMs The time in milliseconds to handle the request, or -1 if unknown.
+   * @param user The user who sent the request.
+   */
+  public AccessLogEntry(
+      String method,
+      String operation,
+      String identifier,
+      int status,
+      long latencyMs,
+      String user) {
+    this.method = method;
+    this.operation = operation;
+    this.identifier = identifier;
+    this.status = status;
+    this.latencyMs = latencyMs;
+    this.user = user;
+  }
+
+  public String method() {
+    return method;
+  }
+
+  public String operation() {
+    return operation;
+  }
+
+  public String identifier() {
+    return identifier;
+  }
+
+  public int status() {
+    return status;
+  }
+
+  public long latencyMs() {
+    return latencyMs;
+  }
+
+  public String user() {
+    return user;
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.accesslog;
+
+import java.lang.reflect.Method;
+import java.security.Principal;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.PreMatching;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MultivaluedMap;
+import org.apache.gravitino.auth.AuthConstants;
+
+/**
+ * Records an {@link AccessLogEntry} for each REST API request once its response has been built.
+ * The latency doesn't include writing the response entity.
+ */
+@PreMatching
+public class AccessLogFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+  private static final String START_TIME_PROPERTY = AccessLogFilter.class.getName() + ".startTime";
+
+  // The path parameters that compose the identifier of the addressed metadata object, in order.
+  private static final String[] IDENTIFIER_PATH_PARAMETERS = {
+    "metalake",
+    "name",
+    "catalog",
+    "schema",
+    "table",
+    "fileset",
+    "topic",
+    "partition",
+    "fullName",
+    "tag",
+    "user",
+    "group",
+    "role"
+  };
+
+  private final AccessLogger accessLogger;
+
+  @Context private ResourceInfo resourceInfo;
+
+  @Context private HttpServletRequest httpRequest;
+
+  public AccessLogFilter(AccessLogger accessLogger) {
+    this.accessLogger = accessLogger;
+  }
+
+  @Override
+  public void filter(ContainerRequestContext requestContext) {
+    requestContext.setProperty(START_TIME_PROPERTY, System.nanoTime());
+  }
+
+  @Override
+  public void filter(
+      ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+    Object startTime = requestContext.getProperty(START_TIME_PROPERTY);
+    long latencyMs =
+        startTime == null
+            ? -1
+            : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - (Long) startTime);
+    Method resourceMethod = resourceInfo.getResourceMethod();
+
+    accessLogger.log(
+        new AccessLogEntry(
+            requestContext.getMethod(),
+            resourceMethod == null ? null : resourceMethod.getName(),
+            identifier(requestContext.getUriInfo().getPathParameters()),
+            responseContext.getStatus(),
+            latencyMs,
+            user()));
+  }
+
+  private static String identifier(MultivaluedMap<String, String> pathParameters) {
+    StringJoiner identifier = new StringJoiner(".");
+    for (String parameter : IDENTIFIER_PATH_PARAMETERS) {
+      String value = pathParameters.getFirst(parameter);
+      if (value != null) {
+        identifier.add(value);
+      }
+    }
+    return identifier.length() == 0 ? null : identifier.toString();
+  }
+
+  private String user() {
+    Object principal =
+        httpRequest.getAttribute(AuthConstants.AUTHENTICATED_PRINCIPAL_ATTRIBUTE_NAME);
+    return principal instanceof Principal
+        ? ((Principal) principal).getName()
+        : AuthConstants.ANONYMOUS_USER;
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.accesslog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import java.io.Closeable;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.json.JsonUtils;
+import org.apache.gravitino.server.ServerConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes the access log of the REST API. The request threads only put the entries into a bounded
+ * ring buffer, a single daemon thread serializes them as JSON and writes them to the {@value
+ * #ACCESS_LOG_LOGGER_NAME} logger, so the request threads never contend on the log appenders. The
+ * entries that don't fit into the buffer are dropped.
+ *
+ * <p>The entries of the successful requests can be sampled, the ones of the failed and the slow
+ * requests are always written.
+ */
+public class AccessLogger implements Closeable {
+
+  public static final String ACCESS_LOG_LOGGER_NAME = "GravitinoAccessLog";
+
+  private static final Logger LOG = LoggerFactory.getLogger(AccessLogger.class);
+
+  private static final Logger ACCESS_LOG = LoggerFactory.getLogger(ACCESS_LOG_LOGGER_NAME);
+
+  private static final int MAX_BATCH_SIZE = 256;
+
+  private static final long CLOSE_TIMEOUT_MS = 3000;
+
+  private final BlockingQueue<AccessLogEntry> queue;
+
+  private final int samplingInterval;
+
+  private final long slowRequestThresholdMs;
+
+  private final LongAdder droppedCount = new LongAdder();
+
+  private final ObjectMapper objectMapper = JsonUtils.objectMapper();
+
+  private final Thread writerThread;
+
+  private volatile boolean stopped = false;
+
+  public AccessLogger(Config config) {
+    this(
+        config.get(ServerConfig.ACCESS_LOG_QUEUE_SIZE),
+        config.get(ServerConfig.ACCESS_LOG_SAMPLING_INTERVAL),
+        config.get(ServerConfig.ACCESS_LOG_SLOW_REQUEST_THRESHOLD_MS));
+  }
+
+  @VisibleForTesting
+  AccessLogger(int queueSize, int samplingInterval, long slowRequestThresholdMs) {
+    this.queue = new ArrayBlockingQueue<>(queueSize);
+    this.samplingInterval = samplingInterval;
+    this.slowRequestThresholdMs = slowRequestThresholdMs;
+    this.writerThread = new Thread(this::writeEntries, "access-log-writer");
+    writerThread.setDaemon(true);
+  }
+
+  public void start() {
+    writerThread.start();
+  }
+
+  /**
+   * Puts the entry into the buffer to be written, unless it is sampled out or the buffer is full.
+   *
+   * @param entry The access log entry.
+   */
+  public void log(AccessLogEntry entry) {
+    if (stopped || !isSampled(entry)) {
+      return;
+    }
+
+    if (!queue.offer(entry)) {
+      droppedCount.increment();
+    }
+  }
+
+  public long droppedCount() {
+    return droppedCount.sum();
+  }
+
+  @Override
+  public void close() {
+    stopped = true;
+    writerThread.interrupt();
+    try {
+      writerThread.join(CLOSE_TIMEOUT_MS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    if (droppedCount.sum() > 0) {
+      LOG.warn("Dropped {} access log entries as the queue was full", droppedCount.sum());
+    }
+  }
+
+  @VisibleForTesting
+  boolean isSampled(AccessLogEntry entry) {
+    return samplingInterval == 1
+        || entry.status() >= 400
+        || entry.latencyMs() >= slowRequestThresholdMs
+        || ThreadLocalRandom.current().nextInt(samplingInterval) == 0;
+  }
+
+  @VisibleForTesting
+  String format(AccessLogEntry entry) throws JsonProcessingException {
+    return objectMapper.writeValueAsString(entry);
+  }
+
+  private void writeEntries() {
+    List<AccessLogEntry> batch = Lists.newArrayListWithCapacity(MAX_BATCH_SIZE);
+    while (!stopped) {
+      try {
+        AccessLogEntry entry = queue.poll(1, TimeUnit.SECONDS);
+        if (entry == null) {
+          continue;
+        }
+        batch.add(entry);
+        queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+        write(batch);
+        batch.clear();
+      } catch (InterruptedException e) {
+        break;
+      }
+    }
+
+    // Write the entries left in the queue when closing.
+    queue.drainTo(batch);
+    write(batch);
+  }
+
+  private void write(List<AccessLogEntry> entries) {
+    for (AccessLogEntry entry : entries) {
+      try {
+        ACCESS_LOG.info(format(entry));
+      } catch (Exception e) {
+        LOG.warn("Failed to write the access log entry", e);
+      }
+    }
+  }
+}
@@ -81,10 +81,6 @@ public class CatalogOperations {
   public Response listCatalogs(
       @PathParam("metalake") String metalake,
       @QueryParam("details") @DefaultValue("false") boolean verbose) {
-    LOG.info(
-        "Received list catalog {} request for metalake: {}, ",
-        verbose ? "infos" : "names",
-        metalake);
     try {
       return Utils.doAs(
           httpRequest,
@@ -97,15 +93,10 @@ public class CatalogOperations {
                 () -> {
                   if (verbose) {
                     Catalog[] catalogs = catalogDispatcher.listCatalogsInfo(catalogNS);
-                    Response response =
-                        Utils.ok(new CatalogListResponse(DTOConverters.toDTOs(catalogs)));
-                    LOG.info("List {} catalogs info under metalake: {}", catalogs.length, metalake);
-                    return response;
+                    return Utils.ok(new CatalogListResponse(DTOConverters.toDTOs(catalogs)));
                   } else {
                     NameIdentifier[] idents = catalogDispatcher.listCatalogs(catalogNS);
-                    Response response = Utils.ok(new EntityListResponse(idents));
-                    LOG.info("List {} catalogs under metalake: {}", idents.length, metalake);
-                    return response;
+                    return Utils.ok(new EntityListResponse(idents));
                   }
                 });
           });
@@ -120,7 +111,6 @@ public class CatalogOperations {
   @ResponseMetered(name = "create-catalog", absolute = true)
   public Response createCatalog(
       @PathParam("metalake") String metalake, CatalogCreateRequest request) {
-    LOG.info("Received create catalog request for metalake: {}", metalake);
     try {
       return Utils.doAs(
           httpRequest,
@@ -138,9 +128,7 @@ public class CatalogOperations {
                             request.getProvider(),
                             request.getComment(),
                             request.getProperties()));
-            Response response = Utils.ok(new CatalogResponse(DTOConverters.toDTO(catalog)));
-            LOG.info("Catalog created: {}.{}", metalake, catalog.name());
-            return response;
+            return Utils.ok(new CatalogResponse(DTOConverters.toDTO(catalog)));
           });
 
     } catch (Exception e) {
@@ -156,7 +144,6 @@ public class CatalogOperations {
   @ResponseMetered(name = "test-connection", absolute = true)
   public Response testConnection(
       @PathParam("metalake") String metalake, CatalogCreateRequest request) {
-    LOG.info("Received test connection request for catalog: {}.{}", metalake, request.getName());
     try {
       return Utils.doAs(
           httpRequest,
@@ -175,10 +162,7 @@ public class CatalogOperations {
                       request.getProperties());
                   return null;
                 });
-            Response response = Utils.ok(new BaseResponse());
-            LOG.info(
-                "Successfully test connection for catalog: {}.{}", metalake, request.getName());
-            return response;
+            return Utils.ok(new BaseResponse());
           });
 
     } catch (Exception e) {
@@ -194,15 +178,12 @@ public class CatalogOperations {
   @ResponseMetered(name = "load-catalog", absolute = true)
   public Response loadCatalog(
       @PathParam("metalake") String metalakeName, @PathParam("catalog") String catalogName) {
-    LOG.info("Received load catalog request for catalog: {}.{}", metalakeName, catalogName);
     try {
       NameIdentifier ident = NameIdentifierUtil.ofCatalog(metalakeName, catalogName);
       Catalog catalog =
           TreeLockUtils.doWithTreeLock(
               ident, LockType.READ, () -> catalogDispatcher.loadCatalog(ident));
-      Response response = Utils.ok(new CatalogResponse(DTOConverters.toDTO(catalog)));
-      LOG.info("Catalog loaded: {}.{}", metalakeName, catalogName);
-      return response;
+      return Utils.ok(new CatalogResponse(DTOConverters.toDTO(catalog)));
 
     } catch (Exception e) {
       return ExceptionHandlers.handleCatalogException(
@@ -219,7 +200,6 @@ public class CatalogOperations {
       @PathParam("metalake") String metalakeName,
       @PathParam("catalog") String catalogName,
       CatalogUpdatesRequest request) {
-    LOG.info("Received alter catalog request for catalog: {}.{}", metalakeName, catalogName);
     try {
       return Utils.doAs(
           httpRequest,
@@ -235,9 +215,7 @@ public class CatalogOperations {
                     NameIdentifierUtil.ofMetalake(metalakeName),
                     LockType.WRITE,
                     () -> catalogDispatcher.alterCatalog(ident, changes));
-            Response response = Utils.ok(new CatalogResponse(DTOConverters.toDTO(catalog)));
-            LOG.info("Catalog altered: {}.{}", metalakeName, catalog.name());
-            return response;
+            return Utils.ok(new CatalogResponse(DTOConverters.toDTO(catalog)));
           });
 
     } catch (Exception e) {
@@ -253,7 +231,6 @@ public class CatalogOperations {
   @ResponseMetered(name = "drop-catalog", absolute = true)
   public Response dropCatalog(
       @PathParam("metalake") String metalakeName, @PathParam("catalog") String catalogName) {
-    LOG.info("Received drop catalog request for catalog: {}.{}", metalakeName, catalogName);
     try {
       return Utils.doAs(
           httpRequest,
@@ -268,9 +245,7 @@ public class CatalogOperations {
               LOG.warn("Failed to drop catalog {} under metalake {}", catalogName, metalakeName);
             }
 
-            Response response = Utils.ok(new DropResponse(dropped));
-            LOG.info("Catalog dropped: {}.{}", metalakeName, catalogName);
-            return response;
+            return Utils.ok(new DropResponse(dropped));
           });
     } catch (Exception e) {
       return ExceptionHandlers.handleCatalogException(
@@ -26,6 +26,7 @@ import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.constraints.NotNull;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -43,7 +44,6 @@ import org.apache.gravitino.dto.requests.FilesetCreateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdatesRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
-import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.FileLocationResponse;
 import org.apache.gravitino.dto.responses.FilesetResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
@@ -80,9 +80,10 @@ public class FilesetOperations {
   public Response listFilesets(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
-      @PathParam("schema") String schema) {
+      @PathParam("schema") String schema,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") @DefaultValue("0") int pageSize) {
     try {
-      LOG.info("Received list filesets request for schema: {}.{}.{}", metalake, catalog, schema);
       return Utils.doAs(
           httpRequest,
           () -> {
@@ -92,14 +93,7 @@ public class FilesetOperations {
                     NameIdentifier.of(metalake, catalog, schema),
                     LockType.READ,
                     () -> dispatcher.listFilesets(filesetNS));
-            Response response = Utils.ok(new EntityListResponse(idents));
-            LOG.info(
-                "List {} filesets under schema: {}.{}.{}",
-                idents.length,
-                metalake,
-                catalog,
-                schema);
-            return response;
+            return Utils.ok(Utils.entityListResponse(idents, pageToken, pageSize));
           });
 
     } catch (Exception e) {
@@ -116,12 +110,6 @@ public class FilesetOperations {
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
       FilesetCreateRequest request) {
-    LOG.info(
-        "Received create fileset request: {}.{}.{}.{}",
-        metalake,
-        catalog,
-        schema,
-        request.getName());
     try {
       return Utils.doAs(
           httpRequest,
@@ -141,9 +129,7 @@ public class FilesetOperations {
                             Optional.ofNullable(request.getType()).orElse(Fileset.Type.MANAGED),
                             request.getStorageLocation(),
                             request.getProperties()));
-            Response response = Utils.ok(new FilesetResponse(DTOConverters.toDTO(fileset)));
-            LOG.info("Fileset created: {}.{}.{}.{}", metalake, catalog, schema, request.getName());
-            return response;
+            return Utils.ok(new FilesetResponse(DTOConverters.toDTO(fileset)));
           });
 
     } catch (Exception e) {
@@ -162,7 +148,6 @@ public class FilesetOperations {
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
       @PathParam("fileset") String fileset) {
-    LOG.info("Received load fileset request: {}.{}.{}.{}", metalake, catalog, schema, fileset);
     try {
       return Utils.doAs(
           httpRequest,
@@ -171,9 +156,7 @@ public class FilesetOperations {
             Fileset t =
                 TreeLockUtils.doWithTreeLock(
                     ident, LockType.READ, () -> dispatcher.loadFileset(ident));
-            Response response = Utils.ok(new FilesetResponse(DTOConverters.toDTO(t)));
-            LOG.info("Fileset loaded: {}.{}.{}.{}", metalake, catalog, schema, fileset);
-            return response;
+            return Utils.ok(new FilesetResponse(DTOConverters.toDTO(t)));
           });
     } catch (Exception e) {
       return ExceptionHandlers.handleFilesetException(OperationType.LOAD, fileset, schema, e);
@@ -191,7 +174,6 @@ public class FilesetOperations {
       @PathParam("schema") String schema,
       @PathParam("fileset") String fileset,
       FilesetUpdatesRequest request) {
-    LOG.info("Received alter fileset request: {}.{}.{}.{}", metalake, catalog, schema, fileset);
     try {
       return Utils.doAs(
           httpRequest,
@@ -207,9 +189,7 @@ public class FilesetOperations {
                     NameIdentifierUtil.ofSchema(metalake, catalog, schema),
                     LockType.WRITE,
                     () -> dispatcher.alterFileset(ident, changes));
-            Response response = Utils.ok(new FilesetResponse(DTOConverters.toDTO(t)));
-            LOG.info("Fileset altered: {}.{}.{}.{}", metalake, catalog, schema, t.name());
-            return response;
+            return Utils.ok(new FilesetResponse(DTOConverters.toDTO(t)));
           });
 
     } catch (Exception e) {
@@ -227,7 +207,6 @@ public class FilesetOperations {
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
       @PathParam("fileset") String fileset) {
-    LOG.info("Received drop fileset request: {}.{}.{}.{}", metalake, catalog, schema, fileset);
     try {
       return Utils.doAs(
           httpRequest,
@@ -242,9 +221,7 @@ public class FilesetOperations {
               LOG.warn("Failed to drop fileset {} under schema {}", fileset, schema);
             }
 
-            Response response = Utils.ok(new DropResponse(dropped));
-            LOG.info("Fileset dropped: {}.{}.{}.{}", metalake, catalog, schema, fileset);
-            return response;
+            return Utils.ok(new DropResponse(dropped));
           });
 
     } catch (Exception e) {
@@ -263,13 +240,6 @@ public class FilesetOperations {
       @PathParam("schema") String schema,
       @PathParam("fileset") String fileset,
       @QueryParam("sub_path") @NotNull String subPath) {
-    LOG.info(
-        "Received get file location request: {}.{}.{}.{}, sub path:{}",
-        metalake,
-        catalog,
-        schema,
-        fileset,
-        RESTUtils.decodeString(subPath));
     try {
       return Utils.doAs(
           httpRequest,
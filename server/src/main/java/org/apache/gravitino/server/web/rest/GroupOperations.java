@@ -147,7 +147,6 @@ public class GroupOperations {
   public Response listGroups(
       @PathParam("metalake") String metalake,
       @QueryParam("details") @DefaultValue("false") boolean verbose) {
-    LOG.info("Received list groups request.");
     try {
       return Utils.doAs(
           httpRequest,
@@ -82,13 +82,6 @@ public class MetadataObjectTagOperations {
       @PathParam("type") String type,
       @PathParam("fullName") String fullName,
       @PathParam("tag") String tagName) {
-    LOG.info(
-        "Received get tag {} request for object type: {}, full name: {} under metalake: {}",
-        tagName,
-        type,
-        fullName,
-        metalake);
-
     try {
       return Utils.doAs(
           httpRequest,
@@ -124,12 +117,6 @@ public class MetadataObjectTagOperations {
                       + " under metalake: "
                       + metalake);
             } else {
-              LOG.info(
-                  "Get tag: {} for object type: {}, full name: {} under metalake: {}",
-                  tagName,
-                  type,
-                  fullName,
-                  metalake);
               return Utils.ok(new TagResponse(tagDTO.get()));
             }
           });
@@ -148,13 +135,6 @@ public class MetadataObjectTagOperations {
       @PathParam("type") String type,
       @PathParam("fullName") String fullName,
       @QueryParam("details") @DefaultValue("false") boolean verbose) {
-    LOG.info(
-        "Received list tag {} request for object type: {}, full name: {} under metalake: {}",
-        verbose ? "infos" : "names",
-        type,
-        fullName,
-        metalake);
-
     try {
       return Utils.doAs(
           httpRequest,
@@ -188,12 +168,6 @@ public class MetadataObjectTagOperations {
             }
 
             if (verbose) {
-              LOG.info(
-                  "List {} tags info for object type: {}, full name: {} under metalake: {}",
-                  tags.size(),
-                  type,
-                  fullName,
-                  metalake);
               return Utils.ok(new TagListResponse(tags.toArray(new TagDTO[0])));
 
             } else {
@@ -201,12 +175,6 @@ public class MetadataObjectTagOperations {
               // need to deduplicate the tag names.
               String[] tagNames = tags.stream().map(TagDTO::name).distinct().toArray(String[]::new);
 
-              LOG.info(
-                  "List {} tags for object type: {}, full name: {} under metalake: {}",
-                  tagNames.length,
-                  type,
-                  fullName,
-                  metalake);
               return Utils.ok(new NameListResponse(tagNames));
             }
           });
@@ -225,12 +193,6 @@ public class MetadataObjectTagOperations {
       @PathParam("type") String type,
       @PathParam("fullName") String fullName,
       TagsAssociateRequest request) {
-    LOG.info(
-        "Received associate tags request for object type: {}, full name: {} under metalake: {}",
-        type,
-        fullName,
-        metalake);
-
     try {
       return Utils.doAs(
           httpRequest,
@@ -244,12 +206,6 @@ public class MetadataObjectTagOperations {
                     metalake, object, request.getTagsToAdd(), request.getTagsToRemove());
             tagNames = tagNames == null ? new String[0] : tagNames;
 
-            LOG.info(
-                "Associated tags: {} for object type: {}, full name: {} under metalake: {}",
-                Arrays.toString(tagNames),
-                type,
-                fullName,
-                metalake);
             return Utils.ok(new NameListResponse(tagNames));
           });
 
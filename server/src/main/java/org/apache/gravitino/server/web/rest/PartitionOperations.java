@@ -23,7 +23,11 @@ import static org.apache.gravitino.dto.util.DTOConverters.toDTOs;
 
 import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.function.Function;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.DELETE;
@@ -35,7 +39,11 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.EntityPage;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.catalog.PartitionDispatcher;
 import org.apache.gravitino.dto.rel.partitions.PartitionDTO;
@@ -49,6 +57,7 @@ import org.apache.gravitino.lock.LockType;
 import org.apache.gravitino.lock.TreeLockUtils;
 import org.apache.gravitino.metrics.MetricNames;
 import org.apache.gravitino.rel.partitions.Partition;
+import org.apache.gravitino.server.web.ObjectMapperProvider;
 import org.apache.gravitino.server.web.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -74,14 +83,10 @@ public class PartitionOperations {
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
       @PathParam("table") String table,
-      @QueryParam("details") @DefaultValue("false") boolean verbose) {
-    LOG.info(
-        "Received list partition {} request for table: {}.{}.{}.{}",
-        verbose ? "infos" : "names",
-        metalake,
-        catalog,
-        schema,
-        table);
+      @QueryParam("details") @DefaultValue("false") boolean verbose,
+      @QueryParam("filter") String filter,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") @DefaultValue("0") int pageSize) {
     try {
       return Utils.doAs(
           httpRequest,
@@ -91,29 +96,48 @@ public class PartitionOperations {
                 tableIdent,
                 LockType.READ,
                 () -> {
-                  if (verbose) {
-                    Partition[] partitions = dispatcher.listPartitions(tableIdent);
-                    Response response = Utils.ok(new PartitionListResponse(toDTOs(partitions)));
-                    LOG.info(
-                        "List {} partitions in table {}.{}.{}.{}",
-                        partitions.length,
-                        metalake,
-                        catalog,
-                        schema,
-                        table);
-                    return response;
+                  boolean filtered = StringUtils.isNotBlank(filter);
+                  boolean paged = pageSize != 0 || StringUtils.isNotEmpty(pageToken);
+                  if (verbose && !paged) {
+                    // The matching partitions are listed at once rather than by their names.
+                    Partition[] partitions =
+                        filtered
+                            ? dispatcher.listPartitions(tableIdent, filter)
+                            : dispatcher.listPartitions(tableIdent);
+                    return streamPartitions(partitions);
+                  }
+
+                  String[] partitionNames;
+                  String nextPageToken = null;
+                  if (paged) {
+                    int size = Utils.pageSizeOrDefault(pageSize);
+                    EntityPage.checkPageSize(size);
+                    // One more name than the page is listed to know whether there is a next page.
+                    String[] lookahead =
+                        dispatcher.listPartitionNames(
+                            tableIdent,
+                            filter,
+                            EntityPage.decodePageToken(pageToken),
+                            (int) Math.min(Integer.MAX_VALUE, size + 1L));
+                    EntityPage<String> page =
+                        EntityPage.fromLookahead(
+                            Arrays.asList(lookahead), Function.identity(), size);
+                    partitionNames = page.items().toArray(new String[0]);
+                    nextPageToken = page.nextPageToken();
                   } else {
-                    String[] partitionNames = dispatcher.listPartitionNames(tableIdent);
-                    Response response = Utils.ok(new PartitionNameListResponse((partitionNames)));
-                    LOG.info(
-                        "List {} partition names in table {}.{}.{}.{}",
-                        partitionNames.length,
-                        metalake,
-                        catalog,
-                        schema,
-                        table);
-                    return response;
+                    partitionNames =
+                        filtered
+                            ? dispatcher.listPartitionNames(tableIdent, filter)
+                            : dispatcher.listPartitionNames(tableIdent);
+                  }
+
+                  if (!verbose) {
+                    return Utils.ok(new PartitionNameListResponse(partitionNames, nextPageToken));
                   }
+
+                  // Only the partitions of the requested page are loaded.
+                  Partition[] partitions = dispatcher.getPartitions(tableIdent, partitionNames);
+                  return Utils.ok(new PartitionListResponse(toDTOs(partitions), nextPageToken));
                 });
           });
     } catch (Exception e) {
@@ -121,6 +145,31 @@ public class PartitionOperations {
     }
   }
 
+  /**
+   * Writes the partitions as a {@link PartitionListResponse} one by one, so that the DTOs of a
+   * table with many partitions are not built and held in memory all at once.
+   */
+  private static Response streamPartitions(Partition[] partitions) {
+    ObjectWriter partitionWriter =
+        ObjectMapperProvider.objectMapper().writerFor(PartitionDTO.class);
+    StreamingOutput output =
+        outputStream -> {
+          try (JsonGenerator generator =
+              ObjectMapperProvider.objectMapper().getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeNumberField("code", 0);
+            generator.writeArrayFieldStart("partitions");
+            for (Partition partition : partitions) {
+              partitionWriter.writeValue(generator, DTOConverters.toDTO(partition));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+          }
+        };
+    return Response.ok(output, MediaType.APPLICATION_JSON).build();
+  }
+
   @GET
   @Path("{partition}")
   @Produces("application/vnd.gravitino.v1+json")
@@ -132,13 +181,6 @@ public class PartitionOperations {
       @PathParam("schema") String schema,
       @PathParam("table") String table,
       @PathParam("partition") String partition) {
-    LOG.info(
-        "Received get partition request for partition[{}] of table[{}.{}.{}.{}]",
-        partition,
-        metalake,
-        catalog,
-        schema,
-        table);
     try {
       return Utils.doAs(
           httpRequest,
@@ -149,15 +191,7 @@ public class PartitionOperations {
                 LockType.READ,
                 () -> {
                   Partition p = dispatcher.getPartition(tableIdent, partition);
-                  Response response = Utils.ok(new PartitionResponse(DTOConverters.toDTO(p)));
-                  LOG.info(
-                      "Got partition[{}] in table[{}.{}.{}.{}]",
-                      partition,
-                      metalake,
-                      catalog,
-                      schema,
-                      table);
-                  return response;
+                  return Utils.ok(new PartitionResponse(DTOConverters.toDTO(p)));
                 });
           });
     } catch (Exception e) {
@@ -175,13 +209,6 @@ public class PartitionOperations {
       @PathParam("schema") String schema,
       @PathParam("table") String table,
       AddPartitionsRequest request) {
-    LOG.info(
-        "Received add {} partition(s) request for table {}.{}.{}.{} ",
-        request.getPartitions().length,
-        metalake,
-        catalog,
-        schema,
-        table);
     Preconditions.checkArgument(
         request.getPartitions().length == 1, "Only one partition is supported");
 
@@ -196,17 +223,8 @@ public class PartitionOperations {
                 () -> {
                   Partition p =
                       dispatcher.addPartition(tableIdent, fromDTO(request.getPartitions()[0]));
-                  Response response =
-                      Utils.ok(
-                          new PartitionListResponse(new PartitionDTO[] {DTOConverters.toDTO(p)}));
-                  LOG.info(
-                      "Added {} partition(s) to table {}.{}.{}.{} ",
-                      1,
-                      metalake,
-                      catalog,
-                      schema,
-                      table);
-                  return response;
+                  return Utils.ok(
+                      new PartitionListResponse(new PartitionDTO[] {DTOConverters.toDTO(p)}));
                 });
           });
     } catch (Exception e) {
@@ -226,14 +244,6 @@ public class PartitionOperations {
       @PathParam("table") String table,
       @PathParam("partition") String partition,
       @QueryParam("purge") @DefaultValue("false") boolean purge) {
-    LOG.info(
-        "Received {} partition request for partition[{}] of table[{}.{}.{}.{}]",
-        purge ? "purge" : "drop",
-        partition,
-        metalake,
-        catalog,
-        schema,
-        table);
     try {
       return Utils.doAs(
           httpRequest,
@@ -254,16 +264,7 @@ public class PartitionOperations {
                         table,
                         schema);
                   }
-                  Response response = Utils.ok(new DropResponse(dropped));
-                  LOG.info(
-                      "Partition {} {} in table {}.{}.{}.{}",
-                      partition,
-                      purge ? "purged" : "dropped",
-                      metalake,
-                      catalog,
-                      schema,
-                      table);
-                  return response;
+                  return Utils.ok(new DropResponse(dropped));
                 });
           });
     } catch (Exception e) {
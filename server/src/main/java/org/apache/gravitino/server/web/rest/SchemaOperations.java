@@ -44,7 +44,6 @@ import org.apache.gravitino.dto.requests.SchemaCreateRequest;
 import org.apache.gravitino.dto.requests.SchemaUpdateRequest;
 import org.apache.gravitino.dto.requests.SchemaUpdatesRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
-import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.SchemaResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.lock.LockType;
@@ -77,8 +76,10 @@ public class SchemaOperations {
   @Timed(name = "list-schema." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "list-schema", absolute = true)
   public Response listSchemas(
-      @PathParam("metalake") String metalake, @PathParam("catalog") String catalog) {
-    LOG.info("Received list schema request for catalog: {}.{}", metalake, catalog);
+      @PathParam("metalake") String metalake,
+      @PathParam("catalog") String catalog,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") @DefaultValue("0") int pageSize) {
     try {
       return Utils.doAs(
           httpRequest,
@@ -89,9 +90,7 @@ public class SchemaOperations {
                     NameIdentifier.of(metalake, catalog),
                     LockType.READ,
                     () -> dispatcher.listSchemas(schemaNS));
-            Response response = Utils.ok(new EntityListResponse(idents));
-            LOG.info("List {} schemas in catalog {}.{}", idents.length, metalake, catalog);
-            return response;
+            return Utils.ok(Utils.entityListResponse(idents, pageToken, pageSize));
           });
     } catch (Exception e) {
       return ExceptionHandlers.handleSchemaException(OperationType.LIST, "", catalog, e);
@@ -106,7 +105,6 @@ public class SchemaOperations {
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
       SchemaCreateRequest request) {
-    LOG.info("Received create schema request: {}.{}.{}", metalake, catalog, request.getName());
     try {
       return Utils.doAs(
           httpRequest,
@@ -121,9 +119,7 @@ public class SchemaOperations {
                     () ->
                         dispatcher.createSchema(
                             ident, request.getComment(), request.getProperties()));
-            Response response = Utils.ok(new SchemaResponse(DTOConverters.toDTO(schema)));
-            LOG.info("Schema created: {}.{}.{}", metalake, catalog, schema.name());
-            return response;
+            return Utils.ok(new SchemaResponse(DTOConverters.toDTO(schema)));
           });
 
     } catch (Exception e) {
@@ -141,16 +137,13 @@ public class SchemaOperations {
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema) {
-    LOG.info("Received load schema request for schema: {}.{}.{}", metalake, catalog, schema);
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
             NameIdentifier ident = NameIdentifierUtil.ofSchema(metalake, catalog, schema);
             Schema s = dispatcher.loadSchema(ident);
-            Response response = Utils.ok(new SchemaResponse(DTOConverters.toDTO(s)));
-            LOG.info("Schema loaded: {}.{}.{}", metalake, catalog, s.name());
-            return response;
+            return Utils.ok(new SchemaResponse(DTOConverters.toDTO(s)));
           });
 
     } catch (Exception e) {
@@ -168,7 +161,6 @@ public class SchemaOperations {
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
       SchemaUpdatesRequest request) {
-    LOG.info("Received alter schema request: {}.{}.{}", metalake, catalog, schema);
     try {
       return Utils.doAs(
           httpRequest,
@@ -184,9 +176,7 @@ public class SchemaOperations {
                     NameIdentifierUtil.ofCatalog(metalake, catalog),
                     LockType.WRITE,
                     () -> dispatcher.alterSchema(ident, changes));
-            Response response = Utils.ok(new SchemaResponse(DTOConverters.toDTO(s)));
-            LOG.info("Schema altered: {}.{}.{}", metalake, catalog, s.name());
-            return response;
+            return Utils.ok(new SchemaResponse(DTOConverters.toDTO(s)));
           });
 
     } catch (Exception e) {
@@ -204,7 +194,6 @@ public class SchemaOperations {
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
       @DefaultValue("false") @QueryParam("cascade") boolean cascade) {
-    LOG.info("Received drop schema request: {}.{}.{}", metalake, catalog, schema);
     try {
       return Utils.doAs(
           httpRequest,
@@ -219,9 +208,7 @@ public class SchemaOperations {
               LOG.warn("Fail to drop schema {} under namespace {}", schema, ident.namespace());
             }
 
-            Response response = Utils.ok(new DropResponse(dropped));
-            LOG.info("Schema dropped: {}.{}.{}", metalake, catalog, schema);
-            return response;
+            return Utils.ok(new DropResponse(dropped));
           });
     } catch (Exception e) {
       return ExceptionHandlers.handleSchemaException(OperationType.DROP, schema, catalog, e);
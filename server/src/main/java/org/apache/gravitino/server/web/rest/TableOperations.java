@@ -23,6 +23,7 @@ import static org.apache.gravitino.dto.util.DTOConverters.fromDTOs;
 
 import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
+import java.util.List;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.DELETE;
@@ -44,6 +45,7 @@ import org.apache.gravitino.dto.requests.TableUpdateRequest;
 import org.apache.gravitino.dto.requests.TableUpdatesRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
+import org.apache.gravitino.dto.responses.TableListResponse;
 import org.apache.gravitino.dto.responses.TableResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.lock.LockType;
@@ -78,22 +80,34 @@ public class TableOperations {
   public Response listTables(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
-      @PathParam("schema") String schema) {
-    LOG.info("Received list tables request for schema: {}.{}.{}", metalake, catalog, schema);
+      @PathParam("schema") String schema,
+      @QueryParam("details") @DefaultValue("false") boolean verbose,
+      @QueryParam("names") List<String> names,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") @DefaultValue("0") int pageSize) {
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
             Namespace tableNS = NamespaceUtil.ofTable(metalake, catalog, schema);
             NameIdentifier[] idents =
-                TreeLockUtils.doWithTreeLock(
-                    NameIdentifier.of(metalake, catalog, schema),
-                    LockType.READ,
-                    () -> dispatcher.listTables(tableNS));
-            Response response = Utils.ok(new EntityListResponse(idents));
-            LOG.info(
-                "List {} tables under schema: {}.{}.{}", idents.length, metalake, catalog, schema);
-            return response;
+                verbose && names != null && !names.isEmpty()
+                    ? names.stream()
+                        .map(name -> NameIdentifier.of(tableNS, name))
+                        .toArray(NameIdentifier[]::new)
+                    : TreeLockUtils.doWithTreeLock(
+                        NameIdentifier.of(metalake, catalog, schema),
+                        LockType.READ,
+                        () -> dispatcher.listTables(tableNS));
+            EntityListResponse listResponse = Utils.entityListResponse(idents, pageToken, pageSize);
+            if (!verbose) {
+              return Utils.ok(listResponse);
+            }
+
+            // Only the tables of the requested page are loaded, in bulk.
+            Table[] tables = dispatcher.loadTables(listResponse.identifiers());
+            return Utils.ok(
+                new TableListResponse(DTOConverters.toDTOs(tables), listResponse.nextPageToken()));
           });
 
     } catch (Exception e) {
@@ -110,8 +124,6 @@ public class TableOperations {
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
       TableCreateRequest request) {
-    LOG.info(
-        "Received create table request: {}.{}.{}.{}", metalake, catalog, schema, request.getName());
     try {
       return Utils.doAs(
           httpRequest,
@@ -130,9 +142,7 @@ public class TableOperations {
                     fromDTO(request.getDistribution()),
                     fromDTOs(request.getSortOrders()),
                     fromDTOs(request.getIndexes()));
-            Response response = Utils.ok(new TableResponse(DTOConverters.toDTO(table)));
-            LOG.info("Table created: {}.{}.{}.{}", metalake, catalog, schema, request.getName());
-            return response;
+            return Utils.ok(new TableResponse(DTOConverters.toDTO(table)));
           });
 
     } catch (Exception e) {
@@ -151,17 +161,13 @@ public class TableOperations {
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
       @PathParam("table") String table) {
-    LOG.info(
-        "Received load table request for table: {}.{}.{}.{}", metalake, catalog, schema, table);
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
             NameIdentifier ident = NameIdentifierUtil.ofTable(metalake, catalog, schema, table);
             Table t = dispatcher.loadTable(ident);
-            Response response = Utils.ok(new TableResponse(DTOConverters.toDTO(t)));
-            LOG.info("Table loaded: {}.{}.{}.{}", metalake, catalog, schema, table);
-            return response;
+            return Utils.ok(new TableResponse(DTOConverters.toDTO(t)));
           });
     } catch (Exception e) {
       return ExceptionHandlers.handleTableException(OperationType.LOAD, table, schema, e);
@@ -179,7 +185,6 @@ public class TableOperations {
       @PathParam("schema") String schema,
       @PathParam("table") String table,
       TableUpdatesRequest request) {
-    LOG.info("Received alter table request: {}.{}.{}.{}", metalake, catalog, schema, table);
     try {
       return Utils.doAs(
           httpRequest,
@@ -195,9 +200,7 @@ public class TableOperations {
                     NameIdentifier.of(metalake, catalog, schema),
                     LockType.WRITE,
                     () -> dispatcher.alterTable(ident, changes));
-            Response response = Utils.ok(new TableResponse(DTOConverters.toDTO(t)));
-            LOG.info("Table altered: {}.{}.{}.{}", metalake, catalog, schema, t.name());
-            return response;
+            return Utils.ok(new TableResponse(DTOConverters.toDTO(t)));
           });
 
     } catch (Exception e) {
@@ -216,13 +219,6 @@ public class TableOperations {
       @PathParam("schema") String schema,
       @PathParam("table") String table,
       @QueryParam("purge") @DefaultValue("false") boolean purge) {
-    LOG.info(
-        "Received {} table request: {}.{}.{}.{}",
-        purge ? "purge" : "drop",
-        metalake,
-        catalog,
-        schema,
-        table);
     try {
       return Utils.doAs(
           httpRequest,
@@ -237,15 +233,7 @@ public class TableOperations {
               LOG.warn("Failed to drop table {} under schema {}", table, schema);
             }
 
-            Response response = Utils.ok(new DropResponse(dropped));
-            LOG.info(
-                "Table {}: {}.{}.{}.{}",
-                purge ? "purge" : "drop",
-                metalake,
-                catalog,
-                schema,
-                table);
-            return response;
+            return Utils.ok(new DropResponse(dropped));
           });
 
     } catch (Exception e) {
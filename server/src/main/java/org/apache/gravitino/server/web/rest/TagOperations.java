@@ -78,9 +78,6 @@ public class TagOperations {
   public Response listTags(
       @PathParam("metalake") String metalake,
       @QueryParam("details") @DefaultValue("false") boolean verbose) {
-    LOG.info(
-        "Received list tag {} request for metalake: {}", verbose ? "infos" : "names", metalake);
-
     try {
       return Utils.doAs(
           httpRequest,
@@ -97,14 +94,12 @@ public class TagOperations {
                         .toArray(TagDTO[]::new);
               }
 
-              LOG.info("List {} tags info under metalake: {}", tagDTOs.length, metalake);
               return Utils.ok(new TagListResponse(tagDTOs));
 
             } else {
               String[] tagNames = tagManager.listTags(metalake);
               tagNames = tagNames == null ? new String[0] : tagNames;
 
-              LOG.info("List {} tags under metalake: {}", tagNames.length, metalake);
               return Utils.ok(new NameListResponse(tagNames));
             }
           });
@@ -118,8 +113,6 @@ public class TagOperations {
   @Timed(name = "create-tag." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "create-tag", absolute = true)
   public Response createTag(@PathParam("metalake") String metalake, TagCreateRequest request) {
-    LOG.info("Received create tag request under metalake: {}", metalake);
-
     try {
       return Utils.doAs(
           httpRequest,
@@ -129,7 +122,6 @@ public class TagOperations {
                 tagManager.createTag(
                     metalake, request.getName(), request.getComment(), request.getProperties());
 
-            LOG.info("Created tag: {} under metalake: {}", tag.name(), metalake);
             return Utils.ok(new TagResponse(DTOConverters.toDTO(tag, Optional.empty())));
           });
     } catch (Exception e) {
@@ -144,14 +136,11 @@ public class TagOperations {
   @Timed(name = "get-tag." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "get-tag", absolute = true)
   public Response getTag(@PathParam("metalake") String metalake, @PathParam("tag") String name) {
-    LOG.info("Received get tag request for tag: {} under metalake: {}", name, metalake);
-
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
             Tag tag = tagManager.getTag(metalake, name);
-            LOG.info("Get tag: {} under metalake: {}", name, metalake);
             return Utils.ok(new TagResponse(DTOConverters.toDTO(tag, Optional.empty())));
           });
     } catch (Exception e) {
@@ -168,8 +157,6 @@ public class TagOperations {
       @PathParam("metalake") String metalake,
       @PathParam("tag") String name,
       TagUpdatesRequest request) {
-    LOG.info("Received alter tag request for tag: {} under metalake: {}", name, metalake);
-
     try {
       return Utils.doAs(
           httpRequest,
@@ -182,7 +169,6 @@ public class TagOperations {
                     .toArray(TagChange[]::new);
             Tag tag = tagManager.alterTag(metalake, name, changes);
 
-            LOG.info("Altered tag: {} under metalake: {}", name, metalake);
             return Utils.ok(new TagResponse(DTOConverters.toDTO(tag, Optional.empty())));
           });
     } catch (Exception e) {
@@ -196,8 +182,6 @@ public class TagOperations {
   @Timed(name = "delete-tag." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "delete-tag", absolute = true)
   public Response deleteTag(@PathParam("metalake") String metalake, @PathParam("tag") String name) {
-    LOG.info("Received delete tag request for tag: {} under metalake: {}", name, metalake);
-
     try {
       return Utils.doAs(
           httpRequest,
@@ -205,8 +189,6 @@ public class TagOperations {
             boolean deleted = tagManager.deleteTag(metalake, name);
             if (!deleted) {
               LOG.warn("Failed to delete tag {} under metalake {}", name, metalake);
-            } else {
-              LOG.info("Deleted tag: {} under metalake: {}", name, metalake);
             }
 
             return Utils.ok(new DropResponse(deleted));
@@ -223,8 +205,6 @@ public class TagOperations {
   @ResponseMetered(name = "list-objects-for-tag", absolute = true)
   public Response listMetadataObjectsForTag(
       @PathParam("metalake") String metalake, @PathParam("tag") String tagName) {
-    LOG.info("Received list objects for tag: {} under metalake: {}", tagName, metalake);
-
     try {
       return Utils.doAs(
           httpRequest,
@@ -232,12 +212,6 @@ public class TagOperations {
             MetadataObject[] objects = tagManager.listMetadataObjectsForTag(metalake, tagName);
             objects = objects == null ? new MetadataObject[0] : objects;
 
-            LOG.info(
-                "List {} objects for tag: {} under metalake: {}",
-                objects.length,
-                tagName,
-                metalake);
-
             MetadataObjectDTO[] objectDTOs =
                 Arrays.stream(objects).map(DTOConverters::toDTO).toArray(MetadataObjectDTO[]::new);
             return Utils.ok(new MetadataObjectListResponse(objectDTOs));
@@ -23,12 +23,14 @@ import com.codahale.metrics.annotation.Timed;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 import org.apache.gravitino.NameIdentifier;
@@ -38,7 +40,6 @@ import org.apache.gravitino.dto.requests.TopicCreateRequest;
 import org.apache.gravitino.dto.requests.TopicUpdateRequest;
 import org.apache.gravitino.dto.requests.TopicUpdatesRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
-import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.TopicResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.lock.LockType;
@@ -71,23 +72,20 @@ public class TopicOperations {
   public Response listTopics(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
-      @PathParam("schema") String schema) {
+      @PathParam("schema") String schema,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") @DefaultValue("0") int pageSize) {
     try {
-      LOG.info("Received list topics request for schema: {}.{}.{}", metalake, catalog, schema);
       return Utils.doAs(
           httpRequest,
           () -> {
-            LOG.info("Listing topics under schema: {}.{}.{}", metalake, catalog, schema);
             Namespace topicNS = NamespaceUtil.ofTopic(metalake, catalog, schema);
             NameIdentifier[] topics =
                 TreeLockUtils.doWithTreeLock(
                     NameIdentifier.of(metalake, catalog, schema),
                     LockType.READ,
                     () -> dispatcher.listTopics(topicNS));
-            Response response = Utils.ok(new EntityListResponse(topics));
-            LOG.info(
-                "List {} topics under schema: {}.{}.{}", topics.length, metalake, catalog, schema);
-            return response;
+            return Utils.ok(Utils.entityListResponse(topics, pageToken, pageSize));
           });
     } catch (Exception e) {
       return ExceptionHandlers.handleFilesetException(OperationType.LIST, "", schema, e);
@@ -103,17 +101,10 @@ public class TopicOperations {
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
       TopicCreateRequest request) {
-    LOG.info("Received create topic request: {}.{}.{}", metalake, catalog, schema);
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
-            LOG.info(
-                "Creating topic under schema: {}.{}.{}.{}",
-                metalake,
-                catalog,
-                schema,
-                request.getName());
             request.validate();
             NameIdentifier ident =
                 NameIdentifierUtil.ofTopic(metalake, catalog, schema, request.getName());
@@ -124,9 +115,7 @@ public class TopicOperations {
                     request.getComment(),
                     null /* dataLayout, always null because it's not supported yet.*/,
                     request.getProperties());
-            Response response = Utils.ok(new TopicResponse(DTOConverters.toDTO(topic)));
-            LOG.info("Topic created: {}.{}.{}.{}", metalake, catalog, schema, topic.name());
-            return response;
+            return Utils.ok(new TopicResponse(DTOConverters.toDTO(topic)));
           });
     } catch (Exception e) {
       return ExceptionHandlers.handleTopicException(
@@ -144,18 +133,13 @@ public class TopicOperations {
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
       @PathParam("topic") String topic) {
-    LOG.info(
-        "Received load topic request for topic: {}.{}.{}.{}", metalake, catalog, schema, topic);
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
-            LOG.info("Loading topic: {}.{}.{}.{}", metalake, catalog, schema, topic);
             NameIdentifier ident = NameIdentifierUtil.ofTopic(metalake, catalog, schema, topic);
             Topic t = dispatcher.loadTopic(ident);
-            Response response = Utils.ok(new TopicResponse(DTOConverters.toDTO(t)));
-            LOG.info("Topic loaded: {}.{}.{}.{}", metalake, catalog, schema, topic);
-            return response;
+            return Utils.ok(new TopicResponse(DTOConverters.toDTO(t)));
           });
     } catch (Exception e) {
       return ExceptionHandlers.handleTopicException(OperationType.LOAD, topic, schema, e);
@@ -173,12 +157,10 @@ public class TopicOperations {
       @PathParam("schema") String schema,
       @PathParam("topic") String topic,
       TopicUpdatesRequest request) {
-    LOG.info("Received alter topic request: {}.{}.{}.{}", metalake, catalog, schema, topic);
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
-            LOG.info("Altering topic: {}.{}.{}.{}", metalake, catalog, schema, topic);
             request.validate();
             NameIdentifier ident = NameIdentifierUtil.ofTopic(metalake, catalog, schema, topic);
             TopicChange[] changes =
@@ -191,9 +173,7 @@ public class TopicOperations {
                     NameIdentifierUtil.ofSchema(metalake, catalog, schema),
                     LockType.WRITE,
                     () -> dispatcher.alterTopic(ident, changes));
-            Response response = Utils.ok(new TopicResponse(DTOConverters.toDTO(t)));
-            LOG.info("Topic altered: {}.{}.{}.{}", metalake, catalog, schema, t.name());
-            return response;
+            return Utils.ok(new TopicResponse(DTOConverters.toDTO(t)));
           });
     } catch (Exception e) {
       return ExceptionHandlers.handleTopicException(OperationType.ALTER, topic, schema, e);
@@ -210,12 +190,10 @@ public class TopicOperations {
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
       @PathParam("topic") String topic) {
-    LOG.info("Received drop topic request: {}.{}.{}.{}", metalake, catalog, schema, topic);
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
-            LOG.info("Dropping topic under schema: {}.{}.{}", metalake, catalog, schema);
             NameIdentifier ident = NameIdentifierUtil.ofTopic(metalake, catalog, schema, topic);
             boolean dropped =
                 TreeLockUtils.doWithTreeLock(
@@ -227,9 +205,7 @@ public class TopicOperations {
               LOG.warn("Failed to drop topic {} under schema {}", topic, schema);
             }
 
-            Response response = Utils.ok(new DropResponse(dropped));
-            LOG.info("Topic dropped: {}.{}.{}.{}", metalake, catalog, schema, topic);
-            return response;
+            return Utils.ok(new DropResponse(dropped));
           });
     } catch (Exception e) {
       return ExceptionHandlers.handleTopicException(OperationType.DROP, topic, schema, e);
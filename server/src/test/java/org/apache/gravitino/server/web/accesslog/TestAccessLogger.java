@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.accesslog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestAccessLogger {
+
+  @Test
+  public void testSampling() {
+    AccessLogger accessLogger = new AccessLogger(10, Integer.MAX_VALUE, 1000);
+    Assertions.assertTrue(
+        accessLogger.isSampled(new AccessLogEntry("GET", "loadTable", "m.c.s.t", 404, 1, "u")));
+    Assertions.assertTrue(
+        accessLogger.isSampled(new AccessLogEntry("GET", "loadTable", "m.c.s.t", 200, 1000, "u")));
+
+    int sampled = 0;
+    for (int i = 0; i < 100; i++) {
+      if (accessLogger.isSampled(new AccessLogEntry("GET", "loadTable", "m.c.s.t", 200, 1, "u"))) {
+        sampled++;
+      }
+    }
+    Assertions.assertTrue(sampled < 100);
+
+    AccessLogger noSampling = new AccessLogger(10, 1, 1000);
+    Assertions.assertTrue(
+        noSampling.isSampled(new AccessLogEntry("GET", "loadTable", "m.c.s.t", 200, 1, "u")));
+  }
+
+  @Test
+  public void testFormat() throws JsonProcessingException {
+    AccessLogger accessLogger = new AccessLogger(10, 1, 1000);
+    Assertions.assertEquals(
+        "{\"method\":\"GET\",\"operation\":\"loadTable\",\"identifier\":\"m.c.s.t\","
+            + "\"status\":200,\"latencyMs\":5,\"user\":\"anonymous\"}",
+        accessLogger.format(
+            new AccessLogEntry("GET", "loadTable", "m.c.s.t", 200, 5, "anonymous")));
+    Assertions.assertEquals(
+        "{\"method\":\"GET\",\"status\":404,\"latencyMs\":-1,\"user\":\"anonymous\"}",
+        accessLogger.format(new AccessLogEntry("GET", null, null, 404, -1, "anonymous")));
+  }
+
+  @Test
+  public void testDropWhenQueueIsFull() {
+    // The writer thread isn't started, so the entries stay in the queue.
+    AccessLogger accessLogger = new AccessLogger(2, 1, 1000);
+    for (int i = 0; i < 5; i++) {
+      accessLogger.log(new AccessLogEntry("GET", "loadTable", "m.c.s.t", 200, 1, "u"));
+    }
+    Assertions.assertEquals(3, accessLogger.droppedCount());
+  }
+}
@@ -22,8 +22,12 @@ import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.Maps;
@@ -174,6 +178,88 @@ public class TestPartitionOperations extends JerseyTest {
     Assertions.assertTrue(errorResp2.getMessage().contains("test exception"));
   }
 
+  @Test
+  public void testListPartitionsPagedAndFiltered() {
+    when(dispatcher.listPartitionNames(any(), isNull(), isNull(), eq(2)))
+        .thenReturn(new String[] {"p1", "p2"});
+    when(dispatcher.listPartitionNames(any(), isNull(), eq("p1"), eq(2)))
+        .thenReturn(new String[] {"p2"});
+    when(dispatcher.listPartitionNames(any(), eq("col1 = \"v2\""), isNull(), eq(2)))
+        .thenReturn(new String[] {"p2"});
+    when(dispatcher.getPartitions(any(), eq(new String[] {"p2"})))
+        .thenReturn(new Partition[] {partition2});
+    when(dispatcher.listPartitions(any(), eq("col1 = \"v2\"")))
+        .thenReturn(new Partition[] {partition2});
+
+    // The first page of the names is ordered by name
+    Response resp =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("pageSize", 1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    PartitionNameListResponse nameResp = resp.readEntity(PartitionNameListResponse.class);
+    Assertions.assertArrayEquals(new String[] {"p1"}, nameResp.partitionNames());
+    Assertions.assertNotNull(nameResp.nextPageToken());
+
+    // The second page loads only the partitions in the page
+    Response resp1 =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("details", "true")
+            .queryParam("pageSize", 1)
+            .queryParam("pageToken", nameResp.nextPageToken())
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp1.getStatus());
+    PartitionListResponse listResp = resp1.readEntity(PartitionListResponse.class);
+    Assertions.assertEquals(1, listResp.getPartitions().length);
+    Assertions.assertEquals(DTOConverters.toDTO(partition2), listResp.getPartitions()[0]);
+    Assertions.assertNull(listResp.getNextPageToken());
+
+    // The page of the filtered names is listed by the catalog
+    Response filteredNamesResp =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("filter", "col1 = \"v2\"")
+            .queryParam("pageSize", 1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), filteredNamesResp.getStatus());
+    nameResp = filteredNamesResp.readEntity(PartitionNameListResponse.class);
+    Assertions.assertArrayEquals(new String[] {"p2"}, nameResp.partitionNames());
+    Assertions.assertNull(nameResp.nextPageToken());
+
+    // The filtered partitions are listed at once
+    Response resp2 =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("details", "true")
+            .queryParam("filter", "col1 = \"v2\"")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp2.getStatus());
+    PartitionListResponse filteredResp = resp2.readEntity(PartitionListResponse.class);
+    Assertions.assertEquals(0, filteredResp.getCode());
+    Assertions.assertEquals(1, filteredResp.getPartitions().length);
+    Assertions.assertEquals(DTOConverters.toDTO(partition2), filteredResp.getPartitions()[0]);
+    verify(dispatcher, never()).listPartitionNames(any(), eq("col1 = \"v2\""));
+
+    // Test unsupported filter
+    doThrow(new UnsupportedOperationException("Partition filtering is not supported"))
+        .when(dispatcher)
+        .listPartitionNames(any(), eq("col1 = 1"));
+    Response resp3 =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("filter", "col1 = 1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(
+        Response.Status.METHOD_NOT_ALLOWED.getStatusCode(), resp3.getStatus());
+  }
+
   @Test
   public void testListPartitions() {
     when(dispatcher.listPartitions(any())).thenReturn(partitions);
@@ -44,6 +44,7 @@ import javax.ws.rs.core.Response.Status;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.gravitino.Audit;
 import org.apache.gravitino.Config;
+import org.apache.gravitino.EntityPage;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.catalog.TableDispatcher;
@@ -66,6 +67,7 @@ import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorConstants;
 import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.dto.responses.TableListResponse;
 import org.apache.gravitino.dto.responses.TableResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
@@ -200,6 +202,116 @@ public class TestTableOperations extends JerseyTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResp2.getType());
   }
 
+  @Test
+  public void testListTablesByPage() {
+    NameIdentifier table1 = NameIdentifier.of(metalake, catalog, schema, "table1");
+    NameIdentifier table2 = NameIdentifier.of(metalake, catalog, schema, "table2");
+    NameIdentifier table3 = NameIdentifier.of(metalake, catalog, schema, "table3");
+
+    when(dispatcher.listTables(any())).thenReturn(new NameIdentifier[] {table3, table1, table2});
+
+    Response resp =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("pageSize", 2)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    EntityListResponse listResp = resp.readEntity(EntityListResponse.class);
+    Assertions.assertArrayEquals(new NameIdentifier[] {table1, table2}, listResp.identifiers());
+    Assertions.assertNotNull(listResp.nextPageToken());
+
+    resp =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("pageSize", 2)
+            .queryParam("pageToken", listResp.nextPageToken())
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    listResp = resp.readEntity(EntityListResponse.class);
+    Assertions.assertArrayEquals(new NameIdentifier[] {table3}, listResp.identifiers());
+    Assertions.assertNull(listResp.nextPageToken());
+
+    // Test the page token without the page size, the default page size is used
+    String pageToken = EntityPage.encodePageToken("table1");
+    resp =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("pageToken", pageToken)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    listResp = resp.readEntity(EntityListResponse.class);
+    Assertions.assertArrayEquals(new NameIdentifier[] {table2, table3}, listResp.identifiers());
+    Assertions.assertNull(listResp.nextPageToken());
+
+    // Test the illegal page size
+    resp =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("pageSize", -1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp.getStatus());
+  }
+
+  @Test
+  public void testListTablesInfo() {
+    NameIdentifier table1 = NameIdentifier.of(metalake, catalog, schema, "table1");
+    NameIdentifier table2 = NameIdentifier.of(metalake, catalog, schema, "table2");
+    NameIdentifier table3 = NameIdentifier.of(metalake, catalog, schema, "table3");
+    Column[] columns = new Column[] {mockColumn("col1", Types.StringType.get())};
+    Table mockTable1 = mockTable("table1", columns, "mock comment", ImmutableMap.of());
+    Table mockTable2 = mockTable("table2", columns, "mock comment", ImmutableMap.of());
+
+    when(dispatcher.listTables(any())).thenReturn(new NameIdentifier[] {table3, table1, table2});
+    when(dispatcher.loadTables(table1, table2)).thenReturn(new Table[] {mockTable1, mockTable2});
+
+    Response resp =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("details", true)
+            .queryParam("pageSize", 2)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    TableListResponse listResp = resp.readEntity(TableListResponse.class);
+    Assertions.assertEquals(0, listResp.getCode());
+    Assertions.assertEquals(2, listResp.getTables().length);
+    Assertions.assertEquals("table1", listResp.getTables()[0].name());
+    Assertions.assertEquals("table2", listResp.getTables()[1].name());
+    Assertions.assertNotNull(listResp.getNextPageToken());
+
+    // Test loading the tables by names, the names are not listed from the catalog
+    when(dispatcher.loadTables(table2)).thenReturn(new Table[] {mockTable2});
+    resp =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("details", true)
+            .queryParam("names", "table2")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    listResp = resp.readEntity(TableListResponse.class);
+    Assertions.assertEquals(1, listResp.getTables().length);
+    Assertions.assertEquals("table2", listResp.getTables()[0].name());
+    Assertions.assertNull(listResp.getNextPageToken());
+
+    // Test throw RuntimeException
+    doThrow(new RuntimeException("mock error")).when(dispatcher).loadTables(any());
+    resp =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("details", true)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(
+        Response.Status.INTERNAL_SERVER_ERROR.getStatusCode(), resp.getStatus());
+    ErrorResponse errorResp = resp.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.INTERNAL_ERROR_CODE, errorResp.getCode());
+  }
+
   private DistributionDTO createMockDistributionDTO(String columnName, int bucketNum) {
     return DistributionDTO.builder()
         .withStrategy(Strategy.HASH)
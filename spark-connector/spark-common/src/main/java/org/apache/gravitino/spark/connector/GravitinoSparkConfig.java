@@ -26,6 +26,14 @@ public class GravitinoSparkConfig {
   public static final String GRAVITINO_METALAKE = GRAVITINO_PREFIX + "metalake";
   public static final String GRAVITINO_ENABLE_ICEBERG_SUPPORT =
       GRAVITINO_PREFIX + "enableIcebergSupport";
+  public static final String GRAVITINO_TABLE_CACHE_ENABLED =
+      GRAVITINO_PREFIX + "tableCache.enabled";
+  public static final String GRAVITINO_TABLE_CACHE_EXPIRE_TIME_MS =
+      GRAVITINO_PREFIX + "tableCache.expireTimeMs";
+  public static final long DEFAULT_GRAVITINO_TABLE_CACHE_EXPIRE_TIME_MS = 60_000L;
+  public static final String GRAVITINO_TABLE_CACHE_MAX_SIZE =
+      GRAVITINO_PREFIX + "tableCache.maxSize";
+  public static final long DEFAULT_GRAVITINO_TABLE_CACHE_MAX_SIZE = 1000L;
   public static final String GRAVITINO_HIVE_METASTORE_URI = "metastore.uris";
   public static final String SPARK_HIVE_METASTORE_URI = "hive.metastore.uris";
 
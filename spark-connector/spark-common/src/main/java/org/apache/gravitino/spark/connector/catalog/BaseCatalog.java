@@ -19,11 +19,15 @@
 
 package org.apache.gravitino.spark.connector.catalog;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
@@ -85,7 +89,12 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
   private final GravitinoCatalogManager gravitinoCatalogManager;
 
   protected BaseCatalog() {
-    gravitinoCatalogManager = GravitinoCatalogManager.get();
+    this(GravitinoCatalogManager.get());
+  }
+
+  @VisibleForTesting
+  BaseCatalog(GravitinoCatalogManager gravitinoCatalogManager) {
+    this.gravitinoCatalogManager = gravitinoCatalogManager;
   }
 
   /**
@@ -219,6 +228,8 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
                   partitionings,
                   distributionAndSortOrdersInfo.getDistribution(),
                   distributionAndSortOrdersInfo.getSortOrders());
+      // A table with the same name may have been dropped by another application and cached.
+      gravitinoCatalogManager.invalidateTable(catalogName, gravitinoIdentifier);
       org.apache.spark.sql.connector.catalog.Table sparkTable = loadSparkTable(ident);
       return createSparkTable(
           ident,
@@ -237,21 +248,42 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
 
   @Override
   public Table loadTable(Identifier ident) throws NoSuchTableException {
+    // Load the Gravitino table in the background while the Spark table is loaded in the caller
+    // thread, the Spark catalog may rely on the active Spark session of the caller thread.
+    CompletableFuture<org.apache.gravitino.rel.Table> gravitinoTableFuture =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return loadGravitinoTable(ident);
+              } catch (NoSuchTableException e) {
+                throw new CompletionException(e);
+              }
+            },
+            gravitinoCatalogManager.getTableLoadExecutor());
+
+    org.apache.spark.sql.connector.catalog.Table sparkTable = null;
+    RuntimeException sparkTableException = null;
     try {
-      org.apache.gravitino.rel.Table gravitinoTable = loadGravitinoTable(ident);
-      org.apache.spark.sql.connector.catalog.Table sparkTable = loadSparkTable(ident);
-      // Will create a catalog specific table
-      return createSparkTable(
-          ident,
-          gravitinoTable,
-          sparkTable,
-          sparkCatalog,
-          propertiesConverter,
-          sparkTransformConverter,
-          sparkTypeConverter);
-    } catch (org.apache.gravitino.exceptions.NoSuchTableException e) {
-      throw new NoSuchTableException(ident);
+      sparkTable = loadSparkTable(ident);
+    } catch (RuntimeException e) {
+      sparkTableException = e;
+    }
+
+    // The table not existing in Gravitino takes precedence over the failure of the Spark table.
+    org.apache.gravitino.rel.Table gravitinoTable = joinGravitinoTable(gravitinoTableFuture);
+    if (sparkTableException != null) {
+      throw sparkTableException;
     }
+
+    // Will create a catalog specific table
+    return createSparkTable(
+        ident,
+        gravitinoTable,
+        sparkTable,
+        sparkCatalog,
+        propertiesConverter,
+        sparkTransformConverter,
+        sparkTypeConverter);
   }
 
   @Override
@@ -260,13 +292,14 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
         Arrays.stream(changes)
             .map(sparkTableChangeConverter::toGravitinoTableChange)
             .toArray(org.apache.gravitino.rel.TableChange[]::new);
+    NameIdentifier gravitinoIdentifier = NameIdentifier.of(getDatabase(ident), ident.name());
     try {
       sparkCatalog.invalidateTable(ident);
       org.apache.gravitino.rel.Table gravitinoTable =
           gravitinoCatalogClient
               .asTableCatalog()
-              .alterTable(
-                  NameIdentifier.of(getDatabase(ident), ident.name()), gravitinoTableChanges);
+              .alterTable(gravitinoIdentifier, gravitinoTableChanges);
+      gravitinoCatalogManager.invalidateTable(catalogName, gravitinoIdentifier);
       org.apache.spark.sql.connector.catalog.Table sparkTable = loadSparkTable(ident);
       return createSparkTable(
           ident,
@@ -283,18 +316,24 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
 
   @Override
   public boolean dropTable(Identifier ident) {
+    NameIdentifier gravitinoIdentifier = NameIdentifier.of(getDatabase(ident), ident.name());
     sparkCatalog.invalidateTable(ident);
-    return gravitinoCatalogClient
-        .asTableCatalog()
-        .dropTable(NameIdentifier.of(getDatabase(ident), ident.name()));
+    try {
+      return gravitinoCatalogClient.asTableCatalog().dropTable(gravitinoIdentifier);
+    } finally {
+      gravitinoCatalogManager.invalidateTable(catalogName, gravitinoIdentifier);
+    }
   }
 
   @Override
   public boolean purgeTable(Identifier ident) {
+    NameIdentifier gravitinoIdentifier = NameIdentifier.of(getDatabase(ident), ident.name());
     sparkCatalog.invalidateTable(ident);
-    return gravitinoCatalogClient
-        .asTableCatalog()
-        .purgeTable(NameIdentifier.of(getDatabase(ident), ident.name()));
+    try {
+      return gravitinoCatalogClient.asTableCatalog().purgeTable(gravitinoIdentifier);
+    } finally {
+      gravitinoCatalogManager.invalidateTable(catalogName, gravitinoIdentifier);
+    }
   }
 
   @Override
@@ -306,11 +345,13 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
         newDatabase.equals(oldDatabase), "Doesn't support rename table to different database");
     org.apache.gravitino.rel.TableChange rename =
         org.apache.gravitino.rel.TableChange.rename(newIdent.name());
+    NameIdentifier oldGravitinoIdentifier = NameIdentifier.of(oldDatabase, oldIdent.name());
+    NameIdentifier newGravitinoIdentifier = NameIdentifier.of(newDatabase, newIdent.name());
     try {
       sparkCatalog.invalidateTable(oldIdent);
-      gravitinoCatalogClient
-          .asTableCatalog()
-          .alterTable(NameIdentifier.of(getDatabase(oldIdent), oldIdent.name()), rename);
+      gravitinoCatalogClient.asTableCatalog().alterTable(oldGravitinoIdentifier, rename);
+      gravitinoCatalogManager.invalidateTable(catalogName, oldGravitinoIdentifier);
+      gravitinoCatalogManager.invalidateTable(catalogName, newGravitinoIdentifier);
     } catch (org.apache.gravitino.exceptions.NoSuchTableException e) {
       throw new NoSuchTableException(oldIdent);
     }
@@ -396,16 +437,19 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
       return gravitinoCatalogClient.asSchemas().dropSchema(namespace[0], cascade);
     } catch (NonEmptySchemaException e) {
       throw new NonEmptyNamespaceException(namespace);
+    } finally {
+      gravitinoCatalogManager.invalidateTables(catalogName, namespace[0]);
     }
   }
 
   protected org.apache.gravitino.rel.Table loadGravitinoTable(Identifier ident)
       throws NoSuchTableException {
     try {
-      String database = getDatabase(ident);
-      return gravitinoCatalogClient
-          .asTableCatalog()
-          .loadTable(NameIdentifier.of(database, ident.name()));
+      NameIdentifier gravitinoIdentifier = NameIdentifier.of(getDatabase(ident), ident.name());
+      return gravitinoCatalogManager.loadTable(
+          catalogName,
+          gravitinoIdentifier,
+          () -> gravitinoCatalogClient.asTableCatalog().loadTable(gravitinoIdentifier));
     } catch (org.apache.gravitino.exceptions.NoSuchTableException e) {
       throw new NoSuchTableException(ident);
     }
@@ -451,6 +495,21 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
     return gravitinoIdentifier.namespace().level(0);
   }
 
+  private static org.apache.gravitino.rel.Table joinGravitinoTable(
+      CompletableFuture<org.apache.gravitino.rel.Table> gravitinoTableFuture)
+      throws NoSuchTableException {
+    try {
+      return gravitinoTableFuture.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof NoSuchTableException) {
+        throw (NoSuchTableException) cause;
+      }
+      Throwables.throwIfUnchecked(cause);
+      throw e;
+    }
+  }
+
   private Table loadSparkTable(Identifier ident) {
     try {
       return sparkCatalog.loadTable(ident);
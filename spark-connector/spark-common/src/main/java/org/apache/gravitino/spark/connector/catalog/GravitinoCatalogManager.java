@@ -18,13 +18,22 @@
  */
 package org.apache.gravitino.spark.connector.catalog;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import org.apache.gravitino.Catalog;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.client.GravitinoAdminClient;
 import org.apache.gravitino.client.GravitinoMetalake;
 import org.slf4j.Logger;
@@ -37,22 +46,69 @@ public class GravitinoCatalogManager {
 
   private volatile boolean isClosed = false;
   private final Cache<String, Catalog> gravitinoCatalogs;
+  // Keyed by the catalog, schema and table name, null if the table cache is disabled.
+  private final Cache<NameIdentifier, org.apache.gravitino.rel.Table> gravitinoTables;
+  private final ExecutorService tableLoadExecutor;
   private final String metalakeName;
   private final GravitinoMetalake metalake;
   private final GravitinoAdminClient gravitinoClient;
 
-  private GravitinoCatalogManager(String gravitinoUri, String metalakeName) {
+  private GravitinoCatalogManager(
+      String gravitinoUri, String metalakeName, long tableCacheExpireTimeMs, long tableCacheSize) {
+    this(
+        GravitinoAdminClient.builder(gravitinoUri).build(),
+        metalakeName,
+        tableCacheExpireTimeMs,
+        tableCacheSize);
+  }
+
+  @VisibleForTesting
+  GravitinoCatalogManager(
+      GravitinoAdminClient gravitinoClient,
+      String metalakeName,
+      long tableCacheExpireTimeMs,
+      long tableCacheSize) {
     this.metalakeName = metalakeName;
-    this.gravitinoClient = GravitinoAdminClient.builder(gravitinoUri).build();
+    this.gravitinoClient = gravitinoClient;
     // Will not evict catalog by default
     this.gravitinoCatalogs = CacheBuilder.newBuilder().build();
+    this.gravitinoTables =
+        tableCacheExpireTimeMs > 0
+            ? CacheBuilder.newBuilder()
+                .expireAfterWrite(tableCacheExpireTimeMs, TimeUnit.MILLISECONDS)
+                .maximumSize(tableCacheSize)
+                .build()
+            : null;
+    this.tableLoadExecutor =
+        Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("gravitino-table-loader-%d")
+                .build());
     this.metalake = gravitinoClient.loadMetalake(metalakeName);
   }
 
   public static GravitinoCatalogManager create(String gravitinoUrl, String metalakeName) {
+    return create(gravitinoUrl, metalakeName, 0, 0);
+  }
+
+  /**
+   * Create the GravitinoCatalogManager with a table cache.
+   *
+   * @param gravitinoUrl the uri of the Gravitino server
+   * @param metalakeName the metalake name
+   * @param tableCacheExpireTimeMs the time after which a cached table expires, 0 to disable the
+   *     table cache
+   * @param tableCacheSize the maximum number of the cached tables
+   * @return the GravitinoCatalogManager
+   */
+  public static GravitinoCatalogManager create(
+      String gravitinoUrl, String metalakeName, long tableCacheExpireTimeMs, long tableCacheSize) {
     Preconditions.checkState(
         gravitinoCatalogManager == null, "Should not create duplicate GravitinoCatalogManager");
-    gravitinoCatalogManager = new GravitinoCatalogManager(gravitinoUrl, metalakeName);
+    gravitinoCatalogManager =
+        new GravitinoCatalogManager(
+            gravitinoUrl, metalakeName, tableCacheExpireTimeMs, tableCacheSize);
     return gravitinoCatalogManager;
   }
 
@@ -67,6 +123,7 @@ public class GravitinoCatalogManager {
   public void close() {
     Preconditions.checkState(!isClosed, "Gravitino Catalog is already closed");
     isClosed = true;
+    tableLoadExecutor.shutdownNow();
     gravitinoClient.close();
     gravitinoCatalogManager = null;
   }
@@ -80,6 +137,66 @@ public class GravitinoCatalogManager {
     }
   }
 
+  /**
+   * Get the Gravitino table from the table cache, or load it with the specified loader if it is not
+   * cached or the table cache is disabled.
+   *
+   * @param catalogName the catalog name
+   * @param ident the table identifier in the catalog
+   * @param loader the loader to load the table from the Gravitino server
+   * @return the cached or loaded table
+   */
+  public org.apache.gravitino.rel.Table loadTable(
+      String catalogName, NameIdentifier ident, Supplier<org.apache.gravitino.rel.Table> loader) {
+    if (gravitinoTables == null) {
+      return loader.get();
+    }
+
+    try {
+      return gravitinoTables.get(tableCacheKey(catalogName, ident), loader::get);
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new RuntimeException(e.getCause());
+    }
+  }
+
+  /**
+   * Invalidate the cached table, it's called when the table is changed through this connector.
+   *
+   * @param catalogName the catalog name
+   * @param ident the table identifier in the catalog
+   */
+  public void invalidateTable(String catalogName, NameIdentifier ident) {
+    if (gravitinoTables != null) {
+      gravitinoTables.invalidate(tableCacheKey(catalogName, ident));
+    }
+  }
+
+  /**
+   * Invalidate all the cached tables under the schema.
+   *
+   * @param catalogName the catalog name
+   * @param schemaName the schema name
+   */
+  public void invalidateTables(String catalogName, String schemaName) {
+    if (gravitinoTables != null) {
+      NameIdentifier schemaIdent = NameIdentifier.of(catalogName, schemaName);
+      gravitinoTables
+          .asMap()
+          .keySet()
+          .removeIf(ident -> NameIdentifier.of(ident.namespace().levels()).equals(schemaIdent));
+    }
+  }
+
+  /**
+   * Get the executor to load the Gravitino tables concurrently with the Spark tables.
+   *
+   * @return the executor
+   */
+  public ExecutorService getTableLoadExecutor() {
+    return tableLoadExecutor;
+  }
+
   public String getMetalakeName() {
     return metalakeName;
   }
@@ -95,6 +212,10 @@ public class GravitinoCatalogManager {
     return gravitinoCatalogs.asMap();
   }
 
+  private static NameIdentifier tableCacheKey(String catalogName, NameIdentifier ident) {
+    return NameIdentifier.of(catalogName, ident.namespace().level(0), ident.name());
+  }
+
   private Catalog loadCatalog(String catalogName) {
     Catalog catalog = metalake.loadCatalog(catalogName);
     Preconditions.checkArgument(
@@ -83,7 +83,9 @@ public class GravitinoDriverPlugin implements DriverPlugin {
       gravitinoDriverExtensions.addAll(gravitinoIcebergExtensions);
     }
 
-    this.catalogManager = GravitinoCatalogManager.create(gravitinoUri, metalake);
+    this.catalogManager =
+        GravitinoCatalogManager.create(
+            gravitinoUri, metalake, getTableCacheExpireTimeMs(conf), getTableCacheMaxSize(conf));
     catalogManager.loadRelationalCatalogs();
     registerGravitinoCatalogs(conf, catalogManager.getCatalogs());
     registerSqlExtensions(conf);
@@ -97,6 +99,47 @@ public class GravitinoDriverPlugin implements DriverPlugin {
     }
   }
 
+  /**
+   * Get the expire time of the Gravitino table cache.
+   *
+   * @param conf the Spark configuration
+   * @return the expire time in milliseconds, 0 if the table cache is disabled
+   */
+  @VisibleForTesting
+  static long getTableCacheExpireTimeMs(SparkConf conf) {
+    if (!conf.getBoolean(GravitinoSparkConfig.GRAVITINO_TABLE_CACHE_ENABLED, false)) {
+      return 0;
+    }
+    long tableCacheExpireTimeMs =
+        conf.getLong(
+            GravitinoSparkConfig.GRAVITINO_TABLE_CACHE_EXPIRE_TIME_MS,
+            GravitinoSparkConfig.DEFAULT_GRAVITINO_TABLE_CACHE_EXPIRE_TIME_MS);
+    Preconditions.checkArgument(
+        tableCacheExpireTimeMs > 0,
+        "%s should be positive",
+        GravitinoSparkConfig.GRAVITINO_TABLE_CACHE_EXPIRE_TIME_MS);
+    return tableCacheExpireTimeMs;
+  }
+
+  /**
+   * Get the maximum number of the cached Gravitino tables.
+   *
+   * @param conf the Spark configuration
+   * @return the maximum number of the cached tables
+   */
+  @VisibleForTesting
+  static long getTableCacheMaxSize(SparkConf conf) {
+    long tableCacheMaxSize =
+        conf.getLong(
+            GravitinoSparkConfig.GRAVITINO_TABLE_CACHE_MAX_SIZE,
+            GravitinoSparkConfig.DEFAULT_GRAVITINO_TABLE_CACHE_MAX_SIZE);
+    Preconditions.checkArgument(
+        tableCacheMaxSize > 0,
+        "%s should be positive",
+        GravitinoSparkConfig.GRAVITINO_TABLE_CACHE_MAX_SIZE);
+    return tableCacheMaxSize;
+  }
+
   private void registerGravitinoCatalogs(
       SparkConf sparkConf, Map<String, Catalog> gravitinoCatalogs) {
     gravitinoCatalogs
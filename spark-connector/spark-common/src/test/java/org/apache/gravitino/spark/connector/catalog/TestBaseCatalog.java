@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.spark.connector.catalog;
+
+import static org.mockito.ArgumentMatchers.any;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.client.GravitinoMetalake;
+import org.apache.gravitino.spark.connector.PropertiesConverter;
+import org.apache.gravitino.spark.connector.SparkTransformConverter;
+import org.apache.gravitino.spark.connector.SparkTypeConverter;
+import org.apache.spark.sql.catalyst.analysis.NoSuchTableException;
+import org.apache.spark.sql.connector.catalog.Identifier;
+import org.apache.spark.sql.connector.catalog.Table;
+import org.apache.spark.sql.connector.catalog.TableCatalog;
+import org.apache.spark.sql.connector.catalog.TableChange;
+import org.apache.spark.sql.connector.expressions.Transform;
+import org.apache.spark.sql.types.DataTypes;
+import org.apache.spark.sql.types.StructType;
+import org.apache.spark.sql.util.CaseInsensitiveStringMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestBaseCatalog {
+
+  private static final Identifier IDENT = Identifier.of(new String[] {"db"}, "table");
+  private static final NameIdentifier GRAVITINO_IDENT = NameIdentifier.of("db", "table");
+
+  private GravitinoCatalogManager catalogManager;
+  private org.apache.gravitino.rel.TableCatalog gravitinoTableCatalog;
+  private TableCatalog sparkCatalog;
+  private BaseCatalog catalog;
+
+  @BeforeEach
+  void setUp() {
+    GravitinoMetalake metalake = Mockito.mock(GravitinoMetalake.class);
+    catalogManager = TestGravitinoCatalogManager.createCatalogManager(metalake, 60_000L);
+    gravitinoTableCatalog = Mockito.mock(org.apache.gravitino.rel.TableCatalog.class);
+    Catalog gravitinoCatalog = Mockito.mock(Catalog.class);
+    Mockito.when(gravitinoCatalog.type()).thenReturn(Catalog.Type.RELATIONAL);
+    Mockito.when(gravitinoCatalog.provider()).thenReturn("test");
+    Mockito.when(gravitinoCatalog.properties()).thenReturn(Collections.emptyMap());
+    Mockito.when(gravitinoCatalog.asTableCatalog()).thenReturn(gravitinoTableCatalog);
+    Mockito.when(metalake.loadCatalog("catalog")).thenReturn(gravitinoCatalog);
+
+    sparkCatalog = Mockito.mock(TableCatalog.class);
+    catalog = new SimpleCatalog(catalogManager, sparkCatalog);
+    catalog.initialize("catalog", CaseInsensitiveStringMap.empty());
+  }
+
+  @AfterEach
+  void tearDown() {
+    catalogManager.close();
+  }
+
+  @Test
+  void testLoadTableConcurrently() throws Exception {
+    CountDownLatch gravitinoTableLoading = new CountDownLatch(1);
+    CountDownLatch sparkTableLoading = new CountDownLatch(1);
+    Mockito.when(gravitinoTableCatalog.loadTable(GRAVITINO_IDENT))
+        .thenAnswer(
+            invocation -> {
+              gravitinoTableLoading.countDown();
+              // The Spark table is loaded while the Gravitino table is being loaded
+              Assertions.assertTrue(sparkTableLoading.await(10, TimeUnit.SECONDS));
+              return Mockito.mock(org.apache.gravitino.rel.Table.class);
+            });
+    Table sparkTable = Mockito.mock(Table.class);
+    Mockito.when(sparkCatalog.loadTable(IDENT))
+        .thenAnswer(
+            invocation -> {
+              sparkTableLoading.countDown();
+              Assertions.assertTrue(gravitinoTableLoading.await(10, TimeUnit.SECONDS));
+              return sparkTable;
+            });
+
+    Assertions.assertSame(sparkTable, catalog.loadTable(IDENT));
+  }
+
+  @Test
+  void testLoadTableFailure() throws Exception {
+    // The table not existing in Gravitino takes precedence over the failure of the Spark table
+    Mockito.when(gravitinoTableCatalog.loadTable(GRAVITINO_IDENT))
+        .thenThrow(
+            new org.apache.gravitino.exceptions.NoSuchTableException(
+                "Table %s does not exist", GRAVITINO_IDENT));
+    Mockito.when(sparkCatalog.loadTable(IDENT)).thenThrow(new NoSuchTableException(IDENT));
+    Assertions.assertThrows(NoSuchTableException.class, () -> catalog.loadTable(IDENT));
+
+    // The failure of the Spark table is thrown if the Gravitino table exists
+    Mockito.reset(gravitinoTableCatalog);
+    Mockito.when(gravitinoTableCatalog.loadTable(GRAVITINO_IDENT))
+        .thenReturn(Mockito.mock(org.apache.gravitino.rel.Table.class));
+    RuntimeException exception =
+        Assertions.assertThrows(RuntimeException.class, () -> catalog.loadTable(IDENT));
+    Assertions.assertTrue(exception.getCause() instanceof NoSuchTableException);
+  }
+
+  @Test
+  void testTableChangesInvalidateTableCache() throws Exception {
+    Identifier newIdent = Identifier.of(new String[] {"db"}, "table1");
+    NameIdentifier newGravitinoIdent = NameIdentifier.of("db", "table1");
+    org.apache.gravitino.rel.Table gravitinoTable =
+        Mockito.mock(org.apache.gravitino.rel.Table.class);
+    Mockito.when(gravitinoTableCatalog.loadTable(any())).thenReturn(gravitinoTable);
+    Mockito.when(gravitinoTableCatalog.alterTable(any(), any())).thenReturn(gravitinoTable);
+    Mockito.when(gravitinoTableCatalog.dropTable(GRAVITINO_IDENT)).thenReturn(true);
+    Mockito.when(gravitinoTableCatalog.purgeTable(GRAVITINO_IDENT)).thenReturn(true);
+    Mockito.when(
+            gravitinoTableCatalog.createTable(any(), any(), any(), any(), any(), any(), any()))
+        .thenReturn(gravitinoTable);
+
+    catalog.loadTable(IDENT);
+    catalog.loadTable(IDENT);
+    assertGravitinoTableLoaded(GRAVITINO_IDENT, 1);
+
+    catalog.alterTable(IDENT, TableChange.setProperty("key", "value"));
+    catalog.loadTable(IDENT);
+    assertGravitinoTableLoaded(GRAVITINO_IDENT, 2);
+
+    catalog.dropTable(IDENT);
+    catalog.loadTable(IDENT);
+    assertGravitinoTableLoaded(GRAVITINO_IDENT, 3);
+
+    catalog.purgeTable(IDENT);
+    catalog.loadTable(IDENT);
+    assertGravitinoTableLoaded(GRAVITINO_IDENT, 4);
+
+    // Renaming the table invalidates both the old and the new table
+    catalog.loadTable(newIdent);
+    assertGravitinoTableLoaded(newGravitinoIdent, 1);
+    catalog.renameTable(IDENT, newIdent);
+    catalog.loadTable(IDENT);
+    catalog.loadTable(newIdent);
+    assertGravitinoTableLoaded(GRAVITINO_IDENT, 5);
+    assertGravitinoTableLoaded(newGravitinoIdent, 2);
+
+    catalog.createTable(
+        IDENT,
+        new StructType().add("col", DataTypes.IntegerType),
+        new Transform[0],
+        Collections.emptyMap());
+    catalog.loadTable(IDENT);
+    assertGravitinoTableLoaded(GRAVITINO_IDENT, 6);
+  }
+
+  private void assertGravitinoTableLoaded(NameIdentifier ident, int times) {
+    Mockito.verify(gravitinoTableCatalog, Mockito.times(times)).loadTable(ident);
+  }
+
+  private static class SimpleCatalog extends BaseCatalog {
+
+    private final TableCatalog sparkCatalog;
+
+    SimpleCatalog(GravitinoCatalogManager catalogManager, TableCatalog sparkCatalog) {
+      super(catalogManager);
+      this.sparkCatalog = sparkCatalog;
+    }
+
+    @Override
+    protected TableCatalog createAndInitSparkCatalog(
+        String name, CaseInsensitiveStringMap options, Map<String, String> properties) {
+      return sparkCatalog;
+    }
+
+    @Override
+    protected Table createSparkTable(
+        Identifier identifier,
+        org.apache.gravitino.rel.Table gravitinoTable,
+        Table sparkTable,
+        TableCatalog sparkCatalog,
+        PropertiesConverter propertiesConverter,
+        SparkTransformConverter sparkTransformConverter,
+        SparkTypeConverter sparkTypeConverter) {
+      return sparkTable;
+    }
+
+    @Override
+    protected PropertiesConverter getPropertiesConverter() {
+      PropertiesConverter propertiesConverter = Mockito.mock(PropertiesConverter.class);
+      Mockito.when(propertiesConverter.toGravitinoTableProperties(any()))
+          .thenAnswer(invocation -> new HashMap<>(invocation.<Map<String, String>>getArgument(0)));
+      return propertiesConverter;
+    }
+
+    @Override
+    protected SparkTransformConverter getSparkTransformConverter() {
+      return new SparkTransformConverter(false);
+    }
+  }
+}
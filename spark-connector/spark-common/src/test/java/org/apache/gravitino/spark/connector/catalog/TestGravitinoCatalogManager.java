@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.spark.connector.catalog;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.client.GravitinoAdminClient;
+import org.apache.gravitino.client.GravitinoMetalake;
+import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.apache.gravitino.rel.Table;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestGravitinoCatalogManager {
+
+  static GravitinoCatalogManager createCatalogManager(long tableCacheExpireTimeMs) {
+    return createCatalogManager(Mockito.mock(GravitinoMetalake.class), tableCacheExpireTimeMs);
+  }
+
+  static GravitinoCatalogManager createCatalogManager(
+      GravitinoMetalake metalake, long tableCacheExpireTimeMs) {
+    GravitinoAdminClient gravitinoClient = Mockito.mock(GravitinoAdminClient.class);
+    Mockito.when(gravitinoClient.loadMetalake("metalake")).thenReturn(metalake);
+    return new GravitinoCatalogManager(gravitinoClient, "metalake", tableCacheExpireTimeMs, 100);
+  }
+
+  @Test
+  void testLoadTableWithoutTableCache() {
+    GravitinoCatalogManager catalogManager = createCatalogManager(0);
+    try {
+      NameIdentifier ident = NameIdentifier.of("db", "table");
+      AtomicInteger loadCount = new AtomicInteger();
+      Supplier<Table> loader = countingLoader(loadCount);
+      catalogManager.loadTable("catalog", ident, loader);
+      catalogManager.loadTable("catalog", ident, loader);
+      Assertions.assertEquals(2, loadCount.get());
+    } finally {
+      catalogManager.close();
+    }
+  }
+
+  @Test
+  void testLoadTableWithTableCache() {
+    GravitinoCatalogManager catalogManager = createCatalogManager(60_000L);
+    try {
+      NameIdentifier ident = NameIdentifier.of("db", "table");
+      AtomicInteger loadCount = new AtomicInteger();
+      Supplier<Table> loader = countingLoader(loadCount);
+      Table table = catalogManager.loadTable("catalog", ident, loader);
+      Assertions.assertSame(table, catalogManager.loadTable("catalog", ident, loader));
+      Assertions.assertEquals(1, loadCount.get());
+
+      // The tables of different catalogs are cached separately
+      catalogManager.loadTable("catalog1", ident, loader);
+      Assertions.assertEquals(2, loadCount.get());
+
+      catalogManager.invalidateTable("catalog", ident);
+      Assertions.assertNotSame(table, catalogManager.loadTable("catalog", ident, loader));
+      Assertions.assertEquals(3, loadCount.get());
+
+      // Invalidating the tables of a schema only affects the tables of the catalog
+      catalogManager.invalidateTables("catalog", "db");
+      catalogManager.loadTable("catalog", ident, loader);
+      catalogManager.loadTable("catalog1", ident, loader);
+      Assertions.assertEquals(4, loadCount.get());
+    } finally {
+      catalogManager.close();
+    }
+  }
+
+  @Test
+  void testLoadTableFailureIsNotCached() {
+    GravitinoCatalogManager catalogManager = createCatalogManager(60_000L);
+    try {
+      NameIdentifier ident = NameIdentifier.of("db", "table");
+      Assertions.assertThrows(
+          NoSuchTableException.class,
+          () ->
+              catalogManager.loadTable(
+                  "catalog",
+                  ident,
+                  () -> {
+                    throw new NoSuchTableException("Table %s does not exist", ident);
+                  }));
+
+      AtomicInteger loadCount = new AtomicInteger();
+      Supplier<Table> loader = countingLoader(loadCount);
+      catalogManager.loadTable("catalog", ident, loader);
+      catalogManager.loadTable("catalog", ident, loader);
+      Assertions.assertEquals(1, loadCount.get());
+    } finally {
+      catalogManager.close();
+    }
+  }
+
+  private static Supplier<Table> countingLoader(AtomicInteger loadCount) {
+    return () -> {
+      loadCount.incrementAndGet();
+      return Mockito.mock(Table.class);
+    };
+  }
+}
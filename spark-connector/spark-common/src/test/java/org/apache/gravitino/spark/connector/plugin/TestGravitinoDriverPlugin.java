@@ -19,7 +19,9 @@
 
 package org.apache.gravitino.spark.connector.plugin;
 
+import org.apache.gravitino.spark.connector.GravitinoSparkConfig;
 import org.apache.iceberg.spark.extensions.IcebergSparkSessionExtensions;
+import org.apache.spark.SparkConf;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -31,4 +33,34 @@ public class TestGravitinoDriverPlugin {
         IcebergSparkSessionExtensions.class.getName(),
         GravitinoDriverPlugin.ICEBERG_SPARK_EXTENSIONS);
   }
+
+  @Test
+  void testTableCacheConfig() {
+    SparkConf conf = new SparkConf(false);
+    // The table cache is disabled by default
+    Assertions.assertEquals(0, GravitinoDriverPlugin.getTableCacheExpireTimeMs(conf));
+    Assertions.assertEquals(
+        GravitinoSparkConfig.DEFAULT_GRAVITINO_TABLE_CACHE_MAX_SIZE,
+        GravitinoDriverPlugin.getTableCacheMaxSize(conf));
+
+    conf.set(GravitinoSparkConfig.GRAVITINO_TABLE_CACHE_EXPIRE_TIME_MS, "1000");
+    Assertions.assertEquals(0, GravitinoDriverPlugin.getTableCacheExpireTimeMs(conf));
+
+    conf.set(GravitinoSparkConfig.GRAVITINO_TABLE_CACHE_ENABLED, "true");
+    Assertions.assertEquals(1000, GravitinoDriverPlugin.getTableCacheExpireTimeMs(conf));
+    conf.remove(GravitinoSparkConfig.GRAVITINO_TABLE_CACHE_EXPIRE_TIME_MS);
+    Assertions.assertEquals(
+        GravitinoSparkConfig.DEFAULT_GRAVITINO_TABLE_CACHE_EXPIRE_TIME_MS,
+        GravitinoDriverPlugin.getTableCacheExpireTimeMs(conf));
+    conf.set(GravitinoSparkConfig.GRAVITINO_TABLE_CACHE_MAX_SIZE, "10");
+    Assertions.assertEquals(10, GravitinoDriverPlugin.getTableCacheMaxSize(conf));
+
+    conf.set(GravitinoSparkConfig.GRAVITINO_TABLE_CACHE_EXPIRE_TIME_MS, "0");
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> GravitinoDriverPlugin.getTableCacheExpireTimeMs(conf));
+    conf.set(GravitinoSparkConfig.GRAVITINO_TABLE_CACHE_MAX_SIZE, "-1");
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> GravitinoDriverPlugin.getTableCacheMaxSize(conf));
+  }
 }
@@ -83,6 +83,21 @@ public class GravitinoConfig {
           "",
           false);
 
+  private static final ConfigEntry GRAVITINO_METADATA_CACHE_TTL_MS =
+      new ConfigEntry(
+          "gravitino.metadata.cache-ttl-ms",
+          "The time in milliseconds to cache the table metadata loaded from the Gravitino server"
+              + " across queries, 0 disables the cache",
+          "0",
+          false);
+
+  private static final ConfigEntry GRAVITINO_METADATA_CACHE_MAX_SIZE =
+      new ConfigEntry(
+          "gravitino.metadata.cache-max-size",
+          "The maximum number of tables in the metadata cache of each catalog",
+          "10000",
+          false);
+
   private static final ConfigEntry TRINO_JDBC_USER =
       new ConfigEntry("trino.jdbc.user", "The jdbc user name of Trino", "admin", false);
 
@@ -174,6 +189,18 @@ public class GravitinoConfig {
     return config.getOrDefault(TRINO_JDBC_PASSWORD.key, TRINO_JDBC_PASSWORD.defaultValue);
   }
 
+  public long getMetadataCacheTtlMs() {
+    return Long.parseLong(
+        config.getOrDefault(
+            GRAVITINO_METADATA_CACHE_TTL_MS.key, GRAVITINO_METADATA_CACHE_TTL_MS.defaultValue));
+  }
+
+  public long getMetadataCacheMaxSize() {
+    return Long.parseLong(
+        config.getOrDefault(
+            GRAVITINO_METADATA_CACHE_MAX_SIZE.key, GRAVITINO_METADATA_CACHE_MAX_SIZE.defaultValue));
+  }
+
   public String getCatalogConnectorFactoryClassName() {
     return config.getOrDefault(
         GRAVITINO_CATALOG_CONNECTOR_FACTORY_CLASS_NAME.key,
@@ -19,6 +19,8 @@
 package org.apache.gravitino.trino.connector;
 
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.trino.spi.connector.Connector;
 import io.trino.spi.connector.ConnectorAccessControl;
 import io.trino.spi.connector.ConnectorCapabilities;
@@ -33,6 +35,7 @@ import io.trino.spi.session.PropertyMetadata;
 import io.trino.spi.transaction.IsolationLevel;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.client.GravitinoMetalake;
 import org.apache.gravitino.trino.connector.catalog.CatalogConnectorContext;
@@ -48,6 +51,18 @@ public class GravitinoConnector implements Connector {
   private final NameIdentifier catalogIdentifier;
   private final CatalogConnectorContext catalogConnectorContext;
 
+  // Bounds the metadata of the transactions that are never committed or rolled back on this node.
+  private static final long MAX_TRANSACTION_METADATA_SIZE = 10000;
+  private static final long TRANSACTION_METADATA_EXPIRE_MINUTES = 60;
+
+  // The Gravitino metadata of the running transactions, so the tables loaded by a transaction are
+  // reused until it is committed or rolled back.
+  private final Cache<GravitinoTransactionHandle, CatalogConnectorMetadata> transactionMetadata =
+      CacheBuilder.newBuilder()
+          .maximumSize(MAX_TRANSACTION_METADATA_SIZE)
+          .expireAfterAccess(TRANSACTION_METADATA_EXPIRE_MINUTES, TimeUnit.MINUTES)
+          .build();
+
   public GravitinoConnector(
       NameIdentifier catalogIdentifier, CatalogConnectorContext catalogConnectorContext) {
     this.catalogIdentifier = catalogIdentifier;
@@ -80,7 +95,13 @@ public class GravitinoConnector implements Connector {
     GravitinoMetalake metalake = catalogConnectorContext.getMetalake();
 
     CatalogConnectorMetadata catalogConnectorMetadata =
-        new CatalogConnectorMetadata(metalake, catalogIdentifier);
+        transactionMetadata
+            .asMap()
+            .computeIfAbsent(
+                gravitinoTransactionHandle,
+                handle ->
+                    new CatalogConnectorMetadata(
+                        metalake, catalogIdentifier, catalogConnectorContext.getMetadataCache()));
 
     return new GravitinoMetadata(
         catalogConnectorMetadata, catalogConnectorContext.getMetadataAdapter(), internalMetadata);
@@ -140,10 +161,20 @@ public class GravitinoConnector implements Connector {
   public void commit(ConnectorTransactionHandle transactionHandle) {
     GravitinoTransactionHandle gravitinoTransactionHandle =
         (GravitinoTransactionHandle) transactionHandle;
+    transactionMetadata.invalidate(gravitinoTransactionHandle);
     Connector internalConnector = catalogConnectorContext.getInternalConnector();
     internalConnector.commit(gravitinoTransactionHandle.getInternalHandle());
   }
 
+  @Override
+  public void rollback(ConnectorTransactionHandle transactionHandle) {
+    GravitinoTransactionHandle gravitinoTransactionHandle =
+        (GravitinoTransactionHandle) transactionHandle;
+    transactionMetadata.invalidate(gravitinoTransactionHandle);
+    Connector internalConnector = catalogConnectorContext.getInternalConnector();
+    internalConnector.rollback(gravitinoTransactionHandle.getInternalHandle());
+  }
+
   @Override
   public ConnectorAccessControl getAccessControl() {
     Connector internalConnector = catalogConnectorContext.getInternalConnector();
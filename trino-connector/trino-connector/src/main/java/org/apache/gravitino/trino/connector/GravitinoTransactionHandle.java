@@ -23,6 +23,7 @@ import static org.apache.gravitino.trino.connector.GravitinoConnectorFactory.DEF
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.trino.spi.connector.ConnectorTransactionHandle;
+import java.util.Objects;
 
 /**
  * The GravitinoFTransactionHandle is used to make Apache Gravitino metadata operations
@@ -54,6 +55,24 @@ public class GravitinoTransactionHandle
     return handleWrapper.getHandle();
   }
 
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(getInternalHandle());
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if ((obj == null) || (getClass() != obj.getClass())) {
+      return false;
+    }
+
+    GravitinoTransactionHandle other = (GravitinoTransactionHandle) obj;
+    return Objects.equals(this.getInternalHandle(), other.getInternalHandle());
+  }
+
   @Override
   public String toString() {
     return DEFAULT_CONNECTOR_NAME + "->" + getInternalHandle().toString();
@@ -47,15 +47,20 @@ public class CatalogConnectorContext {
 
   private final CatalogConnectorAdapter adapter;
 
+  // Table metadata shared by all the transactions of the catalog
+  private final CatalogConnectorMetadataCache metadataCache;
+
   public CatalogConnectorContext(
       GravitinoCatalog catalog,
       GravitinoMetalake metalake,
       Connector internalConnector,
-      CatalogConnectorAdapter adapter) {
+      CatalogConnectorAdapter adapter,
+      CatalogConnectorMetadataCache metadataCache) {
     this.catalog = catalog;
     this.metalake = metalake;
     this.internalConnector = internalConnector;
     this.adapter = adapter;
+    this.metadataCache = metadataCache;
 
     this.connector = new GravitinoConnector(catalog.geNameIdentifier(), this);
   }
@@ -76,6 +81,10 @@ public class CatalogConnectorContext {
     return internalConnector;
   }
 
+  public CatalogConnectorMetadataCache getMetadataCache() {
+    return metadataCache;
+  }
+
   public List<PropertyMetadata<?>> getTableProperties() {
     return adapter.getTableProperties();
   }
@@ -101,6 +110,7 @@ public class CatalogConnectorContext {
     private GravitinoCatalog catalog;
     private GravitinoMetalake metalake;
     private ConnectorContext context;
+    private CatalogConnectorMetadataCache metadataCache = new CatalogConnectorMetadataCache(0, 0);
 
     public Builder(CatalogConnectorAdapter connectorAdapter) {
       this.connectorAdapter = connectorAdapter;
@@ -125,6 +135,11 @@ public class CatalogConnectorContext {
       return this;
     }
 
+    public Builder withMetadataCache(long ttlMs, long maxSize) {
+      this.metadataCache = new CatalogConnectorMetadataCache(ttlMs, maxSize);
+      return this;
+    }
+
     public CatalogConnectorContext build() throws Exception {
       Preconditions.checkArgument(metalake != null, "metalake is not null");
       Preconditions.checkArgument(catalog != null, "catalog is not null");
@@ -135,7 +150,8 @@ public class CatalogConnectorContext {
       Connector connector =
           GravitinoConnectorPluginManager.instance(context.getClass().getClassLoader())
               .createConnector(internalConnectorName, connectorConfig, context);
-      return new CatalogConnectorContext(catalog, metalake, connector, connectorAdapter);
+      return new CatalogConnectorContext(
+          catalog, metalake, connector, connectorAdapter, metadataCache);
     }
   }
 }
@@ -293,7 +293,8 @@ public class CatalogConnectorManager {
           catalogConnectorFactory.createCatalogConnectorContextBuilder(catalog);
       builder
           .withMetalake(metalakes.computeIfAbsent(catalog.getMetalake(), this::retrieveMetalake))
-          .withContext(context);
+          .withContext(context)
+          .withMetadataCache(config.getMetadataCacheTtlMs(), config.getMetadataCacheMaxSize());
 
       CatalogConnectorContext connectorContext = builder.build();
       catalogConnectors.put(connectorName, connectorContext);
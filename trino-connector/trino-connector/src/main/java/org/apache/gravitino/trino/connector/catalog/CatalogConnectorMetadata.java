@@ -24,6 +24,8 @@ import io.trino.spi.connector.SchemaTableName;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.lang3.NotImplementedException;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
@@ -36,7 +38,6 @@ import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.NoSuchTableException;
 import org.apache.gravitino.exceptions.NonEmptySchemaException;
 import org.apache.gravitino.exceptions.TableAlreadyExistsException;
-import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableCatalog;
 import org.apache.gravitino.rel.TableChange;
 import org.apache.gravitino.rel.types.Type;
@@ -54,10 +55,20 @@ public class CatalogConnectorMetadata {
   private final String catalogName;
   private final SupportsSchemas schemaCatalog;
   private final TableCatalog tableCatalog;
+  private final CatalogConnectorMetadataCache metadataCache;
 
-  public CatalogConnectorMetadata(GravitinoMetalake metalake, NameIdentifier catalogIdentifier) {
+  // The tables loaded by the current transaction, a missing table is cached as empty so that
+  // checking the existence and loading the table share a single round trip.
+  private final Map<NameIdentifier, Optional<GravitinoTable>> transactionTables =
+      new ConcurrentHashMap<>();
+
+  public CatalogConnectorMetadata(
+      GravitinoMetalake metalake,
+      NameIdentifier catalogIdentifier,
+      CatalogConnectorMetadataCache metadataCache) {
     try {
       this.catalogName = catalogIdentifier.name();
+      this.metadataCache = metadataCache;
       Catalog catalog = metalake.loadCatalog(catalogName);
       // Make sure the catalog support schema operations.
       this.schemaCatalog = catalog.asSchemas();
@@ -93,13 +104,34 @@ public class CatalogConnectorMetadata {
   }
 
   public GravitinoTable getTable(String schemaName, String tableName) {
-    try {
-      Table table = tableCatalog.loadTable(NameIdentifier.of(schemaName, tableName));
-      return new GravitinoTable(schemaName, tableName, table);
-    } catch (NoSuchTableException e) {
-      throw new TrinoException(
-          GravitinoErrorCode.GRAVITINO_TABLE_NOT_EXISTS, "Table does not exist", e);
-    }
+    return lookupTable(schemaName, tableName)
+        .orElseThrow(
+            () ->
+                new TrinoException(
+                    GravitinoErrorCode.GRAVITINO_TABLE_NOT_EXISTS, "Table does not exist"));
+  }
+
+  private Optional<GravitinoTable> lookupTable(String schemaName, String tableName) {
+    NameIdentifier identifier = NameIdentifier.of(schemaName, tableName);
+    return transactionTables.computeIfAbsent(
+        identifier,
+        ident -> {
+          try {
+            return Optional.of(
+                metadataCache.loadTable(
+                    ident,
+                    () ->
+                        new GravitinoTable(schemaName, tableName, tableCatalog.loadTable(ident))));
+          } catch (NoSuchTableException e) {
+            return Optional.empty();
+          }
+        });
+  }
+
+  private void invalidateTable(String schemaName, String tableName) {
+    NameIdentifier identifier = NameIdentifier.of(schemaName, tableName);
+    transactionTables.remove(identifier);
+    metadataCache.invalidateTable(identifier);
   }
 
   public List<String> listTables(String schemaName) {
@@ -113,7 +145,7 @@ public class CatalogConnectorMetadata {
   }
 
   public boolean tableExists(String schemaName, String tableName) {
-    return tableCatalog.tableExists(NameIdentifier.of(schemaName, tableName));
+    return lookupTable(schemaName, tableName).isPresent();
   }
 
   public void createTable(GravitinoTable table, boolean ignoreExisting) {
@@ -135,6 +167,8 @@ public class CatalogConnectorMetadata {
         throw new TrinoException(
             GravitinoErrorCode.GRAVITINO_TABLE_ALREADY_EXISTS, "Table already exists", e);
       }
+    } finally {
+      invalidateTable(table.getSchemaName(), table.getName());
     }
   }
 
@@ -162,13 +196,21 @@ public class CatalogConnectorMetadata {
     } catch (NonEmptySchemaException e) {
       throw new TrinoException(
           GravitinoErrorCode.GRAVITINO_SCHEMA_NOT_EMPTY, "Schema does not empty", e);
+    } finally {
+      transactionTables.keySet().removeIf(ident -> ident.namespace().level(0).equals(schemaName));
+      metadataCache.invalidateSchema(schemaName);
     }
   }
 
   public void dropTable(SchemaTableName tableName) {
-    boolean dropped =
-        tableCatalog.dropTable(
-            NameIdentifier.of(tableName.getSchemaName(), tableName.getTableName()));
+    boolean dropped;
+    try {
+      dropped =
+          tableCatalog.dropTable(
+              NameIdentifier.of(tableName.getSchemaName(), tableName.getTableName()));
+    } finally {
+      invalidateTable(tableName.getSchemaName(), tableName.getTableName());
+    }
     if (!dropped) {
       throw new TrinoException(
           GravitinoErrorCode.GRAVITINO_OPERATION_FAILED, "Failed to drop table " + tableName);
@@ -193,6 +235,8 @@ public class CatalogConnectorMetadata {
       String message =
           e.getMessage().lines().toList().get(0) + e.getMessage().lines().toList().get(1);
       throw new TrinoException(GravitinoErrorCode.GRAVITINO_ILLEGAL_ARGUMENT, message, e);
+    } finally {
+      invalidateTable(tableName.getSchemaName(), tableName.getTableName());
     }
   }
 
@@ -204,7 +248,11 @@ public class CatalogConnectorMetadata {
     if (oldTableName.getTableName().equals(newTableName.getTableName())) {
       return;
     }
-    applyAlter(oldTableName, TableChange.rename(newTableName.getTableName()));
+    try {
+      applyAlter(oldTableName, TableChange.rename(newTableName.getTableName()));
+    } finally {
+      invalidateTable(newTableName.getSchemaName(), newTableName.getTableName());
+    }
   }
 
   public void setTableComment(SchemaTableName schemaTableName, String comment) {
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.trino.connector.catalog;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.trino.connector.metadata.GravitinoTable;
+
+/**
+ * The cross-query cache of the table metadata of a catalog. It's shared by all the transactions of
+ * the catalog, the entries expire after the configured TTL, so the changes made outside of this
+ * Trino cluster are visible after at most one TTL. The changes made through this connector
+ * invalidate the affected entries immediately.
+ */
+public class CatalogConnectorMetadataCache {
+
+  private final Cache<NameIdentifier, GravitinoTable> tables;
+
+  // Bumped by every invalidation under the write lock. A table is only cached under the read lock
+  // if no invalidation happened while it was loaded, so a table loaded before a change can't be
+  // cached after the change invalidated it.
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private volatile long generation;
+
+  /**
+   * Creates the cache.
+   *
+   * @param ttlMs the time to keep a table in the cache, 0 or negative disables the cache
+   * @param maxSize the maximum number of tables in the cache
+   */
+  public CatalogConnectorMetadataCache(long ttlMs, long maxSize) {
+    this.tables =
+        ttlMs > 0
+            ? CacheBuilder.newBuilder()
+                .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS)
+                .maximumSize(maxSize)
+                .build()
+            : null;
+  }
+
+  public boolean isEnabled() {
+    return tables != null;
+  }
+
+  /**
+   * Returns the cached table, or loads the table and caches it.
+   *
+   * @param tableIdentifier the table identifier
+   * @param loader the loader of the table, it may return null if the table is not found
+   * @return the table, or null if it's not cached and the loader returns null
+   */
+  public GravitinoTable loadTable(NameIdentifier tableIdentifier, Supplier<GravitinoTable> loader) {
+    if (tables == null) {
+      return loader.get();
+    }
+
+    GravitinoTable cached = tables.getIfPresent(tableIdentifier);
+    if (cached != null) {
+      return cached;
+    }
+
+    long loadGeneration = generation;
+    GravitinoTable table = loader.get();
+    if (table != null) {
+      lock.readLock().lock();
+      try {
+        if (generation == loadGeneration) {
+          tables.put(tableIdentifier, table);
+        }
+      } finally {
+        lock.readLock().unlock();
+      }
+    }
+    return table;
+  }
+
+  public void invalidateTable(NameIdentifier tableIdentifier) {
+    if (tables != null) {
+      lock.writeLock().lock();
+      try {
+        generation++;
+        tables.invalidate(tableIdentifier);
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+  }
+
+  public void invalidateSchema(String schemaName) {
+    if (tables != null) {
+      lock.writeLock().lock();
+      try {
+        generation++;
+        tables.asMap().keySet().removeIf(ident -> ident.namespace().level(0).equals(schemaName));
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+  }
+}
@@ -46,6 +46,27 @@ public class TestGravitinoConfig {
 
     assertEquals(gravitinoUrl, config.getURI());
     assertEquals(metalake, config.getMetalake());
+    assertEquals(0, config.getMetadataCacheTtlMs());
+    assertEquals(10000, config.getMetadataCacheMaxSize());
+  }
+
+  @Test
+  public void testMetadataCacheConfig() {
+    ImmutableMap<String, String> configMap =
+        ImmutableMap.of(
+            "gravitino.uri",
+            "http://127.0.0.1:8000",
+            "gravitino.metalake",
+            "user_001",
+            "gravitino.metadata.cache-ttl-ms",
+            "30000",
+            "gravitino.metadata.cache-max-size",
+            "100");
+
+    GravitinoConfig config = new GravitinoConfig(configMap);
+
+    assertEquals(30000, config.getMetadataCacheTtlMs());
+    assertEquals(100, config.getMetadataCacheMaxSize());
   }
 
   @Test
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.trino.connector;
+
+import io.trino.spi.connector.ConnectorTransactionHandle;
+import java.util.Objects;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestGravitinoTransactionHandle {
+
+  @Test
+  public void testEqualsAndHashCode() {
+    GravitinoTransactionHandle handle =
+        new GravitinoTransactionHandle(new MockConnectorTransactionHandle("tx1"));
+    GravitinoTransactionHandle sameHandle =
+        new GravitinoTransactionHandle(new MockConnectorTransactionHandle("tx1"));
+    GravitinoTransactionHandle otherHandle =
+        new GravitinoTransactionHandle(new MockConnectorTransactionHandle("tx2"));
+
+    // The handles wrapping the same internal transaction are the same transaction
+    Assertions.assertEquals(handle, sameHandle);
+    Assertions.assertEquals(handle.hashCode(), sameHandle.hashCode());
+    Assertions.assertNotEquals(handle, otherHandle);
+  }
+
+  public static class MockConnectorTransactionHandle implements ConnectorTransactionHandle {
+
+    private final String transactionId;
+
+    public MockConnectorTransactionHandle(String transactionId) {
+      this.transactionId = transactionId;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(transactionId);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof MockConnectorTransactionHandle
+          && Objects.equals(transactionId, ((MockConnectorTransactionHandle) obj).transactionId);
+    }
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.trino.connector.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.trino.connector.metadata.GravitinoTable;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestCatalogConnectorMetadataCache {
+
+  @Test
+  public void testDisabledCache() {
+    CatalogConnectorMetadataCache cache = new CatalogConnectorMetadataCache(0, 100);
+    NameIdentifier ident = NameIdentifier.of("db1", "tb1");
+    AtomicInteger loads = new AtomicInteger();
+
+    assertFalse(cache.isEnabled());
+    cache.loadTable(ident, () -> load(loads));
+    cache.loadTable(ident, () -> load(loads));
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  public void testCacheAndInvalidate() {
+    CatalogConnectorMetadataCache cache = new CatalogConnectorMetadataCache(60_000, 100);
+    NameIdentifier ident1 = NameIdentifier.of("db1", "tb1");
+    NameIdentifier ident2 = NameIdentifier.of("db1", "tb2");
+    NameIdentifier ident3 = NameIdentifier.of("db2", "tb1");
+    GravitinoTable table = Mockito.mock(GravitinoTable.class);
+    AtomicInteger loads = new AtomicInteger();
+
+    assertTrue(cache.isEnabled());
+    assertNull(cache.loadTable(ident1, () -> null));
+    assertSame(table, cache.loadTable(ident1, () -> table));
+    assertSame(table, cache.loadTable(ident1, () -> load(loads)));
+    cache.loadTable(ident2, () -> table);
+    cache.loadTable(ident3, () -> table);
+    assertEquals(0, loads.get());
+
+    cache.invalidateTable(ident1);
+    cache.loadTable(ident1, () -> load(loads));
+    assertEquals(1, loads.get());
+
+    cache.invalidateSchema("db1");
+    cache.loadTable(ident2, () -> load(loads));
+    assertEquals(2, loads.get());
+    assertSame(table, cache.loadTable(ident3, () -> load(loads)));
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  public void testTableLoadedBeforeInvalidationIsNotCached() {
+    CatalogConnectorMetadataCache cache = new CatalogConnectorMetadataCache(60_000, 100);
+    NameIdentifier ident = NameIdentifier.of("db1", "tb1");
+    GravitinoTable staleTable = Mockito.mock(GravitinoTable.class);
+    AtomicInteger loads = new AtomicInteger();
+
+    // The table is altered and invalidated while its old metadata is being loaded
+    assertSame(
+        staleTable,
+        cache.loadTable(
+            ident,
+            () -> {
+              cache.invalidateTable(ident);
+              return staleTable;
+            }));
+    assertNotSame(staleTable, cache.loadTable(ident, () -> load(loads)));
+    assertEquals(1, loads.get());
+  }
+
+  private static GravitinoTable load(AtomicInteger loads) {
+    loads.incrementAndGet();
+    return Mockito.mock(GravitinoTable.class);
+  }
+}